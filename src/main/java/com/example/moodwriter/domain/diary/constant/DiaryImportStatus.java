@@ -0,0 +1,5 @@
+package com.example.moodwriter.domain.diary.constant;
+
+public enum DiaryImportStatus {
+  IN_PROGRESS, COMPLETED, FAILED
+}
@@ -1,23 +1,43 @@
 package com.example.moodwriter.domain.diary.controller;
 
 import com.example.moodwriter.domain.diary.dto.DiaryAutoSaveRequest;
+import com.example.moodwriter.domain.diary.dto.DiaryCalendarResponse;
 import com.example.moodwriter.domain.diary.dto.DiaryCreateRequest;
+import com.example.moodwriter.domain.diary.dto.DiaryDeltaSaveRequest;
 import com.example.moodwriter.domain.diary.dto.DiaryFinalSaveRequest;
+import com.example.moodwriter.domain.diary.dto.DiaryImportResponse;
 import com.example.moodwriter.domain.diary.dto.DiaryResponse;
+import com.example.moodwriter.domain.diary.dto.DiarySearchResponse;
 import com.example.moodwriter.domain.diary.dto.DiaryTempExistsResponse;
+import com.example.moodwriter.domain.diary.service.DiaryCalendarService;
+import com.example.moodwriter.domain.diary.service.DiaryExportService;
+import com.example.moodwriter.domain.diary.service.DiaryImportService;
+import com.example.moodwriter.domain.diary.service.DiarySearchService;
 import com.example.moodwriter.domain.diary.service.DiaryService;
+import com.example.moodwriter.global.constant.ExportFormat;
 import com.example.moodwriter.global.constant.SortOrder;
+import com.example.moodwriter.global.pagination.dto.CursorResponse;
 import com.example.moodwriter.global.security.dto.CustomUserDetails;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.PastOrPresent;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -30,6 +50,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -37,6 +60,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class DiaryController {
 
   private final DiaryService diaryService;
+  private final DiarySearchService diarySearchService;
+  private final DiaryCalendarService diaryCalendarService;
+  private final DiaryExportService diaryExportService;
+  private final DiaryImportService diaryImportService;
 
   @PostMapping
   public ResponseEntity<DiaryResponse> createDiary(
@@ -56,6 +83,16 @@ public class DiaryController {
     return ResponseEntity.ok(response);
   }
 
+  @PatchMapping("/auto-save/{diaryId}")
+  public ResponseEntity<DiaryResponse> deltaSaveDiary(
+      @PathVariable UUID diaryId,
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestBody @Valid DiaryDeltaSaveRequest request) {
+    DiaryResponse response = diaryService.deltaSaveDiary(diaryId, userDetails.getId(),
+        request);
+    return ResponseEntity.ok(response);
+  }
+
   @PutMapping("/{diaryId}")
   public ResponseEntity<DiaryResponse> finalSaveDiary(
       @PathVariable UUID diaryId,
@@ -77,7 +114,13 @@ public class DiaryController {
   @GetMapping("/{diaryId}")
   public ResponseEntity<DiaryResponse> getDiary(
       @PathVariable UUID diaryId,
-      @AuthenticationPrincipal CustomUserDetails userDetails) {
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      WebRequest webRequest) {
+    Optional<String> eTag = diaryService.getDiaryETag(diaryId, userDetails.getId());
+    if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+      return null;
+    }
+
     DiaryResponse response = diaryService.getDiary(diaryId, userDetails.getId());
     return ResponseEntity.ok(response);
   }
@@ -89,10 +132,18 @@ public class DiaryController {
       @RequestParam(required = false, defaultValue = "0") int page,
       @RequestParam(required = false, defaultValue = "10") int size,
       @RequestParam(required = false, defaultValue = "desc") SortOrder sortOrder,
-      @AuthenticationPrincipal CustomUserDetails userDetails) {
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      WebRequest webRequest) {
     Sort sort = sortOrder == SortOrder.DESC ? Sort.by("date").descending()
         : Sort.by("date").ascending();
     Pageable pageable = PageRequest.of(page, size, sort);
+
+    String eTag = diaryService.getDiariesByDateRangeETag(startDate, endDate, pageable,
+        userDetails.getId());
+    if (webRequest.checkNotModified(eTag)) {
+      return null;
+    }
+
     Slice<DiaryResponse> responses = diaryService.getDiariesByDateRange(
         startDate, endDate, pageable, userDetails.getId());
     return ResponseEntity.ok(responses);
@@ -112,6 +163,100 @@ public class DiaryController {
     return ResponseEntity.ok(responses);
   }
 
+  @GetMapping("/cursor")
+  public ResponseEntity<CursorResponse<DiaryResponse>> getDiariesByDateRangeWithCursor(
+      @RequestParam @PastOrPresent(message = "조회하는 날짜는 오늘을 포함한 이전 날짜만 가능합니다.") LocalDate startDate,
+      @RequestParam @PastOrPresent(message = "조회하는 날짜는 오늘을 포함한 이전 날짜만 가능합니다.") LocalDate endDate,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "10")
+      @Min(value = 1, message = "조회 개수는 1 이상 100 이하만 가능합니다.")
+      @Max(value = 100, message = "조회 개수는 1 이상 100 이하만 가능합니다.") int size,
+      @RequestParam(required = false, defaultValue = "desc") SortOrder sortOrder,
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      WebRequest webRequest) {
+    Direction direction = sortOrder == SortOrder.DESC ? Direction.DESC : Direction.ASC;
+
+    String eTag = diaryService.getDiariesByDateRangeETag(startDate, endDate, cursor, size,
+        direction, userDetails.getId());
+    if (webRequest.checkNotModified(eTag)) {
+      return null;
+    }
+
+    CursorResponse<DiaryResponse> response = diaryService.getDiariesByDateRangeWithCursor(
+        startDate, endDate, cursor, size, direction, userDetails.getId());
+    return ResponseEntity.ok(response);
+  }
+
+  @GetMapping("/all/cursor")
+  public ResponseEntity<CursorResponse<DiaryResponse>> getAllMyDiariesWithCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "10")
+      @Min(value = 1, message = "조회 개수는 1 이상 100 이하만 가능합니다.")
+      @Max(value = 100, message = "조회 개수는 1 이상 100 이하만 가능합니다.") int size,
+      @RequestParam(required = false, defaultValue = "desc") SortOrder sortOrder,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    Direction direction = sortOrder == SortOrder.DESC ? Direction.DESC : Direction.ASC;
+    CursorResponse<DiaryResponse> response = diaryService.getAllMyDiariesWithCursor(
+        cursor, size, direction, userDetails.getId());
+    return ResponseEntity.ok(response);
+  }
+
+  @GetMapping("/search")
+  public ResponseEntity<List<DiarySearchResponse>> searchDiaries(
+      @RequestParam @NotBlank(message = "검색어를 입력해주세요.") String query,
+      @RequestParam(required = false, defaultValue = "20") int size,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    List<DiarySearchResponse> responses = diarySearchService.searchDiaries(query, size,
+        userDetails.getId());
+    return ResponseEntity.ok(responses);
+  }
+
+  @GetMapping("/calendar")
+  public ResponseEntity<DiaryCalendarResponse> getCalendar(
+      @RequestParam YearMonth month,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    DiaryCalendarResponse response = diaryCalendarService.getCalendar(month,
+        userDetails.getId());
+    return ResponseEntity.ok(response);
+  }
+
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportDiaries(
+      @RequestParam(required = false, defaultValue = "ndjson") ExportFormat format,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    UUID userId = userDetails.getId();
+    boolean isZip = format == ExportFormat.ZIP;
+
+    StreamingResponseBody body = outputStream ->
+        diaryExportService.exportDiaries(userId, format, outputStream);
+
+    return ResponseEntity.ok()
+        .contentType(isZip ? MediaType.valueOf("application/zip") : MediaType.APPLICATION_NDJSON)
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename(isZip ? "diaries.zip" : "diaries.ndjson")
+            .build()
+            .toString())
+        .body(body);
+  }
+
+  @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<DiaryImportResponse> importDiaries(
+      @RequestParam MultipartFile file,
+      @RequestParam(required = false, defaultValue = "false") boolean analyze,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    DiaryImportResponse response = diaryImportService.startImport(userDetails.getId(), file,
+        analyze);
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+  }
+
+  @GetMapping("/import/{importId}")
+  public ResponseEntity<DiaryImportResponse> getImportProgress(
+      @PathVariable UUID importId,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    DiaryImportResponse response = diaryImportService.getImportProgress(importId,
+        userDetails.getId());
+    return ResponseEntity.ok(response);
+  }
 
   @DeleteMapping("/{diaryId}")
   public ResponseEntity<Void> deleteDiary(
@@ -0,0 +1,31 @@
+package com.example.moodwriter.domain.diary.dao;
+
+import com.example.moodwriter.domain.diary.entity.DiaryMonthSummary;
+import com.example.moodwriter.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DiaryMonthSummaryRepository extends JpaRepository<DiaryMonthSummary, UUID> {
+
+  Optional<DiaryMonthSummary> findByUserAndMonth(User user, LocalDate month);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM DiaryMonthSummary s WHERE s.user = :user AND s.month = :month")
+  Optional<DiaryMonthSummary> findForUpdateByUserAndMonth(@Param("user") User user,
+      @Param("month") LocalDate month);
+
+  @Modifying
+  @Query("DELETE FROM DiaryMonthSummary s WHERE s.user = :user AND s.month IN :months")
+  void deleteByUserAndMonthIn(@Param("user") User user,
+      @Param("months") Collection<LocalDate> months);
+}
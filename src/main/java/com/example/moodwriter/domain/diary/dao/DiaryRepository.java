@@ -1,13 +1,23 @@
 package com.example.moodwriter.domain.diary.dao;
 
+import com.example.moodwriter.domain.diary.dto.DiaryHeader;
 import com.example.moodwriter.domain.diary.entity.Diary;
 import com.example.moodwriter.domain.user.entity.User;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,5 +26,66 @@ public interface DiaryRepository extends JpaRepository<Diary, UUID> {
   Slice<Diary> findByDateBetweenAndIsDeletedFalseAndIsTempFalseAndUser(LocalDate startDate,
       LocalDate endDate, User user, Pageable pageable);
   Slice<Diary> findAllByUserAndIsDeletedFalseAndIsTempFalse(User user, Pageable pageable);
+
+  Window<Diary> findByDateBetweenAndIsDeletedFalseAndIsTempFalseAndUser(LocalDate startDate,
+      LocalDate endDate, User user, ScrollPosition position, Sort sort, Limit limit);
+
+  Window<Diary> findAllByUserAndIsDeletedFalseAndIsTempFalse(User user,
+      ScrollPosition position, Sort sort, Limit limit);
+
+  Window<Diary> findByIsDeletedFalseAndIsTempFalse(ScrollPosition position, Sort sort,
+      Limit limit);
+
   Optional<Diary> findFirstByUserAndDateAndIsTempTrueAndIsDeletedFalseOrderByUpdatedAtDesc(User user, LocalDate date);
+
+  @Query("SELECT new com.example.moodwriter.domain.diary.dto.DiaryHeader("
+      + "d.id, d.user.id, d.date, d.isTemp, d.isDeleted, d.revision, d.version, d.updatedAt) "
+      + "FROM Diary d WHERE d.id = :id")
+  Optional<DiaryHeader> findHeaderById(@Param("id") UUID id);
+
+  /**
+   * 엔티티를 읽지 않고 일기를 삭제 처리. 벌크 연산이라 auditing 과 버전 증가가 적용되지 않으므로
+   * updatedAt 과 version 도 함께 갱신
+   */
+  @Modifying
+  @Query("UPDATE Diary d SET d.isDeleted = true, d.deletedAt = :now, d.updatedAt = :now, "
+      + "d.version = d.version + 1 WHERE d.id = :id")
+  void deactivateById(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+  /**
+   * 버퍼에 쌓인 임시 저장마다 올린 버전을 반영. 엔티티 저장은 버전을 한 번만 올리므로 벌크 연산으로 맞춤
+   */
+  @Modifying(flushAutomatically = true)
+  @Query("UPDATE Diary d SET d.version = :version WHERE d.id = :id AND d.version < :version")
+  void advanceVersion(@Param("id") UUID id, @Param("version") long version);
+
+  /**
+   * 기간 내 일기 목록의 ETag 재료. 삭제, 임시 저장 상태 변경까지 반영되도록 기간 내 모든 일기를 집계
+   */
+  @Query("SELECT COUNT(d) AS totalCount, "
+      + "SUM(CASE WHEN d.isDeleted = false AND d.isTemp = false THEN 1 ELSE 0 END) AS visibleCount, "
+      + "SUM(d.revision) AS revisionSum, SUM(d.version) AS versionSum, "
+      + "MAX(d.updatedAt) AS lastUpdatedAt FROM Diary d "
+      + "WHERE d.user = :user AND d.date BETWEEN :startDate AND :endDate")
+  DiaryRangeVersion findRangeVersionByUserAndDateBetween(@Param("user") User user,
+      @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+  @Query("SELECT DISTINCT d.date FROM Diary d WHERE d.user = :user AND d.isDeleted = false "
+      + "AND d.isTemp = :isTemp AND d.date BETWEEN :startDate AND :endDate")
+  List<LocalDate> findDistinctDatesByUserAndTemp(@Param("user") User user,
+      @Param("isTemp") boolean isTemp, @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate);
+
+  interface DiaryRangeVersion {
+
+    long getTotalCount();
+
+    Long getVisibleCount();
+
+    Long getRevisionSum();
+
+    Long getVersionSum();
+
+    LocalDateTime getLastUpdatedAt();
+  }
 }
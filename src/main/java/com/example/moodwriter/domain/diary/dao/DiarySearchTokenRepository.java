@@ -0,0 +1,41 @@
+package com.example.moodwriter.domain.diary.dao;
+
+import com.example.moodwriter.domain.diary.entity.DiarySearchToken;
+import com.example.moodwriter.domain.diary.entity.DiarySearchToken.DiarySearchTokenId;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DiarySearchTokenRepository extends
+    JpaRepository<DiarySearchToken, DiarySearchTokenId> {
+
+  @Modifying
+  @Query("DELETE FROM DiarySearchToken t WHERE t.diaryId = :diaryId")
+  void deleteByDiaryId(@Param("diaryId") UUID diaryId);
+
+  /**
+   * 검색 토큰을 모두 포함하는 일기를 토큰 빈도 합 순으로 조회.
+   * 나눠서 조회해도 빈도 합이 같은 일기가 중복되거나 빠지지 않도록 diaryId 로도 정렬
+   */
+  @Query("SELECT t.diaryId AS diaryId, SUM(t.frequency) AS score FROM DiarySearchToken t "
+      + "WHERE t.userId = :userId AND t.token IN :tokens "
+      + "GROUP BY t.diaryId HAVING COUNT(t.token) = :tokenCount "
+      + "ORDER BY SUM(t.frequency) DESC, t.diaryId")
+  List<DiarySearchHit> searchByTokens(@Param("userId") UUID userId,
+      @Param("tokens") Collection<String> tokens, @Param("tokenCount") long tokenCount,
+      Pageable pageable);
+
+  interface DiarySearchHit {
+
+    UUID getDiaryId();
+
+    Long getScore();
+  }
+}
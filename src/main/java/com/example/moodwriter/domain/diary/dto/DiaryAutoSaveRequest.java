@@ -13,4 +13,7 @@ public class DiaryAutoSaveRequest {
   private String content;
 
   private LocalDate date;
+
+  // 마지막으로 받은 일기 버전. 입력하면 현재 버전과 다를 때 저장하지 않고 충돌을 반환
+  private Long version;
 }
@@ -0,0 +1,37 @@
+package com.example.moodwriter.domain.diary.dto;
+
+import com.example.moodwriter.domain.diary.entity.DiaryMonthSummary;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DiaryCalendarResponse {
+
+  private YearMonth month;
+  private int finalDays;
+  private int tempDays;
+  private int scoredDays;
+  private List<Integer> emotionScores;
+
+  public static DiaryCalendarResponse fromEntity(DiaryMonthSummary summary) {
+    YearMonth month = YearMonth.from(summary.getMonth());
+
+    List<Integer> emotionScores = new ArrayList<>(month.lengthOfMonth());
+    for (int i = 0; i < month.lengthOfMonth(); i++) {
+      byte score = summary.getEmotionScores()[i];
+      emotionScores.add(score == DiaryMonthSummary.NO_SCORE ? null : (int) score);
+    }
+
+    return DiaryCalendarResponse.builder()
+        .month(month)
+        .finalDays(summary.getFinalDays())
+        .tempDays(summary.getTempDays())
+        .scoredDays(summary.getScoredDays())
+        .emotionScores(emotionScores)
+        .build();
+  }
+}
@@ -0,0 +1,26 @@
+package com.example.moodwriter.domain.diary.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DiaryDeltaSaveRequest {
+
+  @NotNull(message = "기준 리비전은 반드시 입력해야 합니다.")
+  private Long baseRevision;
+
+  @NotEmpty(message = "편집 내용은 반드시 입력해야 합니다.")
+  private List<@Valid DiaryTextOperation> operations;
+
+  // 입력하지 않으면 기존 작성일자를 유지
+  private LocalDate date;
+
+  // 마지막으로 받은 일기 버전. 입력하면 현재 버전과 다를 때 저장하지 않고 충돌을 반환
+  private Long version;
+}
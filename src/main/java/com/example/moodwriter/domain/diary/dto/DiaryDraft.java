@@ -0,0 +1,31 @@
+package com.example.moodwriter.domain.diary.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryDraft {
+
+  private String content;
+  private LocalDate date;
+  private long revision;
+  /**
+   * 버퍼에 쌓이는 임시 저장도 저장마다 버전을 올려 버전 충돌을 검사. 반영 시 일기 버전을 이 값으로 맞춤
+   */
+  private long version;
+
+  public static DiaryDraft from(DiaryAutoSaveRequest request, long revision, long version) {
+    return DiaryDraft.builder()
+        .content(request.getContent())
+        .date(request.getDate())
+        .revision(revision)
+        .version(version)
+        .build();
+  }
+}
@@ -0,0 +1,24 @@
+package com.example.moodwriter.domain.diary.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 내보내기 한 줄에 해당하는 최종 저장 일기와 감정분석. 영속성 컨텍스트에 엔티티를 쌓지 않도록 JPQL 생성자 표현식으로 직접 조회
+ */
+@Getter
+@AllArgsConstructor
+public class DiaryExportRow {
+
+  private UUID diaryId;
+  private LocalDate date;
+  private String content;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+  private String primaryEmotion;
+  private Integer emotionScore;
+  private String analysisContent;
+}
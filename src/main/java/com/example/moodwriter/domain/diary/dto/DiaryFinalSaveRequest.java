@@ -17,4 +17,7 @@ public class DiaryFinalSaveRequest {
   @NotNull(message = "일기 최종저장 시에는 작성일자가 필요합니다.")
   @PastOrPresent(message = "일기 작성 날짜는 현재 또는 과거만 가능합니다.")
   private LocalDate date;
+
+  // 마지막으로 받은 일기 버전. 입력하면 현재 버전과 다를 때 저장하지 않고 충돌을 반환
+  private Long version;
 }
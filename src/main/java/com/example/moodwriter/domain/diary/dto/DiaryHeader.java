@@ -0,0 +1,26 @@
+package com.example.moodwriter.domain.diary.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 권한과 상태 검사, ETag 생성에 필요한 일기 컬럼만 담은 조회 결과. 본문(content)을 읽지 않도록 JPQL 생성자 표현식으로 직접 조회
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class DiaryHeader {
+
+  private UUID id;
+  private UUID userId;
+  private LocalDate date;
+  private boolean isTemp;
+  private boolean isDeleted;
+  private long revision;
+  private long version;
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package com.example.moodwriter.domain.diary.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가져오기 파일의 한 줄. 내보내기 파일의 다른 항목은 무시하므로 내보낸 파일을 그대로 가져올 수 있음
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryImportEntry {
+
+  private LocalDate date;
+  private String content;
+}
@@ -0,0 +1,17 @@
+package com.example.moodwriter.domain.diary.dto;
+
+import com.example.moodwriter.domain.diary.constant.DiaryImportStatus;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DiaryImportResponse {
+
+  private UUID importId;
+  private DiaryImportStatus status;
+  private long processedCount;
+  private long importedCount;
+  private long skippedCount;
+}
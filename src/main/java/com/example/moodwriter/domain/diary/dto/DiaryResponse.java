@@ -1,6 +1,7 @@
 package com.example.moodwriter.domain.diary.dto;
 
 import com.example.moodwriter.domain.diary.entity.Diary;
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -9,7 +10,7 @@ import lombok.Getter;
 
 @Getter
 @Builder
-public class DiaryResponse {
+public class DiaryResponse implements Serializable {
 
   private UUID diaryId;
   private String content;
@@ -18,6 +19,8 @@ public class DiaryResponse {
   private LocalDateTime updatedAt;
   private boolean isTemp;
   private boolean haveEmotionAnalysis;
+  private long revision;
+  private long version;
 
   public static DiaryResponse fromEntity(Diary diary, boolean haveEmotionAnalysis) {
     return DiaryResponse.builder()
@@ -28,6 +31,23 @@ public class DiaryResponse {
         .updatedAt(diary.getUpdatedAt())
         .isTemp(diary.isTemp())
         .haveEmotionAnalysis(haveEmotionAnalysis)
+        .revision(diary.getRevision())
+        .version(diary.getVersion())
+        .build();
+  }
+
+  public static DiaryResponse fromDraft(Diary diary, DiaryDraft draft,
+      boolean haveEmotionAnalysis) {
+    return DiaryResponse.builder()
+        .diaryId(diary.getId())
+        .content(draft.getContent())
+        .date(draft.getDate())
+        .createdAt(diary.getCreatedAt())
+        .updatedAt(diary.getUpdatedAt())
+        .isTemp(diary.isTemp())
+        .haveEmotionAnalysis(haveEmotionAnalysis)
+        .revision(draft.getRevision())
+        .version(draft.getVersion())
         .build();
   }
 }
@@ -0,0 +1,16 @@
+package com.example.moodwriter.domain.diary.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DiarySearchResponse {
+
+  private UUID diaryId;
+  private LocalDate date;
+  private long score;
+  private String highlight;
+}
@@ -0,0 +1,22 @@
+package com.example.moodwriter.domain.diary.dto;
+
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 일기 내용의 position 위치부터 deleteCount 글자를 지우고 insert 를 끼워 넣는 편집.
+ * 위치와 길이는 UTF-16 코드 단위 기준
+ */
+@Getter
+@Builder
+public class DiaryTextOperation {
+
+  @PositiveOrZero(message = "편집 위치는 0 이상이어야 합니다.")
+  private int position;
+
+  @PositiveOrZero(message = "삭제할 글자 수는 0 이상이어야 합니다.")
+  private int deleteCount;
+
+  private String insert;
+}
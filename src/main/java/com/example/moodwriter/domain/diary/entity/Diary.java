@@ -2,16 +2,22 @@ package com.example.moodwriter.domain.diary.entity;
 
 import com.example.moodwriter.domain.diary.dto.DiaryAutoSaveRequest;
 import com.example.moodwriter.domain.diary.dto.DiaryCreateRequest;
+import com.example.moodwriter.domain.diary.dto.DiaryDraft;
 import com.example.moodwriter.domain.diary.dto.DiaryFinalSaveRequest;
 import com.example.moodwriter.domain.user.entity.User;
 import com.example.moodwriter.global.entity.BaseEntity;
+import com.example.moodwriter.global.entity.converter.CompressedTextConverter;
+import com.example.moodwriter.global.entity.id.TimeOrderedUuid;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -19,16 +25,21 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "diaries")
+@DynamicUpdate
+@Table(name = "diaries", indexes = {
+    @Index(name = "idx_diaries_user_state_date_id",
+        columnList = "user_id, is_deleted, is_temp, date, id"),
+    @Index(name = "idx_diaries_deleted_at", columnList = "deleted_at")
+})
 public class Diary extends BaseEntity {
 
   @Id
-  @UuidGenerator
+  @TimeOrderedUuid
   @Column(columnDefinition = "BINARY(16)", updatable = false, nullable = false)
   private UUID id;
 
@@ -36,6 +47,7 @@ public class Diary extends BaseEntity {
   @JoinColumn(name = "user_id", nullable = false)
   private User user;
 
+  @Convert(converter = CompressedTextConverter.class)
   @Column(columnDefinition = "TEXT")
   private String content;
 
@@ -50,6 +62,15 @@ public class Diary extends BaseEntity {
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
 
+  // 내용이 바뀔 때마다 증가하는 리비전. 자동 저장 편집의 기준 버전으로 사용
+  @Column(nullable = false)
+  private long revision = 0;
+
+  // 행이 바뀔 때마다 증가하는 낙관적 락 버전. 여러 기기의 동시 저장 충돌 감지에 사용
+  @Version
+  @Column(nullable = false)
+  private long version = 0;
+
   @Builder
   public Diary(User user, String content, LocalDate date, boolean isTemp,
       boolean isDeleted, LocalDateTime deletedAt) {
@@ -82,12 +103,23 @@ public class Diary extends BaseEntity {
   public void autoSave(DiaryAutoSaveRequest request) {
     this.content = request.getContent();
     this.date = request.getDate();
+    this.revision++;
+  }
+
+  /**
+   * 버퍼에 쌓인 임시 저장 내용을 반영. 버퍼에서 앞서 나간 리비전이 있다면 그 리비전을 이어받음
+   */
+  public void applyDraft(DiaryDraft draft) {
+    this.content = draft.getContent();
+    this.date = draft.getDate();
+    this.revision = Math.max(this.revision + 1, draft.getRevision());
   }
 
   public void finalSave(DiaryFinalSaveRequest request) {
     this.content = request.getContent();
     this.date = request.getDate();
     this.isTemp = false;
+    this.revision++;
   }
 
   public void startEditing() {
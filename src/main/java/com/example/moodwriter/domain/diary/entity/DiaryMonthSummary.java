@@ -0,0 +1,86 @@
+package com.example.moodwriter.domain.diary.entity;
+
+import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.entity.BaseEntity;
+import com.example.moodwriter.global.entity.id.TimeOrderedUuid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원의 한 달 치 캘린더 요약. 날짜별 최종 저장 일기, 임시 저장 일기, 감정점수 존재 여부를
+ * (일 - 1) 번째 비트로 저장하고, 감정점수는 날짜별 1바이트(점수 없음은 -1)로 저장
+ */
+@Getter
+@NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "diary_month_summary", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_diary_month_summary_user_month",
+        columnNames = {"user_id", "month_start"})
+})
+public class DiaryMonthSummary extends BaseEntity {
+
+  public static final byte NO_SCORE = -1;
+  public static final int MAX_DAYS = 31;
+
+  @Id
+  @TimeOrderedUuid
+  @Column(columnDefinition = "BINARY(16)", updatable = false, nullable = false)
+  private UUID id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
+  private User user;
+
+  @Column(name = "month_start", nullable = false)
+  private LocalDate month;
+
+  @Column(name = "final_days", nullable = false)
+  private int finalDays;
+
+  @Column(name = "temp_days", nullable = false)
+  private int tempDays;
+
+  @Column(name = "scored_days", nullable = false)
+  private int scoredDays;
+
+  @Column(name = "emotion_scores", columnDefinition = "VARBINARY(31)", nullable = false)
+  private byte[] emotionScores;
+
+  @Builder
+  public DiaryMonthSummary(User user, YearMonth month) {
+    this.user = user;
+    this.month = month.atDay(1);
+    this.finalDays = 0;
+    this.tempDays = 0;
+    this.scoredDays = 0;
+    this.emotionScores = new byte[MAX_DAYS];
+    Arrays.fill(this.emotionScores, NO_SCORE);
+  }
+
+  public void updateDay(int dayOfMonth, boolean hasFinalDiary, boolean hasTempDiary,
+      Integer emotionScore) {
+    int bit = 1 << (dayOfMonth - 1);
+
+    this.finalDays = hasFinalDiary ? finalDays | bit : finalDays & ~bit;
+    this.tempDays = hasTempDiary ? tempDays | bit : tempDays & ~bit;
+    this.scoredDays = emotionScore != null ? scoredDays | bit : scoredDays & ~bit;
+
+    byte[] scores = emotionScores.clone();
+    scores[dayOfMonth - 1] = emotionScore != null ? emotionScore.byteValue() : NO_SCORE;
+    this.emotionScores = scores;
+  }
+}
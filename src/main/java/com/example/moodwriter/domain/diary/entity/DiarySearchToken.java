@@ -0,0 +1,55 @@
+package com.example.moodwriter.domain.diary.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일기 검색용 역색인. (user_id, token, diary_id) 를 기본키로 두어
+ * 한 회원의 같은 토큰을 가진 행들이 인접하게 저장되도록 함
+ */
+@Getter
+@NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
+@Entity
+@IdClass(DiarySearchToken.DiarySearchTokenId.class)
+@Table(name = "diary_search_tokens", indexes = {
+    @Index(name = "idx_diary_search_tokens_diary_id", columnList = "diary_id")
+})
+public class DiarySearchToken {
+
+  @Id
+  @Column(name = "user_id", columnDefinition = "BINARY(16)", nullable = false)
+  private UUID userId;
+
+  @Id
+  @Column(name = "token", length = 8, nullable = false)
+  private String token;
+
+  @Id
+  @Column(name = "diary_id", columnDefinition = "BINARY(16)", nullable = false)
+  private UUID diaryId;
+
+  @Column(name = "frequency", nullable = false)
+  private int frequency;
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class DiarySearchTokenId implements Serializable {
+
+    private UUID userId;
+    private String token;
+    private UUID diaryId;
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.moodwriter.domain.diary.exception;
+
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 요청한 일기 버전이 현재 버전과 다를 때 발생. 클라이언트가 다시 조회하지 않도록 현재 버전과 리비전을 함께 전달
+ */
+@Getter
+public class DiaryVersionConflictException extends DiaryException {
+
+  private final long currentVersion;
+  private final long currentRevision;
+
+  public DiaryVersionConflictException(long currentVersion, long currentRevision) {
+    super(ErrorCode.DIARY_VERSION_CONFLICT);
+    this.currentVersion = currentVersion;
+    this.currentRevision = currentRevision;
+  }
+}
@@ -0,0 +1,143 @@
+package com.example.moodwriter.domain.diary.service;
+
+import com.example.moodwriter.domain.diary.dao.DiaryMonthSummaryRepository;
+import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.dto.DiaryCalendarResponse;
+import com.example.moodwriter.domain.diary.entity.DiaryMonthSummary;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository.EmotionScoreOfDay;
+import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.util.UuidUtils;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiaryCalendarService {
+
+  private static final String INSERT_EMPTY_SUMMARY_SQL =
+      "INSERT INTO diary_month_summary (id, user_id, month_start, final_days, temp_days, "
+          + "scored_days, emotion_scores, created_at, updated_at) "
+          + "VALUES (?, ?, ?, 0, 0, 0, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final DiaryMonthSummaryRepository diaryMonthSummaryRepository;
+  private final DiaryRepository diaryRepository;
+  private final EmotionAnalysisRepository emotionAnalysisRepository;
+  private final EntityManager entityManager;
+
+  /**
+   * 월 요약을 조회. 요약이 아직 없는 달은 한 번만 계산하여 저장
+   */
+  @Transactional
+  public DiaryCalendarResponse getCalendar(YearMonth month, UUID userId) {
+    User userProxy = entityManager.getReference(User.class, userId);
+
+    DiaryMonthSummary summary = diaryMonthSummaryRepository.findByUserAndMonth(userProxy,
+            month.atDay(1))
+        .orElseGet(() -> buildSummary(userProxy, month));
+
+    return DiaryCalendarResponse.fromEntity(summary);
+  }
+
+  /**
+   * 일기나 감정점수가 바뀐 날짜의 요약만 다시 계산. 요약이 아직 없는 달은 한 달 전체를 계산
+   */
+  @Transactional
+  public void refreshDays(UUID userId, LocalDate... dates) {
+    User userProxy = entityManager.getReference(User.class, userId);
+
+    Arrays.stream(dates)
+        .filter(Objects::nonNull)
+        .distinct()
+        .forEach(date -> {
+          YearMonth month = YearMonth.from(date);
+          diaryMonthSummaryRepository.findForUpdateByUserAndMonth(userProxy, month.atDay(1))
+              .ifPresentOrElse(summary -> {
+                    applyDays(summary, userProxy, date, date);
+                    diaryMonthSummaryRepository.save(summary);
+                  },
+                  () -> buildSummary(userProxy, month));
+        });
+  }
+
+  /**
+   * 여러 달의 일기가 한꺼번에 바뀐 경우 해당 달의 요약을 지워 다음 조회 시 다시 계산되도록 함
+   */
+  @Transactional
+  public void resetMonths(UUID userId, Collection<YearMonth> months) {
+    if (months.isEmpty()) {
+      return;
+    }
+
+    User userProxy = entityManager.getReference(User.class, userId);
+
+    diaryMonthSummaryRepository.deleteByUserAndMonthIn(userProxy,
+        months.stream().map(month -> month.atDay(1)).toList());
+  }
+
+  /**
+   * 빈 요약 행을 먼저 넣고 잠근 뒤 한 달 전체를 계산. 같은 달의 요약을 동시에 만드는 요청이 있으면 늦은 쪽의 insert 가
+   * 유니크 키에 걸리므로, 이미 만들어진 행을 잠가서 다시 계산함. JdbcTemplate 으로 넣어 중복 키 예외가 영속성
+   * 컨텍스트와 바깥 트랜잭션에 영향을 주지 않도록 함
+   */
+  private DiaryMonthSummary buildSummary(User user, YearMonth month) {
+    LocalDateTime now = LocalDateTime.now();
+    byte[] emptyScores = new byte[DiaryMonthSummary.MAX_DAYS];
+    Arrays.fill(emptyScores, DiaryMonthSummary.NO_SCORE);
+
+    try {
+      jdbcTemplate.update(INSERT_EMPTY_SUMMARY_SQL,
+          UuidUtils.toBytes(UuidUtils.timeOrderedUuid()), UuidUtils.toBytes(user.getId()),
+          month.atDay(1), emptyScores, now, now);
+    } catch (DuplicateKeyException e) {
+      log.debug("Diary month summary is already created. userId : {}, month : {}",
+          user.getId(), month);
+    }
+
+    DiaryMonthSummary summary = diaryMonthSummaryRepository
+        .findForUpdateByUserAndMonth(user, month.atDay(1))
+        .orElseThrow();
+
+    applyDays(summary, user, month.atDay(1), month.atEndOfMonth());
+
+    return diaryMonthSummaryRepository.save(summary);
+  }
+
+  private void applyDays(DiaryMonthSummary summary, User user, LocalDate startDate,
+      LocalDate endDate) {
+    Set<LocalDate> finalDates = new HashSet<>(
+        diaryRepository.findDistinctDatesByUserAndTemp(user, false, startDate, endDate));
+    Set<LocalDate> tempDates = new HashSet<>(
+        diaryRepository.findDistinctDatesByUserAndTemp(user, true, startDate, endDate));
+
+    // 같은 날짜에 감정점수가 여러 개라면 가장 최근에 수정된 점수를 사용
+    Map<LocalDate, Integer> emotionScores = new HashMap<>();
+    for (EmotionScoreOfDay emotionScore : emotionAnalysisRepository
+        .findEmotionScoresByUserAndDateBetween(user, startDate, endDate)) {
+      emotionScores.put(emotionScore.getDate(), emotionScore.getEmotionScore());
+    }
+
+    for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+      summary.updateDay(date.getDayOfMonth(), finalDates.contains(date),
+          tempDates.contains(date), emotionScores.get(date));
+    }
+  }
+}
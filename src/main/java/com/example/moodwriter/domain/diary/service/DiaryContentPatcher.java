@@ -0,0 +1,31 @@
+package com.example.moodwriter.domain.diary.service;
+
+import com.example.moodwriter.domain.diary.dto.DiaryTextOperation;
+import com.example.moodwriter.domain.diary.exception.DiaryException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import java.util.List;
+
+/**
+ * 자동 저장 편집 목록을 일기 내용에 순서대로 적용. 각 편집의 위치는 앞선 편집이 적용된 내용 기준
+ */
+public final class DiaryContentPatcher {
+
+  private DiaryContentPatcher() {
+  }
+
+  public static String patch(String content, List<DiaryTextOperation> operations) {
+    StringBuilder patched = new StringBuilder(content == null ? "" : content);
+
+    for (DiaryTextOperation operation : operations) {
+      int start = operation.getPosition();
+      int end = start + operation.getDeleteCount();
+      if (start < 0 || end < start || end > patched.length()) {
+        throw new DiaryException(ErrorCode.INVALID_DIARY_DELTA);
+      }
+
+      patched.replace(start, end, operation.getInsert() == null ? "" : operation.getInsert());
+    }
+
+    return patched.toString();
+  }
+}
@@ -0,0 +1,111 @@
+package com.example.moodwriter.domain.diary.service;
+
+import com.example.moodwriter.domain.diary.dto.DiaryDraft;
+import com.example.moodwriter.global.exception.CustomException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class DiaryDraftBuffer {
+
+  private static final String KEY_DIARY_DRAFT = "diary_draft:";
+  private static final String KEY_PENDING_DIARY_DRAFTS = "pending_diary_drafts";
+
+  private static final RedisScript<Long> REMOVE_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+          + "redis.call('ZREM', KEYS[2], ARGV[2]) "
+          + "return redis.call('DEL', KEYS[1]) "
+          + "end "
+          + "return 0", Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 일기의 최신 임시 저장 내용을 버퍼에 기록. 같은 일기의 이전 내용은 덮어쓰며,
+   * 대기열 점수는 처음 버퍼에 들어온 시각을 유지
+   */
+  public void put(UUID diaryId, DiaryDraft draft) {
+    redisTemplate.opsForValue().set(KEY_DIARY_DRAFT + diaryId, serialize(draft));
+    redisTemplate.opsForZSet().addIfAbsent(KEY_PENDING_DIARY_DRAFTS, diaryId.toString(),
+        Instant.now().toEpochMilli());
+  }
+
+  public Optional<DiaryDraft> peek(UUID diaryId) {
+    return Optional.ofNullable(redisTemplate.opsForValue().get(KEY_DIARY_DRAFT + diaryId))
+        .map(this::deserialize);
+  }
+
+  /**
+   * 반영한 임시 저장 내용이 아직 버퍼의 최신 내용일 때만 버퍼와 대기열에서 제거.
+   * 반영하는 사이에 새 내용이 들어왔으면 남겨두어 다음 반영 때 처리
+   */
+  public void remove(UUID diaryId, DiaryDraft draft) {
+    redisTemplate.execute(REMOVE_IF_UNCHANGED_SCRIPT,
+        List.of(KEY_DIARY_DRAFT + diaryId, KEY_PENDING_DIARY_DRAFTS),
+        serialize(draft), diaryId.toString());
+  }
+
+  /**
+   * 주어진 시각 이전에 버퍼에 들어온 일기 ID 목록 조회
+   */
+  public Set<UUID> getDiaryIdsBufferedBefore(Instant threshold) {
+    return toDiaryIds(redisTemplate.opsForZSet()
+        .rangeByScore(KEY_PENDING_DIARY_DRAFTS, 0, threshold.toEpochMilli()));
+  }
+
+  /**
+   * 가장 오래 버퍼에 머문 일기 ID를 count 개 조회
+   */
+  public Set<UUID> getOldestDiaryIds(long count) {
+    if (count <= 0) {
+      return Collections.emptySet();
+    }
+    return toDiaryIds(redisTemplate.opsForZSet()
+        .range(KEY_PENDING_DIARY_DRAFTS, 0, count - 1));
+  }
+
+  public long size() {
+    Long size = redisTemplate.opsForZSet().zCard(KEY_PENDING_DIARY_DRAFTS);
+    return size == null ? 0 : size;
+  }
+
+  private Set<UUID> toDiaryIds(Set<String> values) {
+    if (values == null) {
+      return Collections.emptySet();
+    }
+    return values.stream().map(UUID::fromString)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  private String serialize(DiaryDraft draft) {
+    try {
+      return objectMapper.writeValueAsString(draft);
+    } catch (JsonProcessingException e) {
+      throw new CustomException(ErrorCode.JSON_PARSE_ERROR);
+    }
+  }
+
+  private DiaryDraft deserialize(String value) {
+    try {
+      return objectMapper.readValue(value, DiaryDraft.class);
+    } catch (JsonProcessingException e) {
+      throw new CustomException(ErrorCode.JSON_PARSE_ERROR);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.example.moodwriter.domain.diary.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiaryDraftFlushScheduler {
+
+  private final DiaryDraftBuffer diaryDraftBuffer;
+  private final DiaryService diaryService;
+
+  @Value("${diary.auto-save.write-behind.enabled:false}")
+  private boolean writeBehindEnabled;
+
+  @Value("${diary.auto-save.write-behind.max-delay-seconds:60}")
+  private long maxDelaySeconds;
+
+  @Value("${diary.auto-save.write-behind.max-size:1000}")
+  private long maxBufferedDrafts;
+
+  /**
+   * 최대 지연 시간이 지난 임시 저장 내용을 diaries 테이블에 반영한 뒤,
+   * 그래도 버퍼가 최대 크기를 넘으면 가장 오래된 내용부터 반영.
+   * 일기마다 별도 트랜잭션으로 반영하므로 한 일기의 실패가 다른 일기에 영향을 주지 않음
+   */
+  public void processExpiredDrafts() {
+    Instant threshold = Instant.now().minusSeconds(maxDelaySeconds);
+    flush(diaryDraftBuffer.getDiaryIdsBufferedBefore(threshold));
+
+    long overflow = diaryDraftBuffer.size() - maxBufferedDrafts;
+    if (overflow > 0) {
+      flush(diaryDraftBuffer.getOldestDiaryIds(overflow));
+    }
+  }
+
+  /**
+   * 애플리케이션 종료 시 버퍼에 남은 임시 저장 내용을 모두 반영
+   */
+  @PreDestroy
+  public void flushAll() {
+    if (!writeBehindEnabled) {
+      return;
+    }
+    flush(diaryDraftBuffer.getDiaryIdsBufferedBefore(Instant.now()));
+  }
+
+  private void flush(Set<UUID> diaryIds) {
+    log.info("Diary draft flush task {}", diaryIds.size());
+
+    for (UUID diaryId : diaryIds) {
+      try {
+        diaryService.flushBufferedDraft(diaryId);
+      } catch (Exception e) {
+        log.error("Failed to flush diary draft. Diary id : {}", diaryId, e);
+      }
+    }
+  }
+}
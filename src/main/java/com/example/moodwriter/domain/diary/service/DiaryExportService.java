@@ -0,0 +1,92 @@
+package com.example.moodwriter.domain.diary.service;
+
+import com.example.moodwriter.domain.diary.dto.DiaryExportRow;
+import com.example.moodwriter.global.constant.ExportFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회원의 최종 저장 일기와 감정분석 전체를 응답 스트림으로 바로 내보냄.
+ * 전방향 커서로 fetchSize 만큼씩만 읽으므로 일기 개수와 관계없이 조회 메모리 사용량이 일정함.
+ * MySQL 커서 조회를 위해 데이터소스 속성에 useCursorFetch=true 를 설정함.
+ * Lambda 에서는 aws-serverless-java-container 가 응답 전체를 버퍼링하고 응답 크기가 약 6MB 로 제한되므로
+ * 그보다 큰 내보내기는 실패함
+ */
+@Service
+public class DiaryExportService {
+
+  private static final String EXPORT_QUERY =
+      "SELECT new com.example.moodwriter.domain.diary.dto.DiaryExportRow("
+          + "d.id, d.date, d.content, d.createdAt, d.updatedAt, "
+          + "ea.primaryEmotion, ea.emotionScore, ea.analysisContent) "
+          + "FROM Diary d LEFT JOIN EmotionAnalysis ea "
+          + "ON ea.diary = d AND ea.isDeleted = false "
+          + "WHERE d.user.id = :userId AND d.isDeleted = false AND d.isTemp = false "
+          + "ORDER BY d.date, d.id";
+
+  private final EntityManager entityManager;
+  private final ObjectWriter objectWriter;
+  private final int fetchSize;
+
+  public DiaryExportService(EntityManager entityManager, ObjectMapper objectMapper,
+      @Value("${diary.export.fetch-size:500}") int fetchSize) {
+    this.entityManager = entityManager;
+    this.objectWriter = objectMapper.writer()
+        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    this.fetchSize = fetchSize;
+  }
+
+  @Transactional(readOnly = true)
+  public void exportDiaries(UUID userId, ExportFormat format, OutputStream outputStream)
+      throws IOException {
+    try (ScrollableResults<DiaryExportRow> rows = entityManager.unwrap(Session.class)
+        .createQuery(EXPORT_QUERY, DiaryExportRow.class)
+        .setParameter("userId", userId)
+        .setReadOnly(true)
+        .setFetchSize(fetchSize)
+        .scroll(ScrollMode.FORWARD_ONLY)) {
+
+      if (format == ExportFormat.ZIP) {
+        writeZip(rows, outputStream);
+      } else {
+        writeNdjson(rows, outputStream);
+      }
+    }
+  }
+
+  private void writeNdjson(ScrollableResults<DiaryExportRow> rows, OutputStream outputStream)
+      throws IOException {
+    while (rows.next()) {
+      objectWriter.writeValue(outputStream, rows.get());
+      outputStream.write('\n');
+    }
+    outputStream.flush();
+  }
+
+  private void writeZip(ScrollableResults<DiaryExportRow> rows, OutputStream outputStream)
+      throws IOException {
+    ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+    while (rows.next()) {
+      DiaryExportRow row = rows.get();
+      zipOutputStream.putNextEntry(
+          new ZipEntry("diaries/" + row.getDate() + "_" + row.getDiaryId() + ".json"));
+      objectWriter.writeValue(zipOutputStream, row);
+      zipOutputStream.closeEntry();
+    }
+    zipOutputStream.finish();
+    zipOutputStream.flush();
+  }
+}
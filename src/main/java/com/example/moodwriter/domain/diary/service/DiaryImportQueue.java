@@ -0,0 +1,52 @@
+package com.example.moodwriter.domain.diary.service;
+
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 처리할 일기 가져오기 작업 대기열. 작업은 처리가 끝난 뒤에 제거하므로 처리 중 실행 환경이 멈추면
+ * 다음 처리 때 맨 앞의 작업을 다시 처리함
+ */
+@Service
+@RequiredArgsConstructor
+public class DiaryImportQueue {
+
+  private static final String KEY_PENDING_DIARY_IMPORT = "pending_diary_import";
+  private static final String DELIMITER = ":";
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  public void enqueue(QueuedImport queuedImport) {
+    redisTemplate.opsForList().rightPush(KEY_PENDING_DIARY_IMPORT, queuedImport.format());
+  }
+
+  public Optional<QueuedImport> peek() {
+    return Optional.ofNullable(redisTemplate.opsForList().index(KEY_PENDING_DIARY_IMPORT, 0))
+        .map(QueuedImport::parse);
+  }
+
+  public void remove(QueuedImport queuedImport) {
+    redisTemplate.opsForList().remove(KEY_PENDING_DIARY_IMPORT, 1, queuedImport.format());
+  }
+
+  /**
+   * startedAt 은 가져온 일기 ID 의 시각 부분으로 쓰이므로 다시 처리해도 바뀌지 않음
+   */
+  public record QueuedImport(UUID importId, UUID userId, long startedAt, boolean analyze,
+                             String fileName) {
+
+    private String format() {
+      return String.join(DELIMITER, importId.toString(), userId.toString(),
+          String.valueOf(startedAt), String.valueOf(analyze), fileName);
+    }
+
+    private static QueuedImport parse(String value) {
+      String[] values = value.split(DELIMITER, 5);
+      return new QueuedImport(UUID.fromString(values[0]), UUID.fromString(values[1]),
+          Long.parseLong(values[2]), Boolean.parseBoolean(values[3]), values[4]);
+    }
+  }
+}
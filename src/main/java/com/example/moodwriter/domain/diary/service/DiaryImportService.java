@@ -0,0 +1,172 @@
+package com.example.moodwriter.domain.diary.service;
+
+import com.example.moodwriter.domain.diary.constant.DiaryImportStatus;
+import com.example.moodwriter.domain.diary.dto.DiaryImportEntry;
+import com.example.moodwriter.domain.diary.dto.DiaryImportResponse;
+import com.example.moodwriter.domain.diary.exception.DiaryException;
+import com.example.moodwriter.domain.diary.service.DiaryImportQueue.QueuedImport;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisQueue;
+import com.example.moodwriter.global.constant.FilePath;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import com.example.moodwriter.global.s3.dto.FileDto;
+import com.example.moodwriter.global.s3.service.S3FileService;
+import com.example.moodwriter.global.util.UuidUtils;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 다른 일기 앱에서 옮겨오는 일기를 한꺼번에 가져옴. 파일은 한 줄씩 읽어 batchSize 개씩 저장하고,
+ * 묶음마다 진행 상황을 기록함. 업로드 파일은 S3 에 보관하며, Lambda 는 응답을 보낸 뒤 실행 환경이 멈추므로
+ * queue-enabled 이면 작업을 Redis 대기열에 넣고 ProcessDiaryImportQueue 이벤트에서 processQueued 로 처리.
+ * 일기 ID 는 작업 ID 와 줄 번호로 정해지므로 중간에 멈춘 작업을 다시 처리해도 이미 저장된 줄은 건너뜀
+ */
+@Slf4j
+@Service
+public class DiaryImportService {
+
+  private final DiaryImportTracker diaryImportTracker;
+  private final DiaryImportWriter diaryImportWriter;
+  private final DiaryImportQueue diaryImportQueue;
+  private final EmotionAnalysisQueue emotionAnalysisQueue;
+  private final S3FileService s3FileService;
+  private final ObjectReader entryReader;
+  private final Executor diaryImportTaskExecutor;
+  private final int batchSize;
+  private final boolean queueEnabled;
+
+  public DiaryImportService(DiaryImportTracker diaryImportTracker,
+      DiaryImportWriter diaryImportWriter, DiaryImportQueue diaryImportQueue,
+      EmotionAnalysisQueue emotionAnalysisQueue, S3FileService s3FileService,
+      ObjectMapper objectMapper,
+      @Qualifier("diaryImportTaskExecutor") Executor diaryImportTaskExecutor,
+      @Value("${diary.import.batch-size:500}") int batchSize,
+      @Value("${diary.import.queue-enabled:false}") boolean queueEnabled) {
+    this.diaryImportTracker = diaryImportTracker;
+    this.diaryImportWriter = diaryImportWriter;
+    this.diaryImportQueue = diaryImportQueue;
+    this.emotionAnalysisQueue = emotionAnalysisQueue;
+    this.s3FileService = s3FileService;
+    this.entryReader = objectMapper.readerFor(DiaryImportEntry.class)
+        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    this.diaryImportTaskExecutor = diaryImportTaskExecutor;
+    this.batchSize = batchSize;
+    this.queueEnabled = queueEnabled;
+  }
+
+  public DiaryImportResponse startImport(UUID userId, MultipartFile file, boolean analyze) {
+    if (file == null || file.isEmpty()) {
+      throw new DiaryException(ErrorCode.EMPTY_DIARY_IMPORT_FILE);
+    }
+
+    // 요청이 끝나면 업로드 파일이 지워지고 다른 실행 환경에서 처리할 수 있으므로 작업이 끝날 때까지 S3 에 보관
+    FileDto importFile = s3FileService.uploadFile(file, FilePath.DIARY_IMPORT);
+    UUID importId = diaryImportTracker.start(userId);
+    QueuedImport queuedImport = new QueuedImport(importId, userId,
+        System.currentTimeMillis(), analyze, importFile.getFilename());
+
+    if (queueEnabled) {
+      diaryImportQueue.enqueue(queuedImport);
+    } else {
+      diaryImportTaskExecutor.execute(() -> {
+        importDiaries(queuedImport);
+        s3FileService.deleteFile(queuedImport.fileName());
+      });
+    }
+
+    return diaryImportTracker.get(importId, userId);
+  }
+
+  public DiaryImportResponse getImportProgress(UUID importId, UUID userId) {
+    return diaryImportTracker.get(importId, userId);
+  }
+
+  /**
+   * 대기열 맨 앞의 가져오기 작업을 하나 처리. 처리한 작업이 있으면 true
+   */
+  public boolean processQueued() {
+    Optional<QueuedImport> queuedImport = diaryImportQueue.peek();
+    queuedImport.ifPresent(importJob -> {
+      importDiaries(importJob);
+      diaryImportQueue.remove(importJob);
+      s3FileService.deleteFile(importJob.fileName());
+    });
+    return queuedImport.isPresent();
+  }
+
+  private void importDiaries(QueuedImport queuedImport) {
+    UUID importId = queuedImport.importId();
+    DiaryImportStatus status = DiaryImportStatus.COMPLETED;
+
+    diaryImportTracker.restart(importId);
+
+    try (InputStream inputStream = s3FileService.openFile(queuedImport.fileName());
+        MappingIterator<DiaryImportEntry> entries = entryReader.readValues(inputStream)) {
+      Map<UUID, DiaryImportEntry> batch = new LinkedHashMap<>();
+      long rowNumber = 0;
+      long skipped = 0;
+
+      while (entries.hasNextValue()) {
+        DiaryImportEntry entry = entries.nextValue();
+        if (isImportable(entry)) {
+          batch.put(UuidUtils.timeOrderedUuid(queuedImport.startedAt(),
+              importId + ":" + rowNumber), entry);
+        } else {
+          skipped++;
+        }
+        rowNumber++;
+
+        if (batch.size() >= batchSize) {
+          writeBatch(queuedImport, batch, skipped);
+          batch.clear();
+          skipped = 0;
+        }
+      }
+
+      writeBatch(queuedImport, batch, skipped);
+    } catch (Exception e) {
+      log.error("Failed to import diaries. Import id : {}", importId, e);
+      status = DiaryImportStatus.FAILED;
+    } finally {
+      diaryImportTracker.finish(importId, status);
+    }
+  }
+
+  /**
+   * 다시 처리하면서 건너뛴 줄도 이미 가져온 일기이므로 가져온 수에 포함. 감정분석은 새로 저장한 일기만 대기열에 넣음
+   */
+  private void writeBatch(QueuedImport queuedImport, Map<UUID, DiaryImportEntry> batch,
+      long skipped) {
+    if (!batch.isEmpty()) {
+      List<UUID> diaryIds = diaryImportWriter.write(queuedImport.userId(), batch);
+      if (queuedImport.analyze()) {
+        emotionAnalysisQueue.enqueue(queuedImport.userId(), diaryIds);
+      }
+    }
+
+    if (!batch.isEmpty() || skipped > 0) {
+      diaryImportTracker.addProgress(queuedImport.importId(), batch.size(), skipped);
+    }
+  }
+
+  private boolean isImportable(DiaryImportEntry entry) {
+    return entry.getDate() != null
+        && !entry.getDate().isAfter(LocalDate.now())
+        && entry.getContent() != null
+        && !entry.getContent().isBlank();
+  }
+}
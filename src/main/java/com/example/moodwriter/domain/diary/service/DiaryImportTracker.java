@@ -0,0 +1,95 @@
+package com.example.moodwriter.domain.diary.service;
+
+import com.example.moodwriter.domain.diary.constant.DiaryImportStatus;
+import com.example.moodwriter.domain.diary.dto.DiaryImportResponse;
+import com.example.moodwriter.domain.diary.exception.DiaryException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 일기 가져오기 작업의 진행 상황을 Redis 해시에 기록. 작업이 끝난 뒤에도 하루 동안 조회 가능
+ */
+@Service
+@RequiredArgsConstructor
+public class DiaryImportTracker {
+
+  private static final String KEY_DIARY_IMPORT = "diary_import:";
+  private static final Duration TTL = Duration.ofDays(1);
+
+  private static final String FIELD_USER_ID = "userId";
+  private static final String FIELD_STATUS = "status";
+  private static final String FIELD_PROCESSED = "processed";
+  private static final String FIELD_IMPORTED = "imported";
+  private static final String FIELD_SKIPPED = "skipped";
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  public UUID start(UUID userId) {
+    UUID importId = UUID.randomUUID();
+    String key = KEY_DIARY_IMPORT + importId;
+
+    hashOperations().putAll(key, Map.of(
+        FIELD_USER_ID, userId.toString(),
+        FIELD_STATUS, DiaryImportStatus.IN_PROGRESS.name(),
+        FIELD_PROCESSED, "0",
+        FIELD_IMPORTED, "0",
+        FIELD_SKIPPED, "0"));
+    redisTemplate.expire(key, TTL);
+
+    return importId;
+  }
+
+  /**
+   * 작업을 처음부터 다시 처리할 때 진행 상황을 초기화
+   */
+  public void restart(UUID importId) {
+    String key = KEY_DIARY_IMPORT + importId;
+
+    hashOperations().putAll(key, Map.of(
+        FIELD_STATUS, DiaryImportStatus.IN_PROGRESS.name(),
+        FIELD_PROCESSED, "0",
+        FIELD_IMPORTED, "0",
+        FIELD_SKIPPED, "0"));
+    redisTemplate.expire(key, TTL);
+  }
+
+  public void addProgress(UUID importId, long imported, long skipped) {
+    String key = KEY_DIARY_IMPORT + importId;
+    hashOperations().increment(key, FIELD_PROCESSED, imported + skipped);
+    hashOperations().increment(key, FIELD_IMPORTED, imported);
+    hashOperations().increment(key, FIELD_SKIPPED, skipped);
+  }
+
+  public void finish(UUID importId, DiaryImportStatus status) {
+    hashOperations().put(KEY_DIARY_IMPORT + importId, FIELD_STATUS, status.name());
+  }
+
+  public DiaryImportResponse get(UUID importId, UUID userId) {
+    Map<String, String> values = hashOperations().entries(KEY_DIARY_IMPORT + importId);
+    if (values.isEmpty()) {
+      throw new DiaryException(ErrorCode.NOT_FOUND_DIARY_IMPORT);
+    }
+
+    if (!userId.toString().equals(values.get(FIELD_USER_ID))) {
+      throw new DiaryException(ErrorCode.FORBIDDEN_ACCESS_DIARY_IMPORT);
+    }
+
+    return DiaryImportResponse.builder()
+        .importId(importId)
+        .status(DiaryImportStatus.valueOf(values.get(FIELD_STATUS)))
+        .processedCount(Long.parseLong(values.get(FIELD_PROCESSED)))
+        .importedCount(Long.parseLong(values.get(FIELD_IMPORTED)))
+        .skippedCount(Long.parseLong(values.get(FIELD_SKIPPED)))
+        .build();
+  }
+
+  private HashOperations<String, String, String> hashOperations() {
+    return redisTemplate.opsForHash();
+  }
+}
@@ -0,0 +1,96 @@
+package com.example.moodwriter.domain.diary.service;
+
+import com.example.moodwriter.domain.diary.dto.DiaryImportEntry;
+import com.example.moodwriter.global.entity.converter.CompressedTextConverter;
+import com.example.moodwriter.global.util.UuidUtils;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 가져온 일기 한 묶음을 JDBC 배치로 저장. 최종 저장 상태로 바로 저장하며 검색 색인과 캘린더 요약도 함께 갱신.
+ * 행마다 정해진 ID 로 저장하고 이미 있는 ID 는 건너뛰므로 같은 묶음을 다시 저장해도 중복되지 않음.
+ * MySQL 에서 다중 행 INSERT 로 묶으려면 접속 URL 에 rewriteBatchedStatements=true 가 필요함
+ */
+@Service
+public class DiaryImportWriter {
+
+  private static final String INSERT_DIARY_SQL =
+      "INSERT INTO diaries (id, user_id, content, date, is_temp, is_deleted, revision, "
+          + "version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final DiarySearchIndexer diarySearchIndexer;
+  private final DiaryCalendarService diaryCalendarService;
+  private final CompressedTextConverter converter;
+
+  public DiaryImportWriter(JdbcTemplate jdbcTemplate, DiarySearchIndexer diarySearchIndexer,
+      DiaryCalendarService diaryCalendarService,
+      @Value("${storage.compression.enabled:false}") boolean compressionEnabled,
+      @Value("${storage.compression.threshold-bytes:1024}") int thresholdBytes) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.diarySearchIndexer = diarySearchIndexer;
+    this.diaryCalendarService = diaryCalendarService;
+    this.converter = new CompressedTextConverter(compressionEnabled, thresholdBytes);
+  }
+
+  /**
+   * 새로 저장한 일기의 ID 목록을 입력 순서대로 반환
+   */
+  @Transactional
+  public List<UUID> write(UUID userId, Map<UUID, DiaryImportEntry> entriesByDiaryId) {
+    Set<UUID> existingDiaryIds = findExistingDiaryIds(entriesByDiaryId.keySet());
+
+    byte[] userIdBytes = UuidUtils.toBytes(userId);
+    LocalDateTime now = LocalDateTime.now();
+
+    Map<UUID, String> contentsByDiaryId = new LinkedHashMap<>();
+    Set<YearMonth> months = new HashSet<>();
+    List<Object[]> rows = new ArrayList<>(entriesByDiaryId.size());
+    entriesByDiaryId.forEach((diaryId, entry) -> {
+      if (existingDiaryIds.contains(diaryId)) {
+        return;
+      }
+      contentsByDiaryId.put(diaryId, entry.getContent());
+      months.add(YearMonth.from(entry.getDate()));
+      rows.add(new Object[]{UuidUtils.toBytes(diaryId), userIdBytes,
+          converter.convertToDatabaseColumn(entry.getContent()), entry.getDate(),
+          false, false, 0L, 0L, now, now});
+    });
+
+    if (rows.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    jdbcTemplate.batchUpdate(INSERT_DIARY_SQL, rows);
+
+    diarySearchIndexer.indexNew(userId, contentsByDiaryId);
+
+    diaryCalendarService.resetMonths(userId, months);
+
+    return new ArrayList<>(contentsByDiaryId.keySet());
+  }
+
+  private Set<UUID> findExistingDiaryIds(Set<UUID> diaryIds) {
+    if (diaryIds.isEmpty()) {
+      return Collections.emptySet();
+    }
+
+    Object[] ids = diaryIds.stream().map(UuidUtils::toBytes).toArray();
+    String in = " IN (" + String.join(",", Collections.nCopies(ids.length, "?")) + ")";
+
+    return new HashSet<>(jdbcTemplate.query("SELECT id FROM diaries WHERE id" + in,
+        (rs, rowNum) -> UuidUtils.fromBytes(rs.getBytes(1)), ids));
+  }
+}
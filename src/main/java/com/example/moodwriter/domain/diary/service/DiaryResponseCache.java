@@ -0,0 +1,46 @@
+package com.example.moodwriter.domain.diary.service;
+
+import com.example.moodwriter.domain.diary.dto.DiaryResponse;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Service;
+
+/**
+ * 최종 저장된 일기 단건 조회 결과 캐시. 키에 회원 ID를 포함하여 다른 회원의 요청은 항상 DB에서 검증되며,
+ * 트랜잭션 안에서의 저장/삭제는 커밋 이후에 반영
+ */
+@Service
+public class DiaryResponseCache {
+
+  public static final String CACHE_NAME = "diaryResponse";
+
+  private final Cache cache;
+
+  public DiaryResponseCache(CacheManager cacheManager) {
+    this.cache = new TransactionAwareCacheDecorator(
+        Objects.requireNonNull(cacheManager.getCache(CACHE_NAME)));
+  }
+
+  public Optional<DiaryResponse> get(UUID diaryId, UUID userId) {
+    return Optional.ofNullable(cache.get(toKey(diaryId, userId), DiaryResponse.class));
+  }
+
+  public void put(UUID userId, DiaryResponse response) {
+    if (response.isTemp()) {
+      return;
+    }
+    cache.put(toKey(response.getDiaryId(), userId), response);
+  }
+
+  public void evict(UUID diaryId, UUID userId) {
+    cache.evict(toKey(diaryId, userId));
+  }
+
+  private String toKey(UUID diaryId, UUID userId) {
+    return userId + ":" + diaryId;
+  }
+}
@@ -0,0 +1,54 @@
+package com.example.moodwriter.domain.diary.service;
+
+import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.entity.Diary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+
+/**
+ * 검색 색인이 도입되기 전에 작성된 일기를 포함해 최종 저장된 모든 일기를 다시 색인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiarySearchIndexRebuildJob {
+
+  private final DiaryRepository diaryRepository;
+  private final DiarySearchIndexer diarySearchIndexer;
+
+  @Value("${diary.search.rebuild-chunk-size:200}")
+  private int chunkSize;
+
+  public long rebuildAll() {
+    ScrollPosition position = ScrollPosition.keyset();
+    long indexed = 0;
+
+    while (true) {
+      Window<Diary> diaries = diaryRepository.findByIsDeletedFalseAndIsTempFalse(position,
+          Sort.by("id"), Limit.of(chunkSize));
+
+      for (Diary diary : diaries) {
+        try {
+          diarySearchIndexer.index(diary);
+          indexed++;
+        } catch (Exception e) {
+          log.error("Failed to index diary. Diary id : {}", diary.getId(), e);
+        }
+      }
+
+      if (diaries.isEmpty() || !diaries.hasNext()) {
+        break;
+      }
+      position = diaries.positionAt(diaries.size() - 1);
+    }
+
+    log.info("Diary search index rebuild finished. indexed : {}", indexed);
+    return indexed;
+  }
+}
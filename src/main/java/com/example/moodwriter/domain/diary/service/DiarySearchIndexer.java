@@ -0,0 +1,72 @@
+package com.example.moodwriter.domain.diary.service;
+
+import com.example.moodwriter.domain.diary.dao.DiarySearchTokenRepository;
+import com.example.moodwriter.domain.diary.entity.Diary;
+import com.example.moodwriter.global.util.UuidUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class DiarySearchIndexer {
+
+  private static final String INSERT_TOKEN_SQL =
+      "INSERT INTO diary_search_tokens (user_id, token, diary_id, frequency) "
+          + "VALUES (?, ?, ?, ?)";
+
+  private final DiarySearchTokenRepository diarySearchTokenRepository;
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 일기의 기존 색인을 지우고 현재 내용으로 다시 색인
+   */
+  @Transactional
+  public void index(Diary diary) {
+    diarySearchTokenRepository.deleteByDiaryId(diary.getId());
+
+    List<Object[]> rows = new ArrayList<>();
+    addTokenRows(rows, diary.getUser().getId(), diary.getId(), diary.getContent());
+
+    if (!rows.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, rows);
+    }
+  }
+
+  /**
+   * 아직 색인이 없는 새 일기들을 한 번의 배치로 색인
+   */
+  @Transactional
+  public void indexNew(UUID userId, Map<UUID, String> contentsByDiaryId) {
+    List<Object[]> rows = new ArrayList<>();
+    contentsByDiaryId.forEach((diaryId, content) ->
+        addTokenRows(rows, userId, diaryId, content));
+
+    if (!rows.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, rows);
+    }
+  }
+
+  private void addTokenRows(List<Object[]> rows, UUID userId, UUID diaryId, String content) {
+    Map<String, Integer> frequencies = DiarySearchTokenizer.tokenize(content);
+    if (frequencies.isEmpty()) {
+      return;
+    }
+
+    byte[] userIdBytes = UuidUtils.toBytes(userId);
+    byte[] diaryIdBytes = UuidUtils.toBytes(diaryId);
+
+    frequencies.forEach((token, frequency) ->
+        rows.add(new Object[]{userIdBytes, token, diaryIdBytes, frequency}));
+  }
+
+  @Transactional
+  public void remove(UUID diaryId) {
+    diarySearchTokenRepository.deleteByDiaryId(diaryId);
+  }
+}
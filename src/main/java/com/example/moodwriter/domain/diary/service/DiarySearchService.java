@@ -0,0 +1,171 @@
+package com.example.moodwriter.domain.diary.service;
+
+import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.dao.DiarySearchTokenRepository;
+import com.example.moodwriter.domain.diary.dao.DiarySearchTokenRepository.DiarySearchHit;
+import com.example.moodwriter.domain.diary.dto.DiarySearchResponse;
+import com.example.moodwriter.domain.diary.entity.Diary;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class DiarySearchService {
+
+  private static final int MAX_SIZE = 50;
+  private static final int CANDIDATE_FACTOR = 3;
+  private static final int SNIPPET_PADDING = 20;
+  private static final int SNIPPET_LENGTH = 80;
+  private static final String HIGHLIGHT_START = "<em>";
+  private static final String HIGHLIGHT_END = "</em>";
+
+  private final DiarySearchTokenRepository diarySearchTokenRepository;
+  private final DiaryRepository diaryRepository;
+
+  /**
+   * 역색인에서 검색어 토큰을 모두 포함하는 일기를 찾고,
+   * 본문에 검색어가 실제로 포함된 일기만 점수 순으로 하이라이트와 함께 반환.
+   * 후보 중 본문에 검색어가 없는 일기가 많을 수 있으므로 요청 개수를 채우거나 후보가 떨어질 때까지 다음 후보를 조회
+   */
+  @Transactional(readOnly = true)
+  public List<DiarySearchResponse> searchDiaries(String query, int size, UUID userId) {
+    Set<String> tokens = DiarySearchTokenizer.queryTokens(query);
+    if (tokens.isEmpty()) {
+      return List.of();
+    }
+
+    int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+    int candidateSize = limit * CANDIDATE_FACTOR;
+
+    List<String> words = DiarySearchTokenizer.toWords(query);
+    List<DiarySearchResponse> responses = new ArrayList<>();
+
+    for (int page = 0; responses.size() < limit; page++) {
+      List<DiarySearchHit> hits = diarySearchTokenRepository.searchByTokens(userId, tokens,
+          tokens.size(), PageRequest.of(page, candidateSize));
+      if (hits.isEmpty()) {
+        break;
+      }
+
+      addMatchedDiaries(responses, hits, words, limit);
+
+      if (hits.size() < candidateSize) {
+        break;
+      }
+    }
+
+    return responses;
+  }
+
+  private void addMatchedDiaries(List<DiarySearchResponse> responses,
+      List<DiarySearchHit> hits, List<String> words, int limit) {
+    Map<UUID, Diary> diaries = diaryRepository.findAllById(
+            hits.stream().map(DiarySearchHit::getDiaryId).toList()).stream()
+        .filter(diary -> !diary.isDeleted() && !diary.isTemp())
+        .collect(Collectors.toMap(Diary::getId, Function.identity()));
+
+    for (DiarySearchHit hit : hits) {
+      if (responses.size() == limit) {
+        return;
+      }
+
+      Diary diary = diaries.get(hit.getDiaryId());
+      if (diary == null) {
+        continue;
+      }
+
+      String highlight = highlight(diary.getContent(), words);
+      if (highlight == null) {
+        continue;
+      }
+
+      responses.add(DiarySearchResponse.builder()
+          .diaryId(diary.getId())
+          .date(diary.getDate())
+          .score(hit.getScore())
+          .highlight(highlight)
+          .build());
+    }
+  }
+
+  /**
+   * 첫 번째 일치 위치 주변을 잘라 일치하는 단어를 강조. 단어 중 하나라도 없으면 null. 응답을 그대로 HTML 로
+   * 렌더링하므로 일기 내용은 이스케이프하고 강조 태그만 원문으로 넣음
+   */
+  private String highlight(String content, List<String> words) {
+    if (content == null) {
+      return null;
+    }
+
+    String lowerContent = content.toLowerCase(Locale.ROOT);
+    if (lowerContent.length() != content.length()) {
+      lowerContent = content;
+    }
+
+    int firstMatch = Integer.MAX_VALUE;
+    for (String word : words) {
+      int index = lowerContent.indexOf(word);
+      if (index < 0) {
+        return null;
+      }
+      firstMatch = Math.min(firstMatch, index);
+    }
+
+    // 서로게이트 쌍이 잘리지 않도록 코드 포인트 단위로 자름
+    int start = content.offsetByCodePoints(firstMatch,
+        -Math.min(SNIPPET_PADDING, content.codePointCount(0, firstMatch)));
+    int end = content.offsetByCodePoints(start,
+        Math.min(SNIPPET_LENGTH, content.codePointCount(start, content.length())));
+
+    boolean[] marked = new boolean[end - start];
+    for (String word : words) {
+      int index = lowerContent.indexOf(word, start);
+      while (index >= 0 && index < end) {
+        for (int i = index; i < Math.min(index + word.length(), end); i++) {
+          marked[i - start] = true;
+        }
+        index = lowerContent.indexOf(word, index + word.length());
+      }
+    }
+
+    StringBuilder snippet = new StringBuilder();
+    if (start > 0) {
+      snippet.append("...");
+    }
+    for (int i = start; i < end; i++) {
+      boolean isMarked = marked[i - start];
+      if (isMarked && (i == start || !marked[i - start - 1])) {
+        snippet.append(HIGHLIGHT_START);
+      }
+      appendEscaped(snippet, content.charAt(i));
+      if (isMarked && (i == end - 1 || !marked[i - start + 1])) {
+        snippet.append(HIGHLIGHT_END);
+      }
+    }
+    if (end < content.length()) {
+      snippet.append("...");
+    }
+    return snippet.toString();
+  }
+
+  private void appendEscaped(StringBuilder snippet, char c) {
+    switch (c) {
+      case '&' -> snippet.append("&amp;");
+      case '<' -> snippet.append("&lt;");
+      case '>' -> snippet.append("&gt;");
+      case '"' -> snippet.append("&quot;");
+      case '\'' -> snippet.append("&#39;");
+      default -> snippet.append(c);
+    }
+  }
+}
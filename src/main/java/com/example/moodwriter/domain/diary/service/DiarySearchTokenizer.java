@@ -0,0 +1,72 @@
+package com.example.moodwriter.domain.diary.service;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 띄어쓰기와 조사에 영향을 덜 받도록 단어를 글자 단위 1-gram, 2-gram 으로 분해
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DiarySearchTokenizer {
+
+  private static final Pattern WORD_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  public static final int MAX_QUERY_TOKENS = 32;
+
+  public static List<String> toWords(String text) {
+    if (text == null) {
+      return List.of();
+    }
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFC)
+        .toLowerCase(Locale.ROOT);
+    return Arrays.stream(WORD_DELIMITER.split(normalized))
+        .filter(word -> !word.isEmpty())
+        .toList();
+  }
+
+  /**
+   * 색인용 토큰과 등장 횟수. 모든 글자(1-gram)와 인접한 두 글자(2-gram)를 포함
+   */
+  public static Map<String, Integer> tokenize(String text) {
+    Map<String, Integer> frequencies = new HashMap<>();
+    for (String word : toWords(text)) {
+      int[] codePoints = word.codePoints().toArray();
+      for (int i = 0; i < codePoints.length; i++) {
+        frequencies.merge(new String(codePoints, i, 1), 1, Integer::sum);
+        if (i + 1 < codePoints.length) {
+          frequencies.merge(new String(codePoints, i, 2), 1, Integer::sum);
+        }
+      }
+    }
+    return frequencies;
+  }
+
+  /**
+   * 검색어 토큰. 한 글자 단어는 1-gram, 그 외에는 2-gram 만 사용
+   */
+  public static Set<String> queryTokens(String query) {
+    Set<String> tokens = new LinkedHashSet<>();
+    for (String word : toWords(query)) {
+      int[] codePoints = word.codePoints().toArray();
+      if (codePoints.length == 1) {
+        tokens.add(word);
+      }
+      for (int i = 0; i + 1 < codePoints.length; i++) {
+        tokens.add(new String(codePoints, i, 2));
+      }
+      if (tokens.size() >= MAX_QUERY_TOKENS) {
+        break;
+      }
+    }
+    return tokens;
+  }
+}
@@ -1,26 +1,51 @@
 package com.example.moodwriter.domain.diary.service;
 
 import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.dao.DiaryRepository.DiaryRangeVersion;
 import com.example.moodwriter.domain.diary.dto.DiaryAutoSaveRequest;
 import com.example.moodwriter.domain.diary.dto.DiaryCreateRequest;
+import com.example.moodwriter.domain.diary.dto.DiaryDeltaSaveRequest;
+import com.example.moodwriter.domain.diary.dto.DiaryDraft;
 import com.example.moodwriter.domain.diary.dto.DiaryFinalSaveRequest;
+import com.example.moodwriter.domain.diary.dto.DiaryHeader;
 import com.example.moodwriter.domain.diary.dto.DiaryResponse;
 import com.example.moodwriter.domain.diary.dto.DiaryTempExistsResponse;
 import com.example.moodwriter.domain.diary.entity.Diary;
 import com.example.moodwriter.domain.diary.exception.DiaryException;
+import com.example.moodwriter.domain.diary.exception.DiaryVersionConflictException;
 import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository;
-import com.example.moodwriter.domain.emotion.entity.EmotionAnalysis;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository.EmotionAnalysisRangeVersion;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisResponseCache;
+import com.example.moodwriter.domain.emotion.service.EmotionTrendService;
 import com.example.moodwriter.domain.user.entity.User;
 import com.example.moodwriter.domain.user.exception.UserException;
 import com.example.moodwriter.global.exception.code.ErrorCode;
+import com.example.moodwriter.global.pagination.KeysetCursor;
+import com.example.moodwriter.global.pagination.dto.CursorResponse;
+import com.example.moodwriter.global.util.ETagUtils;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +54,15 @@ public class DiaryService {
   private final DiaryRepository diaryRepository;
   private final EmotionAnalysisRepository emotionAnalysisRepository;
   private final EntityManager entityManager;
+  private final DiaryDraftBuffer diaryDraftBuffer;
+  private final DiarySearchIndexer diarySearchIndexer;
+  private final DiaryCalendarService diaryCalendarService;
+  private final DiaryResponseCache diaryResponseCache;
+  private final EmotionAnalysisResponseCache emotionAnalysisResponseCache;
+  private final EmotionTrendService emotionTrendService;
+
+  @Value("${diary.auto-save.write-behind.enabled:false}")
+  private boolean writeBehindEnabled;
 
   @Transactional
   public DiaryResponse createDiary(UUID userId, DiaryCreateRequest request) {
@@ -38,6 +72,8 @@ public class DiaryService {
 
     Diary savedDiary = diaryRepository.save(diary);
 
+    diaryCalendarService.refreshDays(userId, savedDiary.getDate());
+
     boolean haveEmotionAnalysis =
         emotionAnalysisRepository.findByDiary(savedDiary).isPresent();
 
@@ -48,25 +84,176 @@ public class DiaryService {
   public DiaryResponse autoSaveDiary(UUID diaryId, UUID userId,
       DiaryAutoSaveRequest request) {
     Diary diary = checkValidAndTempDiary(diaryId, userId);
+    DiaryDraft currentDraft = getCurrentDraft(diary);
+    checkVersion(currentDraft, request.getVersion());
+
+    diaryResponseCache.evict(diaryId, userId);
+
+    boolean haveEmotionAnalysis = emotionAnalysisRepository.existsByDiaryId(diaryId);
+
+    if (writeBehindEnabled) {
+      DiaryDraft draft = DiaryDraft.from(request, currentDraft.getRevision() + 1,
+          currentDraft.getVersion() + 1);
+      diaryDraftBuffer.put(diaryId, draft);
+      return DiaryResponse.fromDraft(diary, draft, haveEmotionAnalysis);
+    }
+
+    LocalDate previousDate = diary.getDate();
 
     diary.autoSave(request);
 
     Diary savedDiary = diaryRepository.save(diary);
 
-    boolean haveEmotionAnalysis =
-        emotionAnalysisRepository.findByDiary(savedDiary).isPresent();
+    refreshDaysIfDateChanged(userId, previousDate, savedDiary.getDate());
+
+    return DiaryResponse.fromEntity(savedDiary, haveEmotionAnalysis);
+  }
+
+  /**
+   * 전체 내용 대신 기준 리비전에 대한 편집 목록만 받아 임시 저장.
+   * 기준 리비전이 현재 리비전과 다르면 DIARY_REVISION_MISMATCH 를 반환하며, 클라이언트는 전체 내용 자동 저장으로 동기화
+   */
+  @Transactional
+  public DiaryResponse deltaSaveDiary(UUID diaryId, UUID userId,
+      DiaryDeltaSaveRequest request) {
+    Diary diary = checkValidAndTempDiary(diaryId, userId);
+    DiaryDraft currentDraft = getCurrentDraft(diary);
+    checkVersion(currentDraft, request.getVersion());
+
+    if (currentDraft.getRevision() != request.getBaseRevision()) {
+      throw new DiaryException(ErrorCode.DIARY_REVISION_MISMATCH);
+    }
+
+    DiaryDraft draft = DiaryDraft.builder()
+        .content(DiaryContentPatcher.patch(currentDraft.getContent(), request.getOperations()))
+        .date(request.getDate() != null ? request.getDate() : currentDraft.getDate())
+        .revision(currentDraft.getRevision() + 1)
+        .version(currentDraft.getVersion() + 1)
+        .build();
+
+    diaryResponseCache.evict(diaryId, userId);
+
+    boolean haveEmotionAnalysis = emotionAnalysisRepository.existsByDiaryId(diaryId);
+
+    if (writeBehindEnabled) {
+      diaryDraftBuffer.put(diaryId, draft);
+      return DiaryResponse.fromDraft(diary, draft, haveEmotionAnalysis);
+    }
+
+    LocalDate previousDate = diary.getDate();
+
+    diary.applyDraft(draft);
+
+    Diary savedDiary = diaryRepository.save(diary);
+
+    refreshDaysIfDateChanged(userId, previousDate, savedDiary.getDate());
 
     return DiaryResponse.fromEntity(savedDiary, haveEmotionAnalysis);
   }
 
+  /**
+   * 임시 저장은 임시 저장 상태를 바꾸지 않으므로 날짜가 바뀐 경우에만 캘린더 요약을 갱신
+   */
+  private void refreshDaysIfDateChanged(UUID userId, LocalDate previousDate,
+      LocalDate date) {
+    if (!Objects.equals(previousDate, date)) {
+      diaryCalendarService.refreshDays(userId, previousDate, date);
+    }
+  }
+
+  /**
+   * 버퍼에 아직 반영되지 않은 임시 저장 내용이 있으면 그 내용을, 없으면 저장된 일기 내용을 반환
+   */
+  private DiaryDraft getCurrentDraft(Diary diary) {
+    if (writeBehindEnabled) {
+      Optional<DiaryDraft> bufferedDraft = diaryDraftBuffer.peek(diary.getId());
+      if (bufferedDraft.isPresent()) {
+        return bufferedDraft.get();
+      }
+    }
+
+    return DiaryDraft.builder()
+        .content(diary.getContent())
+        .date(diary.getDate())
+        .revision(diary.getRevision())
+        .version(diary.getVersion())
+        .build();
+  }
+
+  /**
+   * 버퍼에 쌓인 일기의 임시 저장 내용을 diaries 테이블에 반영
+   */
+  @Transactional
+  public void flushBufferedDraft(UUID diaryId) {
+    applyBufferedDraft(diaryId);
+  }
+
+  private void applyBufferedDraft(UUID diaryId) {
+    diaryDraftBuffer.peek(diaryId).ifPresent(draft -> {
+      diaryRepository.findById(diaryId)
+          .filter(diary -> diary.isTemp() && !diary.isDeleted())
+          .ifPresent(diary -> {
+            LocalDate previousDate = diary.getDate();
+            diary.applyDraft(draft);
+            diaryRepository.save(diary);
+            advanceVersion(diary, draft.getVersion());
+            refreshDaysIfDateChanged(diary.getUser().getId(), previousDate,
+                diary.getDate());
+          });
+      removeBufferedDraftAfterCommit(diaryId, draft);
+    });
+  }
+
+  /**
+   * 저장은 일기 버전을 한 번만 올리므로 버퍼의 임시 저장마다 올린 버전이 더 높으면 그 버전으로 맞추고
+   * 엔티티를 다시 읽음. 버전이 되돌아가면 이전 버전을 가진 클라이언트의 저장이 충돌 없이 통과함
+   */
+  private void advanceVersion(Diary diary, long version) {
+    if (version > diary.getVersion() + 1) {
+      diaryRepository.advanceVersion(diary.getId(), version);
+      entityManager.refresh(diary);
+    }
+  }
+
+  /**
+   * 반영한 내용이 커밋된 뒤에 버퍼에서 제거. 커밋 전에 지우면 롤백 시 임시 저장 내용이 유실됨
+   */
+  private void removeBufferedDraftAfterCommit(UUID diaryId, DiaryDraft draft) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      diaryDraftBuffer.remove(diaryId, draft);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        diaryDraftBuffer.remove(diaryId, draft);
+      }
+    });
+  }
+
   @Transactional
   public DiaryResponse finalSaveDiary(UUID diaryId, UUID userId,
       DiaryFinalSaveRequest request) {
     Diary diary = checkValidAndTempDiary(diaryId, userId);
+    DiaryDraft currentDraft = getCurrentDraft(diary);
+    checkVersion(currentDraft, request.getVersion());
+
+    if (writeBehindEnabled) {
+      // 최종 저장 내용이 버퍼의 임시 저장 내용을 대체하므로 커밋 후 버퍼만 비움
+      diaryDraftBuffer.peek(diaryId)
+          .ifPresent(draft -> removeBufferedDraftAfterCommit(diaryId, draft));
+    }
+
+    LocalDate previousDate = diary.getDate();
 
     diary.finalSave(request);
 
     Diary savedDiary = diaryRepository.save(diary);
+    advanceVersion(savedDiary, currentDraft.getVersion() + 1);
+
+    diarySearchIndexer.index(savedDiary);
+    diaryCalendarService.refreshDays(userId, previousDate, savedDiary.getDate());
+    diaryResponseCache.evict(diaryId, userId);
 
     boolean haveEmotionAnalysis =
         emotionAnalysisRepository.findByDiary(savedDiary).isPresent();
@@ -82,22 +269,99 @@ public class DiaryService {
 
     Diary savedDiary = diaryRepository.save(diary);
 
+    diaryCalendarService.refreshDays(userId, savedDiary.getDate());
+    diaryResponseCache.evict(diaryId, userId);
+    emotionAnalysisResponseCache.evict(diaryId, userId);
+
     boolean haveEmotionAnalysis =
         emotionAnalysisRepository.findByDiary(savedDiary).isPresent();
 
     return DiaryResponse.fromEntity(savedDiary, haveEmotionAnalysis);
   }
 
-  @Transactional(readOnly = true)
+  @Transactional
   public DiaryResponse getDiary(UUID diaryId, UUID userId) {
+    Optional<DiaryResponse> cachedResponse = diaryResponseCache.get(diaryId, userId);
+    if (cachedResponse.isPresent()) {
+      return cachedResponse.get();
+    }
+
     Diary diary = getCheckedValidDiary(diaryId, userId);
 
+    if (writeBehindEnabled && diary.isTemp()) {
+      applyBufferedDraft(diaryId);
+    }
+
     boolean haveEmotionAnalysis =
         emotionAnalysisRepository.findByDiary(diary).isPresent();
 
-    return DiaryResponse.fromEntity(diary, haveEmotionAnalysis);
+    DiaryResponse response = DiaryResponse.fromEntity(diary, haveEmotionAnalysis);
+
+    diaryResponseCache.put(userId, response);
+
+    return response;
+  }
+
+  /**
+   * 일기 조회 응답의 ETag. 본문 대신 헤더 컬럼과 감정분석 존재 여부만 조회.
+   * 버퍼에 아직 반영되지 않은 임시 저장 내용이 있을 수 있으면 ETag 를 만들지 않음
+   */
+  @Transactional(readOnly = true)
+  public Optional<String> getDiaryETag(UUID diaryId, UUID userId) {
+    DiaryHeader header = getCheckedValidDiaryHeader(diaryId, userId);
+
+    if (writeBehindEnabled && header.isTemp()) {
+      return Optional.empty();
+    }
+
+    boolean haveEmotionAnalysis = emotionAnalysisRepository.existsByDiaryId(diaryId);
+
+    return Optional.of(ETagUtils.generate(diaryId, header.isTemp(), header.getRevision(),
+        header.getVersion(), header.getUpdatedAt(), haveEmotionAnalysis));
   }
 
+  /**
+   * 기간 내 일기 목록 응답의 ETag. 기간 내 일기와 감정분석의 개수, 리비전 합, 최종 수정 시각만 집계.
+   * 같은 기간이라도 페이지마다 응답이 다르므로 페이지 조건도 포함
+   */
+  @Transactional(readOnly = true)
+  public String getDiariesByDateRangeETag(LocalDate startDate, LocalDate endDate,
+      Pageable pageable, UUID userId) {
+    return generateDiariesByDateRangeETag(startDate, endDate, userId,
+        pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+  }
+
+  /**
+   * 커서 기반 기간 내 일기 목록 응답의 ETag. 커서, 크기, 정렬 방향도 포함
+   */
+  @Transactional(readOnly = true)
+  public String getDiariesByDateRangeETag(LocalDate startDate, LocalDate endDate,
+      String cursor, int size, Direction direction, UUID userId) {
+    return generateDiariesByDateRangeETag(startDate, endDate, userId, cursor, size,
+        direction);
+  }
+
+  private String generateDiariesByDateRangeETag(LocalDate startDate, LocalDate endDate,
+      UUID userId, Object... pageParts) {
+    if (startDate.isAfter(endDate)) {
+      throw new DiaryException(ErrorCode.START_DATE_MUST_BE_BEFORE_END_DATE);
+    }
+
+    User userProxy = entityManager.getReference(User.class, userId);
+
+    DiaryRangeVersion diaries = diaryRepository.findRangeVersionByUserAndDateBetween(
+        userProxy, startDate, endDate);
+    EmotionAnalysisRangeVersion emotionAnalyses =
+        emotionAnalysisRepository.findRangeVersionByUserAndDateBetween(userProxy, startDate,
+            endDate);
+
+    return ETagUtils.generate(startDate, endDate, diaries.getTotalCount(),
+        diaries.getVisibleCount(), diaries.getRevisionSum(), diaries.getVersionSum(),
+        diaries.getLastUpdatedAt(), emotionAnalyses.getTotalCount(),
+        emotionAnalyses.getLastUpdatedAt(), Arrays.asList(pageParts));
+  }
+
+
   @Transactional(readOnly = true)
   public Slice<DiaryResponse> getDiariesByDateRange(LocalDate startDate,
       LocalDate endDate, Pageable pageable, UUID userId) {
@@ -110,11 +374,7 @@ public class DiaryService {
     Slice<Diary> diaries = diaryRepository.findByDateBetweenAndIsDeletedFalseAndIsTempFalseAndUser(
         startDate, endDate, userProxy, pageable);
 
-    return diaries.map(diary -> {
-      boolean haveEmotionAnalysis =
-          emotionAnalysisRepository.findByDiary(diary).isPresent();
-      return DiaryResponse.fromEntity(diary, haveEmotionAnalysis);
-    });
+    return toDiaryResponses(diaries);
   }
 
   @Transactional(readOnly = true)
@@ -124,22 +384,106 @@ public class DiaryService {
     Slice<Diary> diaries = diaryRepository.findAllByUserAndIsDeletedFalseAndIsTempFalse(
         userProxy, pageable);
 
-    return diaries.map(diary -> {
-      boolean haveEmotionAnalysis =
-          emotionAnalysisRepository.findByDiary(diary).isPresent();
-      return DiaryResponse.fromEntity(diary, haveEmotionAnalysis);
-    });
+    return toDiaryResponses(diaries);
+  }
+
+  /**
+   * (date, id) 기준 keyset 페이지네이션으로 기간 내 일기 조회
+   */
+  @Transactional(readOnly = true)
+  public CursorResponse<DiaryResponse> getDiariesByDateRangeWithCursor(LocalDate startDate,
+      LocalDate endDate, String cursor, int size, Direction direction, UUID userId) {
+    if (startDate.isAfter(endDate)) {
+      throw new DiaryException(ErrorCode.START_DATE_MUST_BE_BEFORE_END_DATE);
+    }
+
+    User userProxy = entityManager.getReference(User.class, userId);
+
+    Window<Diary> diaries = diaryRepository.findByDateBetweenAndIsDeletedFalseAndIsTempFalseAndUser(
+        startDate, endDate, userProxy, KeysetCursor.toScrollPosition(cursor),
+        keysetSort(direction), Limit.of(size));
+
+    return toCursorResponse(diaries);
+  }
+
+  /**
+   * (date, id) 기준 keyset 페이지네이션으로 전체 일기 조회
+   */
+  @Transactional(readOnly = true)
+  public CursorResponse<DiaryResponse> getAllMyDiariesWithCursor(String cursor, int size,
+      Direction direction, UUID userId) {
+    User userProxy = entityManager.getReference(User.class, userId);
+
+    Window<Diary> diaries = diaryRepository.findAllByUserAndIsDeletedFalseAndIsTempFalse(
+        userProxy, KeysetCursor.toScrollPosition(cursor), keysetSort(direction),
+        Limit.of(size));
+
+    return toCursorResponse(diaries);
+  }
+
+  private Sort keysetSort(Direction direction) {
+    return Sort.by(direction, "date", "id");
   }
 
+  /**
+   * 페이지에 포함된 일기들의 감정분석 존재 여부를 한 번의 IN 쿼리로 조회하여 응답으로 변환
+   */
+  private Slice<DiaryResponse> toDiaryResponses(Slice<Diary> diaries) {
+    Set<UUID> analyzedDiaryIds = findAnalyzedDiaryIds(diaries.getContent());
+
+    return diaries.map(diary -> DiaryResponse.fromEntity(diary,
+        analyzedDiaryIds.contains(diary.getId())));
+  }
+
+  private CursorResponse<DiaryResponse> toCursorResponse(Window<Diary> diaries) {
+    Set<UUID> analyzedDiaryIds = findAnalyzedDiaryIds(diaries.getContent());
+
+    List<DiaryResponse> content = diaries.getContent().stream()
+        .map(diary -> DiaryResponse.fromEntity(diary,
+            analyzedDiaryIds.contains(diary.getId())))
+        .toList();
+
+    return CursorResponse.of(diaries, content,
+        diary -> KeysetCursor.of(diary.getDate(), diary.getId()));
+  }
+
+  private Set<UUID> findAnalyzedDiaryIds(List<Diary> diaries) {
+    if (diaries.isEmpty()) {
+      return Collections.emptySet();
+    }
+
+    List<UUID> diaryIds = diaries.stream()
+        .map(Diary::getId)
+        .toList();
+
+    return new HashSet<>(emotionAnalysisRepository.findDiaryIdsByDiaryIdIn(diaryIds));
+  }
+
+  /**
+   * 본문이 필요 없으므로 헤더만 조회해 검사하고 벌크 업데이트로 삭제 처리
+   */
   @Transactional
   public void deleteDiary(UUID diaryId, UUID userId) {
-    Diary diary = checkValidAndNotTempDiary(diaryId, userId);
+    DiaryHeader header = getCheckedValidDiaryHeader(diaryId, userId);
 
-    diary.deactivate();
+    if (header.isTemp()) {
+      throw new DiaryException(ErrorCode.CONFLICT_DIARY_STATE);
+    }
+
+    diaryRepository.deactivateById(diaryId, LocalDateTime.now());
 
-    emotionAnalysisRepository.findByDiary(diary).ifPresent(EmotionAnalysis::deactivate);
+    emotionAnalysisRepository.findByDiaryId(diaryId)
+        .filter(emotionAnalysis -> !emotionAnalysis.isDeleted())
+        .ifPresent(emotionAnalysis -> {
+          emotionAnalysis.deactivate();
+          emotionTrendService.applyScoreChange(userId, emotionAnalysis.getDate(),
+              emotionAnalysis.getEmotionScore(), null, null);
+        });
 
-    diaryRepository.save(diary);
+    diarySearchIndexer.remove(diaryId);
+    diaryCalendarService.refreshDays(userId, header.getDate());
+    diaryResponseCache.evict(diaryId, userId);
+    emotionAnalysisResponseCache.evict(diaryId, userId);
   }
 
   private Diary checkValidAndTempDiary(UUID diaryId, UUID userId) {
@@ -152,6 +496,18 @@ public class DiaryService {
     return diary;
   }
 
+  /**
+   * 요청한 버전이 현재 버전과 다르면 덮어쓰지 않고 현재 버전과 리비전을 담아 충돌 반환.
+   * 버퍼에 임시 저장 내용이 있으면 그 버전과 비교함.
+   * 확인 이후 커밋 전에 끼어든 저장은 @Version 검사가 OptimisticLockingFailureException 으로 막음
+   */
+  private void checkVersion(DiaryDraft currentDraft, Long expectedVersion) {
+    if (expectedVersion != null && expectedVersion != currentDraft.getVersion()) {
+      throw new DiaryVersionConflictException(currentDraft.getVersion(),
+          currentDraft.getRevision());
+    }
+  }
+
   private Diary checkValidAndNotTempDiary(UUID diaryId, UUID userId) {
     Diary diary = getCheckedValidDiary(diaryId, userId);
 
@@ -166,15 +522,31 @@ public class DiaryService {
     Diary diary = diaryRepository.findById(diaryId)
         .orElseThrow(() -> new DiaryException(ErrorCode.NOT_FOUND_DIARY));
 
-    if (!diary.getUser().getId().equals(userId)) {
+    checkOwnerAndNotDeleted(diary.getUser().getId(), diary.isDeleted(), userId);
+
+    return diary;
+  }
+
+  /**
+   * 본문 없이 id, user_id, date, is_temp, is_deleted 만 조회하여 권한과 삭제 여부를 검사
+   */
+  private DiaryHeader getCheckedValidDiaryHeader(UUID diaryId, UUID userId) {
+    DiaryHeader header = diaryRepository.findHeaderById(diaryId)
+        .orElseThrow(() -> new DiaryException(ErrorCode.NOT_FOUND_DIARY));
+
+    checkOwnerAndNotDeleted(header.getUserId(), header.isDeleted(), userId);
+
+    return header;
+  }
+
+  private void checkOwnerAndNotDeleted(UUID ownerId, boolean isDeleted, UUID userId) {
+    if (!ownerId.equals(userId)) {
       throw new UserException(ErrorCode.FORBIDDEN_ACCESS_DIARY);
     }
 
-    if (diary.isDeleted()) {
+    if (isDeleted) {
       throw new DiaryException(ErrorCode.ALREADY_DELETED_DIARY);
     }
-
-    return diary;
   }
 
   @Transactional(readOnly = true)
@@ -0,0 +1,5 @@
+package com.example.moodwriter.domain.emotion.constant;
+
+public enum EmotionAnalysisBatchStatus {
+  IN_PROGRESS, COMPLETED, FAILED
+}
@@ -0,0 +1,5 @@
+package com.example.moodwriter.domain.emotion.constant;
+
+public enum EmotionAnalysisJobStatus {
+  PENDING, IN_PROGRESS, COMPLETED, FAILED
+}
@@ -1,20 +1,34 @@
 package com.example.moodwriter.domain.emotion.controller;
 
+import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisJobRequest;
+import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisJobResponse;
 import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisResponse;
 import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisRequest;
+import com.example.moodwriter.domain.emotion.dto.EmotionTrendResponse;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisAsyncService;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisJobService;
 import com.example.moodwriter.domain.emotion.service.EmotionAnalysisService;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisStreamService;
+import com.example.moodwriter.domain.emotion.service.EmotionTrendService;
 import com.example.moodwriter.global.constant.SortOrder;
+import com.example.moodwriter.global.constant.TrendPeriod;
+import com.example.moodwriter.global.pagination.dto.CursorResponse;
 import com.example.moodwriter.global.security.dto.CustomUserDetails;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.PastOrPresent;
 import java.time.LocalDate;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -25,6 +39,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -32,29 +48,75 @@ import org.springframework.web.bind.annotation.RestController;
 public class EmotionAnalysisController {
 
   private final EmotionAnalysisService emotionAnalysisService;
+  private final EmotionTrendService emotionTrendService;
+  private final EmotionAnalysisJobService emotionAnalysisJobService;
+  private final EmotionAnalysisStreamService emotionAnalysisStreamService;
+  private final EmotionAnalysisAsyncService emotionAnalysisAsyncService;
 
   @PostMapping("/score")
-  public ResponseEntity<EmotionAnalysisResponse> createPrimaryEmotionAndEmotionScore(
+  public CompletableFuture<ResponseEntity<EmotionAnalysisResponse>> createPrimaryEmotionAndEmotionScore(
       @RequestBody @Valid EmotionAnalysisRequest request,
       @AuthenticationPrincipal CustomUserDetails userDetails) {
-    EmotionAnalysisResponse response = emotionAnalysisService.createPrimaryEmotionAndEmotionScore(
-        request, userDetails.getId());
-    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    return emotionAnalysisAsyncService.createPrimaryEmotionAndEmotionScore(
+            request.getDiaryId(), userDetails.getId())
+        .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
   }
 
   @PostMapping("/detail")
-  public ResponseEntity<EmotionAnalysisResponse> createEmotionAnalysis(
+  public CompletableFuture<ResponseEntity<EmotionAnalysisResponse>> createEmotionAnalysis(
       @RequestBody @Valid EmotionAnalysisRequest request,
       @AuthenticationPrincipal CustomUserDetails userDetails) {
-    EmotionAnalysisResponse response = emotionAnalysisService.createEmotionAnalysis(
-        request, userDetails.getId());
-    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    return emotionAnalysisAsyncService.createEmotionAnalysis(request.getDiaryId(),
+            userDetails.getId())
+        .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+  }
+
+  @PostMapping(value = "/detail/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<SseEmitter> streamEmotionAnalysis(
+      @RequestBody @Valid EmotionAnalysisRequest request,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    SseEmitter emitter = emotionAnalysisStreamService.streamEmotionAnalysis(
+        request.getDiaryId(), userDetails.getId());
+    return ResponseEntity.ok(emitter);
+  }
+
+  @PostMapping("/full")
+  public CompletableFuture<ResponseEntity<EmotionAnalysisResponse>> createFullEmotionAnalysis(
+      @RequestBody @Valid EmotionAnalysisRequest request,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    return emotionAnalysisAsyncService.createFullEmotionAnalysis(request.getDiaryId(),
+            userDetails.getId())
+        .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+  }
+
+  @PostMapping("/jobs")
+  public ResponseEntity<EmotionAnalysisJobResponse> submitEmotionAnalysisJob(
+      @RequestBody @Valid EmotionAnalysisJobRequest request,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    EmotionAnalysisJobResponse response = emotionAnalysisJobService.submit(request,
+        userDetails.getId());
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+  }
+
+  @GetMapping("/jobs/{jobId}")
+  public ResponseEntity<EmotionAnalysisJobResponse> getEmotionAnalysisJob(
+      @PathVariable UUID jobId,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    EmotionAnalysisJobResponse response = emotionAnalysisJobService.getJob(jobId,
+        userDetails.getId());
+    return ResponseEntity.ok(response);
   }
 
   @GetMapping("/{diaryId}")
   public ResponseEntity<EmotionAnalysisResponse> getEmotionAnalysis(
       @PathVariable UUID diaryId,
-      @AuthenticationPrincipal CustomUserDetails userDetails) {
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      WebRequest webRequest) {
+    String eTag = emotionAnalysisService.getEmotionAnalysisETag(diaryId, userDetails.getId());
+    if (webRequest.checkNotModified(eTag)) {
+      return null;
+    }
+
     EmotionAnalysisResponse response = emotionAnalysisService.getEmotionAnalysis(
         diaryId, userDetails.getId());
     return ResponseEntity.ok(response);
@@ -76,6 +138,33 @@ public class EmotionAnalysisController {
     return ResponseEntity.ok(responses);
   }
 
+  @GetMapping("/cursor")
+  public ResponseEntity<CursorResponse<EmotionAnalysisResponse>> getEmotionAnalysisByDateRangeWithCursor(
+      @RequestParam @PastOrPresent(message = "조회하는 날짜는 오늘을 포함한 이전 날짜만 가능합니다.") LocalDate startDate,
+      @RequestParam @PastOrPresent(message = "조회하는 날짜는 오늘을 포함한 이전 날짜만 가능합니다.") LocalDate endDate,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "10")
+      @Min(value = 1, message = "조회 개수는 1 이상 100 이하만 가능합니다.")
+      @Max(value = 100, message = "조회 개수는 1 이상 100 이하만 가능합니다.") int size,
+      @RequestParam(required = false, defaultValue = "desc") SortOrder sortOrder,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    Direction direction = sortOrder == SortOrder.DESC ? Direction.DESC : Direction.ASC;
+    CursorResponse<EmotionAnalysisResponse> response = emotionAnalysisService.getEmotionAnalysisByDateRangeWithCursor(
+        startDate, endDate, userDetails.getId(), cursor, size, direction);
+    return ResponseEntity.ok(response);
+  }
+
+  @GetMapping("/trend")
+  public ResponseEntity<EmotionTrendResponse> getEmotionTrend(
+      @RequestParam LocalDate startDate,
+      @RequestParam LocalDate endDate,
+      @RequestParam(required = false, defaultValue = "month") TrendPeriod period,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    EmotionTrendResponse response = emotionTrendService.getTrend(period, startDate, endDate,
+        userDetails.getId());
+    return ResponseEntity.ok(response);
+  }
+
   @DeleteMapping("/{diaryId}")
   public ResponseEntity<Void> deleteEmotionAnalysis(
       @PathVariable UUID diaryId,
@@ -0,0 +1,17 @@
+package com.example.moodwriter.domain.emotion.dao;
+
+import com.example.moodwriter.domain.emotion.constant.EmotionAnalysisBatchStatus;
+import com.example.moodwriter.domain.emotion.entity.EmotionAnalysisBatch;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EmotionAnalysisBatchRepository
+    extends JpaRepository<EmotionAnalysisBatch, UUID> {
+
+  boolean existsByStatus(EmotionAnalysisBatchStatus status);
+
+  List<EmotionAnalysisBatch> findAllByStatusOrderByCreatedAt(EmotionAnalysisBatchStatus status);
+}
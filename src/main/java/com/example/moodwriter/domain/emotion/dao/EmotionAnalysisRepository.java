@@ -4,11 +4,20 @@ import com.example.moodwriter.domain.diary.entity.Diary;
 import com.example.moodwriter.domain.emotion.entity.EmotionAnalysis;
 import com.example.moodwriter.domain.user.entity.User;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,6 +25,84 @@ public interface EmotionAnalysisRepository extends JpaRepository<EmotionAnalysis
 
   Optional<EmotionAnalysis> findByDiary(Diary diary);
 
+  Optional<EmotionAnalysis> findByDiaryId(UUID diaryId);
+
+  boolean existsByDiaryId(UUID diaryId);
+
   Slice<EmotionAnalysis> findByDateBetweenAndIsDeletedFalseAndUser(LocalDate startDate,
       LocalDate endDate, User user, Pageable pageable);
+
+  Window<EmotionAnalysis> findByDateBetweenAndIsDeletedFalseAndUser(LocalDate startDate,
+      LocalDate endDate, User user, ScrollPosition position, Sort sort, Limit limit);
+
+  @Query("SELECT ea.diary.id FROM EmotionAnalysis ea WHERE ea.diary.id IN :diaryIds")
+  List<UUID> findDiaryIdsByDiaryIdIn(@Param("diaryIds") Collection<UUID> diaryIds);
+
+  @Query("SELECT ea.date AS date, ea.emotionScore AS emotionScore FROM EmotionAnalysis ea "
+      + "WHERE ea.user = :user AND ea.isDeleted = false AND ea.emotionScore IS NOT NULL "
+      + "AND ea.date BETWEEN :startDate AND :endDate ORDER BY ea.updatedAt")
+  List<EmotionScoreOfDay> findEmotionScoresByUserAndDateBetween(@Param("user") User user,
+      @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+  @Query("SELECT COUNT(ea.emotionScore) AS scoreCount, SUM(ea.emotionScore) AS scoreSum, "
+      + "MIN(ea.emotionScore) AS minScore, MAX(ea.emotionScore) AS maxScore "
+      + "FROM EmotionAnalysis ea WHERE ea.user = :user AND ea.isDeleted = false "
+      + "AND ea.emotionScore IS NOT NULL AND ea.date BETWEEN :startDate AND :endDate")
+  EmotionScoreStats findEmotionScoreStatsByUserAndDateBetween(@Param("user") User user,
+      @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+  /**
+   * 감정분석 ETag 재료. analysis_content 는 읽지 않고 존재 여부만 확인
+   */
+  @Query("SELECT ea.id AS id, ea.isDeleted AS deleted, ea.emotionScore AS emotionScore, "
+      + "ea.primaryEmotion AS primaryEmotion, "
+      + "CASE WHEN ea.analysisContent IS NULL THEN false ELSE true END AS analyzed, "
+      + "ea.updatedAt AS updatedAt FROM EmotionAnalysis ea WHERE ea.diary.id = :diaryId")
+  Optional<EmotionAnalysisVersion> findVersionByDiaryId(@Param("diaryId") UUID diaryId);
+
+  @Query("SELECT COUNT(ea) AS totalCount, MAX(ea.updatedAt) AS lastUpdatedAt "
+      + "FROM EmotionAnalysis ea "
+      + "WHERE ea.user = :user AND ea.date BETWEEN :startDate AND :endDate")
+  EmotionAnalysisRangeVersion findRangeVersionByUserAndDateBetween(@Param("user") User user,
+      @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+  interface EmotionScoreOfDay {
+
+    LocalDate getDate();
+
+    Integer getEmotionScore();
+  }
+
+  interface EmotionScoreStats {
+
+    long getScoreCount();
+
+    Long getScoreSum();
+
+    Integer getMinScore();
+
+    Integer getMaxScore();
+  }
+
+  interface EmotionAnalysisVersion {
+
+    UUID getId();
+
+    boolean isDeleted();
+
+    Integer getEmotionScore();
+
+    String getPrimaryEmotion();
+
+    boolean isAnalyzed();
+
+    LocalDateTime getUpdatedAt();
+  }
+
+  interface EmotionAnalysisRangeVersion {
+
+    long getTotalCount();
+
+    LocalDateTime getLastUpdatedAt();
+  }
 }
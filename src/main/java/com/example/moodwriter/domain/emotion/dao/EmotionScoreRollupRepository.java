@@ -0,0 +1,36 @@
+package com.example.moodwriter.domain.emotion.dao;
+
+import com.example.moodwriter.domain.emotion.entity.EmotionScoreRollup;
+import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.constant.TrendPeriod;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EmotionScoreRollupRepository extends JpaRepository<EmotionScoreRollup, UUID> {
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT r FROM EmotionScoreRollup r WHERE r.user = :user "
+      + "AND r.periodType = :periodType AND r.periodStart = :periodStart")
+  Optional<EmotionScoreRollup> findForUpdateByUserAndPeriod(@Param("user") User user,
+      @Param("periodType") TrendPeriod periodType,
+      @Param("periodStart") LocalDate periodStart);
+
+  /**
+   * 유니크 키 (user_id, period_type, period_start) 범위 조회 한 번으로 기간 내 집계를 조회
+   */
+  @Query("SELECT r FROM EmotionScoreRollup r WHERE r.user = :user "
+      + "AND r.periodType = :periodType AND r.periodStart BETWEEN :startDate AND :endDate "
+      + "AND r.scoreCount > 0 ORDER BY r.periodStart")
+  List<EmotionScoreRollup> findTrendByUserAndPeriodStartBetween(@Param("user") User user,
+      @Param("periodType") TrendPeriod periodType, @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate);
+}
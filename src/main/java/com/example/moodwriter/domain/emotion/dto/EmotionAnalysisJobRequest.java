@@ -0,0 +1,21 @@
+package com.example.moodwriter.domain.emotion.dto;
+
+import com.example.moodwriter.domain.emotion.constant.EmotionAnalysisJobType;
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmotionAnalysisJobRequest {
+
+  @NotNull
+  private UUID diaryId;
+
+  @NotNull
+  private EmotionAnalysisJobType type;
+
+}
@@ -0,0 +1,19 @@
+package com.example.moodwriter.domain.emotion.dto;
+
+import com.example.moodwriter.domain.emotion.constant.EmotionAnalysisJobStatus;
+import com.example.moodwriter.domain.emotion.constant.EmotionAnalysisJobType;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class EmotionAnalysisJobResponse {
+
+  private UUID jobId;
+  private UUID diaryId;
+  private EmotionAnalysisJobType type;
+  private EmotionAnalysisJobStatus status;
+  private ErrorCode errorCode;
+}
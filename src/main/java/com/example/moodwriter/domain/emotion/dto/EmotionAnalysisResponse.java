@@ -1,6 +1,7 @@
 package com.example.moodwriter.domain.emotion.dto;
 
 import com.example.moodwriter.domain.emotion.entity.EmotionAnalysis;
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -12,7 +13,7 @@ import lombok.Getter;
 
 @Getter
 @Builder
-public class EmotionAnalysisResponse {
+public class EmotionAnalysisResponse implements Serializable {
 
   private UUID emotionAnalysisId;
   private UUID diaryId;
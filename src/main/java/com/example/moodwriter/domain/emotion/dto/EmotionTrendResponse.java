@@ -0,0 +1,44 @@
+package com.example.moodwriter.domain.emotion.dto;
+
+import com.example.moodwriter.domain.emotion.entity.EmotionScoreRollup;
+import com.example.moodwriter.global.constant.TrendPeriod;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class EmotionTrendResponse {
+
+  private TrendPeriod period;
+  private List<TrendPoint> points;
+
+  public static EmotionTrendResponse of(TrendPeriod period, List<EmotionScoreRollup> rollups) {
+    return EmotionTrendResponse.builder()
+        .period(period)
+        .points(rollups.stream().map(TrendPoint::fromEntity).toList())
+        .build();
+  }
+
+  @Getter
+  @Builder
+  public static class TrendPoint {
+
+    private LocalDate periodStart;
+    private int count;
+    private double averageScore;
+    private Integer minScore;
+    private Integer maxScore;
+
+    public static TrendPoint fromEntity(EmotionScoreRollup rollup) {
+      return TrendPoint.builder()
+          .periodStart(rollup.getPeriodStart())
+          .count(rollup.getScoreCount())
+          .averageScore((double) rollup.getScoreSum() / rollup.getScoreCount())
+          .minScore(rollup.getMinScore())
+          .maxScore(rollup.getMaxScore())
+          .build();
+    }
+  }
+}
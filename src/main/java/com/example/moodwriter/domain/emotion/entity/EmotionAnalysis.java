@@ -3,14 +3,19 @@ package com.example.moodwriter.domain.emotion.entity;
 import com.example.moodwriter.domain.diary.entity.Diary;
 import com.example.moodwriter.domain.user.entity.User;
 import com.example.moodwriter.global.entity.BaseEntity;
+import com.example.moodwriter.global.entity.converter.CompressedTextConverter;
+import com.example.moodwriter.global.entity.id.TimeOrderedUuid;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -18,16 +23,21 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.UuidGenerator;
 
 @Entity
 @Getter
 @NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
-@Table(name = "emotion_analysis")
+@Table(name = "emotion_analysis", indexes = {
+    @Index(name = "idx_emotion_analysis_user_state_date_id",
+        columnList = "user_id, is_deleted, date, id"),
+    @Index(name = "idx_emotion_analysis_deleted_at", columnList = "deleted_at")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_emotion_analysis_diary_id", columnNames = {"diary_id"})
+})
 public class EmotionAnalysis extends BaseEntity {
 
   @Id
-  @UuidGenerator
+  @TimeOrderedUuid
   @Column(columnDefinition = "BINARY(16)", updatable = false, nullable = false)
   private UUID id;
 
@@ -45,12 +55,17 @@ public class EmotionAnalysis extends BaseEntity {
   @Column(name = "emotion_score", columnDefinition = "TINYINT")
   private Integer emotionScore;
 
+  @Convert(converter = CompressedTextConverter.class)
   @Column(name = "analysis_content", columnDefinition = "TEXT")
   private String analysisContent;
 
   @Column(columnDefinition = "DATE")
   private LocalDate date;
 
+  // 사전 기반 임시 점수이면 true. OpenAI 로 다시 분석해 저장하면 false 로 바뀜
+  @Column(name = "is_provisional", nullable = false)
+  private boolean isProvisional = false;
+
   @Column(name = "is_deleted", nullable = false)
   private boolean isDeleted = false;
 
@@ -88,11 +103,18 @@ public class EmotionAnalysis extends BaseEntity {
     this.primaryEmotion = null;
     this.emotionScore = null;
     this.analysisContent = null;
+    this.isProvisional = false;
   }
 
   public void updateScoreAndPrimaryEmotion(Integer score, String primaryEmotion) {
+    updateScoreAndPrimaryEmotion(score, primaryEmotion, false);
+  }
+
+  public void updateScoreAndPrimaryEmotion(Integer score, String primaryEmotion,
+      boolean provisional) {
     this.emotionScore = score;
     this.primaryEmotion = primaryEmotion;
+    this.isProvisional = provisional;
   }
 
   public void updateEmotionAnalysisContent(String content) {
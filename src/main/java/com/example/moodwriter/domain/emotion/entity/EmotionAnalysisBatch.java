@@ -0,0 +1,82 @@
+package com.example.moodwriter.domain.emotion.entity;
+
+import com.example.moodwriter.domain.emotion.constant.EmotionAnalysisBatchStatus;
+import com.example.moodwriter.global.entity.BaseEntity;
+import com.example.moodwriter.global.entity.id.TimeOrderedUuid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 야간 일괄 감정분석으로 제출한 배치. 처리량과 토큰 사용량을 대화형 분석과 따로 집계하기 위해
+ * 배치마다 반영, 실패 건수와 토큰 수를 기록
+ */
+@Getter
+@NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "emotion_analysis_batch", indexes = {
+    @Index(name = "idx_emotion_analysis_batch_status", columnList = "status")
+})
+public class EmotionAnalysisBatch extends BaseEntity {
+
+  @Id
+  @TimeOrderedUuid
+  @Column(columnDefinition = "BINARY(16)", updatable = false, nullable = false)
+  private UUID id;
+
+  @Column(name = "batch_id", nullable = false, updatable = false, length = 100)
+  private String batchId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(columnDefinition = "VARCHAR(20)", nullable = false)
+  private EmotionAnalysisBatchStatus status;
+
+  @Column(name = "request_count", nullable = false)
+  private int requestCount;
+
+  @Column(name = "applied_count", nullable = false)
+  private int appliedCount;
+
+  @Column(name = "skipped_count", nullable = false)
+  private int skippedCount;
+
+  @Column(name = "failed_count", nullable = false)
+  private int failedCount;
+
+  @Column(name = "prompt_tokens", nullable = false)
+  private long promptTokens;
+
+  @Column(name = "completion_tokens", nullable = false)
+  private long completionTokens;
+
+  @Column(name = "completed_at")
+  private LocalDateTime completedAt;
+
+  @Builder
+  public EmotionAnalysisBatch(String batchId, int requestCount) {
+    this.batchId = batchId;
+    this.requestCount = requestCount;
+    this.status = EmotionAnalysisBatchStatus.IN_PROGRESS;
+  }
+
+  public void finish(EmotionAnalysisBatchStatus status, int appliedCount, int skippedCount,
+      int failedCount, long promptTokens, long completionTokens) {
+    this.status = status;
+    this.appliedCount = appliedCount;
+    this.skippedCount = skippedCount;
+    this.failedCount = failedCount;
+    this.promptTokens = promptTokens;
+    this.completionTokens = completionTokens;
+    this.completedAt = LocalDateTime.now();
+  }
+}
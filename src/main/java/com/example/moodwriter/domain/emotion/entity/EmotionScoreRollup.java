@@ -0,0 +1,110 @@
+package com.example.moodwriter.domain.emotion.entity;
+
+import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.constant.TrendPeriod;
+import com.example.moodwriter.global.entity.BaseEntity;
+import com.example.moodwriter.global.entity.id.TimeOrderedUuid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원의 기간(일, 주, 월)별 감정점수 집계. 감정점수가 바뀔 때마다 개수, 합, 최솟값, 최댓값을 증분 갱신하며,
+ * (user_id, period_type, period_start) 유니크 키 하나로 기간 범위를 조회
+ */
+@Getter
+@NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "emotion_score_rollup", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_emotion_score_rollup_user_period_start",
+        columnNames = {"user_id", "period_type", "period_start"})
+})
+public class EmotionScoreRollup extends BaseEntity {
+
+  @Id
+  @TimeOrderedUuid
+  @Column(columnDefinition = "BINARY(16)", updatable = false, nullable = false)
+  private UUID id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
+  private User user;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "period_type", columnDefinition = "VARCHAR(10)", nullable = false)
+  private TrendPeriod periodType;
+
+  @Column(name = "period_start", nullable = false)
+  private LocalDate periodStart;
+
+  @Column(name = "score_count", nullable = false)
+  private int scoreCount;
+
+  @Column(name = "score_sum", nullable = false)
+  private long scoreSum;
+
+  @Column(name = "min_score", columnDefinition = "TINYINT")
+  private Integer minScore;
+
+  @Column(name = "max_score", columnDefinition = "TINYINT")
+  private Integer maxScore;
+
+  @Builder
+  public EmotionScoreRollup(User user, TrendPeriod periodType, LocalDate periodStart) {
+    this.user = user;
+    this.periodType = periodType;
+    this.periodStart = periodStart;
+    this.scoreCount = 0;
+    this.scoreSum = 0;
+  }
+
+  public void add(int score) {
+    this.scoreCount++;
+    this.scoreSum += score;
+    this.minScore = minScore == null ? score : Math.min(minScore, score);
+    this.maxScore = maxScore == null ? score : Math.max(maxScore, score);
+  }
+
+  /**
+   * 점수 하나를 집계에서 제외. 최솟값이나 최댓값을 제외해야 해서 증분으로 갱신할 수 없으면 false 를 반환하며,
+   * 이 경우 원본에서 다시 집계해야 함
+   */
+  public boolean remove(int score) {
+    if (scoreCount <= 0) {
+      return false;
+    }
+
+    if (scoreCount == 1) {
+      reset(0, 0, null, null);
+      return true;
+    }
+
+    if (minScore == null || maxScore == null || score <= minScore || score >= maxScore) {
+      return false;
+    }
+
+    this.scoreCount--;
+    this.scoreSum -= score;
+    return true;
+  }
+
+  public void reset(int scoreCount, long scoreSum, Integer minScore, Integer maxScore) {
+    this.scoreCount = scoreCount;
+    this.scoreSum = scoreSum;
+    this.minScore = minScore;
+    this.maxScore = maxScore;
+  }
+}
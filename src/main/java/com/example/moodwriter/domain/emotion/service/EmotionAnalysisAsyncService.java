@@ -0,0 +1,75 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisResponse;
+import com.example.moodwriter.domain.emotion.exception.EmotionAnalysisException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * 감정분석 요청을 비동기로 처리. 요청 스레드는 future 를 반환하고 바로 돌아가며, 일기 조회와 결과 저장은
+ * emotionAnalysisTaskExecutor 에서 각각 짧은 트랜잭션으로 실행하므로 요청 스레드의 OSIV 커넥션을 쓰지 않음.
+ * 점수와 감정분석 내용은 OpenAI 응답을 OkHttp 콜백으로 받아 기다리는 스레드가 없고, 전체 분석은 executor 스레드에서
+ * 기다림. Lambda 에서는 프록시가 응답이 끝날 때까지 기다리므로 호출 시간 자체는 줄지 않음
+ */
+@Slf4j
+@Service
+public class EmotionAnalysisAsyncService {
+
+  private final EmotionAnalysisService emotionAnalysisService;
+  private final Executor emotionAnalysisTaskExecutor;
+
+  public EmotionAnalysisAsyncService(EmotionAnalysisService emotionAnalysisService,
+      @Qualifier("emotionAnalysisTaskExecutor") Executor emotionAnalysisTaskExecutor) {
+    this.emotionAnalysisService = emotionAnalysisService;
+    this.emotionAnalysisTaskExecutor = emotionAnalysisTaskExecutor;
+  }
+
+  public CompletableFuture<EmotionAnalysisResponse> createPrimaryEmotionAndEmotionScore(
+      UUID diaryId, UUID userId) {
+    return CompletableFuture.supplyAsync(
+            () -> emotionAnalysisService.getAnalyzableContent(diaryId, userId), this::execute)
+        .thenCompose(diaryContent -> emotionAnalysisService
+            .analyzePrimaryEmotionAndEmotionScoreAsync(diaryId, userId, diaryContent))
+        .thenApplyAsync(emotionScoreAndPrimaryEmotion ->
+            emotionAnalysisService.savePrimaryEmotionAndEmotionScore(diaryId, userId,
+                emotionScoreAndPrimaryEmotion), this::execute);
+  }
+
+  public CompletableFuture<EmotionAnalysisResponse> createEmotionAnalysis(UUID diaryId,
+      UUID userId) {
+    return CompletableFuture.supplyAsync(
+            () -> emotionAnalysisService.getAnalyzableContent(diaryId, userId), this::execute)
+        .thenCompose(emotionAnalysisService::requestEmotionAnalysisContentAsync)
+        .thenApplyAsync(analysisContent ->
+            emotionAnalysisService.saveEmotionAnalysisContent(diaryId, userId,
+                analysisContent), this::execute);
+  }
+
+  /**
+   * JSON 응답이 형식에 맞지 않으면 다시 요청해야 하므로 OpenAI 호출도 emotionAnalysisTaskExecutor 에서 트랜잭션 없이 실행
+   */
+  public CompletableFuture<EmotionAnalysisResponse> createFullEmotionAnalysis(UUID diaryId,
+      UUID userId) {
+    return CompletableFuture.supplyAsync(
+            () -> emotionAnalysisService.getAnalyzableContent(diaryId, userId), this::execute)
+        .thenApplyAsync(emotionAnalysisService::requestFullEmotionAnalysis, this::execute)
+        .thenApplyAsync(fullEmotionAnalysis ->
+            emotionAnalysisService.saveFullEmotionAnalysis(diaryId, userId,
+                fullEmotionAnalysis), this::execute);
+  }
+
+  private void execute(Runnable task) {
+    try {
+      emotionAnalysisTaskExecutor.execute(task);
+    } catch (RejectedExecutionException e) {
+      log.warn("Async emotion analysis is rejected.");
+      throw new EmotionAnalysisException(ErrorCode.EMOTION_ANALYSIS_JOB_REJECTED);
+    }
+  }
+}
@@ -0,0 +1,441 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import com.example.moodwriter.domain.diary.service.DiaryCalendarService;
+import com.example.moodwriter.domain.diary.service.DiaryResponseCache;
+import com.example.moodwriter.domain.emotion.constant.EmotionAnalysisBatchStatus;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisBatchRepository;
+import com.example.moodwriter.domain.emotion.entity.EmotionAnalysisBatch;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisService.EmotionScoreAndPrimaryEmotion;
+import com.example.moodwriter.global.constant.OpenAIModel;
+import com.example.moodwriter.global.constant.OpenAIRequestSentence;
+import com.example.moodwriter.global.entity.converter.CompressedTextConverter;
+import com.example.moodwriter.global.openAI.dto.OpenAIBatch;
+import com.example.moodwriter.global.openAI.dto.OpenAIBatchRequestLine;
+import com.example.moodwriter.global.openAI.dto.OpenAIBatchResultLine;
+import com.example.moodwriter.global.openAI.dto.OpenAIResponse;
+import com.example.moodwriter.global.openAI.dto.OpenAIResponse.Usage;
+import com.example.moodwriter.global.openAI.service.OpenAIBatchClient;
+import com.example.moodwriter.global.util.UuidUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 감정분석이 없거나 사전 기반 임시 점수만 있는 최종 저장 일기를 밤마다 배치 API 로 한꺼번에 분석하는 작업.
+ * submit 은 일기 id 기준 keyset 으로 대상 일기를 모아 배치를 제출하고, collect 는 끝난 배치의 결과를
+ * 작은 묶음마다 짧은 트랜잭션으로 감정분석에 반영. 처리량과 토큰 사용량은 openai.batch.* 지표로 따로 집계
+ */
+@Slf4j
+@Service
+public class EmotionAnalysisBatchJob {
+
+  private static final OpenAIModel MODEL = OpenAIModel.GPT_3_5_TURBO;
+  private static final OpenAIRequestSentence SENTENCE =
+      OpenAIRequestSentence.PRIMARY_EMOTION_AND_SCORE;
+  private static final int HTTP_OK = 200;
+
+  private static final String SELECT_UNANALYZED_DIARIES_SQL =
+      "SELECT d.id, d.content FROM diaries d "
+          + "WHERE d.id > ? AND d.is_temp = false AND d.is_deleted = false "
+          + "AND NOT EXISTS (SELECT 1 FROM emotion_analysis ea "
+          + "WHERE ea.diary_id = d.id AND ea.is_provisional = false "
+          + "AND ea.emotion_score IS NOT NULL) "
+          + "ORDER BY d.id LIMIT ?";
+  private static final String INSERT_EMOTION_ANALYSIS_SQL =
+      "INSERT INTO emotion_analysis (id, user_id, diary_id, primary_emotion, emotion_score, "
+          + "date, is_provisional, is_deleted, created_at, updated_at) "
+          + "VALUES (?, ?, ?, ?, ?, ?, false, false, ?, ?)";
+  // 배치를 기다리는 사이 대화형 분석으로 OpenAI 점수가 저장된 행은 덮어쓰지 않음
+  private static final String UPDATE_EMOTION_ANALYSIS_SQL =
+      "UPDATE emotion_analysis SET primary_emotion = ?, emotion_score = ?, "
+          + "is_provisional = false, updated_at = ? "
+          + "WHERE diary_id = ? AND is_deleted = false "
+          + "AND (emotion_score IS NULL OR is_provisional = true)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final OpenAIBatchClient openAIBatchClient;
+  private final EmotionAnalysisBatchRepository emotionAnalysisBatchRepository;
+  private final DiaryCalendarService diaryCalendarService;
+  private final EmotionTrendService emotionTrendService;
+  private final DiaryResponseCache diaryResponseCache;
+  private final EmotionAnalysisResponseCache emotionAnalysisResponseCache;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final CompressedTextConverter converter;
+  private final int chunkSize;
+  private final int maxRequests;
+
+  public EmotionAnalysisBatchJob(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager, OpenAIBatchClient openAIBatchClient,
+      EmotionAnalysisBatchRepository emotionAnalysisBatchRepository,
+      DiaryCalendarService diaryCalendarService, EmotionTrendService emotionTrendService,
+      DiaryResponseCache diaryResponseCache,
+      EmotionAnalysisResponseCache emotionAnalysisResponseCache, ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${storage.compression.enabled:false}") boolean compressionEnabled,
+      @Value("${storage.compression.threshold-bytes:1024}") int compressionThresholdBytes,
+      @Value("${emotion-analysis.batch.chunk-size:200}") int chunkSize,
+      @Value("${emotion-analysis.batch.max-requests:5000}") int maxRequests) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.openAIBatchClient = openAIBatchClient;
+    this.emotionAnalysisBatchRepository = emotionAnalysisBatchRepository;
+    this.diaryCalendarService = diaryCalendarService;
+    this.emotionTrendService = emotionTrendService;
+    this.diaryResponseCache = diaryResponseCache;
+    this.emotionAnalysisResponseCache = emotionAnalysisResponseCache;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.converter = new CompressedTextConverter(compressionEnabled, compressionThresholdBytes);
+    this.chunkSize = chunkSize;
+    this.maxRequests = maxRequests;
+  }
+
+  /**
+   * 감정분석이 없거나 임시 점수만 있는 최종 저장 일기를 최대 maxRequests 개까지 모아 배치로 제출하고 배치 id 를 반환.
+   * 결과를 아직 반영하지 않은 배치가 있으면 같은 일기를 다시 제출하지 않도록 건너뜀
+   */
+  public Optional<String> submit() {
+    if (emotionAnalysisBatchRepository.existsByStatus(EmotionAnalysisBatchStatus.IN_PROGRESS)) {
+      log.info("Emotion analysis batch is still in progress. Skip submitting.");
+      return Optional.empty();
+    }
+
+    List<OpenAIBatchRequestLine> requestLines = new ArrayList<>();
+    byte[] lastDiaryId = new byte[16];
+
+    while (requestLines.size() < maxRequests) {
+      int limit = Math.min(chunkSize, maxRequests - requestLines.size());
+      List<StoredDiary> chunk = jdbcTemplate.query(SELECT_UNANALYZED_DIARIES_SQL,
+          (rs, rowNum) -> new StoredDiary(rs.getBytes(1), rs.getString(2)),
+          lastDiaryId, limit);
+      if (chunk.isEmpty()) {
+        break;
+      }
+
+      for (StoredDiary diary : chunk) {
+        String content = converter.convertToEntityAttribute(diary.content());
+        if (content == null || content.isBlank()) {
+          continue;
+        }
+        requestLines.add(openAIBatchClient.createRequestLine(
+            UuidUtils.fromBytes(diary.id()).toString(), content + SENTENCE.getSentence(), MODEL));
+      }
+
+      lastDiaryId = chunk.get(chunk.size() - 1).id();
+
+      if (chunk.size() < limit) {
+        break;
+      }
+    }
+
+    if (requestLines.isEmpty()) {
+      log.info("No diaries to analyze in emotion analysis batch.");
+      return Optional.empty();
+    }
+
+    OpenAIBatch openAIBatch = openAIBatchClient.createBatch(requestLines);
+    emotionAnalysisBatchRepository.save(EmotionAnalysisBatch.builder()
+        .batchId(openAIBatch.getId())
+        .requestCount(requestLines.size())
+        .build());
+
+    Counter.builder("openai.batch.requests").register(meterRegistry)
+        .increment(requestLines.size());
+
+    log.info("Emotion analysis batch submitted. batchId : {}, requests : {}",
+        openAIBatch.getId(), requestLines.size());
+    return Optional.of(openAIBatch.getId());
+  }
+
+  /**
+   * 진행 중인 배치의 상태를 확인하고 끝난 배치의 결과를 반영. 반영한 감정분석 수를 반환
+   */
+  public int collect() {
+    int applied = 0;
+    for (EmotionAnalysisBatch batch : emotionAnalysisBatchRepository
+        .findAllByStatusOrderByCreatedAt(EmotionAnalysisBatchStatus.IN_PROGRESS)) {
+      try {
+        applied += collect(batch);
+      } catch (Exception e) {
+        log.error("Failed to collect emotion analysis batch. batchId : {}",
+            batch.getBatchId(), e);
+      }
+    }
+    return applied;
+  }
+
+  private int collect(EmotionAnalysisBatch batch) {
+    OpenAIBatch openAIBatch = openAIBatchClient.getBatch(batch.getBatchId());
+    if (!openAIBatch.isFinished()) {
+      log.info("Emotion analysis batch is not finished. batchId : {}, status : {}",
+          batch.getBatchId(), openAIBatch.getStatus());
+      return 0;
+    }
+
+    long start = System.nanoTime();
+    CollectStats stats = new CollectStats();
+
+    // expired, cancelled 배치도 그 전까지 처리된 결과는 반영
+    if (openAIBatch.getOutputFileId() != null) {
+      List<BatchResult> pending = new ArrayList<>(chunkSize);
+      openAIBatchClient.readResultFile(openAIBatch.getOutputFileId(), line -> {
+        parse(line, stats).ifPresent(pending::add);
+        if (pending.size() >= chunkSize) {
+          applyChunk(pending, stats);
+          pending.clear();
+        }
+      });
+      if (!pending.isEmpty()) {
+        applyChunk(pending, stats);
+      }
+    }
+
+    int failed = Math.max(batch.getRequestCount() - stats.applied - stats.skipped, 0);
+    EmotionAnalysisBatchStatus status = openAIBatch.isCompleted()
+        ? EmotionAnalysisBatchStatus.COMPLETED : EmotionAnalysisBatchStatus.FAILED;
+    batch.finish(status, stats.applied, stats.skipped, failed, stats.promptTokens,
+        stats.completionTokens);
+    emotionAnalysisBatchRepository.save(batch);
+
+    long elapsedNanos = System.nanoTime() - start;
+    Duration turnaround = Duration.between(batch.getCreatedAt(), batch.getCompletedAt());
+    recordMetrics(stats, failed, turnaround);
+
+    log.info("Emotion analysis batch collected. batchId : {}, status : {}, applied : {}, "
+            + "skipped : {}, failed : {}, promptTokens : {}, completionTokens : {}, "
+            + "turnaround : {}, appliedPerSecond : {}",
+        batch.getBatchId(), status, stats.applied, stats.skipped, failed, stats.promptTokens,
+        stats.completionTokens, turnaround,
+        stats.applied * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1));
+    return stats.applied;
+  }
+
+  /**
+   * 응답 형식이 맞지 않는 결과는 반영하지 않고 실패로 집계하며, 다음 배치에서 다시 제출됨
+   */
+  private Optional<BatchResult> parse(OpenAIBatchResultLine line, CollectStats stats) {
+    OpenAIBatchResultLine.Response response = line.getResponse();
+    if (response == null || response.getStatusCode() != HTTP_OK
+        || response.getBody() == null) {
+      return Optional.empty();
+    }
+
+    OpenAIResponse body = response.getBody();
+    Usage usage = body.getUsage();
+    if (usage != null) {
+      stats.promptTokens += usage.getPromptTokens() == null ? 0 : usage.getPromptTokens();
+      stats.completionTokens +=
+          usage.getCompletionTokens() == null ? 0 : usage.getCompletionTokens();
+    }
+
+    if (body.getChoices() == null || body.getChoices().isEmpty()
+        || body.getChoices().get(0).getMessage() == null) {
+      return Optional.empty();
+    }
+
+    try {
+      UUID diaryId = UUID.fromString(line.getCustomId());
+      EmotionScoreAndPrimaryEmotion result = objectMapper.readValue(
+          body.getChoices().get(0).getMessage().getContent(),
+          EmotionScoreAndPrimaryEmotion.class);
+      if (result.getEmotionScore() < 0 || result.getEmotionScore() > 100
+          || result.getPrimaryEmotion() == null || result.getPrimaryEmotion().isBlank()) {
+        return Optional.empty();
+      }
+      return Optional.of(new BatchResult(diaryId, result));
+    } catch (IllegalArgumentException | JsonProcessingException e) {
+      log.warn("Invalid emotion analysis batch result. customId : {}", line.getCustomId());
+      return Optional.empty();
+    }
+  }
+
+  private void applyChunk(List<BatchResult> results, CollectStats stats) {
+    try {
+      Integer applied = applyWithRetry(results);
+      int appliedCount = applied == null ? 0 : applied;
+      stats.applied += appliedCount;
+      stats.skipped += results.size() - appliedCount;
+    } catch (Exception e) {
+      log.error("Failed to apply emotion analysis batch results. size : {}", results.size(), e);
+    }
+  }
+
+  /**
+   * 감정분석 행을 잠근 뒤에도 잠글 행이 없던 일기에 대화형 분석이 먼저 행을 추가하면 추가가 유일 키에 걸리므로,
+   * 트랜잭션을 다시 시작해 그 행을 갱신 대상으로 읽고 한 번 더 반영
+   */
+  private Integer applyWithRetry(List<BatchResult> results) {
+    try {
+      return transactionTemplate.execute(status -> apply(results));
+    } catch (DuplicateKeyException e) {
+      log.info("Emotion analysis was added while applying batch results. Retry. size : {}",
+          results.size());
+      return transactionTemplate.execute(status -> apply(results));
+    }
+  }
+
+  /**
+   * 아직 분석할 수 있는 일기의 결과만 반영. 감정분석 행이 없으면 추가하고, 대화형 분석으로 감정분석 내용만 먼저
+   * 저장되었거나 사전 기반 임시 점수만 있는 행이면 점수와 대표감정을 바꿈. 그 사이 삭제되었거나 OpenAI 점수가 이미
+   * 있는 일기는 건너뜀
+   */
+  private int apply(List<BatchResult> results) {
+    Object[] diaryIds = results.stream()
+        .map(result -> UuidUtils.toBytes(result.diaryId()))
+        .toArray();
+    String in = " IN (" + String.join(",", Collections.nCopies(diaryIds.length, "?")) + ")";
+
+    Map<UUID, DiaryHeader> diaries = new HashMap<>();
+    jdbcTemplate.query("SELECT id, user_id, date FROM diaries "
+            + "WHERE is_temp = false AND is_deleted = false AND id" + in,
+        rs -> {
+          UUID diaryId = UuidUtils.fromBytes(rs.getBytes(1));
+          diaries.put(diaryId, new DiaryHeader(diaryId,
+              UuidUtils.fromBytes(rs.getBytes(2)), rs.getDate(3).toLocalDate()));
+        }, diaryIds);
+
+    Map<UUID, PreviousScore> previousScores = new HashMap<>();
+    // 점수를 읽은 뒤 갱신할 때까지 대화형 분석이 같은 행을 바꾸지 못하도록 잠금
+    jdbcTemplate.query("SELECT diary_id, emotion_score, date FROM emotion_analysis "
+            + "WHERE diary_id" + in + " FOR UPDATE",
+        rs -> {
+          Integer emotionScore = rs.getObject(2) == null ? null : rs.getInt(2);
+          previousScores.put(UuidUtils.fromBytes(rs.getBytes(1)), new PreviousScore(
+              emotionScore == null || rs.getDate(3) == null ? null
+                  : rs.getDate(3).toLocalDate(), emotionScore));
+        }, diaryIds);
+
+    LocalDateTime now = LocalDateTime.now();
+    List<AppliedResult> inserted = new ArrayList<>();
+    List<AppliedResult> updateCandidates = new ArrayList<>();
+    for (BatchResult result : results) {
+      DiaryHeader diary = diaries.get(result.diaryId());
+      if (diary == null) {
+        continue;
+      }
+      PreviousScore previousScore = previousScores.get(diary.diaryId());
+      if (previousScore != null) {
+        updateCandidates.add(new AppliedResult(diary, result.result(), previousScore));
+      } else {
+        inserted.add(new AppliedResult(diary, result.result(), PreviousScore.NONE));
+      }
+    }
+
+    jdbcTemplate.batchUpdate(INSERT_EMOTION_ANALYSIS_SQL, inserted.stream()
+        .map(applied -> new Object[]{
+            UuidUtils.toBytes(UuidUtils.timeOrderedUuid()),
+            UuidUtils.toBytes(applied.diary().userId()),
+            UuidUtils.toBytes(applied.diary().diaryId()),
+            applied.result().getPrimaryEmotion(), applied.result().getEmotionScore(),
+            applied.diary().date(), now, now})
+        .toList());
+
+    List<AppliedResult> appliedResults = new ArrayList<>(inserted);
+    if (!updateCandidates.isEmpty()) {
+      int[] counts = jdbcTemplate.batchUpdate(UPDATE_EMOTION_ANALYSIS_SQL,
+          updateCandidates.stream()
+              .map(applied -> new Object[]{
+                  applied.result().getPrimaryEmotion(), applied.result().getEmotionScore(),
+                  now, UuidUtils.toBytes(applied.diary().diaryId())})
+              .toList());
+      for (int i = 0; i < counts.length; i++) {
+        if (counts[i] > 0) {
+          appliedResults.add(updateCandidates.get(i));
+        }
+      }
+    }
+
+    refreshViews(appliedResults);
+    return appliedResults.size();
+  }
+
+  /**
+   * 대화형 분석에서 감정점수를 저장할 때와 같이 달력, 기간별 집계, 응답 캐시에 반영
+   */
+  private void refreshViews(List<AppliedResult> appliedResults) {
+    Map<UUID, List<LocalDate>> datesByUserId = new LinkedHashMap<>();
+    for (AppliedResult applied : appliedResults) {
+      DiaryHeader diary = applied.diary();
+      datesByUserId.computeIfAbsent(diary.userId(), key -> new ArrayList<>())
+          .add(diary.date());
+      emotionTrendService.applyScoreChange(diary.userId(), applied.previousScore().date(),
+          applied.previousScore().emotionScore(), diary.date(),
+          applied.result().getEmotionScore());
+      diaryResponseCache.evict(diary.diaryId(), diary.userId());
+      emotionAnalysisResponseCache.evict(diary.diaryId(), diary.userId());
+    }
+
+    datesByUserId.forEach((userId, dates) ->
+        diaryCalendarService.refreshDays(userId, dates.toArray(LocalDate[]::new)));
+  }
+
+  private void recordMetrics(CollectStats stats, int failed, Duration turnaround) {
+    Counter.builder("openai.batch.diaries").tag("result", "applied")
+        .register(meterRegistry).increment(stats.applied);
+    Counter.builder("openai.batch.diaries").tag("result", "skipped")
+        .register(meterRegistry).increment(stats.skipped);
+    Counter.builder("openai.batch.diaries").tag("result", "failed")
+        .register(meterRegistry).increment(failed);
+    Counter.builder("openai.batch.tokens").tag("type", "prompt")
+        .register(meterRegistry).increment(stats.promptTokens);
+    Counter.builder("openai.batch.tokens").tag("type", "completion")
+        .register(meterRegistry).increment(stats.completionTokens);
+    Timer.builder("openai.batch.turnaround").register(meterRegistry).record(turnaround);
+  }
+
+  private record StoredDiary(byte[] id, String content) {
+
+  }
+
+  private record DiaryHeader(UUID diaryId, UUID userId, LocalDate date) {
+
+  }
+
+  private record BatchResult(UUID diaryId, EmotionScoreAndPrimaryEmotion result) {
+
+  }
+
+  private record AppliedResult(DiaryHeader diary, EmotionScoreAndPrimaryEmotion result,
+                               PreviousScore previousScore) {
+
+  }
+
+  /**
+   * 반영하기 전 감정분석 행의 날짜와 점수. 점수가 없으면 둘 다 null
+   */
+  private record PreviousScore(LocalDate date, Integer emotionScore) {
+
+    private static final PreviousScore NONE = new PreviousScore(null, null);
+  }
+
+  private static class CollectStats {
+
+    private int applied;
+    private int skipped;
+    private long promptTokens;
+    private long completionTokens;
+  }
+}
@@ -0,0 +1,121 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import com.example.moodwriter.domain.emotion.constant.EmotionAnalysisJobType;
+import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisJobRequest;
+import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisJobResponse;
+import com.example.moodwriter.domain.emotion.exception.EmotionAnalysisException;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisQueue.QueuedJob;
+import com.example.moodwriter.global.exception.CustomException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 감정분석을 작업으로 받아 별도 스레드에서 처리. 일기 조회와 결과 저장만 각각 짧은 트랜잭션으로 실행하고,
+ * OpenAI 호출은 트랜잭션 밖에서 하므로 응답을 기다리는 동안 DB 커넥션을 점유하지 않음.
+ * Lambda 는 응답을 보낸 뒤 실행 환경이 멈추므로 queue-enabled 이면 작업을 Redis 대기열에 넣고,
+ * ProcessEmotionAnalysisQueue 이벤트에서 processQueued 로 처리
+ */
+@Slf4j
+@Service
+public class EmotionAnalysisJobService {
+
+  private final EmotionAnalysisService emotionAnalysisService;
+  private final EmotionAnalysisJobTracker emotionAnalysisJobTracker;
+  private final EmotionAnalysisQueue emotionAnalysisQueue;
+  private final Executor emotionAnalysisTaskExecutor;
+  private final boolean queueEnabled;
+
+  public EmotionAnalysisJobService(EmotionAnalysisService emotionAnalysisService,
+      EmotionAnalysisJobTracker emotionAnalysisJobTracker,
+      EmotionAnalysisQueue emotionAnalysisQueue,
+      @Qualifier("emotionAnalysisTaskExecutor") Executor emotionAnalysisTaskExecutor,
+      @Value("${emotion-analysis.job.queue-enabled:false}") boolean queueEnabled) {
+    this.emotionAnalysisService = emotionAnalysisService;
+    this.emotionAnalysisJobTracker = emotionAnalysisJobTracker;
+    this.emotionAnalysisQueue = emotionAnalysisQueue;
+    this.emotionAnalysisTaskExecutor = emotionAnalysisTaskExecutor;
+    this.queueEnabled = queueEnabled;
+  }
+
+  public EmotionAnalysisJobResponse submit(EmotionAnalysisJobRequest request, UUID userId) {
+    UUID diaryId = request.getDiaryId();
+    EmotionAnalysisJobType type = request.getType();
+
+    // 분석할 수 없는 일기는 작업을 만들지 않고 바로 에러 응답
+    emotionAnalysisService.checkAnalyzableDiary(diaryId, userId);
+
+    UUID jobId = emotionAnalysisJobTracker.start(userId, diaryId, type);
+
+    if (queueEnabled) {
+      emotionAnalysisQueue.enqueueJob(new QueuedJob(jobId, userId, diaryId, type));
+      return emotionAnalysisJobTracker.get(jobId, userId);
+    }
+
+    try {
+      emotionAnalysisTaskExecutor.execute(() -> analyze(jobId, diaryId, userId, type));
+    } catch (RejectedExecutionException e) {
+      log.warn("Emotion analysis job is rejected. Job id : {}", jobId);
+      emotionAnalysisJobTracker.fail(jobId, ErrorCode.EMOTION_ANALYSIS_JOB_REJECTED);
+      throw new EmotionAnalysisException(ErrorCode.EMOTION_ANALYSIS_JOB_REJECTED);
+    }
+
+    return emotionAnalysisJobTracker.get(jobId, userId);
+  }
+
+  /**
+   * 대기열에서 작업을 하나씩 꺼내 현재 스레드에서 차례로 처리. count 개를 처리했거나 deadline 이 지나면
+   * 더 꺼내지 않음. 처리한 작업 수를 반환
+   */
+  public int processQueued(int count, Instant deadline) {
+    int processed = 0;
+    while (processed < count && Instant.now().isBefore(deadline)) {
+      Optional<QueuedJob> queuedJob = emotionAnalysisQueue.pollJob();
+      if (queuedJob.isEmpty()) {
+        break;
+      }
+
+      QueuedJob job = queuedJob.get();
+      analyze(job.jobId(), job.diaryId(), job.userId(), job.type());
+      processed++;
+    }
+    return processed;
+  }
+
+  public EmotionAnalysisJobResponse getJob(UUID jobId, UUID userId) {
+    return emotionAnalysisJobTracker.get(jobId, userId);
+  }
+
+  private void analyze(UUID jobId, UUID diaryId, UUID userId, EmotionAnalysisJobType type) {
+    emotionAnalysisJobTracker.markInProgress(jobId);
+
+    try {
+      String diaryContent = emotionAnalysisService.getAnalyzableContent(diaryId, userId);
+
+      switch (type) {
+        case SCORE -> emotionAnalysisService.savePrimaryEmotionAndEmotionScore(diaryId, userId,
+            emotionAnalysisService.analyzePrimaryEmotionAndEmotionScore(diaryId, userId,
+                diaryContent));
+        case DETAIL -> emotionAnalysisService.saveEmotionAnalysisContent(diaryId, userId,
+            emotionAnalysisService.requestEmotionAnalysisContent(diaryContent));
+        case FULL -> emotionAnalysisService.saveFullEmotionAnalysis(diaryId, userId,
+            emotionAnalysisService.requestFullEmotionAnalysis(diaryContent));
+      }
+
+      emotionAnalysisJobTracker.complete(jobId);
+    } catch (CustomException e) {
+      log.warn("Emotion analysis job failed. Job id : {}, error : {}", jobId, e.getErrorCode());
+      emotionAnalysisJobTracker.fail(jobId, e.getErrorCode());
+    } catch (Exception e) {
+      log.error("Emotion analysis job failed. Job id : {}", jobId, e);
+      emotionAnalysisJobTracker.fail(jobId, ErrorCode.INTERNAL_ERROR);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import com.example.moodwriter.domain.emotion.constant.EmotionAnalysisJobStatus;
+import com.example.moodwriter.domain.emotion.constant.EmotionAnalysisJobType;
+import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisJobResponse;
+import com.example.moodwriter.domain.emotion.exception.EmotionAnalysisException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 감정분석 작업의 상태를 Redis 해시에 기록. 작업이 끝난 뒤에도 하루 동안 조회 가능
+ */
+@Service
+@RequiredArgsConstructor
+public class EmotionAnalysisJobTracker {
+
+  private static final String KEY_EMOTION_ANALYSIS_JOB = "emotion_analysis_job:";
+  private static final Duration TTL = Duration.ofDays(1);
+
+  private static final String FIELD_USER_ID = "userId";
+  private static final String FIELD_DIARY_ID = "diaryId";
+  private static final String FIELD_TYPE = "type";
+  private static final String FIELD_STATUS = "status";
+  private static final String FIELD_ERROR_CODE = "errorCode";
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  public UUID start(UUID userId, UUID diaryId, EmotionAnalysisJobType type) {
+    UUID jobId = UUID.randomUUID();
+    String key = KEY_EMOTION_ANALYSIS_JOB + jobId;
+
+    hashOperations().putAll(key, Map.of(
+        FIELD_USER_ID, userId.toString(),
+        FIELD_DIARY_ID, diaryId.toString(),
+        FIELD_TYPE, type.name(),
+        FIELD_STATUS, EmotionAnalysisJobStatus.PENDING.name()));
+    redisTemplate.expire(key, TTL);
+
+    return jobId;
+  }
+
+  public void markInProgress(UUID jobId) {
+    update(jobId, Map.of(FIELD_STATUS, EmotionAnalysisJobStatus.IN_PROGRESS.name()));
+  }
+
+  public void complete(UUID jobId) {
+    update(jobId, Map.of(FIELD_STATUS, EmotionAnalysisJobStatus.COMPLETED.name()));
+  }
+
+  public void fail(UUID jobId, ErrorCode errorCode) {
+    update(jobId, Map.of(
+        FIELD_STATUS, EmotionAnalysisJobStatus.FAILED.name(),
+        FIELD_ERROR_CODE, errorCode.name()));
+  }
+
+  public EmotionAnalysisJobResponse get(UUID jobId, UUID userId) {
+    Map<String, String> values = hashOperations().entries(KEY_EMOTION_ANALYSIS_JOB + jobId);
+    if (values.isEmpty()) {
+      throw new EmotionAnalysisException(ErrorCode.NOT_FOUND_EMOTION_ANALYSIS_JOB);
+    }
+
+    if (!userId.toString().equals(values.get(FIELD_USER_ID))) {
+      throw new EmotionAnalysisException(ErrorCode.FORBIDDEN_ACCESS_EMOTION_ANALYSIS_JOB);
+    }
+
+    String errorCode = values.get(FIELD_ERROR_CODE);
+
+    return EmotionAnalysisJobResponse.builder()
+        .jobId(jobId)
+        .diaryId(UUID.fromString(values.get(FIELD_DIARY_ID)))
+        .type(EmotionAnalysisJobType.valueOf(values.get(FIELD_TYPE)))
+        .status(EmotionAnalysisJobStatus.valueOf(values.get(FIELD_STATUS)))
+        .errorCode(errorCode == null ? null : ErrorCode.valueOf(errorCode))
+        .build();
+  }
+
+  /**
+   * 만료된 뒤에 기록하면 키가 TTL 없이 다시 만들어지므로 기록할 때마다 TTL 을 다시 설정
+   */
+  private void update(UUID jobId, Map<String, String> values) {
+    String key = KEY_EMOTION_ANALYSIS_JOB + jobId;
+    hashOperations().putAll(key, values);
+    redisTemplate.expire(key, TTL);
+  }
+
+  private HashOperations<String, String, String> hashOperations() {
+    return redisTemplate.opsForHash();
+  }
+}
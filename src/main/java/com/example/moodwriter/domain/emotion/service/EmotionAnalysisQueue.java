@@ -0,0 +1,95 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import com.example.moodwriter.domain.emotion.constant.EmotionAnalysisJobType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 나중에 감정점수 및 대표감정을 분석할 일기 대기열과 감정분석 작업 대기열
+ */
+@Service
+@RequiredArgsConstructor
+public class EmotionAnalysisQueue {
+
+  private static final String KEY_PENDING_EMOTION_ANALYSIS = "pending_emotion_analysis";
+  private static final String KEY_PENDING_EMOTION_ANALYSIS_JOB = "pending_emotion_analysis_job";
+  private static final String DELIMITER = ":";
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  public void enqueue(UUID userId, Collection<UUID> diaryIds) {
+    if (diaryIds.isEmpty()) {
+      return;
+    }
+    redisTemplate.opsForList().rightPushAll(KEY_PENDING_EMOTION_ANALYSIS,
+        diaryIds.stream().map(diaryId -> new QueuedDiary(userId, diaryId).format()).toList());
+  }
+
+  /**
+   * 꺼냈지만 처리하지 못한 일기를 대기열 앞에 꺼낸 순서대로 다시 넣음
+   */
+  public void requeue(List<QueuedDiary> queuedDiaries) {
+    if (queuedDiaries.isEmpty()) {
+      return;
+    }
+    List<String> values = new ArrayList<>(queuedDiaries.stream()
+        .map(QueuedDiary::format).toList());
+    Collections.reverse(values);
+    redisTemplate.opsForList().leftPushAll(KEY_PENDING_EMOTION_ANALYSIS, values);
+  }
+
+  public List<QueuedDiary> poll(int count) {
+    List<String> values = redisTemplate.opsForList()
+        .leftPop(KEY_PENDING_EMOTION_ANALYSIS, count);
+    if (values == null) {
+      return Collections.emptyList();
+    }
+    return values.stream().map(QueuedDiary::parse).toList();
+  }
+
+  public void enqueueJob(QueuedJob job) {
+    redisTemplate.opsForList().rightPush(KEY_PENDING_EMOTION_ANALYSIS_JOB, job.format());
+  }
+
+  /**
+   * 작업은 한 번에 하나씩 꺼내 처리 중 실행 환경이 멈춰도 아직 꺼내지 않은 작업은 대기열에 남도록 함
+   */
+  public Optional<QueuedJob> pollJob() {
+    return Optional.ofNullable(redisTemplate.opsForList()
+            .leftPop(KEY_PENDING_EMOTION_ANALYSIS_JOB))
+        .map(QueuedJob::parse);
+  }
+
+  public record QueuedDiary(UUID userId, UUID diaryId) {
+
+    private String format() {
+      return userId + DELIMITER + diaryId;
+    }
+
+    private static QueuedDiary parse(String value) {
+      String[] ids = value.split(DELIMITER);
+      return new QueuedDiary(UUID.fromString(ids[0]), UUID.fromString(ids[1]));
+    }
+  }
+
+  public record QueuedJob(UUID jobId, UUID userId, UUID diaryId, EmotionAnalysisJobType type) {
+
+    private String format() {
+      return String.join(DELIMITER, jobId.toString(), userId.toString(), diaryId.toString(),
+          type.name());
+    }
+
+    private static QueuedJob parse(String value) {
+      String[] values = value.split(DELIMITER);
+      return new QueuedJob(UUID.fromString(values[0]), UUID.fromString(values[1]),
+          UUID.fromString(values[2]), EmotionAnalysisJobType.valueOf(values[3]));
+    }
+  }
+}
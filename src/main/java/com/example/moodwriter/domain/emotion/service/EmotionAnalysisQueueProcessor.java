@@ -0,0 +1,76 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisQueue.QueuedDiary;
+import com.example.moodwriter.global.openAI.exception.OpenAIException;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmotionAnalysisQueueProcessor {
+
+  private final EmotionAnalysisQueue emotionAnalysisQueue;
+  private final EmotionAnalysisService emotionAnalysisService;
+  private final EmotionAnalysisJobService emotionAnalysisJobService;
+
+  @Value("${emotion-analysis.queue.batch-size:20}")
+  private int batchSize;
+
+  @Value("${emotion-analysis.queue.time-budget-seconds:240}")
+  private long timeBudgetSeconds;
+
+  /**
+   * 대기열에 쌓인 감정분석 작업을 먼저 처리하고, 최대 batchSize 개의 일기를 꺼내 감정점수 및 대표감정을 분석.
+   * OpenAI 를 호출할 수 없거나 실행 시간 예산을 넘기면 남은 일기를 대기열에 되돌리고 다음 실행에서 다시 처리
+   */
+  public void processQueued() {
+    Instant deadline = Instant.now().plusSeconds(timeBudgetSeconds);
+
+    int processedJobs = emotionAnalysisJobService.processQueued(batchSize, deadline);
+
+    log.info("Queued emotion analysis job {}", processedJobs);
+
+    List<QueuedDiary> queuedDiaries = emotionAnalysisQueue.poll(batchSize);
+
+    log.info("Queued emotion analysis task {}", queuedDiaries.size());
+
+    for (int i = 0; i < queuedDiaries.size(); i++) {
+      QueuedDiary queuedDiary = queuedDiaries.get(i);
+      if (!Instant.now().isBefore(deadline)) {
+        List<QueuedDiary> remaining = queuedDiaries.subList(i, queuedDiaries.size());
+        emotionAnalysisQueue.requeue(remaining);
+        log.warn("Time budget is exceeded. Requeue queued diaries {}", remaining.size());
+        return;
+      }
+
+      try {
+        analyze(queuedDiary);
+      } catch (OpenAIException e) {
+        List<QueuedDiary> remaining = queuedDiaries.subList(i, queuedDiaries.size());
+        emotionAnalysisQueue.requeue(remaining);
+        log.warn("OpenAI is unavailable. Requeue queued diaries {}, error : {}",
+            remaining.size(), e.getErrorCode());
+        return;
+      } catch (Exception e) {
+        log.error("Failed to analyze queued diary. Diary id : {}", queuedDiary.diaryId(), e);
+      }
+    }
+  }
+
+  /**
+   * OpenAI 호출은 트랜잭션 밖에서 하고 일기 조회와 결과 저장만 각각 짧은 트랜잭션으로 실행
+   */
+  private void analyze(QueuedDiary queuedDiary) {
+    String diaryContent = emotionAnalysisService.getAnalyzableContent(
+        queuedDiary.diaryId(), queuedDiary.userId());
+
+    emotionAnalysisService.savePrimaryEmotionAndEmotionScore(queuedDiary.diaryId(),
+        queuedDiary.userId(),
+        emotionAnalysisService.requestPrimaryEmotionAndEmotionScore(diaryContent));
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisResponse;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Service;
+
+/**
+ * 일기별 감정분석 단건 조회 결과 캐시. 키에 회원 ID를 포함하며, 트랜잭션 안에서의 저장/삭제는 커밋 이후에 반영
+ */
+@Service
+public class EmotionAnalysisResponseCache {
+
+  public static final String CACHE_NAME = "emotionAnalysisResponse";
+
+  private final Cache cache;
+
+  public EmotionAnalysisResponseCache(CacheManager cacheManager) {
+    this.cache = new TransactionAwareCacheDecorator(
+        Objects.requireNonNull(cacheManager.getCache(CACHE_NAME)));
+  }
+
+  public Optional<EmotionAnalysisResponse> get(UUID diaryId, UUID userId) {
+    return Optional.ofNullable(
+        cache.get(toKey(diaryId, userId), EmotionAnalysisResponse.class));
+  }
+
+  public void put(UUID userId, EmotionAnalysisResponse response) {
+    cache.put(toKey(response.getDiaryId(), userId), response);
+  }
+
+  public void evict(UUID diaryId, UUID userId) {
+    cache.evict(toKey(diaryId, userId));
+  }
+
+  private String toKey(UUID diaryId, UUID userId) {
+    return userId + ":" + diaryId;
+  }
+}
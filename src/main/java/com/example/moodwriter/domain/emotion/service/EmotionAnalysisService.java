@@ -6,12 +6,16 @@ import static com.example.moodwriter.global.exception.code.ErrorCode.FINAL_SAVED
 import static com.example.moodwriter.global.exception.code.ErrorCode.FORBIDDEN_ACCESS_DIARY;
 import static com.example.moodwriter.global.exception.code.ErrorCode.JSON_PARSE_ERROR;
 import static com.example.moodwriter.global.exception.code.ErrorCode.NOT_FOUND_EMOTION_ANALYSIS;
+import static com.example.moodwriter.global.exception.code.ErrorCode.OPEN_AI_RETURN_INVALID_FORMAT;
 
 import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.dto.DiaryHeader;
 import com.example.moodwriter.domain.diary.entity.Diary;
 import com.example.moodwriter.domain.diary.exception.DiaryException;
+import com.example.moodwriter.domain.diary.service.DiaryCalendarService;
+import com.example.moodwriter.domain.diary.service.DiaryResponseCache;
 import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository;
-import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisRequest;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository.EmotionAnalysisVersion;
 import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisResponse;
 import com.example.moodwriter.domain.emotion.entity.EmotionAnalysis;
 import com.example.moodwriter.domain.emotion.exception.EmotionAnalysisException;
@@ -20,23 +24,44 @@ import com.example.moodwriter.global.constant.OpenAIModel;
 import com.example.moodwriter.global.constant.OpenAIRequestSentence;
 import com.example.moodwriter.global.exception.CustomException;
 import com.example.moodwriter.global.exception.code.ErrorCode;
+import com.example.moodwriter.global.pagination.KeysetCursor;
+import com.example.moodwriter.global.pagination.dto.CursorResponse;
 import com.example.moodwriter.global.openAI.dto.OpenAIResponse;
+import com.example.moodwriter.global.openAI.exception.OpenAIException;
 import com.example.moodwriter.global.openAI.service.OpenAIClient;
+import com.example.moodwriter.global.openAI.service.OpenAIResultCache;
+import com.example.moodwriter.global.openAI.service.OpenAIResultCache.LoadedResult;
+import com.example.moodwriter.global.util.ETagUtils;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
+import java.io.Serializable;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmotionAnalysisService {
@@ -46,38 +71,181 @@ public class EmotionAnalysisService {
   private final OpenAIClient openAIClient;
   private final ObjectMapper objectMapper;
   private final EntityManager entityManager;
+  private final DiaryCalendarService diaryCalendarService;
+  private final DiaryResponseCache diaryResponseCache;
+  private final EmotionAnalysisResponseCache emotionAnalysisResponseCache;
+  private final EmotionTrendService emotionTrendService;
+  private final OpenAIResultCache openAIResultCache;
+  private final EmotionLexiconScorer emotionLexiconScorer;
+  private final EmotionAnalysisQueue emotionAnalysisQueue;
+
+  @Value("${emotion-analysis.lexicon.fast-path-enabled:false}")
+  private boolean lexiconFastPathEnabled;
+
+  @Value("${emotion-analysis.lexicon.fallback-enabled:true}")
+  private boolean lexiconFallbackEnabled;
+
+  /**
+   * 트랜잭션 밖에서 호출. 빠른 경로가 켜져 있으면 사전 기반 임시 결과를 바로 반환하고, 아니면 OpenAI 로 분석하되
+   * OpenAI 를 호출할 수 없을 때 사전 기반 결과로 대신함
+   */
+  public CompletableFuture<EmotionScoreAndPrimaryEmotion> analyzePrimaryEmotionAndEmotionScoreAsync(
+      UUID diaryId, UUID userId, String diaryContent) {
+    if (lexiconFastPathEnabled) {
+      return CompletableFuture.completedFuture(
+          scoreProvisionally(diaryId, userId, diaryContent));
+    }
 
-  @Transactional
-  public EmotionAnalysisResponse createPrimaryEmotionAndEmotionScore(
-      EmotionAnalysisRequest request, UUID userId) {
-    Diary diary = getValidDiary(request.getDiaryId(), userId);
+    return requestPrimaryEmotionAndEmotionScoreAsync(diaryContent)
+        .exceptionally(throwable -> {
+          Throwable cause = throwable instanceof CompletionException
+              && throwable.getCause() != null ? throwable.getCause() : throwable;
+          if (cause instanceof OpenAIException e) {
+            return fallbackToLexicon(diaryId, userId, diaryContent, e);
+          }
+          throw throwable instanceof CompletionException completionException
+              ? completionException : new CompletionException(throwable);
+        });
+  }
 
-    EmotionAnalysis emotionAnalysis = getOrCreateEmotionAnalysis(diary);
+  /**
+   * analyzePrimaryEmotionAndEmotionScoreAsync 의 동기 버전. 감정분석 작업처럼 executor 스레드에서 OpenAI 응답을
+   * 기다리는 경로에서 사용. 나중에 OpenAI 로 다시 분석하는 대기열 처리와 야간 배치는 임시 결과로 대신하면 안 되므로
+   * requestPrimaryEmotionAndEmotionScore 를 직접 사용
+   */
+  public EmotionScoreAndPrimaryEmotion analyzePrimaryEmotionAndEmotionScore(UUID diaryId,
+      UUID userId, String diaryContent) {
+    if (lexiconFastPathEnabled) {
+      return scoreProvisionally(diaryId, userId, diaryContent);
+    }
+
+    try {
+      return requestPrimaryEmotionAndEmotionScore(diaryContent);
+    } catch (OpenAIException e) {
+      return fallbackToLexicon(diaryId, userId, diaryContent, e);
+    }
+  }
+
+  /**
+   * 사전 기반 감정점수를 임시 결과로 반환하고, 나중에 OpenAI 로 다시 분석하도록 대기열에 넣음
+   */
+  private EmotionScoreAndPrimaryEmotion scoreProvisionally(UUID diaryId, UUID userId,
+      String diaryContent) {
+    EmotionScoreAndPrimaryEmotion result = emotionLexiconScorer.score(diaryContent)
+        .toEmotionScoreAndPrimaryEmotion();
+
+    emotionAnalysisQueue.enqueue(userId, List.of(diaryId));
+
+    return result;
+  }
+
+  private EmotionScoreAndPrimaryEmotion fallbackToLexicon(UUID diaryId, UUID userId,
+      String diaryContent, OpenAIException e) {
+    if (!lexiconFallbackEnabled) {
+      throw e;
+    }
+
+    log.warn("OpenAI is unavailable. Use lexicon score instead. Diary id : {}, error : {}",
+        diaryId, e.getErrorCode());
+    return scoreProvisionally(diaryId, userId, diaryContent);
+  }
+
+  /**
+   * 감정분석 작업에서 OpenAI 호출 전에 사용. 짧은 읽기 트랜잭션에서 일기 상태를 검사하고 본문만 반환
+   */
+  @Transactional(readOnly = true)
+  public String getAnalyzableContent(UUID diaryId, UUID userId) {
+    return getValidDiary(diaryId, userId).getContent();
+  }
+
+  /**
+   * 감정분석 작업을 받기 전에 사용. 본문 없이 헤더 컬럼만 읽어 분석 가능한 일기인지 검사
+   */
+  @Transactional(readOnly = true)
+  public void checkAnalyzableDiary(UUID diaryId, UUID userId) {
+    checkValidDiaryHeader(diaryId, userId);
+  }
+
+  /**
+   * 트랜잭션 밖에서 호출해 OpenAI 응답을 기다리는 동안 DB 커넥션을 점유하지 않도록 함
+   */
+  public EmotionScoreAndPrimaryEmotion requestPrimaryEmotionAndEmotionScore(
+      String diaryContent) {
+    return openAIResultCache.get(OpenAIModel.GPT_3_5_TURBO,
+        OpenAIRequestSentence.PRIMARY_EMOTION_AND_SCORE, diaryContent,
+        () -> loadPrimaryEmotionAndEmotionScore(diaryContent));
+  }
 
+  private LoadedResult<EmotionScoreAndPrimaryEmotion> loadPrimaryEmotionAndEmotionScore(
+      String diaryContent) {
     String openAIRequest =
-        diary.getContent()
-            + OpenAIRequestSentence.PRIMARY_EMOTION_AND_SCORE.getSentence();
+        diaryContent + OpenAIRequestSentence.PRIMARY_EMOTION_AND_SCORE.getSentence();
 
     OpenAIResponse openAIResponse = openAIClient.callOpenAI(openAIRequest,
         OpenAIModel.GPT_3_5_TURBO);
 
+    return toPrimaryEmotionAndEmotionScore(openAIResponse);
+  }
+
+  /**
+   * requestPrimaryEmotionAndEmotionScore 의 비동기 버전. OpenAI 응답을 기다리는 동안 스레드를 점유하지 않음
+   */
+  public CompletableFuture<EmotionScoreAndPrimaryEmotion> requestPrimaryEmotionAndEmotionScoreAsync(
+      String diaryContent) {
+    return openAIResultCache.getAsync(OpenAIModel.GPT_3_5_TURBO,
+        OpenAIRequestSentence.PRIMARY_EMOTION_AND_SCORE, diaryContent,
+        () -> openAIClient.callOpenAIAsync(
+                diaryContent + OpenAIRequestSentence.PRIMARY_EMOTION_AND_SCORE.getSentence(),
+                OpenAIModel.GPT_3_5_TURBO)
+            .thenApply(this::toPrimaryEmotionAndEmotionScore));
+  }
+
+  private LoadedResult<EmotionScoreAndPrimaryEmotion> toPrimaryEmotionAndEmotionScore(
+      OpenAIResponse openAIResponse) {
     String content = openAIResponse.getChoices().get(0).getMessage().getContent();
 
-    EmotionScoreAndPrimaryEmotion emotionScoreAndPrimaryEmotion;
     try {
-      emotionScoreAndPrimaryEmotion = objectMapper.readValue(content,
-          EmotionScoreAndPrimaryEmotion.class);
+      return LoadedResult.of(
+          objectMapper.readValue(content, EmotionScoreAndPrimaryEmotion.class),
+          openAIResponse);
     } catch (JsonProcessingException e) {
       throw new CustomException(JSON_PARSE_ERROR);
     }
+  }
+
+  /**
+   * OpenAI 호출이 끝난 뒤 짧은 트랜잭션에서 결과만 저장. 호출하는 사이에 일기가 삭제되었을 수 있으므로 상태를 다시 검사
+   */
+  @Transactional
+  public EmotionAnalysisResponse savePrimaryEmotionAndEmotionScore(UUID diaryId, UUID userId,
+      EmotionScoreAndPrimaryEmotion emotionScoreAndPrimaryEmotion) {
+    Diary diary = getValidDiary(diaryId, userId);
+
+    EmotionAnalysis emotionAnalysis = getOrCreateEmotionAnalysis(diary);
+
+    return applyPrimaryEmotionAndEmotionScore(diary, emotionAnalysis,
+        emotionScoreAndPrimaryEmotion, userId);
+  }
+
+  private EmotionAnalysisResponse applyPrimaryEmotionAndEmotionScore(Diary diary,
+      EmotionAnalysis emotionAnalysis,
+      EmotionScoreAndPrimaryEmotion emotionScoreAndPrimaryEmotion, UUID userId) {
+    LocalDate previousDate = emotionAnalysis.getDate();
+    Integer previousScore = emotionAnalysis.getEmotionScore();
 
     emotionAnalysis.updateScoreAndPrimaryEmotion(
         emotionScoreAndPrimaryEmotion.getEmotionScore(),
-        emotionScoreAndPrimaryEmotion.getPrimaryEmotion());
+        emotionScoreAndPrimaryEmotion.getPrimaryEmotion(),
+        emotionScoreAndPrimaryEmotion.isProvisional());
 
     EmotionAnalysis savedEmotionAnalysis = emotionAnalysisRepository.save(
         emotionAnalysis);
 
+    diaryCalendarService.refreshDays(userId, savedEmotionAnalysis.getDate());
+    emotionTrendService.applyScoreChange(userId, previousDate, previousScore,
+        savedEmotionAnalysis.getDate(), savedEmotionAnalysis.getEmotionScore());
+    evictCachedResponses(diary.getId(), userId);
+
     return EmotionAnalysisResponse.fromEntity(savedEmotionAnalysis);
   }
 
@@ -85,19 +253,34 @@ public class EmotionAnalysisService {
     Diary diary = diaryRepository.findById(diaryId)
         .orElseThrow(() -> new DiaryException(ErrorCode.NOT_FOUND_DIARY));
 
-    if (!diary.getUser().getId().equals(userId)) {
+    checkValidDiaryState(diary.getUser().getId(), diary.isDeleted(), diary.isTemp(), userId);
+
+    return diary;
+  }
+
+  /**
+   * 일기 본문이 필요 없는 조회와 삭제에서 사용. 헤더 컬럼만 읽어 권한과 상태를 검사
+   */
+  private void checkValidDiaryHeader(UUID diaryId, UUID userId) {
+    DiaryHeader header = diaryRepository.findHeaderById(diaryId)
+        .orElseThrow(() -> new DiaryException(ErrorCode.NOT_FOUND_DIARY));
+
+    checkValidDiaryState(header.getUserId(), header.isDeleted(), header.isTemp(), userId);
+  }
+
+  private void checkValidDiaryState(UUID ownerId, boolean isDeleted, boolean isTemp,
+      UUID userId) {
+    if (!ownerId.equals(userId)) {
       throw new DiaryException(FORBIDDEN_ACCESS_DIARY);
     }
 
-    if (diary.isDeleted()) {
+    if (isDeleted) {
       throw new DiaryException(ALREADY_DELETED_DIARY);
     }
 
-    if (diary.isTemp()) {
+    if (isTemp) {
       throw new EmotionAnalysisException(FINAL_SAVED_DIARY_REQUIRED_FOR_EMOTION_ANALYSIS);
     }
-
-    return diary;
   }
 
   private EmotionAnalysis getOrCreateEmotionAnalysis(Diary diary) {
@@ -111,41 +294,209 @@ public class EmotionAnalysisService {
     return emotionAnalysis;
   }
 
-  @Transactional
-  public EmotionAnalysisResponse createEmotionAnalysis(EmotionAnalysisRequest request,
-      UUID userId) {
-    Diary diary = getValidDiary(request.getDiaryId(), userId);
-
-    EmotionAnalysis emotionAnalysis = getOrCreateEmotionAnalysis(diary);
+  /**
+   * 트랜잭션 밖에서 호출해 OpenAI 응답을 기다리는 동안 DB 커넥션을 점유하지 않도록 함
+   */
+  public String requestEmotionAnalysisContent(String diaryContent) {
+    return openAIResultCache.get(OpenAIModel.GPT_4O_MINI,
+        OpenAIRequestSentence.EMOTION_ANALYSIS, diaryContent,
+        () -> loadEmotionAnalysisContent(diaryContent));
+  }
 
+  private LoadedResult<String> loadEmotionAnalysisContent(String diaryContent) {
     String openAIRequest =
-        diary.getContent() + OpenAIRequestSentence.EMOTION_ANALYSIS.getSentence();
+        diaryContent + OpenAIRequestSentence.EMOTION_ANALYSIS.getSentence();
 
     OpenAIResponse openAIResponse = openAIClient.callOpenAI(openAIRequest,
         OpenAIModel.GPT_4O_MINI);
 
+    return LoadedResult.of(openAIResponse.getChoices().get(0).getMessage().getContent(),
+        openAIResponse);
+  }
+
+  /**
+   * requestEmotionAnalysisContent 의 비동기 버전. OpenAI 응답을 기다리는 동안 스레드를 점유하지 않음
+   */
+  public CompletableFuture<String> requestEmotionAnalysisContentAsync(String diaryContent) {
+    return openAIResultCache.getAsync(OpenAIModel.GPT_4O_MINI,
+        OpenAIRequestSentence.EMOTION_ANALYSIS, diaryContent,
+        () -> openAIClient.callOpenAIAsync(
+                diaryContent + OpenAIRequestSentence.EMOTION_ANALYSIS.getSentence(),
+                OpenAIModel.GPT_4O_MINI)
+            .thenApply(openAIResponse -> LoadedResult.of(
+                openAIResponse.getChoices().get(0).getMessage().getContent(),
+                openAIResponse)));
+  }
+
+  /**
+   * 트랜잭션 밖에서 호출. 감정분석 내용을 OpenAI 에서 받는 대로 onDelta 로 전달하고 모은 내용을 반환.
+   * 같은 내용으로 분석한 결과가 캐시에 있으면 한 번에 전달. 스트림은 캐시 loader 밖에서 받고 끝난 뒤에 저장하므로
+   * 스트리밍하는 동안 캐시를 잠그지 않음
+   */
+  public String streamEmotionAnalysisContent(String diaryContent, Consumer<String> onDelta) {
+    Optional<String> cachedContent = openAIResultCache.getIfPresent(OpenAIModel.GPT_4O_MINI,
+        OpenAIRequestSentence.EMOTION_ANALYSIS, diaryContent);
+    if (cachedContent.isPresent()) {
+      onDelta.accept(cachedContent.get());
+      return cachedContent.get();
+    }
+
+    long startedAt = System.nanoTime();
+    OpenAIResponse openAIResponse = openAIClient.streamOpenAI(
+        diaryContent + OpenAIRequestSentence.EMOTION_ANALYSIS.getSentence(),
+        OpenAIModel.GPT_4O_MINI, onDelta);
     String analysisContent = openAIResponse.getChoices().get(0).getMessage().getContent();
 
+    openAIResultCache.put(OpenAIModel.GPT_4O_MINI, OpenAIRequestSentence.EMOTION_ANALYSIS,
+        diaryContent, LoadedResult.of(analysisContent, openAIResponse),
+        Duration.ofNanos(System.nanoTime() - startedAt));
+
+    return analysisContent;
+  }
+
+  /**
+   * OpenAI 호출이 끝난 뒤 짧은 트랜잭션에서 결과만 저장. 호출하는 사이에 일기가 삭제되었을 수 있으므로 상태를 다시 검사
+   */
+  @Transactional
+  public EmotionAnalysisResponse saveEmotionAnalysisContent(UUID diaryId, UUID userId,
+      String analysisContent) {
+    Diary diary = getValidDiary(diaryId, userId);
+
+    EmotionAnalysis emotionAnalysis = getOrCreateEmotionAnalysis(diary);
+
+    return applyEmotionAnalysisContent(diary, emotionAnalysis, analysisContent, userId);
+  }
+
+  private EmotionAnalysisResponse applyEmotionAnalysisContent(Diary diary,
+      EmotionAnalysis emotionAnalysis, String analysisContent, UUID userId) {
     emotionAnalysis.updateEmotionAnalysisContent(analysisContent);
 
     EmotionAnalysis savedEmotionAnalysis = emotionAnalysisRepository.save(
         emotionAnalysis);
 
+    diaryCalendarService.refreshDays(userId, savedEmotionAnalysis.getDate());
+    evictCachedResponses(diary.getId(), userId);
+
+    return EmotionAnalysisResponse.fromEntity(savedEmotionAnalysis);
+  }
+
+  /**
+   * 감정점수, 대표감정, 감정분석을 한 번의 OpenAI 호출로 작성. 트랜잭션 밖에서 호출. JSON 모드로 요청하고, 응답이 형식에 맞지 않으면 이전 응답을 함께 보내 한 번만 다시 요청
+   */
+  public FullEmotionAnalysis requestFullEmotionAnalysis(String diaryContent) {
+    return openAIResultCache.get(OpenAIModel.GPT_4O_MINI,
+        OpenAIRequestSentence.FULL_EMOTION_ANALYSIS, diaryContent,
+        () -> loadFullEmotionAnalysis(diaryContent));
+  }
+
+  private LoadedResult<FullEmotionAnalysis> loadFullEmotionAnalysis(String diaryContent) {
+    OpenAIResponse openAIResponse = openAIClient.callOpenAIForJson(
+        diaryContent + OpenAIRequestSentence.FULL_EMOTION_ANALYSIS.getSentence(),
+        OpenAIModel.GPT_4O_MINI);
+    String content = openAIResponse.getChoices().get(0).getMessage().getContent();
+
+    Optional<FullEmotionAnalysis> fullEmotionAnalysis = parseFullEmotionAnalysis(content);
+    if (fullEmotionAnalysis.isPresent()) {
+      return LoadedResult.of(fullEmotionAnalysis.get(), openAIResponse);
+    }
+
+    OpenAIResponse repairedResponse = openAIClient.callOpenAIForJson(
+        diaryContent + "\n\n이전 응답:\n" + content
+            + OpenAIRequestSentence.REPAIR_FULL_EMOTION_ANALYSIS.getSentence(),
+        OpenAIModel.GPT_4O_MINI);
+    String repairedContent = repairedResponse.getChoices().get(0).getMessage().getContent();
+
+    return parseFullEmotionAnalysis(repairedContent)
+        .map(repaired -> LoadedResult.of(repaired, openAIResponse, repairedResponse))
+        .orElseThrow(() -> new CustomException(OPEN_AI_RETURN_INVALID_FORMAT));
+  }
+
+  /**
+   * OpenAI 호출이 끝난 뒤 짧은 트랜잭션에서 결과만 저장. 호출하는 사이에 일기가 삭제되었을 수 있으므로 상태를 다시 검사
+   */
+  @Transactional
+  public EmotionAnalysisResponse saveFullEmotionAnalysis(UUID diaryId, UUID userId,
+      FullEmotionAnalysis fullEmotionAnalysis) {
+    Diary diary = getValidDiary(diaryId, userId);
+
+    EmotionAnalysis emotionAnalysis = getOrCreateEmotionAnalysis(diary);
+
+    return applyFullEmotionAnalysis(diary, emotionAnalysis, fullEmotionAnalysis, userId);
+  }
+
+  private Optional<FullEmotionAnalysis> parseFullEmotionAnalysis(String content) {
+    if (content == null) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of(objectMapper.readValue(content, FullEmotionAnalysis.class))
+          .filter(FullEmotionAnalysis::isValid);
+    } catch (JsonProcessingException e) {
+      return Optional.empty();
+    }
+  }
+
+  private EmotionAnalysisResponse applyFullEmotionAnalysis(Diary diary,
+      EmotionAnalysis emotionAnalysis, FullEmotionAnalysis fullEmotionAnalysis, UUID userId) {
+    LocalDate previousDate = emotionAnalysis.getDate();
+    Integer previousScore = emotionAnalysis.getEmotionScore();
+
+    emotionAnalysis.updateScoreAndPrimaryEmotion(fullEmotionAnalysis.getEmotionScore(),
+        fullEmotionAnalysis.getPrimaryEmotion());
+    emotionAnalysis.updateEmotionAnalysisContent(fullEmotionAnalysis.getAnalysisContent());
+
+    EmotionAnalysis savedEmotionAnalysis = emotionAnalysisRepository.save(
+        emotionAnalysis);
+
+    diaryCalendarService.refreshDays(userId, savedEmotionAnalysis.getDate());
+    emotionTrendService.applyScoreChange(userId, previousDate, previousScore,
+        savedEmotionAnalysis.getDate(), savedEmotionAnalysis.getEmotionScore());
+    evictCachedResponses(diary.getId(), userId);
+
     return EmotionAnalysisResponse.fromEntity(savedEmotionAnalysis);
   }
 
   @Transactional(readOnly = true)
   public EmotionAnalysisResponse getEmotionAnalysis(UUID diaryId, UUID userId) {
-    Diary diary = getValidDiary(diaryId, userId);
+    Optional<EmotionAnalysisResponse> cachedResponse =
+        emotionAnalysisResponseCache.get(diaryId, userId);
+    if (cachedResponse.isPresent()) {
+      return cachedResponse.get();
+    }
 
-    EmotionAnalysis emotionAnalysis = emotionAnalysisRepository.findByDiary(diary)
+    checkValidDiaryHeader(diaryId, userId);
+
+    EmotionAnalysis emotionAnalysis = emotionAnalysisRepository.findByDiaryId(diaryId)
         .orElseThrow(() -> new EmotionAnalysisException(NOT_FOUND_EMOTION_ANALYSIS));
 
     if (emotionAnalysis.isDeleted()) {
       throw new EmotionAnalysisException(ALREADY_DELETED_EMOTION_ANALYSIS);
     }
 
-    return EmotionAnalysisResponse.fromEntity(emotionAnalysis);
+    EmotionAnalysisResponse response = EmotionAnalysisResponse.fromEntity(emotionAnalysis);
+
+    emotionAnalysisResponseCache.put(userId, response);
+
+    return response;
+  }
+
+  /**
+   * 감정분석 조회 응답의 ETag. 분석 내용(TEXT) 대신 점수, 주요 감정, 분석 여부와 수정 시각만 조회
+   */
+  @Transactional(readOnly = true)
+  public String getEmotionAnalysisETag(UUID diaryId, UUID userId) {
+    checkValidDiaryHeader(diaryId, userId);
+
+    EmotionAnalysisVersion version = emotionAnalysisRepository.findVersionByDiaryId(diaryId)
+        .orElseThrow(() -> new EmotionAnalysisException(NOT_FOUND_EMOTION_ANALYSIS));
+
+    if (version.isDeleted()) {
+      throw new EmotionAnalysisException(ALREADY_DELETED_EMOTION_ANALYSIS);
+    }
+
+    return ETagUtils.generate(version.getId(), version.getEmotionScore(),
+        version.getPrimaryEmotion(), version.isAnalyzed(), version.getUpdatedAt());
   }
 
   @Transactional(readOnly = true)
@@ -163,25 +514,95 @@ public class EmotionAnalysisService {
     return responses.map(EmotionAnalysisResponse::fromEntity);
   }
 
+  /**
+   * (date, id) 기준 keyset 페이지네이션으로 기간 내 감정분석 조회
+   */
+  @Transactional(readOnly = true)
+  public CursorResponse<EmotionAnalysisResponse> getEmotionAnalysisByDateRangeWithCursor(
+      LocalDate startDate, LocalDate endDate, UUID userId, String cursor, int size,
+      Direction direction) {
+    if (startDate.isAfter(endDate)) {
+      throw new EmotionAnalysisException(ErrorCode.START_DATE_MUST_BE_BEFORE_END_DATE);
+    }
+
+    User userProxy = entityManager.getReference(User.class, userId);
+
+    Window<EmotionAnalysis> emotionAnalyses = emotionAnalysisRepository.findByDateBetweenAndIsDeletedFalseAndUser(
+        startDate, endDate, userProxy, KeysetCursor.toScrollPosition(cursor),
+        Sort.by(direction, "date", "id"), Limit.of(size));
+
+    List<EmotionAnalysisResponse> content = emotionAnalyses.getContent().stream()
+        .map(EmotionAnalysisResponse::fromEntity)
+        .toList();
+
+    return CursorResponse.of(emotionAnalyses, content,
+        emotionAnalysis -> KeysetCursor.of(emotionAnalysis.getDate(),
+            emotionAnalysis.getId()));
+  }
+
   @Transactional
   public void deleteEmotionAnalysis(UUID diaryId, UUID userId) {
-    Diary diary = getValidDiary(diaryId, userId);
+    checkValidDiaryHeader(diaryId, userId);
 
-    EmotionAnalysis emotionAnalysis = emotionAnalysisRepository.findByDiary(diary)
+    EmotionAnalysis emotionAnalysis = emotionAnalysisRepository.findByDiaryId(diaryId)
         .orElseThrow(() -> new EmotionAnalysisException(NOT_FOUND_EMOTION_ANALYSIS));
 
+    Integer removedScore = emotionAnalysis.isDeleted() ? null : emotionAnalysis.getEmotionScore();
+
     emotionAnalysis.deactivate();
 
     emotionAnalysisRepository.save(emotionAnalysis);
+
+    diaryCalendarService.refreshDays(userId, emotionAnalysis.getDate());
+    emotionTrendService.applyScoreChange(userId, emotionAnalysis.getDate(), removedScore,
+        null, null);
+    evictCachedResponses(diaryId, userId);
+  }
+
+  /**
+   * 감정분석이 바뀌면 감정분석 응답과 일기 응답의 haveEmotionAnalysis 가 함께 바뀌므로 둘 다 캐시에서 제거
+   */
+  private void evictCachedResponses(UUID diaryId, UUID userId) {
+    emotionAnalysisResponseCache.evict(diaryId, userId);
+    diaryResponseCache.evict(diaryId, userId);
   }
 
   @Getter
   @NoArgsConstructor
   @Builder
   @AllArgsConstructor
-  public static class EmotionScoreAndPrimaryEmotion {
+  public static class EmotionScoreAndPrimaryEmotion implements Serializable {
 
     private int emotionScore;
     private String primaryEmotion;
+
+    // 사전 기반 임시 결과 여부. OpenAI 응답에는 없는 값이므로 JSON 으로 읽고 쓰지 않음
+    @JsonIgnore
+    private boolean provisional;
+
+    public EmotionScoreAndPrimaryEmotion(int emotionScore, String primaryEmotion) {
+      this(emotionScore, primaryEmotion, false);
+    }
+  }
+
+  @Getter
+  @NoArgsConstructor
+  @Builder
+  @AllArgsConstructor
+  public static class FullEmotionAnalysis implements Serializable {
+
+    private Integer emotionScore;
+    private String primaryEmotion;
+    private String analysisContent;
+
+    /**
+     * 응답 형식 검사. 점수는 0 ~ 100, 대표감정과 감정분석은 비어 있지 않아야 함
+     */
+    @JsonIgnore
+    public boolean isValid() {
+      return emotionScore != null && emotionScore >= 0 && emotionScore <= 100
+          && primaryEmotion != null && !primaryEmotion.isBlank()
+          && analysisContent != null && !analysisContent.isBlank();
+    }
   }
 }
@@ -0,0 +1,97 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisResponse;
+import com.example.moodwriter.domain.emotion.exception.EmotionAnalysisException;
+import com.example.moodwriter.global.exception.CustomException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import com.example.moodwriter.global.exception.response.ErrorResponse;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 감정분석 내용을 OpenAI 에서 받는 대로 SSE 로 전달. 일기 조회와 결과 저장은 작업 스레드에서 각각 짧은 트랜잭션으로 실행하므로
+ * 스트리밍하는 동안 DB 커넥션을 점유하지 않음. 운영의 Lambda 와 API Gateway 프록시는 응답을 모두 받은 뒤 한 번에
+ * 보내므로, 운영에서는 delta 가 나눠 도착하지 않고 스트림이 끝날 때 한꺼번에 전달됨
+ */
+@Slf4j
+@Service
+public class EmotionAnalysisStreamService {
+
+  public static final String EVENT_DELTA = "delta";
+  public static final String EVENT_COMPLETE = "complete";
+  public static final String EVENT_ERROR = "error";
+
+  private static final String STREAM_PATH = "/api/emotion-analysis/detail/stream";
+
+  private final EmotionAnalysisService emotionAnalysisService;
+  private final Executor emotionAnalysisTaskExecutor;
+
+  public EmotionAnalysisStreamService(EmotionAnalysisService emotionAnalysisService,
+      @Qualifier("emotionAnalysisTaskExecutor") Executor emotionAnalysisTaskExecutor) {
+    this.emotionAnalysisService = emotionAnalysisService;
+    this.emotionAnalysisTaskExecutor = emotionAnalysisTaskExecutor;
+  }
+
+  /**
+   * 요청 스레드에서는 DB 를 조회하지 않음. open-in-view 로 열린 EntityManager 가 스트림이 끝날 때까지
+   * 커넥션을 잡고 있게 되므로 일기 검사도 작업 스레드에서 하고, 실패하면 error 이벤트로 전달
+   */
+  public SseEmitter streamEmotionAnalysis(UUID diaryId, UUID userId) {
+    SseEmitter emitter = new SseEmitter();
+
+    try {
+      emotionAnalysisTaskExecutor.execute(() -> stream(emitter, diaryId, userId));
+    } catch (RejectedExecutionException e) {
+      throw new EmotionAnalysisException(ErrorCode.EMOTION_ANALYSIS_JOB_REJECTED);
+    }
+
+    return emitter;
+  }
+
+  private void stream(SseEmitter emitter, UUID diaryId, UUID userId) {
+    AtomicBoolean connected = new AtomicBoolean(true);
+
+    try {
+      String diaryContent = emotionAnalysisService.getAnalyzableContent(diaryId, userId);
+
+      String analysisContent = emotionAnalysisService.streamEmotionAnalysisContent(
+          diaryContent, delta -> send(emitter, connected, EVENT_DELTA, delta));
+
+      // 클라이언트 연결이 끊겨도 이미 받은 분석 결과는 저장
+      EmotionAnalysisResponse response = emotionAnalysisService.saveEmotionAnalysisContent(
+          diaryId, userId, analysisContent);
+
+      send(emitter, connected, EVENT_COMPLETE, response);
+      emitter.complete();
+    } catch (CustomException e) {
+      send(emitter, connected, EVENT_ERROR, ErrorResponse.of(e.getErrorCode(), STREAM_PATH));
+      emitter.complete();
+    } catch (Exception e) {
+      log.error("Failed to stream emotion analysis. Diary id : {}", diaryId, e);
+      send(emitter, connected, EVENT_ERROR,
+          ErrorResponse.of(ErrorCode.INTERNAL_ERROR, STREAM_PATH));
+      emitter.complete();
+    }
+  }
+
+  private void send(SseEmitter emitter, AtomicBoolean connected, String eventName,
+      Object data) {
+    if (!connected.get()) {
+      return;
+    }
+
+    try {
+      emitter.send(SseEmitter.event().name(eventName).data(data));
+    } catch (IOException | IllegalStateException e) {
+      connected.set(false);
+      log.info("Emotion analysis stream client disconnected : {}", e.getMessage());
+    }
+  }
+}
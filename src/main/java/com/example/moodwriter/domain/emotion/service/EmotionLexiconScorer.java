@@ -0,0 +1,193 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisService.EmotionScoreAndPrimaryEmotion;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+/**
+ * OpenAI 없이 감정 사전으로 감정점수와 대표 감정을 계산하는 로컬 분석기. 사전은 시작할 때 한 번 트라이로 읽어 두고,
+ * 어절마다 가장 긴 어간을 찾아 가중치를 더함. 앞뒤 어절의 부정(안, 못, -지 않다)과 강조(너무, 정말 등)만 반영하는
+ * 단순한 규칙이므로 OpenAI 결과를 대신하는 임시 결과로만 사용
+ */
+@Slf4j
+@Service
+public class EmotionLexiconScorer {
+
+  private static final String NEUTRAL_EMOTION = "평온";
+  private static final String NO_EMOTION = "-";
+  private static final int MAX_PRIMARY_EMOTIONS = 3;
+  private static final double SATURATION = 4.0;
+  private static final double INTENSIFIER_RATIO = 1.5;
+  private static final double NEGATION_RATIO = -0.5;
+  private static final Set<String> NEGATIONS = Set.of("안", "못");
+  private static final Set<String> INTENSIFIERS = Set.of("너무", "정말", "진짜", "매우", "아주",
+      "엄청", "완전", "무척", "굉장히");
+
+  private final Node root = new Node();
+
+  public EmotionLexiconScorer(
+      @Value("${emotion-analysis.lexicon.path:classpath:emotion/emotion-lexicon.tsv}")
+      Resource lexicon) {
+    int size = 0;
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(lexicon.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank() || line.startsWith("#")) {
+          continue;
+        }
+
+        String[] columns = line.split("\t");
+        add(columns[0].strip(), Integer.parseInt(columns[1].strip()),
+            NO_EMOTION.equals(columns[2].strip()) ? null : columns[2].strip());
+        size++;
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to load emotion lexicon", e);
+    }
+
+    log.info("Emotion lexicon loaded. Terms : {}", size);
+  }
+
+  /**
+   * 감정점수는 가중치 합을 0 ~ 100 으로 변환한 값이며, 일치한 어간이 없으면 50 점. 대표 감정은 가중치가 큰 순서로
+   * 최대 세 개이고, 부정된 어간의 감정은 대표 감정에 넣지 않음
+   */
+  public LexiconScore score(String content) {
+    if (content == null || content.isBlank()) {
+      return new LexiconScore(50, List.of(NEUTRAL_EMOTION), 0);
+    }
+
+    String[] tokens = content.strip().split("\\s+");
+    Map<String, Double> emotions = new LinkedHashMap<>();
+    double polarity = 0;
+    int matchedTerms = 0;
+
+    for (int i = 0; i < tokens.length; i++) {
+      String token = tokens[i];
+      String previous = i > 0 ? tokens[i - 1] : "";
+      String next = i + 1 < tokens.length ? tokens[i + 1] : "";
+
+      boolean negated = NEGATIONS.contains(previous)
+          || next.startsWith("않") || next.startsWith("못")
+          || token.contains("지않") || token.contains("지못");
+      double intensity = INTENSIFIERS.contains(previous) ? INTENSIFIER_RATIO : 1.0;
+
+      int position = 0;
+      while (position < token.length()) {
+        Node matched = null;
+        int matchedEnd = position;
+
+        Node node = root;
+        for (int j = position; j < token.length(); j++) {
+          node = node.child(token.charAt(j));
+          if (node == null) {
+            break;
+          }
+          if (node.term) {
+            matched = node;
+            matchedEnd = j + 1;
+          }
+        }
+
+        if (matched == null) {
+          position++;
+          continue;
+        }
+
+        double weight = matched.weight * intensity * (negated ? NEGATION_RATIO : 1.0);
+        polarity += weight;
+        matchedTerms++;
+        if (!negated && matched.emotion != null) {
+          emotions.merge(matched.emotion, Math.abs(weight), Double::sum);
+        }
+        position = matchedEnd;
+      }
+    }
+
+    int emotionScore = (int) Math.round(
+        50 + 50 * polarity / (Math.abs(polarity) + SATURATION));
+
+    List<String> primaryEmotions = emotions.entrySet().stream()
+        .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+        .limit(MAX_PRIMARY_EMOTIONS)
+        .map(Map.Entry::getKey)
+        .toList();
+
+    return new LexiconScore(emotionScore,
+        primaryEmotions.isEmpty() ? List.of(NEUTRAL_EMOTION) : primaryEmotions, matchedTerms);
+  }
+
+  private void add(String stem, int weight, String emotion) {
+    Node node = root;
+    for (int i = 0; i < stem.length(); i++) {
+      node = node.getOrAddChild(stem.charAt(i));
+    }
+    node.term = true;
+    node.weight = weight;
+    node.emotion = emotion;
+  }
+
+  public record LexiconScore(int emotionScore, List<String> primaryEmotions,
+                             int matchedTerms) {
+
+    public EmotionScoreAndPrimaryEmotion toEmotionScoreAndPrimaryEmotion() {
+      return EmotionScoreAndPrimaryEmotion.builder()
+          .emotionScore(emotionScore)
+          .primaryEmotion(String.join(", ", primaryEmotions))
+          .provisional(true)
+          .build();
+    }
+  }
+
+  /**
+   * 자식 노드를 문자 순으로 정렬한 배열에 두고 이진 탐색으로 찾는 트라이 노드
+   */
+  private static final class Node {
+
+    private char[] keys = new char[0];
+    private Node[] children = new Node[0];
+    private boolean term;
+    private int weight;
+    private String emotion;
+
+    private Node child(char key) {
+      int index = Arrays.binarySearch(keys, key);
+      return index < 0 ? null : children[index];
+    }
+
+    private Node getOrAddChild(char key) {
+      int index = Arrays.binarySearch(keys, key);
+      if (index >= 0) {
+        return children[index];
+      }
+
+      int insertAt = -index - 1;
+      char[] newKeys = new char[keys.length + 1];
+      Node[] newChildren = new Node[children.length + 1];
+      System.arraycopy(keys, 0, newKeys, 0, insertAt);
+      System.arraycopy(children, 0, newChildren, 0, insertAt);
+      System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+      System.arraycopy(children, insertAt, newChildren, insertAt + 1,
+          children.length - insertAt);
+
+      Node child = new Node();
+      newKeys[insertAt] = key;
+      newChildren[insertAt] = child;
+      keys = newKeys;
+      children = newChildren;
+      return child;
+    }
+  }
+}
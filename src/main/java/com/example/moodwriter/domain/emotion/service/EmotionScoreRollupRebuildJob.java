@@ -0,0 +1,129 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import com.example.moodwriter.global.constant.TrendPeriod;
+import com.example.moodwriter.global.util.UuidUtils;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 감정점수 기간별 집계를 원본 감정분석에서 다시 계산. 집계가 도입되기 전의 감정분석을 반영하거나
+ * 증분 갱신이 어긋났을 때 사용하며, 회원 id 기준 keyset 으로 작은 묶음씩 묶음마다 짧은 트랜잭션으로 교체
+ */
+@Slf4j
+@Service
+public class EmotionScoreRollupRebuildJob {
+
+  private static final String INSERT_ROLLUP_SQL =
+      "INSERT INTO emotion_score_rollup (id, user_id, period_type, period_start, score_count, "
+          + "score_sum, min_score, max_score, created_at, updated_at) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+
+  public EmotionScoreRollupRebuildJob(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${emotion-analysis.rollup.rebuild-chunk-size:200}") int chunkSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * 다시 계산한 집계 행 수를 반환
+   */
+  public long rebuildAll() {
+    byte[] lastUserId = null;
+    long rebuilt = 0;
+
+    while (true) {
+      List<byte[]> userIds = lastUserId == null
+          ? jdbcTemplate.query("SELECT id FROM users ORDER BY id LIMIT ?",
+              (rs, rowNum) -> rs.getBytes(1), chunkSize)
+          : jdbcTemplate.query("SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?",
+              (rs, rowNum) -> rs.getBytes(1), lastUserId, chunkSize);
+      if (userIds.isEmpty()) {
+        break;
+      }
+
+      try {
+        Integer rows = transactionTemplate.execute(status -> rebuild(userIds));
+        rebuilt += rows == null ? 0 : rows;
+      } catch (Exception e) {
+        log.error("Failed to rebuild emotion score rollups. size : {}", userIds.size(), e);
+      }
+
+      lastUserId = userIds.get(userIds.size() - 1);
+
+      if (userIds.size() < chunkSize) {
+        break;
+      }
+    }
+
+    log.info("Emotion score rollup rebuild finished. rebuilt : {}", rebuilt);
+    return rebuilt;
+  }
+
+  private int rebuild(List<byte[]> userIds) {
+    Object[] ids = userIds.toArray();
+    String in = " IN (" + String.join(",", Collections.nCopies(ids.length, "?")) + ")";
+
+    Map<RollupKey, RollupStats> rollups = new LinkedHashMap<>();
+    jdbcTemplate.query("SELECT user_id, date, emotion_score FROM emotion_analysis "
+            + "WHERE is_deleted = false AND emotion_score IS NOT NULL AND date IS NOT NULL "
+            + "AND user_id" + in,
+        rs -> {
+          UUID userId = UuidUtils.fromBytes(rs.getBytes(1));
+          LocalDate date = rs.getDate(2).toLocalDate();
+          int score = rs.getInt(3);
+          for (TrendPeriod period : TrendPeriod.values()) {
+            rollups.computeIfAbsent(new RollupKey(userId, period, period.startOf(date)),
+                key -> new RollupStats()).add(score);
+          }
+        }, ids);
+
+    jdbcTemplate.update("DELETE FROM emotion_score_rollup WHERE user_id" + in, ids);
+
+    LocalDateTime now = LocalDateTime.now();
+    List<Object[]> rows = new ArrayList<>(rollups.size());
+    rollups.forEach((key, stats) -> rows.add(new Object[]{
+        UuidUtils.toBytes(UuidUtils.timeOrderedUuid()), UuidUtils.toBytes(key.userId()),
+        key.period().name(), key.periodStart(), stats.count, stats.sum, stats.min, stats.max,
+        now, now}));
+    jdbcTemplate.batchUpdate(INSERT_ROLLUP_SQL, rows);
+
+    return rows.size();
+  }
+
+  private record RollupKey(UUID userId, TrendPeriod period, LocalDate periodStart) {
+
+  }
+
+  private static class RollupStats {
+
+    private int count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    private void add(int score) {
+      count++;
+      sum += score;
+      min = Math.min(min, score);
+      max = Math.max(max, score);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository.EmotionScoreStats;
+import com.example.moodwriter.domain.emotion.dao.EmotionScoreRollupRepository;
+import com.example.moodwriter.domain.emotion.dto.EmotionTrendResponse;
+import com.example.moodwriter.domain.emotion.entity.EmotionScoreRollup;
+import com.example.moodwriter.domain.emotion.exception.EmotionAnalysisException;
+import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.constant.TrendPeriod;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import com.example.moodwriter.global.util.UuidUtils;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmotionTrendService {
+
+  private static final String INSERT_EMPTY_ROLLUP_SQL =
+      "INSERT INTO emotion_score_rollup (id, user_id, period_type, period_start, score_count, "
+          + "score_sum, created_at, updated_at) VALUES (?, ?, ?, ?, 0, 0, ?, ?)";
+
+  private final EmotionScoreRollupRepository emotionScoreRollupRepository;
+  private final EmotionAnalysisRepository emotionAnalysisRepository;
+  private final EntityManager entityManager;
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 기간별 평균, 최솟값, 최댓값 추이. 집계 테이블의 유니크 키 범위만 조회하며 감정분석 테이블은 읽지 않음
+   */
+  @Transactional(readOnly = true)
+  public EmotionTrendResponse getTrend(TrendPeriod period, LocalDate startDate,
+      LocalDate endDate, UUID userId) {
+    if (startDate.isAfter(endDate)) {
+      throw new EmotionAnalysisException(ErrorCode.START_DATE_MUST_BE_BEFORE_END_DATE);
+    }
+
+    User userProxy = entityManager.getReference(User.class, userId);
+
+    return EmotionTrendResponse.of(period,
+        emotionScoreRollupRepository.findTrendByUserAndPeriodStartBetween(userProxy, period,
+            period.startOf(startDate), endDate));
+  }
+
+  /**
+   * 감정점수 변경을 기간별 집계에 반영. 감정분석을 저장한 뒤 같은 트랜잭션에서 호출해야 하며,
+   * 이전 점수(oldScore)나 새 점수(newScore)가 없으면 null
+   */
+  @Transactional
+  public void applyScoreChange(UUID userId, LocalDate oldDate, Integer oldScore,
+      LocalDate newDate, Integer newScore) {
+    if (oldScore == null && newScore == null) {
+      return;
+    }
+
+    User userProxy = entityManager.getReference(User.class, userId);
+
+    for (TrendPeriod period : TrendPeriod.values()) {
+      LocalDate oldStart = oldScore != null ? period.startOf(oldDate) : null;
+      LocalDate newStart = newScore != null ? period.startOf(newDate) : null;
+
+      if (Objects.equals(oldStart, newStart)) {
+        applyToRollup(userProxy, period, oldStart, oldScore, newScore);
+        continue;
+      }
+      if (oldStart != null) {
+        applyToRollup(userProxy, period, oldStart, oldScore, null);
+      }
+      if (newStart != null) {
+        applyToRollup(userProxy, period, newStart, null, newScore);
+      }
+    }
+  }
+
+  /**
+   * 집계가 아직 없는 기간이나 증분으로 갱신할 수 없는 경우(최솟값, 최댓값 제외)에는 원본에서 다시 집계.
+   * 원본 집계 쿼리 전에 변경된 감정분석이 flush 되므로 다시 집계한 결과에는 새 점수가 이미 반영되어 있음
+   */
+  private void applyToRollup(User user, TrendPeriod period, LocalDate periodStart,
+      Integer removedScore, Integer addedScore) {
+    Optional<EmotionScoreRollup> existingRollup =
+        emotionScoreRollupRepository.findForUpdateByUserAndPeriod(user, period, periodStart);
+    if (existingRollup.isPresent()) {
+      applyDelta(existingRollup.get(), removedScore, addedScore);
+      return;
+    }
+
+    boolean created = insertEmptyRollup(user, period, periodStart);
+
+    EmotionScoreRollup rollup = emotionScoreRollupRepository
+        .findForUpdateByUserAndPeriod(user, period, periodStart)
+        .orElseThrow();
+    if (created) {
+      recompute(rollup);
+      emotionScoreRollupRepository.save(rollup);
+    } else {
+      applyDelta(rollup, removedScore, addedScore);
+    }
+  }
+
+  /**
+   * 같은 기간의 집계를 동시에 처음 만드는 요청이 있으면 늦은 쪽의 insert 가 유니크 키에 걸림. 먼저 만든 쪽은
+   * 이 변경이 커밋되기 전에 원본을 집계했으므로 늦은 쪽은 다시 집계하지 않고 잠근 행에 증분만 반영.
+   * JdbcTemplate 으로 넣어 중복 키 예외가 영속성 컨텍스트와 바깥 트랜잭션에 영향을 주지 않도록 함
+   */
+  private boolean insertEmptyRollup(User user, TrendPeriod period, LocalDate periodStart) {
+    entityManager.flush();
+
+    LocalDateTime now = LocalDateTime.now();
+    try {
+      jdbcTemplate.update(INSERT_EMPTY_ROLLUP_SQL,
+          UuidUtils.toBytes(UuidUtils.timeOrderedUuid()), UuidUtils.toBytes(user.getId()),
+          period.name(), periodStart, now, now);
+      return true;
+    } catch (DuplicateKeyException e) {
+      log.debug("Emotion score rollup is already created. userId : {}, period : {} {}",
+          user.getId(), period, periodStart);
+      return false;
+    }
+  }
+
+  private void applyDelta(EmotionScoreRollup rollup, Integer removedScore,
+      Integer addedScore) {
+    if (removedScore != null && !rollup.remove(removedScore)) {
+      recompute(rollup);
+    } else if (addedScore != null) {
+      rollup.add(addedScore);
+    }
+    emotionScoreRollupRepository.save(rollup);
+  }
+
+  private void recompute(EmotionScoreRollup rollup) {
+    EmotionScoreStats stats = emotionAnalysisRepository.findEmotionScoreStatsByUserAndDateBetween(
+        rollup.getUser(), rollup.getPeriodStart(),
+        rollup.getPeriodType().endOf(rollup.getPeriodStart()));
+
+    rollup.reset((int) stats.getScoreCount(),
+        stats.getScoreSum() == null ? 0 : stats.getScoreSum(),
+        stats.getMinScore(), stats.getMaxScore());
+  }
+}
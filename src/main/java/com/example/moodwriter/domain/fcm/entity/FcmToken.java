@@ -3,6 +3,7 @@ package com.example.moodwriter.domain.fcm.entity;
 import com.example.moodwriter.domain.fcm.dto.FcmTokenRequest;
 import com.example.moodwriter.domain.user.entity.User;
 import com.example.moodwriter.global.entity.BaseEntity;
+import com.example.moodwriter.global.entity.id.TimeOrderedUuid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -16,7 +17,6 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.UuidGenerator;
 
 @Getter
 @Entity
@@ -25,7 +25,7 @@ import org.hibernate.annotations.UuidGenerator;
 public class FcmToken extends BaseEntity {
 
   @Id
-  @UuidGenerator
+  @TimeOrderedUuid
   @Column(columnDefinition = "BINARY(16)", updatable = false, nullable = false)
   private UUID id;
 
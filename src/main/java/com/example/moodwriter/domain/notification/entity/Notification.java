@@ -3,6 +3,7 @@ package com.example.moodwriter.domain.notification.entity;
 import com.example.moodwriter.domain.notification.constant.NotificationTopic;
 import com.example.moodwriter.domain.notification.converter.MapToJsonConverter;
 import com.example.moodwriter.global.entity.BaseEntity;
+import com.example.moodwriter.global.entity.id.TimeOrderedUuid;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
@@ -19,7 +20,6 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.UuidGenerator;
 
 @Getter
 @Entity
@@ -27,7 +27,7 @@ import org.hibernate.annotations.UuidGenerator;
 public class Notification extends BaseEntity {
 
   @Id
-  @UuidGenerator
+  @TimeOrderedUuid
   @Column(columnDefinition = "BINARY(16)", updatable = false, nullable = false)
   private UUID id;
 
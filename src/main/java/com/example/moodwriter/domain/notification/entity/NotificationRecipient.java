@@ -1,6 +1,7 @@
 package com.example.moodwriter.domain.notification.entity;
 
 import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.entity.id.TimeOrderedUuid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -14,7 +15,6 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.UuidGenerator;
 
 @Getter
 @Entity
@@ -23,7 +23,7 @@ import org.hibernate.annotations.UuidGenerator;
 public class NotificationRecipient {
 
   @Id
-  @UuidGenerator
+  @TimeOrderedUuid
   @Column(columnDefinition = "BINARY(16)", updatable = false, nullable = false)
   private UUID id;
 
@@ -5,6 +5,7 @@ import com.example.moodwriter.domain.user.dto.UserRegisterRequest;
 import com.example.moodwriter.domain.user.entity.converter.FileDtoStringConverter;
 import com.example.moodwriter.global.constant.Role;
 import com.example.moodwriter.global.constant.SocialProvider;
+import com.example.moodwriter.global.entity.id.TimeOrderedUuid;
 import com.example.moodwriter.global.s3.dto.FileDto;
 import com.example.moodwriter.global.entity.BaseEntity;
 import jakarta.persistence.Column;
@@ -21,7 +22,6 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.UuidGenerator;
 
 @Getter
 @NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
@@ -30,7 +30,7 @@ import org.hibernate.annotations.UuidGenerator;
 public class User extends BaseEntity {
 
   @Id
-  @UuidGenerator
+  @TimeOrderedUuid
   @Column(columnDefinition = "BINARY(16)", updatable = false, nullable = false)
   private UUID id;
 
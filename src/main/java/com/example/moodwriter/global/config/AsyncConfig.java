@@ -15,6 +15,12 @@ public class AsyncConfig {
   @Value("${async.enabled:false}")
   private boolean asyncEnabled;
 
+  @Value("${emotion-analysis.job.pool-size:4}")
+  private int emotionAnalysisPoolSize;
+
+  @Value("${emotion-analysis.job.queue-capacity:100}")
+  private int emotionAnalysisQueueCapacity;
+
   @Bean(name = "notificationTaskExecutor")
   public Executor notificationTaskExecutor() {
     if (asyncEnabled) {
@@ -31,4 +37,35 @@ public class AsyncConfig {
     }
   }
 
+  @Bean(name = "diaryImportTaskExecutor")
+  public Executor diaryImportTaskExecutor() {
+    if (asyncEnabled) {
+      ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+      executor.setCorePoolSize(2);
+      executor.setMaxPoolSize(2);
+      executor.setQueueCapacity(20);
+      executor.setThreadNamePrefix("DiaryImport-");
+      executor.initialize();
+      return executor;
+    } else {
+      return Runnable::run;
+    }
+  }
+
+  /**
+   * OpenAI 응답을 기다리는 작업이 몰려도 호출 수가 pool-size 를 넘지 않도록 제한.
+   * 대기열이 가득 차면 작업을 받지 않고 거절. 요청 스레드에서 DB 커넥션을 잡지 않도록 async.enabled 와 관계없이
+   * 항상 별도 스레드에서 실행
+   */
+  @Bean(name = "emotionAnalysisTaskExecutor")
+  public Executor emotionAnalysisTaskExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(emotionAnalysisPoolSize);
+    executor.setMaxPoolSize(emotionAnalysisPoolSize);
+    executor.setQueueCapacity(emotionAnalysisQueueCapacity);
+    executor.setThreadNamePrefix("EmotionAnalysis-");
+    executor.initialize();
+    return executor;
+  }
+
 }
@@ -0,0 +1,50 @@
+package com.example.moodwriter.global.config;
+
+import com.example.moodwriter.global.openAI.service.OpenAIResultCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+
+/**
+ * 캐시 저장소는 spring.cache.type 으로 선택. 운영은 인스턴스가 여러 개라 evict 가 모든 인스턴스에 반영되는
+ * redis, 로컬은 caffeine
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  @Value("${cloud.open-ai.result-cache.time-to-live:1d}")
+  private Duration openAIResultTimeToLive;
+
+  @Value("${cloud.open-ai.result-cache.maximum-size:10000}")
+  private long openAIResultMaximumSize;
+
+  /**
+   * OpenAI 결과는 일기 내용이 같으면 바뀌지 않으므로 다른 캐시와 별도로 보관 기간과 크기를 지정
+   */
+  @Bean
+  public CacheManagerCustomizer<CaffeineCacheManager> openAIResultCaffeineCacheCustomizer() {
+    return cacheManager -> cacheManager.registerCustomCache(OpenAIResultCache.CACHE_NAME,
+        Caffeine.newBuilder()
+            .maximumSize(openAIResultMaximumSize)
+            .expireAfterWrite(openAIResultTimeToLive)
+            .recordStats()
+            .build());
+  }
+
+  /**
+   * Redis 에서는 크기 대신 Redis 의 maxmemory 정책으로 제거됨
+   */
+  @Bean
+  public RedisCacheManagerBuilderCustomizer openAIResultRedisCacheCustomizer() {
+    return builder -> builder.withCacheConfiguration(OpenAIResultCache.CACHE_NAME,
+        RedisCacheConfiguration.defaultCacheConfig().entryTtl(openAIResultTimeToLive));
+  }
+}
@@ -1,16 +1,35 @@
 package com.example.moodwriter.global.config;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class OkHttpClientConfig {
 
+  /**
+   * enqueue 로 보낸 비동기 호출은 Dispatcher 한도 안에서만 동시에 실행됨. 기본 호스트당 한도(5)로는 OpenAI 호출이
+   * 대기열에 쌓이므로 OpenAI 동시 호출 한도에 맞추고, 같은 수의 연결을 유휴 상태로 유지해 재사용
+   */
   @Bean
-  public OkHttpClient okHttpClient() {
+  public OkHttpClient okHttpClient(
+      @Value("${okhttp.dispatcher.max-requests:64}") int maxRequests,
+      @Value("${okhttp.dispatcher.max-requests-per-host:20}") int maxRequestsPerHost,
+      @Value("${okhttp.connection-pool.max-idle-connections:20}") int maxIdleConnections,
+      @Value("${okhttp.connection-pool.keep-alive:5m}") Duration keepAlive) {
+    Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(maxRequests);
+    dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
     return new OkHttpClient.Builder()
+        .dispatcher(dispatcher)
+        .connectionPool(new ConnectionPool(maxIdleConnections, keepAlive.toMillis(),
+            TimeUnit.MILLISECONDS))
         .connectTimeout(30, TimeUnit.SECONDS)
         .readTimeout(30, TimeUnit.SECONDS)
         .writeTimeout(30, TimeUnit.SECONDS)
@@ -4,6 +4,7 @@ import com.example.moodwriter.global.constant.Role;
 import com.example.moodwriter.global.security.exception.CustomAccessDeniedHandler;
 import com.example.moodwriter.global.security.exception.CustomAuthenticationEntryPoint;
 import com.example.moodwriter.global.security.filter.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -39,6 +40,8 @@ public class SecurityConfig {
             SessionCreationPolicy.STATELESS))
 
         .authorizeHttpRequests(request -> request
+            // 비동기 응답의 재디스패치는 최초 요청에서 이미 인증을 거쳤으므로 허용
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers(HttpMethod.GET, "/api/users")
             .hasRole(Role.ROLE_USER.getRole())
             .requestMatchers(HttpMethod.PATCH, "/api/users")
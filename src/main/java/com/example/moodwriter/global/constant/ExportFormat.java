@@ -0,0 +1,10 @@
+package com.example.moodwriter.global.constant;
+
+public enum ExportFormat {
+  NDJSON, ZIP;
+
+
+  public static ExportFormat forValue(String value) {
+    return ExportFormat.valueOf(value.toUpperCase());
+  }
+}
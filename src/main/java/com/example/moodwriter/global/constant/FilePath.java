@@ -8,7 +8,8 @@ import lombok.RequiredArgsConstructor;
 public enum FilePath {
 
   PROFILE("profile"),
-  DIARY("diary")
+  DIARY("diary"),
+  DIARY_IMPORT("diary-import")
   ;
 
   private final String path;
@@ -19,6 +19,23 @@ public enum OpenAIRequestSentence {
   EMOTION_ANALYSIS(
       "\n\n위 일기를 보고 감정분석가가 되어 감정분석을 상세하게 작성해주고, "
           + "감정분석에 따른 적절한 조언을 상세히 작성해줘."
+  ),
+  FULL_EMOTION_ANALYSIS(
+      "\n\n위 일기를 보고 감정분석가가 되어 감정점수, 대표 감정, 감정분석을 한 번에 작성해줘. "
+          + "감정 점수는 매우 긍정적일 때 100점, 매우 부정적일 때 0점을 기준으로 한 0 이상 100 이하의 정수 하나, "
+          + "대표 감정은 한 단어로 세가지를 쉼표로 구분한 문자열, "
+          + "감정분석은 감정분석과 그에 따른 적절한 조언을 상세히 작성한 문자열이야. "
+          + "다른 설명 없이 아래 json 예시와 같은 형식의 json 객체 하나로만 대답해줘\n\n"
+          + "{\n"
+          + "    \"emotionScore\": ?,\n"
+          + "    \"primaryEmotion\": \"??, ??, ??\",\n"
+          + "    \"analysisContent\": \"??\""
+          + "\n}"
+  ),
+  REPAIR_FULL_EMOTION_ANALYSIS(
+      "\n\n위 이전 응답이 요청한 json 형식에 맞지 않아. "
+          + "emotionScore 는 0 이상 100 이하의 정수, primaryEmotion 과 analysisContent 는 비어 있지 않은 문자열이어야 해. "
+          + "일기 내용을 참고해서 다른 설명 없이 형식에 맞는 json 객체 하나로만 다시 대답해줘"
   )
 
   ;
@@ -0,0 +1,33 @@
+package com.example.moodwriter.global.constant;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum TrendPeriod {
+  DAY, WEEK, MONTH;
+
+
+  public static TrendPeriod forValue(String value) {
+    return TrendPeriod.valueOf(value.toUpperCase());
+  }
+
+  /**
+   * 날짜가 속한 기간의 시작일. 주는 월요일부터 시작
+   */
+  public LocalDate startOf(LocalDate date) {
+    return switch (this) {
+      case DAY -> date;
+      case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+      case MONTH -> date.withDayOfMonth(1);
+    };
+  }
+
+  public LocalDate endOf(LocalDate periodStart) {
+    return switch (this) {
+      case DAY -> periodStart;
+      case WEEK -> periodStart.plusDays(6);
+      case MONTH -> periodStart.withDayOfMonth(periodStart.lengthOfMonth());
+    };
+  }
+}
@@ -0,0 +1,16 @@
+package com.example.moodwriter.global.converter;
+
+import com.example.moodwriter.global.constant.ExportFormat;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExportFormatConverter implements Converter<String, ExportFormat> {
+
+
+  @Override
+  public ExportFormat convert(@NotNull String source) {
+    return ExportFormat.forValue(source);
+  }
+}
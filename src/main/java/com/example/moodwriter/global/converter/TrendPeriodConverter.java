@@ -0,0 +1,16 @@
+package com.example.moodwriter.global.converter;
+
+import com.example.moodwriter.global.constant.TrendPeriod;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TrendPeriodConverter implements Converter<String, TrendPeriod> {
+
+
+  @Override
+  public TrendPeriod convert(@NotNull String source) {
+    return TrendPeriod.forValue(source);
+  }
+}
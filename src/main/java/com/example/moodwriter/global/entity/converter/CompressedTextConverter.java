@@ -0,0 +1,105 @@
+package com.example.moodwriter.global.entity.converter;
+
+import com.example.moodwriter.global.exception.CustomException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * 긴 본문을 Deflate 로 압축하여 TEXT 컬럼에 저장하는 컨버터.
+ * 압축된 값은 FORMAT_HEADER 로 시작하며, 헤더가 없는 값은 기존 평문 데이터로 간주하여 그대로 읽음
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+  public static final String FORMAT_HEADER = "\u0001DF1:";
+
+  private static final int BUFFER_SIZE = 4096;
+
+  private final boolean enabled;
+  private final int thresholdBytes;
+
+  public CompressedTextConverter(
+      @Value("${storage.compression.enabled:false}") boolean enabled,
+      @Value("${storage.compression.threshold-bytes:1024}") int thresholdBytes) {
+    this.enabled = enabled;
+    this.thresholdBytes = thresholdBytes;
+  }
+
+  @Override
+  public String convertToDatabaseColumn(String attribute) {
+    if (!enabled || attribute == null) {
+      return attribute;
+    }
+
+    byte[] raw = attribute.getBytes(StandardCharsets.UTF_8);
+    if (raw.length < thresholdBytes) {
+      return attribute;
+    }
+
+    String compressed = FORMAT_HEADER + Base64.getEncoder().encodeToString(deflate(raw));
+
+    // 압축 효과가 없는 본문은 평문으로 저장
+    if (compressed.getBytes(StandardCharsets.UTF_8).length >= raw.length) {
+      return attribute;
+    }
+    return compressed;
+  }
+
+  @Override
+  public String convertToEntityAttribute(String dbData) {
+    if (dbData == null || !dbData.startsWith(FORMAT_HEADER)) {
+      return dbData;
+    }
+
+    byte[] compressed = Base64.getDecoder().decode(dbData.substring(FORMAT_HEADER.length()));
+    return new String(inflate(compressed), StandardCharsets.UTF_8);
+  }
+
+  private byte[] deflate(byte[] raw) {
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    try {
+      deflater.setInput(raw);
+      deflater.finish();
+
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream(raw.length / 2);
+      byte[] buffer = new byte[BUFFER_SIZE];
+      while (!deflater.finished()) {
+        int length = deflater.deflate(buffer);
+        outputStream.write(buffer, 0, length);
+      }
+      return outputStream.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private byte[] inflate(byte[] compressed) {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(compressed);
+
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream(compressed.length * 3);
+      byte[] buffer = new byte[BUFFER_SIZE];
+      while (!inflater.finished()) {
+        int length = inflater.inflate(buffer);
+        if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new CustomException(ErrorCode.FAIL_TO_DECOMPRESS_CONTENT);
+        }
+        outputStream.write(buffer, 0, length);
+      }
+      return outputStream.toByteArray();
+    } catch (DataFormatException e) {
+      throw new CustomException(ErrorCode.FAIL_TO_DECOMPRESS_CONTENT);
+    } finally {
+      inflater.end();
+    }
+  }
+}
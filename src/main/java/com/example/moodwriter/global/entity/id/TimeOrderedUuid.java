@@ -0,0 +1,19 @@
+package com.example.moodwriter.global.entity.id;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 시간 순으로 증가하는 UUIDv7 식별자 생성. BINARY(16) 기본키에 순서대로 삽입되어 B-tree 페이지 분할을 줄임
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedUuid {
+
+}
@@ -0,0 +1,102 @@
+package com.example.moodwriter.global.entity.service;
+
+import com.example.moodwriter.global.entity.converter.CompressedTextConverter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 기존 행의 본문을 현재 압축 설정에 맞는 저장 형식으로 다시 기록하는 작업.
+ * 압축을 끈 상태로 실행하면 압축된 행을 평문으로 되돌림
+ */
+@Slf4j
+@Service
+public class ContentReencodingJob {
+
+  private static final List<ReencodingTarget> TARGETS = List.of(
+      new ReencodingTarget("diaries", "content"),
+      new ReencodingTarget("emotion_analysis", "analysis_content"));
+
+  private final JdbcTemplate jdbcTemplate;
+  private final CompressedTextConverter converter;
+  private final int chunkSize;
+
+  public ContentReencodingJob(JdbcTemplate jdbcTemplate,
+      @Value("${storage.compression.enabled:false}") boolean enabled,
+      @Value("${storage.compression.threshold-bytes:1024}") int thresholdBytes,
+      @Value("${storage.compression.reencode-chunk-size:500}") int chunkSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.converter = new CompressedTextConverter(enabled, thresholdBytes);
+    this.chunkSize = chunkSize;
+  }
+
+  public long reencodeAll() {
+    long totalUpdated = 0;
+    for (ReencodingTarget target : TARGETS) {
+      totalUpdated += reencode(target);
+    }
+    return totalUpdated;
+  }
+
+  private long reencode(ReencodingTarget target) {
+    String selectSql = "SELECT id, " + target.column() + " FROM " + target.table()
+        + " WHERE id > ? ORDER BY id LIMIT ?";
+    // 조회 이후 본문이 수정된 행은 덮어쓰지 않음
+    String updateSql = "UPDATE " + target.table() + " SET " + target.column() + " = ?"
+        + " WHERE id = ? AND " + target.column() + " = ?";
+
+    byte[] lastId = new byte[16];
+    long scanned = 0;
+    long updated = 0;
+
+    while (true) {
+      List<StoredContent> chunk = jdbcTemplate.query(selectSql,
+          (rs, rowNum) -> new StoredContent(rs.getBytes(1), rs.getString(2)),
+          lastId, chunkSize);
+      if (chunk.isEmpty()) {
+        break;
+      }
+
+      List<Object[]> updates = new ArrayList<>();
+      for (StoredContent stored : chunk) {
+        if (stored.value() == null) {
+          continue;
+        }
+        String reencoded = converter.convertToDatabaseColumn(
+            converter.convertToEntityAttribute(stored.value()));
+        if (!Objects.equals(reencoded, stored.value())) {
+          updates.add(new Object[]{reencoded, stored.id(), stored.value()});
+        }
+      }
+
+      if (!updates.isEmpty()) {
+        for (int count : jdbcTemplate.batchUpdate(updateSql, updates)) {
+          updated += Math.max(count, 0);
+        }
+      }
+
+      scanned += chunk.size();
+      lastId = chunk.get(chunk.size() - 1).id();
+
+      if (chunk.size() < chunkSize) {
+        break;
+      }
+    }
+
+    log.info("Content re-encoding finished. table : {}, scanned : {}, updated : {}",
+        target.table(), scanned, updated);
+    return updated;
+  }
+
+  private record ReencodingTarget(String table, String column) {
+
+  }
+
+  private record StoredContent(byte[] id, String value) {
+
+  }
+}
@@ -0,0 +1,226 @@
+package com.example.moodwriter.global.entity.service;
+
+import com.example.moodwriter.global.s3.service.S3FileService;
+import com.example.moodwriter.global.util.UuidUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 삭제 처리 후 보관 기간이 지난 일기와 감정분석을 실제로 삭제하는 작업.
+ * (deleted_at, id) 기준 keyset 으로 작은 묶음씩 조회하고 묶음마다 짧은 트랜잭션으로 삭제하며,
+ * 일기에 딸린 검색 색인, 감정분석, 미디어와 S3 파일도 함께 삭제
+ */
+@Slf4j
+@Service
+public class SoftDeletePurgeJob {
+
+  private static final String TABLE_DIARIES = "diaries";
+  private static final String TABLE_EMOTION_ANALYSIS = "emotion_analysis";
+  private static final String TABLE_DIARY_MEDIA = "diary_media";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final S3FileService s3FileService;
+  private final MeterRegistry meterRegistry;
+  private final int retentionDays;
+  private final int chunkSize;
+
+  private final AtomicLong rowsPerSecond = new AtomicLong();
+  private final AtomicLong diaryLagSeconds = new AtomicLong();
+  private final AtomicLong emotionAnalysisLagSeconds = new AtomicLong();
+
+  public SoftDeletePurgeJob(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager, S3FileService s3FileService,
+      MeterRegistry meterRegistry,
+      @Value("${storage.purge.retention-days:30}") int retentionDays,
+      @Value("${storage.purge.chunk-size:200}") int chunkSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.s3FileService = s3FileService;
+    this.meterRegistry = meterRegistry;
+    this.retentionDays = retentionDays;
+    this.chunkSize = chunkSize;
+
+    Gauge.builder("purge.rows.per.second", rowsPerSecond, AtomicLong::get)
+        .register(meterRegistry);
+    Gauge.builder("purge.lag.seconds", diaryLagSeconds, AtomicLong::get)
+        .tag("table", TABLE_DIARIES)
+        .register(meterRegistry);
+    Gauge.builder("purge.lag.seconds", emotionAnalysisLagSeconds, AtomicLong::get)
+        .tag("table", TABLE_EMOTION_ANALYSIS)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 삭제한 행 수를 반환
+   */
+  public long purgeAll() {
+    LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+    long start = System.nanoTime();
+
+    long purged = purge(TABLE_DIARIES, cutoff, this::purgeDiaries)
+        + purge(TABLE_EMOTION_ANALYSIS, cutoff, this::purgeEmotionAnalyses);
+
+    long elapsedNanos = System.nanoTime() - start;
+    Timer.builder("purge.duration").register(meterRegistry)
+        .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    rowsPerSecond.set(purged * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1));
+    diaryLagSeconds.set(lagSeconds(TABLE_DIARIES, cutoff));
+    emotionAnalysisLagSeconds.set(lagSeconds(TABLE_EMOTION_ANALYSIS, cutoff));
+
+    log.info("Soft delete purge finished. cutoff : {}, purged : {}, rowsPerSecond : {}",
+        cutoff, purged, rowsPerSecond.get());
+    return purged;
+  }
+
+  private long purge(String table, LocalDateTime cutoff, ChunkPurger purger) {
+    String firstChunkSql = "SELECT id, deleted_at FROM " + table
+        + " WHERE is_deleted = true AND deleted_at < ? ORDER BY deleted_at, id LIMIT ?";
+    String nextChunkSql = "SELECT id, deleted_at FROM " + table
+        + " WHERE is_deleted = true AND deleted_at < ?"
+        + " AND (deleted_at > ? OR (deleted_at = ? AND id > ?)) ORDER BY deleted_at, id LIMIT ?";
+
+    PurgeCandidate last = null;
+    long purged = 0;
+
+    while (true) {
+      List<PurgeCandidate> chunk = last == null
+          ? jdbcTemplate.query(firstChunkSql, this::mapCandidate,
+              Timestamp.valueOf(cutoff), chunkSize)
+          : jdbcTemplate.query(nextChunkSql, this::mapCandidate,
+              Timestamp.valueOf(cutoff), last.deletedAt(), last.deletedAt(), last.id(),
+              chunkSize);
+      if (chunk.isEmpty()) {
+        break;
+      }
+
+      try {
+        purged += purger.purge(chunk.stream().map(PurgeCandidate::id).toList());
+      } catch (Exception e) {
+        log.error("Failed to purge chunk. table : {}, size : {}", table, chunk.size(), e);
+      }
+
+      last = chunk.get(chunk.size() - 1);
+
+      if (chunk.size() < chunkSize) {
+        break;
+      }
+    }
+
+    log.info("Soft delete purge of {} finished. purged : {}", table, purged);
+    return purged;
+  }
+
+  /**
+   * S3 파일을 먼저 지우고, 파일 삭제에 실패한 일기는 다음 실행에서 다시 시도하도록 남겨둠
+   */
+  private long purgeDiaries(List<byte[]> diaryIds) {
+    List<MediaFile> mediaFiles = jdbcTemplate.query(
+        "SELECT diary_id, file_name FROM diary_media WHERE diary_id IN ("
+            + placeholders(diaryIds.size()) + ")",
+        (rs, rowNum) -> new MediaFile(UuidUtils.fromBytes(rs.getBytes(1)), rs.getString(2)),
+        diaryIds.toArray());
+
+    Set<UUID> failedDiaryIds = new HashSet<>();
+    for (MediaFile mediaFile : mediaFiles) {
+      try {
+        s3FileService.deleteFile(mediaFile.fileName());
+      } catch (Exception e) {
+        log.error("Failed to delete diary media file. file name : {}", mediaFile.fileName(), e);
+        failedDiaryIds.add(mediaFile.diaryId());
+      }
+    }
+
+    Object[] ids = diaryIds.stream()
+        .filter(id -> !failedDiaryIds.contains(UuidUtils.fromBytes(id)))
+        .toArray();
+    if (ids.length == 0) {
+      return 0;
+    }
+    String in = " IN (" + placeholders(ids.length) + ")";
+
+    Integer purged = transactionTemplate.execute(status -> {
+      jdbcTemplate.update("DELETE FROM diary_search_tokens WHERE diary_id" + in, ids);
+      int analyses = jdbcTemplate.update("DELETE FROM emotion_analysis WHERE diary_id" + in,
+          ids);
+      int media = jdbcTemplate.update("DELETE FROM diary_media WHERE diary_id" + in, ids);
+      int diaries = jdbcTemplate.update(
+          "DELETE FROM diaries WHERE is_deleted = true AND id" + in, ids);
+
+      count(TABLE_EMOTION_ANALYSIS, analyses);
+      count(TABLE_DIARY_MEDIA, media);
+      count(TABLE_DIARIES, diaries);
+      return diaries + analyses + media;
+    });
+    return purged == null ? 0 : purged;
+  }
+
+  private long purgeEmotionAnalyses(List<byte[]> emotionAnalysisIds) {
+    Object[] ids = emotionAnalysisIds.toArray();
+
+    Integer purged = transactionTemplate.execute(status -> jdbcTemplate.update(
+        "DELETE FROM emotion_analysis WHERE is_deleted = true AND id IN ("
+            + placeholders(ids.length) + ")", ids));
+    count(TABLE_EMOTION_ANALYSIS, purged == null ? 0 : purged);
+    return purged == null ? 0 : purged;
+  }
+
+  /**
+   * 보관 기간이 지났는데도 아직 남아 있는 가장 오래된 행이 기준 시각보다 얼마나 뒤처졌는지(초)
+   */
+  private long lagSeconds(String table, LocalDateTime cutoff) {
+    Timestamp oldest = jdbcTemplate.queryForObject(
+        "SELECT MIN(deleted_at) FROM " + table + " WHERE is_deleted = true AND deleted_at < ?",
+        Timestamp.class, Timestamp.valueOf(cutoff));
+    return oldest == null ? 0 : Duration.between(oldest.toLocalDateTime(), cutoff).toSeconds();
+  }
+
+  private void count(String table, int rows) {
+    Counter.builder("purge.deleted.rows")
+        .tag("table", table)
+        .register(meterRegistry)
+        .increment(rows);
+  }
+
+  private PurgeCandidate mapCandidate(ResultSet rs, int rowNum) throws SQLException {
+    return new PurgeCandidate(rs.getBytes(1), rs.getTimestamp(2));
+  }
+
+  private String placeholders(int count) {
+    return String.join(",", Collections.nCopies(count, "?"));
+  }
+
+  @FunctionalInterface
+  private interface ChunkPurger {
+
+    long purge(List<byte[]> ids);
+  }
+
+  private record PurgeCandidate(byte[] id, Timestamp deletedAt) {
+
+  }
+
+  private record MediaFile(UUID diaryId, String fileName) {
+
+  }
+}
@@ -12,6 +12,8 @@ public enum ErrorCode {
   INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "처리되지 않은 에러가 발생하였습니다."),
   VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "입력값이 유효하지 않습니다."),
   METHOD_ARGUMENT_TYPE_MISMATCHED(HttpStatus.BAD_REQUEST, "함수의 argument의 타입이 일치하지 않습니다."),
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, "페이지 커서가 유효하지 않습니다."),
+  CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 요청에 의해 먼저 변경되었습니다. 다시 시도해주세요."),
 
   ALREADY_REGISTERED_USER(HttpStatus.BAD_REQUEST, "이미 가입한 회원입니다."),
   NOT_FOUND_USER(HttpStatus.NOT_FOUND, "해당하는 회원이 존재하지 않습니다."),
@@ -20,6 +22,7 @@ public enum ErrorCode {
 
   FAIL_TO_UPLOAD_FILE(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다."),
   JSON_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "JSON 데이터 변환에 실패했습니다."),
+  FAIL_TO_DECOMPRESS_CONTENT(HttpStatus.INTERNAL_SERVER_ERROR, "저장된 내용의 압축 해제에 실패했습니다."),
 
   INVALID_TOKEN(HttpStatus.FORBIDDEN, "토큰 정보가 유효하지 않습니다."),
   NOT_FOUND_REFRESH_TOKEN(HttpStatus.NOT_FOUND, "저장된 리프레쉬 토큰이 없습니다."),
@@ -34,14 +37,27 @@ public enum ErrorCode {
   CONFLICT_DIARY_MEDIA(HttpStatus.CONFLICT, "삭제하려는 파일이 연결된 일기와 현재 작업 중인 일기가 일치하지 않습니다."),
   ALREADY_DELETED_DIARY(HttpStatus.FORBIDDEN, "삭제된 일기입니다."),
   CONFLICT_DIARY_STATE(HttpStatus.CONFLICT, "일기가 유효한 상태가 아닙니다."),
+  DIARY_REVISION_MISMATCH(HttpStatus.CONFLICT, "일기가 다른 곳에서 변경되었습니다. 전체 내용을 다시 저장해주세요."),
+  DIARY_VERSION_CONFLICT(HttpStatus.CONFLICT, "일기가 다른 기기에서 먼저 저장되었습니다. 최신 내용을 확인해주세요."),
+  INVALID_DIARY_DELTA(HttpStatus.BAD_REQUEST, "일기 편집 내용이 유효하지 않습니다."),
+  EMPTY_DIARY_IMPORT_FILE(HttpStatus.BAD_REQUEST, "가져올 일기 파일이 비어 있습니다."),
+  NOT_FOUND_DIARY_IMPORT(HttpStatus.NOT_FOUND, "해당하는 일기 가져오기 작업이 존재하지 않습니다."),
+  FORBIDDEN_ACCESS_DIARY_IMPORT(HttpStatus.FORBIDDEN, "일기 가져오기 작업에 접근할 권한이 없습니다."),
   START_DATE_MUST_BE_BEFORE_END_DATE(HttpStatus.BAD_REQUEST, "조회 시작날짜는 반드시 조회 종료날짜 이전이어야 합니다."),
 
   OPEN_AI_RETURN_UNEXPECTED_RESPONSE(HttpStatus.INTERNAL_SERVER_ERROR, "Open AI API 호출 결과 예상치 못 한 응답코드가 반환되었습니다."),
+  OPEN_AI_REJECTED_REQUEST(HttpStatus.INTERNAL_SERVER_ERROR, "Open AI API 가 요청을 처리하지 않고 거절하였습니다."),
   FAIL_TO_CONNECT_WITH_OPEN_AI(HttpStatus.INTERNAL_SERVER_ERROR, "Open AI와 통신 중 오류가 발생하였습니다."),
+  OPEN_AI_RETURN_INVALID_FORMAT(HttpStatus.INTERNAL_SERVER_ERROR, "Open AI 응답이 요청한 형식과 일치하지 않습니다."),
+  OPEN_AI_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "Open AI 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
+  OPEN_AI_CONCURRENCY_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "Open AI 호출이 많아 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
   FINAL_SAVED_DIARY_REQUIRED_FOR_EMOTION_ANALYSIS(HttpStatus.CONFLICT, "감정점수 및 대표감정, 감정분석은 최종 저장된 일기만 가능합니다."),
   NOT_FOUND_EMOTION_ANALYSIS(HttpStatus.NOT_FOUND, "감정분석 기록이 존재하지 않습니다."),
   ALREADY_DELETED_EMOTION_ANALYSIS(HttpStatus.FORBIDDEN, "이미 삭제된 감정분석 기록입니다."),
+  NOT_FOUND_EMOTION_ANALYSIS_JOB(HttpStatus.NOT_FOUND, "해당하는 감정분석 작업이 존재하지 않습니다."),
+  FORBIDDEN_ACCESS_EMOTION_ANALYSIS_JOB(HttpStatus.FORBIDDEN, "감정분석 작업에 접근할 권한이 없습니다."),
+  EMOTION_ANALYSIS_JOB_REJECTED(HttpStatus.SERVICE_UNAVAILABLE, "감정분석 요청이 많아 작업을 받을 수 없습니다. 잠시 후 다시 시도해주세요."),
 
   FCM_TOKEN_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 존재하는 fcm token 입니다."),
 
@@ -1,5 +1,6 @@
 package com.example.moodwriter.global.exception.handler;
 
+import com.example.moodwriter.domain.diary.exception.DiaryVersionConflictException;
 import com.example.moodwriter.global.exception.CustomException;
 import com.example.moodwriter.global.exception.TokenException;
 import com.example.moodwriter.global.exception.code.ErrorCode;
@@ -9,6 +10,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -34,6 +36,31 @@ public class GlobalExceptionHandler {
         .body(ErrorResponse.of(e.getErrorCode(), request.getRequestURI()));
   }
 
+  @ExceptionHandler(DiaryVersionConflictException.class)
+  public ResponseEntity<ErrorResponse> handleDiaryVersionConflictException(
+      DiaryVersionConflictException e, HttpServletRequest request) {
+    log.error("[DiaryVersionConflictException] {} is occurred. uri : {}", e.getErrorCode(),
+        request.getRequestURI());
+
+    ErrorResponse errorResponse = ErrorResponse.of(e.getErrorCode(), request.getRequestURI());
+    errorResponse.addCurrentVersion(e.getCurrentVersion(), e.getCurrentRevision());
+
+    return ResponseEntity
+        .status(e.getErrorCode().getHttpStatus())
+        .body(errorResponse);
+  }
+
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+      OptimisticLockingFailureException e, HttpServletRequest request) {
+    log.error("OptimisticLockingFailureException[{}] is occurred. uri : {}", e.getMessage(),
+        request.getRequestURI());
+
+    return ResponseEntity
+        .status(HttpStatus.CONFLICT)
+        .body(ErrorResponse.of(ErrorCode.CONCURRENT_MODIFICATION, request.getRequestURI()));
+  }
+
   @ExceptionHandler(TokenException.class)
   public ResponseEntity<ErrorResponse> handleTokenException(TokenException e,
       HttpServletRequest request) {
@@ -27,6 +27,8 @@ public class ErrorResponse {
   private String path;
   private List<FieldValidationError> fieldErrors;
   private List<ParameterValidationError> parameterErrors;
+  private Long currentVersion;
+  private Long currentRevision;
 
 
   public static ErrorResponse of(ErrorCode errorCode, String path) {
@@ -67,6 +69,11 @@ public class ErrorResponse {
     }
   }
 
+  public void addCurrentVersion(long currentVersion, long currentRevision) {
+    this.currentVersion = currentVersion;
+    this.currentRevision = currentRevision;
+  }
+
   public void addConstraintViolations(Set<ConstraintViolation<?>> violations) {
     this.fieldErrors = violations.stream().map(
         violation -> new FieldValidationError(violation.getPropertyPath().toString(),
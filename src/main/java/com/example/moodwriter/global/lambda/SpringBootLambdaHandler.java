@@ -7,7 +7,15 @@ import com.amazonaws.serverless.proxy.spring.SpringBootLambdaContainerHandler;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
 import com.example.moodwriter.MoodWriterApplication;
+import com.example.moodwriter.domain.diary.service.DiaryDraftFlushScheduler;
+import com.example.moodwriter.domain.diary.service.DiaryImportService;
+import com.example.moodwriter.domain.diary.service.DiarySearchIndexRebuildJob;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisBatchJob;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisQueueProcessor;
+import com.example.moodwriter.domain.emotion.service.EmotionScoreRollupRebuildJob;
 import com.example.moodwriter.domain.notification.service.NotificationScheduler;
+import com.example.moodwriter.global.entity.service.ContentReencodingJob;
+import com.example.moodwriter.global.entity.service.SoftDeletePurgeJob;
 import com.example.moodwriter.global.exception.LambdaException;
 import com.example.moodwriter.global.exception.code.ErrorCode;
 import com.example.moodwriter.global.util.BeanUtils;
@@ -81,6 +89,76 @@ public class SpringBootLambdaHandler implements RequestStreamHandler {
 
       notificationScheduler.processNotifications();
 
+    } else if ("FlushDiaryDrafts".equals(eventType)) {
+      DiaryDraftFlushScheduler diaryDraftFlushScheduler = BeanUtils.getBean(
+          DiaryDraftFlushScheduler.class);
+
+      log.info("Diary draft flush trigger: {}", event.get("message"));
+
+      diaryDraftFlushScheduler.processExpiredDrafts();
+
+    } else if ("ReencodeContent".equals(eventType)) {
+      ContentReencodingJob contentReencodingJob = BeanUtils.getBean(
+          ContentReencodingJob.class);
+
+      log.info("Content re-encoding trigger: {}", event.get("message"));
+
+      contentReencodingJob.reencodeAll();
+
+    } else if ("RebuildDiarySearchIndex".equals(eventType)) {
+      DiarySearchIndexRebuildJob diarySearchIndexRebuildJob = BeanUtils.getBean(
+          DiarySearchIndexRebuildJob.class);
+
+      log.info("Diary search index rebuild trigger: {}", event.get("message"));
+
+      diarySearchIndexRebuildJob.rebuildAll();
+
+    } else if ("ProcessEmotionAnalysisQueue".equals(eventType)) {
+      EmotionAnalysisQueueProcessor emotionAnalysisQueueProcessor = BeanUtils.getBean(
+          EmotionAnalysisQueueProcessor.class);
+
+      log.info("Emotion analysis queue trigger: {}", event.get("message"));
+
+      emotionAnalysisQueueProcessor.processQueued();
+
+    } else if ("ProcessDiaryImportQueue".equals(eventType)) {
+      DiaryImportService diaryImportService = BeanUtils.getBean(DiaryImportService.class);
+
+      log.info("Diary import queue trigger: {}", event.get("message"));
+
+      diaryImportService.processQueued();
+
+    } else if ("RebuildEmotionScoreRollups".equals(eventType)) {
+      EmotionScoreRollupRebuildJob emotionScoreRollupRebuildJob = BeanUtils.getBean(
+          EmotionScoreRollupRebuildJob.class);
+
+      log.info("Emotion score rollup rebuild trigger: {}", event.get("message"));
+
+      emotionScoreRollupRebuildJob.rebuildAll();
+
+    } else if ("PurgeSoftDeletedRows".equals(eventType)) {
+      SoftDeletePurgeJob softDeletePurgeJob = BeanUtils.getBean(SoftDeletePurgeJob.class);
+
+      log.info("Soft delete purge trigger: {}", event.get("message"));
+
+      softDeletePurgeJob.purgeAll();
+
+    } else if ("SubmitEmotionAnalysisBatch".equals(eventType)) {
+      EmotionAnalysisBatchJob emotionAnalysisBatchJob = BeanUtils.getBean(
+          EmotionAnalysisBatchJob.class);
+
+      log.info("Emotion analysis batch submit trigger: {}", event.get("message"));
+
+      emotionAnalysisBatchJob.submit();
+
+    } else if ("CollectEmotionAnalysisBatch".equals(eventType)) {
+      EmotionAnalysisBatchJob emotionAnalysisBatchJob = BeanUtils.getBean(
+          EmotionAnalysisBatchJob.class);
+
+      log.info("Emotion analysis batch collect trigger: {}", event.get("message"));
+
+      emotionAnalysisBatchJob.collect();
+
     } else {
 
       log.error("Invalid request received. Event type: {}", eventType);
@@ -0,0 +1,62 @@
+package com.example.moodwriter.global.openAI.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 작업 상태. completed, failed, expired, cancelled 는 더 이상 바뀌지 않는 상태이며,
+ * expired 와 cancelled 도 그 전까지 처리된 요청의 결과 파일(output_file_id)은 남아 있을 수 있음
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OpenAIBatch {
+
+  private static final String STATUS_COMPLETED = "completed";
+  private static final Set<String> FINISHED_STATUSES = Set.of(
+      STATUS_COMPLETED, "failed", "expired", "cancelled");
+
+  private String id;
+  private String status;
+
+  @JsonProperty("input_file_id")
+  private String inputFileId;
+
+  @JsonProperty("output_file_id")
+  private String outputFileId;
+
+  @JsonProperty("error_file_id")
+  private String errorFileId;
+
+  @JsonProperty("request_counts")
+  private RequestCounts requestCounts;
+
+  @JsonIgnore
+  public boolean isFinished() {
+    return FINISHED_STATUSES.contains(status);
+  }
+
+  @JsonIgnore
+  public boolean isCompleted() {
+    return STATUS_COMPLETED.equals(status);
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class RequestCounts {
+    private int total;
+    private int completed;
+    private int failed;
+  }
+}
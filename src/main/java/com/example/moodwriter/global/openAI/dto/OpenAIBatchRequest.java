@@ -0,0 +1,18 @@
+package com.example.moodwriter.global.openAI.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class OpenAIBatchRequest {
+
+  @JsonProperty("input_file_id")
+  private String inputFileId;
+
+  private String endpoint;
+
+  @JsonProperty("completion_window")
+  private String completionWindow;
+}
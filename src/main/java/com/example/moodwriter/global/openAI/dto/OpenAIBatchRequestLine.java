@@ -0,0 +1,20 @@
+package com.example.moodwriter.global.openAI.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 배치 입력 파일(JSONL)의 한 줄. custom_id 로 결과 파일의 응답과 요청을 짝지음
+ */
+@Getter
+@Builder
+public class OpenAIBatchRequestLine {
+
+  @JsonProperty("custom_id")
+  private String customId;
+
+  private String method;
+  private String url;
+  private OpenAIRequest body;
+}
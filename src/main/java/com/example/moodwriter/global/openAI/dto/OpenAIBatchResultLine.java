@@ -0,0 +1,47 @@
+package com.example.moodwriter.global.openAI.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 결과 파일(JSONL)의 한 줄. 요청이 성공하면 response.body 에 일반 호출과 같은 형태의 응답이 담김
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OpenAIBatchResultLine {
+
+  @JsonProperty("custom_id")
+  private String customId;
+
+  private Response response;
+  private Error error;
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class Response {
+    @JsonProperty("status_code")
+    private int statusCode;
+
+    private OpenAIResponse body;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class Error {
+    private String code;
+    private String message;
+  }
+}
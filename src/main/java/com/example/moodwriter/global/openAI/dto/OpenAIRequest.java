@@ -1,5 +1,7 @@
 package com.example.moodwriter.global.openAI.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,10 +13,40 @@ public class OpenAIRequest {
   private String model;
   private List<Message> messages;
 
+  @JsonProperty("response_format")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private ResponseFormat responseFormat;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Boolean stream;
+
+  @JsonProperty("stream_options")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private StreamOptions streamOptions;
+
   @Getter
   @Builder
   public static class Message {
     private String role;
     private String content;
   }
+
+  /**
+   * type 이 json_object 이면 응답 본문을 유효한 JSON 으로만 작성하도록 강제
+   */
+  @Getter
+  @Builder
+  public static class ResponseFormat {
+    private String type;
+  }
+
+  /**
+   * include_usage 가 true 이면 스트림의 마지막 조각에 토큰 사용량이 포함됨
+   */
+  @Getter
+  @Builder
+  public static class StreamOptions {
+    @JsonProperty("include_usage")
+    private Boolean includeUsage;
+  }
 }
@@ -0,0 +1,46 @@
+package com.example.moodwriter.global.openAI.dto;
+
+import com.example.moodwriter.global.openAI.dto.OpenAIResponse.Usage;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * stream=true 로 호출했을 때 data: 줄마다 오는 응답 조각. 내용은 delta 로 조금씩 전달됨
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OpenAIStreamChunk {
+
+  private List<Choice> choices;
+  private Usage usage;
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class Choice {
+    private int index;
+    private Delta delta;
+
+    @JsonProperty("finish_reason")
+    private String finishReason;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class Delta {
+    private String content;
+  }
+}
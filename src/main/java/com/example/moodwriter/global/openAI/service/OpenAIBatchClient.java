@@ -0,0 +1,160 @@
+package com.example.moodwriter.global.openAI.service;
+
+import static com.example.moodwriter.global.exception.code.ErrorCode.FAIL_TO_CONNECT_WITH_OPEN_AI;
+import static com.example.moodwriter.global.exception.code.ErrorCode.JSON_PARSE_ERROR;
+import static com.example.moodwriter.global.exception.code.ErrorCode.OPEN_AI_RETURN_UNEXPECTED_RESPONSE;
+
+import com.example.moodwriter.global.constant.OpenAIModel;
+import com.example.moodwriter.global.exception.CustomException;
+import com.example.moodwriter.global.openAI.dto.OpenAIBatch;
+import com.example.moodwriter.global.openAI.dto.OpenAIBatchRequest;
+import com.example.moodwriter.global.openAI.dto.OpenAIBatchRequestLine;
+import com.example.moodwriter.global.openAI.dto.OpenAIBatchResultLine;
+import com.example.moodwriter.global.openAI.dto.OpenAIFile;
+import com.example.moodwriter.global.openAI.dto.OpenAIRequest;
+import com.example.moodwriter.global.openAI.exception.OpenAIException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.BufferedSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * OpenAI 호환 배치 API 클라이언트. 요청을 JSONL 파일로 올려 배치를 만들고, 끝난 배치의 결과 파일을 한 줄씩 읽음.
+ * 응답을 바로 받지 않는 대신 일반 호출보다 비용이 낮아 야간 일괄 분석에 사용
+ */
+@Service
+@RequiredArgsConstructor
+public class OpenAIBatchClient {
+
+  private static final String CHAT_COMPLETIONS_ENDPOINT = "/v1/chat/completions";
+  private static final String COMPLETION_WINDOW = "24h";
+  private static final String FILE_PURPOSE = "batch";
+  private static final String INPUT_FILE_NAME = "emotion-analysis-batch.jsonl";
+
+  private final OkHttpClient okHttpClient;
+  private final ObjectMapper objectMapper;
+
+  @Value("${cloud.open-ai.secret-key}")
+  private String apiKey;
+
+  @Value("${cloud.open-ai.batch.url:https://api.openai.com/v1}")
+  private String batchApiUrl;
+
+  private final String role = "user";
+
+  public OpenAIBatchRequestLine createRequestLine(String customId, String content,
+      OpenAIModel model) {
+    return OpenAIBatchRequestLine.builder()
+        .customId(customId)
+        .method("POST")
+        .url(CHAT_COMPLETIONS_ENDPOINT)
+        .body(OpenAIRequest.builder()
+            .model(model.getModel())
+            .messages(Collections.singletonList(OpenAIRequest.Message.builder()
+                .role(role)
+                .content(content)
+                .build()))
+            .build())
+        .build();
+  }
+
+  /**
+   * 요청을 JSONL 입력 파일로 올린 뒤 그 파일로 배치를 생성
+   */
+  public OpenAIBatch createBatch(List<OpenAIBatchRequestLine> requestLines) {
+    StringBuilder jsonl = new StringBuilder();
+    for (OpenAIBatchRequestLine requestLine : requestLines) {
+      jsonl.append(toJson(requestLine)).append('\n');
+    }
+
+    RequestBody fileBody = new MultipartBody.Builder()
+        .setType(MultipartBody.FORM)
+        .addFormDataPart("purpose", FILE_PURPOSE)
+        .addFormDataPart("file", INPUT_FILE_NAME, RequestBody.create(
+            jsonl.toString().getBytes(StandardCharsets.UTF_8),
+            MediaType.parse("application/jsonl")))
+        .build();
+    OpenAIFile inputFile = execute(createHttpRequest("/files").post(fileBody).build(),
+        OpenAIFile.class);
+
+    OpenAIBatchRequest batchRequest = OpenAIBatchRequest.builder()
+        .inputFileId(inputFile.getId())
+        .endpoint(CHAT_COMPLETIONS_ENDPOINT)
+        .completionWindow(COMPLETION_WINDOW)
+        .build();
+    return execute(createHttpRequest("/batches")
+        .post(RequestBody.create(toJson(batchRequest), MediaType.parse("application/json")))
+        .build(), OpenAIBatch.class);
+  }
+
+  public OpenAIBatch getBatch(String batchId) {
+    return execute(createHttpRequest("/batches/" + batchId).get().build(), OpenAIBatch.class);
+  }
+
+  /**
+   * 결과 파일을 내려받으면서 한 줄씩 onLine 으로 전달. 파일 전체를 메모리에 올리지 않음
+   */
+  public void readResultFile(String fileId, Consumer<OpenAIBatchResultLine> onLine) {
+    Request request = createHttpRequest("/files/" + fileId + "/content").get().build();
+
+    try (Response response = okHttpClient.newCall(request).execute()) {
+      if (!response.isSuccessful() || response.body() == null) {
+        throw new OpenAIException(OPEN_AI_RETURN_UNEXPECTED_RESPONSE);
+      }
+
+      BufferedSource source = response.body().source();
+      String line;
+      while ((line = source.readUtf8Line()) != null) {
+        if (line.isBlank()) {
+          continue;
+        }
+        onLine.accept(objectMapper.readValue(line, OpenAIBatchResultLine.class));
+      }
+    } catch (JsonProcessingException e) {
+      throw new CustomException(JSON_PARSE_ERROR);
+    } catch (IOException e) {
+      throw new OpenAIException(FAIL_TO_CONNECT_WITH_OPEN_AI);
+    }
+  }
+
+  private <T> T execute(Request request, Class<T> responseType) {
+    try (Response response = okHttpClient.newCall(request).execute()) {
+      if (!response.isSuccessful() || response.body() == null) {
+        throw new OpenAIException(OPEN_AI_RETURN_UNEXPECTED_RESPONSE);
+      }
+
+      return objectMapper.readValue(response.body().string(), responseType);
+    } catch (JsonProcessingException e) {
+      throw new CustomException(JSON_PARSE_ERROR);
+    } catch (IOException e) {
+      throw new OpenAIException(FAIL_TO_CONNECT_WITH_OPEN_AI);
+    }
+  }
+
+  private Request.Builder createHttpRequest(String path) {
+    return new Request.Builder()
+        .url(batchApiUrl + path)
+        .addHeader("Authorization", "Bearer " + apiKey);
+  }
+
+  private String toJson(Object value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new CustomException(JSON_PARSE_ERROR);
+    }
+  }
+}
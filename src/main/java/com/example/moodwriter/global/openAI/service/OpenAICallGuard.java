@@ -0,0 +1,225 @@
+package com.example.moodwriter.global.openAI.service;
+
+import static com.example.moodwriter.global.exception.code.ErrorCode.OPEN_AI_CIRCUIT_OPEN;
+import static com.example.moodwriter.global.exception.code.ErrorCode.OPEN_AI_CONCURRENCY_LIMIT_EXCEEDED;
+
+import com.example.moodwriter.global.constant.OpenAIModel;
+import com.example.moodwriter.global.openAI.exception.OpenAIException;
+import com.example.moodwriter.global.openAI.service.OpenAICircuitBreaker.Permit;
+import com.example.moodwriter.global.openAI.service.OpenAICircuitBreaker.State;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * OpenAI 호출을 회로 차단기, 벌크헤드, 적응형 동시 호출 한도 순서로 감싸는 보호 계층.
+ * OpenAI 가 느려져도 응답을 기다리는 스레드 수가 한도를 넘지 않도록 하고, 한도를 넘거나 회로가 열려 있으면
+ * 기다리지 않고 바로 OpenAIException 을 던짐. 각 상태는 openai.circuit.*, openai.bulkhead.*,
+ * openai.limit.* 지표로 노출
+ */
+@Slf4j
+@Service
+public class OpenAICallGuard {
+
+  private static final String RESULT_SUCCESS = "success";
+  private static final String RESULT_FAILURE = "failure";
+  private static final String RESULT_IGNORED = "ignored";
+  private static final long NO_LATENCY_THRESHOLD = -1;
+
+  private final Semaphore bulkhead;
+  private final long bulkheadMaxWaitNanos;
+  private final OpenAICircuitBreaker circuitBreaker;
+  private final OpenAIConcurrencyLimiter concurrencyLimiter;
+  private final Map<OpenAIModel, Long> latencyThresholdNanos = new EnumMap<>(OpenAIModel.class);
+  private final MeterRegistry meterRegistry;
+
+  public OpenAICallGuard(MeterRegistry meterRegistry,
+      @Value("${cloud.open-ai.resilience.bulkhead.max-concurrent-calls:20}")
+      int maxConcurrentCalls,
+      @Value("${cloud.open-ai.resilience.bulkhead.max-wait:0ms}") Duration bulkheadMaxWait,
+      @Value("${cloud.open-ai.resilience.circuit-breaker.window-size:20}") int windowSize,
+      @Value("${cloud.open-ai.resilience.circuit-breaker.failure-rate-threshold:50}")
+      int failureRateThreshold,
+      @Value("${cloud.open-ai.resilience.circuit-breaker.open-duration:30s}")
+      Duration openDuration,
+      @Value("${cloud.open-ai.resilience.limit.initial:10}") int initialLimit,
+      @Value("${cloud.open-ai.resilience.limit.min:2}") int minLimit,
+      @Value("${cloud.open-ai.resilience.limit.latency-threshold.gpt-3-5-turbo:15s}")
+      Duration gpt35TurboLatencyThreshold,
+      @Value("${cloud.open-ai.resilience.limit.latency-threshold.gpt-4o-mini:45s}")
+      Duration gpt4oMiniLatencyThreshold,
+      @Value("${cloud.open-ai.resilience.limit.latency-threshold.gpt-4o:60s}")
+      Duration gpt4oLatencyThreshold,
+      @Value("${cloud.open-ai.resilience.limit.backoff-ratio:0.9}") double backoffRatio) {
+    this.meterRegistry = meterRegistry;
+    this.bulkhead = new Semaphore(maxConcurrentCalls);
+    this.bulkheadMaxWaitNanos = bulkheadMaxWait.toNanos();
+    this.circuitBreaker = new OpenAICircuitBreaker(windowSize, failureRateThreshold,
+        openDuration);
+    this.concurrencyLimiter = new OpenAIConcurrencyLimiter(initialLimit, minLimit,
+        maxConcurrentCalls, backoffRatio);
+    latencyThresholdNanos.put(OpenAIModel.GPT_3_5_TURBO, gpt35TurboLatencyThreshold.toNanos());
+    latencyThresholdNanos.put(OpenAIModel.GPT_4O_MINI, gpt4oMiniLatencyThreshold.toNanos());
+    latencyThresholdNanos.put(OpenAIModel.GPT_4O, gpt4oLatencyThreshold.toNanos());
+
+    Gauge.builder("openai.circuit.state", circuitBreaker,
+            breaker -> breaker.getState().ordinal())
+        .description("0 : CLOSED, 1 : OPEN, 2 : HALF_OPEN")
+        .register(meterRegistry);
+    Gauge.builder("openai.bulkhead.available", bulkhead, Semaphore::availablePermits)
+        .register(meterRegistry);
+    Gauge.builder("openai.bulkhead.max", () -> maxConcurrentCalls)
+        .register(meterRegistry);
+    Gauge.builder("openai.limit.current", concurrencyLimiter,
+            OpenAIConcurrencyLimiter::getLimit)
+        .register(meterRegistry);
+    Gauge.builder("openai.limit.in.flight", concurrencyLimiter,
+            OpenAIConcurrencyLimiter::getInFlight)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 보호 계층을 통과한 경우에만 call 을 실행. call 이 OpenAIException 을 던지면 실패로 집계하며,
+   * 그 밖의 예외(응답 파싱 오류 등)는 OpenAI 상태와 무관하므로 집계하지 않음. 응답 시간이 model 의 기준을
+   * 넘으면 동시 호출 한도를 줄임
+   */
+  public <T> T execute(OpenAIModel model, Supplier<T> call) {
+    return execute(latencyThresholdNanos.get(model), call);
+  }
+
+  /**
+   * 스트리밍 호출용 execute. 전체 시간은 생성한 내용의 길이에 따라 늘어나므로 응답 시간으로는 한도를 줄이지 않고
+   * 실패만 집계함
+   */
+  public <T> T executeStreaming(Supplier<T> call) {
+    return execute(NO_LATENCY_THRESHOLD, call);
+  }
+
+  /**
+   * execute 의 비동기 버전. 허가는 call 이 돌려준 future 가 끝날 때 반납하므로, 응답을 기다리는 동안에도
+   * 동시 호출 수에 포함됨. 회로가 열려 있거나 한도를 넘은 경우도 예외를 던지지 않고 실패한 future 로 반환하므로
+   * 호출하는 쪽은 future 의 실패만 처리하면 됨
+   */
+  public <T> CompletableFuture<T> executeAsync(OpenAIModel model,
+      Supplier<CompletableFuture<T>> call) {
+    long thresholdNanos = latencyThresholdNanos.get(model);
+    Permit permit;
+    try {
+      permit = acquire();
+    } catch (OpenAIException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    long start = System.nanoTime();
+    CompletableFuture<T> future;
+    try {
+      future = call.get();
+    } catch (RuntimeException e) {
+      release(permit, e instanceof OpenAIException ? RESULT_FAILURE : RESULT_IGNORED,
+          System.nanoTime() - start, thresholdNanos);
+      return CompletableFuture.failedFuture(e);
+    }
+
+    return future.whenComplete((value, throwable) -> {
+      Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+          ? throwable.getCause() : throwable;
+      String result = cause == null ? RESULT_SUCCESS
+          : cause instanceof OpenAIException ? RESULT_FAILURE : RESULT_IGNORED;
+      release(permit, result, System.nanoTime() - start, thresholdNanos);
+    });
+  }
+
+  private <T> T execute(long thresholdNanos, Supplier<T> call) {
+    Permit permit = acquire();
+
+    long start = System.nanoTime();
+    String result = RESULT_IGNORED;
+    try {
+      T value = call.get();
+      result = RESULT_SUCCESS;
+      return value;
+    } catch (OpenAIException e) {
+      result = RESULT_FAILURE;
+      throw e;
+    } finally {
+      release(permit, result, System.nanoTime() - start, thresholdNanos);
+    }
+  }
+
+  private Permit acquire() {
+    Permit permit = circuitBreaker.tryAcquire().orElseThrow(() -> {
+      reject("circuit_open");
+      return new OpenAIException(OPEN_AI_CIRCUIT_OPEN);
+    });
+
+    if (!acquireBulkhead()) {
+      circuitBreaker.onIgnored(permit);
+      reject("bulkhead_full");
+      throw new OpenAIException(OPEN_AI_CONCURRENCY_LIMIT_EXCEEDED);
+    }
+
+    if (!concurrencyLimiter.tryAcquire()) {
+      bulkhead.release();
+      circuitBreaker.onIgnored(permit);
+      reject("limit_exceeded");
+      throw new OpenAIException(OPEN_AI_CONCURRENCY_LIMIT_EXCEEDED);
+    }
+    return permit;
+  }
+
+  private void release(Permit permit, String result, long latencyNanos,
+      long thresholdNanos) {
+    concurrencyLimiter.release(latencyNanos, thresholdNanos, RESULT_FAILURE.equals(result));
+    bulkhead.release();
+    onCallFinished(permit, result, latencyNanos);
+  }
+
+  private boolean acquireBulkhead() {
+    if (bulkheadMaxWaitNanos <= 0) {
+      return bulkhead.tryAcquire();
+    }
+
+    try {
+      return bulkhead.tryAcquire(bulkheadMaxWaitNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void onCallFinished(Permit permit, String result, long latencyNanos) {
+    State before = circuitBreaker.getState();
+    switch (result) {
+      case RESULT_SUCCESS -> circuitBreaker.onSuccess(permit);
+      case RESULT_FAILURE -> circuitBreaker.onFailure(permit);
+      default -> circuitBreaker.onIgnored(permit);
+    }
+
+    State after = circuitBreaker.getState();
+    if (before != after) {
+      log.warn("OpenAI circuit breaker state changed. {} -> {}", before, after);
+      Counter.builder("openai.circuit.transitions").tag("state", after.name())
+          .register(meterRegistry).increment();
+    }
+
+    Timer.builder("openai.call.latency").tag("result", result)
+        .register(meterRegistry).record(latencyNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private void reject(String reason) {
+    Counter.builder("openai.calls.rejected").tag("reason", reason)
+        .register(meterRegistry).increment();
+  }
+}
@@ -0,0 +1,144 @@
+package com.example.moodwriter.global.openAI.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 최근 windowSize 번 호출의 실패율로 동작하는 회로 차단기. 실패율이 기준을 넘으면 openDuration 동안 호출을
+ * 막고(OPEN), 그 뒤 한 번의 시험 호출(HALF_OPEN) 결과로 다시 닫거나 열어 둠
+ */
+public class OpenAICircuitBreaker {
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private final boolean[] failures;
+  private final int failureRateThreshold;
+  private final long openDurationNanos;
+
+  private State state = State.CLOSED;
+  private int recordedCalls;
+  private int failureCount;
+  private int nextIndex;
+  private long openedAt;
+  private boolean trialCallInFlight;
+  private long generation;
+
+  public OpenAICircuitBreaker(int windowSize, int failureRateThreshold, Duration openDuration) {
+    this.failures = new boolean[windowSize];
+    this.failureRateThreshold = failureRateThreshold;
+    this.openDurationNanos = openDuration.toNanos();
+  }
+
+  /**
+   * 호출해도 되는지 확인하고 허가를 반환. OPEN 상태에서 openDuration 이 지났으면 HALF_OPEN 으로 바꾸고 시험
+   * 호출 하나에만 trial 허가를 줌. 허가에는 발급 당시의 상태 세대가 들어 있어서, 상태가 바뀐 뒤에 끝난 호출의
+   * 결과는 집계하지 않음
+   */
+  public synchronized Optional<Permit> tryAcquire() {
+    if (state == State.OPEN) {
+      if (System.nanoTime() - openedAt < openDurationNanos) {
+        return Optional.empty();
+      }
+      state = State.HALF_OPEN;
+      generation++;
+    }
+
+    if (state == State.HALF_OPEN) {
+      if (trialCallInFlight) {
+        return Optional.empty();
+      }
+      trialCallInFlight = true;
+      return Optional.of(new Permit(generation, true));
+    }
+    return Optional.of(new Permit(generation, false));
+  }
+
+  /**
+   * HALF_OPEN 상태는 시험 호출의 결과로만 벗어남
+   */
+  public synchronized void onSuccess(Permit permit) {
+    if (isStale(permit)) {
+      return;
+    }
+    if (permit.trial()) {
+      close();
+      return;
+    }
+    record(false);
+  }
+
+  public synchronized void onFailure(Permit permit) {
+    if (isStale(permit)) {
+      return;
+    }
+    if (permit.trial()) {
+      open();
+      return;
+    }
+    record(true);
+
+    if (recordedCalls == failures.length
+        && failureCount * 100 >= failureRateThreshold * recordedCalls) {
+      open();
+    }
+  }
+
+  /**
+   * 허가받은 호출이 결과를 판단하지 못한 채 끝났을 때 호출. 지금의 시험 호출이었다면 다음 호출이 다시 시험할 수
+   * 있도록 함
+   */
+  public synchronized void onIgnored(Permit permit) {
+    if (!isStale(permit) && permit.trial()) {
+      trialCallInFlight = false;
+    }
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  private boolean isStale(Permit permit) {
+    return permit.generation() != generation;
+  }
+
+  private void record(boolean failed) {
+    if (recordedCalls == failures.length) {
+      if (failures[nextIndex]) {
+        failureCount--;
+      }
+    } else {
+      recordedCalls++;
+    }
+
+    failures[nextIndex] = failed;
+    if (failed) {
+      failureCount++;
+    }
+    nextIndex = (nextIndex + 1) % failures.length;
+  }
+
+  private void open() {
+    state = State.OPEN;
+    openedAt = System.nanoTime();
+    trialCallInFlight = false;
+    generation++;
+  }
+
+  private void close() {
+    state = State.CLOSED;
+    recordedCalls = 0;
+    failureCount = 0;
+    nextIndex = 0;
+    trialCallInFlight = false;
+    generation++;
+  }
+
+  /**
+   * generation 은 허가를 발급할 때의 상태 세대, trial 은 HALF_OPEN 의 시험 호출 여부
+   */
+  public record Permit(long generation, boolean trial) {
+
+  }
+}
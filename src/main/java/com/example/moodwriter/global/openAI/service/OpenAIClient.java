@@ -2,24 +2,35 @@ package com.example.moodwriter.global.openAI.service;
 
 import static com.example.moodwriter.global.exception.code.ErrorCode.FAIL_TO_CONNECT_WITH_OPEN_AI;
 import static com.example.moodwriter.global.exception.code.ErrorCode.JSON_PARSE_ERROR;
+import static com.example.moodwriter.global.exception.code.ErrorCode.OPEN_AI_REJECTED_REQUEST;
 import static com.example.moodwriter.global.exception.code.ErrorCode.OPEN_AI_RETURN_UNEXPECTED_RESPONSE;
 
 import com.example.moodwriter.global.constant.OpenAIModel;
 import com.example.moodwriter.global.exception.CustomException;
 import com.example.moodwriter.global.openAI.dto.OpenAIRequest;
 import com.example.moodwriter.global.openAI.dto.OpenAIRequest.Message;
+import com.example.moodwriter.global.openAI.dto.OpenAIRequest.ResponseFormat;
+import com.example.moodwriter.global.openAI.dto.OpenAIRequest.StreamOptions;
 import com.example.moodwriter.global.openAI.dto.OpenAIResponse;
+import com.example.moodwriter.global.openAI.dto.OpenAIResponse.Usage;
+import com.example.moodwriter.global.openAI.dto.OpenAIStreamChunk;
 import com.example.moodwriter.global.openAI.exception.OpenAIException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okio.BufferedSource;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -27,8 +38,12 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class OpenAIClient {
 
+  private static final String STREAM_DATA_PREFIX = "data:";
+  private static final String STREAM_DONE = "[DONE]";
+
   private final OkHttpClient okHttpClient;
   private final ObjectMapper objectMapper;
+  private final OpenAICallGuard openAICallGuard;
 
   @Value("${cloud.open-ai.secret-key}")
   private String apiKey;
@@ -39,17 +54,186 @@ public class OpenAIClient {
   private final String role = "user";
 
   public OpenAIResponse callOpenAI(String diaryContent, OpenAIModel model) {
+    return call(diaryContent, model, null);
+  }
 
-    OpenAIRequest.Message message = Message.builder()
-        .role(role)
-        .content(diaryContent)
-        .build();
+  /**
+   * JSON 모드로 호출. 응답 내용이 항상 JSON 객체로 작성되므로 형식이 정해진 응답을 요청할 때 사용
+   */
+  public OpenAIResponse callOpenAIForJson(String diaryContent, OpenAIModel model) {
+    return call(diaryContent, model, ResponseFormat.builder().type("json_object").build());
+  }
+
+  /**
+   * callOpenAI 의 비동기 버전. OkHttp enqueue 로 요청을 보내고 바로 반환하므로 호출한 스레드는 응답을 기다리지 않음.
+   * 응답 처리와 future 완료는 OkHttp Dispatcher 스레드에서 실행됨
+   */
+  public CompletableFuture<OpenAIResponse> callOpenAIAsync(String diaryContent,
+      OpenAIModel model) {
+    OpenAIRequest request = createRequest(diaryContent, model, null);
+
+    return openAICallGuard.executeAsync(model, () -> enqueue(request));
+  }
 
+  /**
+   * stream=true 로 호출해 내용이 도착하는 대로 onDelta 로 전달. 스트림이 끝나면 모은 내용과 토큰 사용량을
+   * 일반 호출과 같은 형태로 반환
+   */
+  public OpenAIResponse streamOpenAI(String diaryContent, OpenAIModel model,
+      Consumer<String> onDelta) {
     OpenAIRequest request = OpenAIRequest.builder()
         .model(model.getModel())
-        .messages(Collections.singletonList(message))
+        .messages(Collections.singletonList(createMessage(diaryContent)))
+        .stream(true)
+        .streamOptions(StreamOptions.builder().includeUsage(true).build())
         .build();
 
+    return openAICallGuard.executeStreaming(() -> stream(request, model, onDelta));
+  }
+
+  private OpenAIResponse stream(OpenAIRequest request, OpenAIModel model,
+      Consumer<String> onDelta) {
+    try (Response response = okHttpClient.newCall(createHttpRequest(request)).execute()) {
+      checkResponse(response);
+
+      BufferedSource source = response.body().source();
+      StringBuilder content = new StringBuilder();
+      String finishReason = null;
+      Usage usage = null;
+
+      String line;
+      while ((line = source.readUtf8Line()) != null) {
+        if (!line.startsWith(STREAM_DATA_PREFIX)) {
+          continue;
+        }
+
+        String data = line.substring(STREAM_DATA_PREFIX.length()).strip();
+        if (STREAM_DONE.equals(data)) {
+          break;
+        }
+
+        OpenAIStreamChunk chunk = objectMapper.readValue(data, OpenAIStreamChunk.class);
+        if (chunk.getUsage() != null) {
+          usage = chunk.getUsage();
+        }
+        if (chunk.getChoices() == null || chunk.getChoices().isEmpty()) {
+          continue;
+        }
+
+        OpenAIStreamChunk.Choice choice = chunk.getChoices().get(0);
+        if (choice.getFinishReason() != null) {
+          finishReason = choice.getFinishReason();
+        }
+        if (choice.getDelta() != null && choice.getDelta().getContent() != null
+            && !choice.getDelta().getContent().isEmpty()) {
+          content.append(choice.getDelta().getContent());
+          onDelta.accept(choice.getDelta().getContent());
+        }
+      }
+
+      return OpenAIResponse.builder()
+          .model(model.getModel())
+          .choices(Collections.singletonList(OpenAIResponse.Choice.builder()
+              .message(OpenAIResponse.Message.builder()
+                  .role("assistant")
+                  .content(content.toString())
+                  .build())
+              .finishReason(finishReason)
+              .build()))
+          .usage(usage)
+          .build();
+    } catch (IOException e) {
+      throw new OpenAIException(FAIL_TO_CONNECT_WITH_OPEN_AI);
+    }
+  }
+
+  private OpenAIResponse call(String diaryContent, OpenAIModel model,
+      ResponseFormat responseFormat) {
+    OpenAIRequest request = createRequest(diaryContent, model, responseFormat);
+
+    return openAICallGuard.execute(model, () -> execute(request));
+  }
+
+  private OpenAIResponse execute(OpenAIRequest request) {
+    try (Response response = okHttpClient.newCall(createHttpRequest(request)).execute()) {
+      return readResponse(response);
+    } catch (IOException e) {
+      throw new OpenAIException(FAIL_TO_CONNECT_WITH_OPEN_AI);
+    }
+
+  }
+
+  private CompletableFuture<OpenAIResponse> enqueue(OpenAIRequest request) {
+    CompletableFuture<OpenAIResponse> future = new CompletableFuture<>();
+    Call call = okHttpClient.newCall(createHttpRequest(request));
+
+    call.enqueue(new Callback() {
+      @Override
+      public void onFailure(Call call, IOException e) {
+        future.completeExceptionally(new OpenAIException(FAIL_TO_CONNECT_WITH_OPEN_AI));
+      }
+
+      @Override
+      public void onResponse(Call call, Response response) {
+        try (response) {
+          future.complete(readResponse(response));
+        } catch (IOException e) {
+          future.completeExceptionally(new OpenAIException(FAIL_TO_CONNECT_WITH_OPEN_AI));
+        } catch (RuntimeException e) {
+          future.completeExceptionally(e);
+        }
+      }
+    });
+
+    // 호출한 쪽에서 future 를 취소하면 진행 중인 요청도 취소
+    future.whenComplete((response, e) -> {
+      if (future.isCancelled()) {
+        call.cancel();
+      }
+    });
+    return future;
+  }
+
+  private OpenAIResponse readResponse(Response response) throws IOException {
+    checkResponse(response);
+
+    try (JsonParser parser = objectMapper.createParser(response.body().byteStream())) {
+      return OpenAIResponseReader.read(parser);
+    }
+  }
+
+  /**
+   * 429 와 5xx 는 OpenAI 쪽 장애로 보고 OpenAIException 을 던져 회로 차단기와 동시 호출 한도에 실패로 집계.
+   * 그 밖의 4xx 는 요청 자체의 문제이므로 실패로 집계되지 않도록 CustomException 을 던짐
+   */
+  private void checkResponse(Response response) {
+    if (response.isSuccessful() && response.body() != null) {
+      return;
+    }
+
+    if (response.isSuccessful() || response.code() == 429 || response.code() >= 500) {
+      throw new OpenAIException(OPEN_AI_RETURN_UNEXPECTED_RESPONSE);
+    }
+    throw new CustomException(OPEN_AI_REJECTED_REQUEST);
+  }
+
+  private OpenAIRequest createRequest(String diaryContent, OpenAIModel model,
+      ResponseFormat responseFormat) {
+    return OpenAIRequest.builder()
+        .model(model.getModel())
+        .messages(Collections.singletonList(createMessage(diaryContent)))
+        .responseFormat(responseFormat)
+        .build();
+  }
+
+  private OpenAIRequest.Message createMessage(String diaryContent) {
+    return Message.builder()
+        .role(role)
+        .content(diaryContent)
+        .build();
+  }
+
+  private Request createHttpRequest(OpenAIRequest request) {
     String jsonBody = null;
     try {
       jsonBody = objectMapper.writeValueAsString(request);
@@ -60,23 +244,10 @@ public class OpenAIClient {
     RequestBody requestBody = RequestBody.create(jsonBody,
         MediaType.parse("application/json"));
 
-    Request httpRequest = new Request.Builder()
+    return new Request.Builder()
         .url(apiUrl)
         .addHeader("Authorization", "Bearer " + apiKey)
         .post(requestBody)
         .build();
-
-    try (Response response = okHttpClient.newCall(httpRequest).execute()) {
-      if (!response.isSuccessful() || response.body() == null) {
-        throw new OpenAIException(OPEN_AI_RETURN_UNEXPECTED_RESPONSE);
-      }
-
-      String responseBody = response.body().string();
-
-      return objectMapper.readValue(responseBody, OpenAIResponse.class);
-    } catch (IOException e) {
-      throw new OpenAIException(FAIL_TO_CONNECT_WITH_OPEN_AI);
-    }
-
   }
 }
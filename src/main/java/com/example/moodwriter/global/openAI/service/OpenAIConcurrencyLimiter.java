@@ -0,0 +1,58 @@
+package com.example.moodwriter.global.openAI.service;
+
+/**
+ * 관측한 응답 시간으로 동시 호출 한도를 조절하는 AIMD 리미터. 느린 응답이나 실패가 나오면 한도를 backoffRatio
+ * 만큼 곱해서 줄이고, 한도 가까이 사용 중일 때 정상 응답이 오면 1 씩 늘림. 느린 응답의 기준은 모델마다 다르므로
+ * 호출할 때 받음
+ */
+public class OpenAIConcurrencyLimiter {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+
+  private double limit;
+  private int inFlight;
+
+  public OpenAIConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+      double backoffRatio) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.backoffRatio = backoffRatio;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+  }
+
+  public synchronized boolean tryAcquire() {
+    if (inFlight >= getLimit()) {
+      return false;
+    }
+    inFlight++;
+    return true;
+  }
+
+  /**
+   * 호출이 끝나면 반드시 호출. dropped 는 실패나 시간 초과처럼 상대 서버가 과부하임을 나타내는 결과이며,
+   * latencyThresholdNanos 가 음수이면 스트리밍처럼 전체 시간이 응답 속도를 나타내지 않는 호출이므로 응답
+   * 시간으로는 한도를 줄이지 않음
+   */
+  public synchronized void release(long latencyNanos, long latencyThresholdNanos,
+      boolean dropped) {
+    int inFlightBeforeRelease = inFlight;
+    inFlight--;
+
+    boolean slow = latencyThresholdNanos >= 0 && latencyNanos > latencyThresholdNanos;
+    if (dropped || slow) {
+      limit = Math.max(minLimit, limit * backoffRatio);
+    } else if (inFlightBeforeRelease * 2 >= getLimit()) {
+      limit = Math.min(maxLimit, limit + 1);
+    }
+  }
+
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+}
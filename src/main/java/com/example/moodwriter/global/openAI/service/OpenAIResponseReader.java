@@ -0,0 +1,130 @@
+package com.example.moodwriter.global.openAI.service;
+
+import com.example.moodwriter.global.openAI.dto.OpenAIResponse;
+import com.example.moodwriter.global.openAI.dto.OpenAIResponse.Choice;
+import com.example.moodwriter.global.openAI.dto.OpenAIResponse.Message;
+import com.example.moodwriter.global.openAI.dto.OpenAIResponse.Usage;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Chat Completions 응답 본문을 문자열로 만들지 않고 스트리밍 파서로 읽는 유틸. 서비스에서 사용하는
+ * choices[0] 의 message, finish_reason 과 usage 토큰 수만 읽고 나머지 필드와 choices 는 건너뜀
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class OpenAIResponseReader {
+
+  public static OpenAIResponse read(JsonParser parser) throws IOException {
+    expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+    OpenAIResponse.OpenAIResponseBuilder builder = OpenAIResponse.builder();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      JsonToken token = parser.nextToken();
+
+      switch (fieldName) {
+        case "id" -> builder.id(parser.getValueAsString());
+        case "model" -> builder.model(parser.getValueAsString());
+        case "choices" -> builder.choices(readFirstChoice(parser, token));
+        case "usage" -> builder.usage(readUsage(parser, token));
+        default -> parser.skipChildren();
+      }
+    }
+
+    return builder.build();
+  }
+
+  private static List<Choice> readFirstChoice(JsonParser parser, JsonToken token)
+      throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    expect(parser, token, JsonToken.START_ARRAY);
+
+    Choice choice = null;
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      if (choice == null) {
+        choice = readChoice(parser);
+      } else {
+        parser.skipChildren();
+      }
+    }
+
+    return choice == null ? Collections.emptyList() : Collections.singletonList(choice);
+  }
+
+  private static Choice readChoice(JsonParser parser) throws IOException {
+    Choice.ChoiceBuilder builder = Choice.builder();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      JsonToken token = parser.nextToken();
+
+      switch (fieldName) {
+        case "index" -> builder.index(parser.getValueAsInt());
+        case "message" -> builder.message(readMessage(parser, token));
+        case "finish_reason" -> builder.finishReason(parser.getValueAsString());
+        default -> parser.skipChildren();
+      }
+    }
+    return builder.build();
+  }
+
+  private static Message readMessage(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    expect(parser, token, JsonToken.START_OBJECT);
+
+    Message.MessageBuilder builder = Message.builder();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      parser.nextToken();
+
+      switch (fieldName) {
+        case "role" -> builder.role(parser.getValueAsString());
+        case "content" -> builder.content(parser.getValueAsString());
+        default -> parser.skipChildren();
+      }
+    }
+    return builder.build();
+  }
+
+  private static Usage readUsage(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    expect(parser, token, JsonToken.START_OBJECT);
+
+    Usage.UsageBuilder builder = Usage.builder();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      parser.nextToken();
+
+      switch (fieldName) {
+        case "prompt_tokens" -> builder.promptTokens(readInteger(parser));
+        case "completion_tokens" -> builder.completionTokens(readInteger(parser));
+        case "total_tokens" -> builder.totalTokens(readInteger(parser));
+        default -> parser.skipChildren();
+      }
+    }
+    return builder.build();
+  }
+
+  private static Integer readInteger(JsonParser parser) throws IOException {
+    return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+  }
+
+  private static void expect(JsonParser parser, JsonToken actual, JsonToken expected)
+      throws JsonParseException {
+    if (actual != expected) {
+      throw new JsonParseException(parser,
+          "Expected " + expected + " but was " + actual);
+    }
+  }
+}
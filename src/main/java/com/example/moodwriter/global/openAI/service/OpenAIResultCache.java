@@ -0,0 +1,259 @@
+package com.example.moodwriter.global.openAI.service;
+
+import com.example.moodwriter.global.constant.OpenAIModel;
+import com.example.moodwriter.global.constant.OpenAIRequestSentence;
+import com.example.moodwriter.global.openAI.dto.OpenAIResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+/**
+ * OpenAI 분석 결과 캐시. (모델, 프롬프트, 일기 내용의 SHA-256) 을 키로 파싱된 결과를 저장하므로
+ * 내용을 바꾸지 않고 다시 분석하면 OpenAI 를 호출하지 않음. 적중할 때마다 아낀 토큰 수와 원래 호출 시간을 기록
+ */
+@Service
+public class OpenAIResultCache {
+
+  public static final String CACHE_NAME = "openAIResult";
+
+  private final Cache cache;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, CompletableFuture<CachedResult>> inFlight =
+      new ConcurrentHashMap<>();
+
+  public OpenAIResultCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+    this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * 저장된 결과가 있으면 반환하고, 없으면 loader 로 OpenAI 를 호출해 저장. 같은 키를 동시에 요청하면 먼저 온 요청만
+   * 호출하고 나머지는 그 결과를 기다림. 캐시 자체에는 잠금 없이 get, put 만 하므로 호출하는 동안 다른 키의 조회를
+   * 막지 않음
+   */
+  public <T extends Serializable> T get(OpenAIModel model, OpenAIRequestSentence sentence,
+      String diaryContent, Supplier<LoadedResult<T>> loader) {
+    String key = toKey(model, sentence, diaryContent);
+
+    CachedResult cachedResult = cache.get(key, CachedResult.class);
+    if (cachedResult != null) {
+      recordMetrics(sentence, false, cachedResult);
+      return resultOf(cachedResult);
+    }
+
+    CompletableFuture<CachedResult> loading = new CompletableFuture<>();
+    CompletableFuture<CachedResult> inFlightLoading = inFlight.putIfAbsent(key, loading);
+    if (inFlightLoading != null) {
+      CachedResult sharedResult = join(inFlightLoading);
+      recordMetrics(sentence, false, sharedResult);
+      return resultOf(sharedResult);
+    }
+
+    try {
+      // 조회와 등록 사이에 다른 요청이 호출을 끝내고 저장했을 수 있음
+      cachedResult = cache.get(key, CachedResult.class);
+      if (cachedResult != null) {
+        loading.complete(cachedResult);
+        recordMetrics(sentence, false, cachedResult);
+        return resultOf(cachedResult);
+      }
+
+      long startedAt = System.nanoTime();
+      LoadedResult<T> loadedResult = loader.get();
+      CachedResult loaded = new CachedResult(loadedResult.result(), loadedResult.totalTokens(),
+          Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+      cache.put(key, loaded);
+      loading.complete(loaded);
+      recordMetrics(sentence, true, loaded);
+      return loadedResult.result();
+    } catch (RuntimeException e) {
+      loading.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, loading);
+    }
+  }
+
+  /**
+   * get 의 비동기 버전. 저장된 결과가 있으면 완료된 future 를 반환하고, 없으면 loader 의 결과가 도착했을 때 저장.
+   * 같은 키를 불러오는 중이면 새로 호출하지 않고 그 future 를 공유. loader 가 바로 던진 예외도 실패한 future 로
+   * 반환
+   */
+  public <T extends Serializable> CompletableFuture<T> getAsync(OpenAIModel model,
+      OpenAIRequestSentence sentence, String diaryContent,
+      Supplier<CompletableFuture<LoadedResult<T>>> loader) {
+    String key = toKey(model, sentence, diaryContent);
+
+    CachedResult cachedResult = cache.get(key, CachedResult.class);
+    if (cachedResult != null) {
+      recordMetrics(sentence, false, cachedResult);
+      return CompletableFuture.completedFuture(resultOf(cachedResult));
+    }
+
+    CompletableFuture<CachedResult> loading = new CompletableFuture<>();
+    CompletableFuture<CachedResult> inFlightLoading = inFlight.putIfAbsent(key, loading);
+    if (inFlightLoading != null) {
+      return inFlightLoading.thenApply(sharedResult -> {
+        recordMetrics(sentence, false, sharedResult);
+        return resultOf(sharedResult);
+      });
+    }
+
+    long startedAt = System.nanoTime();
+    CompletableFuture<LoadedResult<T>> loaderFuture;
+    try {
+      loaderFuture = loader.get();
+    } catch (RuntimeException e) {
+      inFlight.remove(key, loading);
+      loading.completeExceptionally(e);
+      return CompletableFuture.failedFuture(e);
+    }
+
+    loaderFuture.whenComplete((loadedResult, throwable) -> {
+      if (throwable != null) {
+        inFlight.remove(key, loading);
+        loading.completeExceptionally(unwrap(throwable));
+        return;
+      }
+
+      CachedResult loaded = new CachedResult(loadedResult.result(), loadedResult.totalTokens(),
+          Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+      cache.put(key, loaded);
+      inFlight.remove(key, loading);
+      recordMetrics(sentence, true, loaded);
+      loading.complete(loaded);
+    });
+
+    return loading.thenApply(this::resultOf);
+  }
+
+  /**
+   * 스트리밍처럼 loader 로 감쌀 수 없는 호출에서 사용. 저장된 결과가 있을 때만 반환
+   */
+  public <T extends Serializable> Optional<T> getIfPresent(OpenAIModel model,
+      OpenAIRequestSentence sentence, String diaryContent) {
+    CachedResult cachedResult = cache.get(toKey(model, sentence, diaryContent),
+        CachedResult.class);
+    if (cachedResult == null) {
+      return Optional.empty();
+    }
+
+    recordMetrics(sentence, false, cachedResult);
+    return Optional.of(resultOf(cachedResult));
+  }
+
+  /**
+   * getIfPresent 로 찾지 못해 직접 호출한 결과를 호출이 끝난 뒤 저장
+   */
+  public <T extends Serializable> void put(OpenAIModel model, OpenAIRequestSentence sentence,
+      String diaryContent, LoadedResult<T> loadedResult, Duration elapsed) {
+    CachedResult loaded = new CachedResult(loadedResult.result(), loadedResult.totalTokens(),
+        elapsed.toMillis());
+    cache.put(toKey(model, sentence, diaryContent), loaded);
+    recordMetrics(sentence, true, loaded);
+  }
+
+  private <T extends Serializable> T resultOf(CachedResult cachedResult) {
+    @SuppressWarnings("unchecked")
+    T result = (T) cachedResult.result();
+    return result;
+  }
+
+  private CachedResult join(CompletableFuture<CachedResult> loading) {
+    try {
+      return loading.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private Throwable unwrap(Throwable throwable) {
+    return throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause() : throwable;
+  }
+
+  private void recordMetrics(OpenAIRequestSentence sentence, boolean loaded,
+      CachedResult cachedResult) {
+    String prompt = sentence.name();
+
+    Counter.builder("openai.result.cache.requests")
+        .tag("prompt", prompt)
+        .tag("result", loaded ? "miss" : "hit")
+        .register(meterRegistry)
+        .increment();
+
+    if (loaded) {
+      return;
+    }
+
+    Counter.builder("openai.result.cache.saved.tokens")
+        .tag("prompt", prompt)
+        .register(meterRegistry)
+        .increment(cachedResult.totalTokens());
+    Timer.builder("openai.result.cache.saved.latency")
+        .tag("prompt", prompt)
+        .register(meterRegistry)
+        .record(Duration.ofMillis(cachedResult.elapsedMillis()));
+  }
+
+  /**
+   * 프롬프트 문구가 바뀌면 이전 결과를 쓰지 않도록 문구의 해시도 키에 포함
+   */
+  private String toKey(OpenAIModel model, OpenAIRequestSentence sentence, String diaryContent) {
+    return model.getModel() + ":" + sentence.name() + "@"
+        + Integer.toHexString(sentence.getSentence().hashCode()) + ":"
+        + sha256(Objects.requireNonNullElse(diaryContent, ""));
+  }
+
+  private String sha256(String value) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * OpenAI 호출로 얻은 결과와 그 결과를 얻는 데 사용한 토큰 수
+   */
+  public record LoadedResult<T extends Serializable>(T result, int totalTokens) {
+
+    public static <T extends Serializable> LoadedResult<T> of(T result,
+        OpenAIResponse... openAIResponses) {
+      int totalTokens = Arrays.stream(openAIResponses)
+          .map(OpenAIResponse::getUsage)
+          .filter(Objects::nonNull)
+          .map(OpenAIResponse.Usage::getTotalTokens)
+          .filter(Objects::nonNull)
+          .mapToInt(Integer::intValue)
+          .sum();
+      return new LoadedResult<>(result, totalTokens);
+    }
+  }
+
+  private record CachedResult(Serializable result, int totalTokens, long elapsedMillis)
+      implements Serializable {
+
+  }
+}
@@ -0,0 +1,64 @@
+package com.example.moodwriter.global.pagination;
+
+import com.example.moodwriter.global.exception.CustomException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.ScrollPosition;
+
+/**
+ * (date, id) 기준 keyset 페이지네이션의 위치 정보.
+ * 클라이언트에는 내부 구조를 알 수 없는 Base64 토큰으로 전달
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetCursor {
+
+  private static final String DELIMITER = "|";
+
+  private final LocalDate date;
+  private final UUID id;
+
+  public static KeysetCursor of(LocalDate date, UUID id) {
+    return new KeysetCursor(date, id);
+  }
+
+  public static KeysetCursor decode(String token) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(token),
+          StandardCharsets.UTF_8);
+      int delimiterIndex = decoded.indexOf(DELIMITER);
+      if (delimiterIndex < 0) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+      return new KeysetCursor(LocalDate.parse(decoded.substring(0, delimiterIndex)),
+          UUID.fromString(decoded.substring(delimiterIndex + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new CustomException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+
+  /**
+   * 토큰이 없으면 첫 페이지, 있으면 토큰이 가리키는 행 다음부터 조회하는 위치로 변환
+   */
+  public static ScrollPosition toScrollPosition(String token) {
+    if (token == null || token.isBlank()) {
+      return ScrollPosition.keyset();
+    }
+    KeysetCursor cursor = decode(token);
+    return ScrollPosition.forward(Map.of("date", cursor.getDate(), "id", cursor.getId()));
+  }
+
+  public String encode() {
+    String raw = date + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
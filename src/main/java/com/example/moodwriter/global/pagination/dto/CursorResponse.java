@@ -0,0 +1,37 @@
+package com.example.moodwriter.global.pagination.dto;
+
+import com.example.moodwriter.global.pagination.KeysetCursor;
+import java.util.List;
+import java.util.function.Function;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Window;
+
+@Getter
+@Builder
+public class CursorResponse<T> {
+
+  private List<T> content;
+  private int size;
+  private boolean hasNext;
+  private String nextCursor;
+
+  /**
+   * 조회 결과와 마지막 행의 (date, id)로 다음 페이지 토큰을 생성
+   */
+  public static <E, T> CursorResponse<T> of(Window<E> window, List<T> content,
+      Function<E, KeysetCursor> cursorExtractor) {
+    String nextCursor = null;
+    if (window.hasNext() && !window.isEmpty()) {
+      nextCursor = cursorExtractor.apply(window.getContent().get(window.size() - 1))
+          .encode();
+    }
+
+    return CursorResponse.<T>builder()
+        .content(content)
+        .size(content.size())
+        .hasNext(nextCursor != null)
+        .nextCursor(nextCursor)
+        .build();
+  }
+}
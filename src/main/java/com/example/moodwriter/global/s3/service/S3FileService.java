@@ -8,6 +8,7 @@ import com.example.moodwriter.global.s3.dto.FileDto;
 import com.example.moodwriter.global.exception.CustomException;
 import com.example.moodwriter.global.exception.code.ErrorCode;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -62,6 +63,10 @@ public class S3FileService {
         .toList();
   }
 
+  public InputStream openFile(String filename) {
+    return amazonS3Client.getObject(bucketName, filename).getObjectContent();
+  }
+
   public void deleteFile(String filename) {
     amazonS3Client.deleteObject(bucketName, filename);
   }
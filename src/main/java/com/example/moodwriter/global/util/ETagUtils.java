@@ -0,0 +1,23 @@
+package com.example.moodwriter.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 응답 본문 대신 버전 정보로 ETag 값을 만드는 유틸. 같은 입력이면 항상 같은 값을 반환
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ETagUtils {
+
+  public static String generate(Object... parts) {
+    String source = Arrays.stream(parts)
+        .map(Objects::toString)
+        .collect(Collectors.joining("|"));
+    return DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+  }
+}
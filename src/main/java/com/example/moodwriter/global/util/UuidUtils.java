@@ -0,0 +1,51 @@
+package com.example.moodwriter.global.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * BINARY(16) 컬럼에 JDBC 로 직접 접근할 때 사용하는 UUID 변환 및 생성 유틸
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UuidUtils {
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  /**
+   * RFC 9562 UUIDv7 생성. 상위 48비트가 밀리초 단위 Unix 시각이므로 BINARY(16) 바이트 순서가 생성 순서를 따름
+   */
+  public static UUID timeOrderedUuid() {
+    long timestamp = System.currentTimeMillis();
+    long mostSigBits = (timestamp << 16) | 0x7000L | RANDOM.nextInt(1 << 12);
+    long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  /**
+   * 같은 시각과 key 로 항상 같은 값을 만드는 UUIDv7 형식의 ID. 상위 48비트는 주어진 시각, 나머지는 key 의 해시.
+   * 다시 실행해도 같은 행에 같은 ID 를 주어야 할 때 사용
+   */
+  public static UUID timeOrderedUuid(long timestamp, String key) {
+    UUID hash = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+    long mostSigBits = (timestamp << 16) | 0x7000L | (hash.getMostSignificantBits() & 0xFFFL);
+    long leastSigBits = (hash.getLeastSignificantBits() & 0x3FFFFFFFFFFFFFFFL)
+        | 0x8000000000000000L;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  public static byte[] toBytes(UUID uuid) {
+    return ByteBuffer.allocate(16)
+        .putLong(uuid.getMostSignificantBits())
+        .putLong(uuid.getLeastSignificantBits())
+        .array();
+  }
+
+  public static UUID fromBytes(byte[] bytes) {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+}
@@ -24,8 +24,12 @@ CREATE TABLE `diaries` (
                            `created_at` datetime DEFAULT NULL,
                            `updated_at` datetime DEFAULT NULL,
                            `date` date DEFAULT NULL,
+                           `revision` bigint NOT NULL DEFAULT 0,
+                           `version` bigint NOT NULL DEFAULT 0,
                            PRIMARY KEY (`id`),
                            KEY `user_id` (`user_id`),
+                           KEY `idx_diaries_user_state_date_id` (`user_id`, `is_deleted`, `is_temp`, `date`, `id`),
+                           KEY `idx_diaries_deleted_at` (`deleted_at`),
                            CONSTRAINT `diaries_ibfk_1` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
@@ -46,6 +50,30 @@ CREATE TABLE `diary_media` (
                                CONSTRAINT `diary_media_ibfk_2` FOREIGN KEY (`diary_id`) REFERENCES `diaries` (`id`)
 ) ENGINE=InnoDB AUTO_INCREMENT=6 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
+CREATE TABLE `diary_search_tokens` (
+                                       `user_id` binary(16) NOT NULL,
+                                       `token` varchar(8) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+                                       `diary_id` binary(16) NOT NULL,
+                                       `frequency` int NOT NULL,
+                                       PRIMARY KEY (`user_id`, `token`, `diary_id`),
+                                       KEY `idx_diary_search_tokens_diary_id` (`diary_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `diary_month_summary` (
+                                       `id` binary(16) NOT NULL,
+                                       `user_id` binary(16) NOT NULL,
+                                       `month_start` date NOT NULL,
+                                       `final_days` int NOT NULL,
+                                       `temp_days` int NOT NULL,
+                                       `scored_days` int NOT NULL,
+                                       `emotion_scores` varbinary(31) NOT NULL,
+                                       `created_at` datetime DEFAULT NULL,
+                                       `updated_at` datetime DEFAULT NULL,
+                                       PRIMARY KEY (`id`),
+                                       UNIQUE KEY `uk_diary_month_summary_user_month` (`user_id`, `month_start`),
+                                       CONSTRAINT `diary_month_summary_ibfk_1` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
 CREATE TABLE `emotion_analysis` (
                                     `id` binary(16) NOT NULL,
                                     `user_id` binary(16) NOT NULL,
@@ -54,17 +82,53 @@ CREATE TABLE `emotion_analysis` (
                                     `emotion_score` tinyint DEFAULT NULL,
                                     `analysis_content` text,
                                     `date` date DEFAULT NULL,
+                                    `is_provisional` bit(1) NOT NULL DEFAULT b'0',
                                     `is_deleted` bit(1) NOT NULL DEFAULT b'0',
                                     `deleted_at` datetime DEFAULT NULL,
                                     `created_at` datetime DEFAULT NULL,
                                     `updated_at` datetime DEFAULT NULL,
                                     PRIMARY KEY (`id`),
                                     KEY `user_id` (`user_id`),
-                                    KEY `diary_id` (`diary_id`),
+                                    UNIQUE KEY `uk_emotion_analysis_diary_id` (`diary_id`),
+                                    KEY `idx_emotion_analysis_user_state_date_id` (`user_id`, `is_deleted`, `date`, `id`),
+                                    KEY `idx_emotion_analysis_deleted_at` (`deleted_at`),
                                     CONSTRAINT `emotion_analysis_ibfk_1` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`),
                                     CONSTRAINT `emotion_analysis_ibfk_2` FOREIGN KEY (`diary_id`) REFERENCES `diaries` (`id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
+CREATE TABLE `emotion_score_rollup` (
+                                        `id` binary(16) NOT NULL,
+                                        `user_id` binary(16) NOT NULL,
+                                        `period_type` varchar(10) NOT NULL,
+                                        `period_start` date NOT NULL,
+                                        `score_count` int NOT NULL,
+                                        `score_sum` bigint NOT NULL,
+                                        `min_score` tinyint DEFAULT NULL,
+                                        `max_score` tinyint DEFAULT NULL,
+                                        `created_at` datetime DEFAULT NULL,
+                                        `updated_at` datetime DEFAULT NULL,
+                                        PRIMARY KEY (`id`),
+                                        UNIQUE KEY `uk_emotion_score_rollup_user_period_start` (`user_id`, `period_type`, `period_start`),
+                                        CONSTRAINT `emotion_score_rollup_ibfk_1` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `emotion_analysis_batch` (
+                                          `id` binary(16) NOT NULL,
+                                          `batch_id` varchar(100) NOT NULL,
+                                          `status` varchar(20) NOT NULL,
+                                          `request_count` int NOT NULL,
+                                          `applied_count` int NOT NULL,
+                                          `skipped_count` int NOT NULL,
+                                          `failed_count` int NOT NULL,
+                                          `prompt_tokens` bigint NOT NULL,
+                                          `completion_tokens` bigint NOT NULL,
+                                          `completed_at` datetime DEFAULT NULL,
+                                          `created_at` datetime DEFAULT NULL,
+                                          `updated_at` datetime DEFAULT NULL,
+                                          PRIMARY KEY (`id`),
+                                          KEY `idx_emotion_analysis_batch_status` (`status`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
 CREATE TABLE `fcm_token` (
                                     `id` binary(16) NOT NULL,
                                     `user_id` binary(16) NOT NULL,
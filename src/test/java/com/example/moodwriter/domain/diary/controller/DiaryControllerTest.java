@@ -1,34 +1,61 @@
 package com.example.moodwriter.domain.diary.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.moodwriter.domain.diary.constant.DiaryImportStatus;
 import com.example.moodwriter.domain.diary.dto.DiaryAutoSaveRequest;
+import com.example.moodwriter.domain.diary.dto.DiaryCalendarResponse;
 import com.example.moodwriter.domain.diary.dto.DiaryCreateRequest;
+import com.example.moodwriter.domain.diary.dto.DiaryDeltaSaveRequest;
 import com.example.moodwriter.domain.diary.dto.DiaryFinalSaveRequest;
+import com.example.moodwriter.domain.diary.dto.DiaryImportResponse;
 import com.example.moodwriter.domain.diary.dto.DiaryResponse;
+import com.example.moodwriter.domain.diary.dto.DiarySearchResponse;
 import com.example.moodwriter.domain.diary.dto.DiaryTempExistsResponse;
+import com.example.moodwriter.domain.diary.dto.DiaryTextOperation;
+import com.example.moodwriter.domain.diary.exception.DiaryVersionConflictException;
+import com.example.moodwriter.domain.diary.service.DiaryCalendarService;
+import com.example.moodwriter.domain.diary.service.DiaryExportService;
+import com.example.moodwriter.domain.diary.service.DiaryImportService;
+import com.example.moodwriter.domain.diary.service.DiarySearchService;
 import com.example.moodwriter.domain.diary.service.DiaryService;
 import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.constant.ExportFormat;
 import com.example.moodwriter.global.jwt.JwtAuthenticationToken;
+import com.example.moodwriter.global.pagination.KeysetCursor;
+import com.example.moodwriter.global.pagination.dto.CursorResponse;
 import com.example.moodwriter.global.security.dto.CustomUserDetails;
 import com.example.moodwriter.global.security.filter.JwtAuthenticationFilter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,10 +69,15 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.multipart.MultipartFile;
 
 @WebMvcTest(controllers = DiaryController.class,
     excludeFilters = {@ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
@@ -62,6 +94,18 @@ class DiaryControllerTest {
   @MockBean
   private DiaryService diaryService;
 
+  @MockBean
+  private DiarySearchService diarySearchService;
+
+  @MockBean
+  private DiaryCalendarService diaryCalendarService;
+
+  @MockBean
+  private DiaryExportService diaryExportService;
+
+  @MockBean
+  private DiaryImportService diaryImportService;
+
   private final UUID userId = UUID.randomUUID();
 
   @BeforeEach
@@ -222,6 +266,85 @@ class DiaryControllerTest {
         .andExpect(jsonPath("$.updatedAt").exists());
   }
 
+  @Test
+  void autoSaveDiary_shouldReturnConflictWithCurrentVersion_whenVersionIsNotMatched()
+      throws Exception {
+    // given
+    UUID diaryId = UUID.randomUUID();
+
+    DiaryAutoSaveRequest request = DiaryAutoSaveRequest.builder()
+        .content("자동 저장 내용")
+        .version(1L)
+        .build();
+
+    given(diaryService.autoSaveDiary(eq(diaryId), eq(userId),
+        any(DiaryAutoSaveRequest.class)))
+        .willThrow(new DiaryVersionConflictException(2L, 5L));
+
+    // when & then
+    mockMvc.perform(put("/api/diaries/auto-save/" + diaryId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isConflict())
+        .andDo(print())
+        .andExpect(jsonPath("$.errorCode").value("DIARY_VERSION_CONFLICT"))
+        .andExpect(jsonPath("$.currentVersion").value(2))
+        .andExpect(jsonPath("$.currentRevision").value(5));
+  }
+
+  @Test
+  void successDeltaSaveDiary() throws Exception {
+    // given
+    UUID diaryId = UUID.randomUUID();
+
+    DiaryDeltaSaveRequest request = DiaryDeltaSaveRequest.builder()
+        .baseRevision(3L)
+        .operations(List.of(DiaryTextOperation.builder()
+            .position(0)
+            .deleteCount(0)
+            .insert("추가 내용")
+            .build()))
+        .build();
+
+    DiaryResponse response = DiaryResponse.builder()
+        .diaryId(diaryId)
+        .content("추가 내용")
+        .isTemp(true)
+        .revision(4L)
+        .build();
+
+    given(diaryService.deltaSaveDiary(eq(diaryId), eq(userId),
+        any(DiaryDeltaSaveRequest.class)))
+        .willReturn(response);
+
+    // when & then
+    mockMvc.perform(patch("/api/diaries/auto-save/" + diaryId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andDo(print())
+        .andExpect(jsonPath("$.diaryId").value(diaryId.toString()))
+        .andExpect(jsonPath("$.content").value(response.getContent()))
+        .andExpect(jsonPath("$.revision").value(4));
+  }
+
+  @Test
+  void deltaSaveDiary_shouldReturnBadRequest_whenOperationsIsEmpty() throws Exception {
+    // given
+    DiaryDeltaSaveRequest request = DiaryDeltaSaveRequest.builder()
+        .baseRevision(3L)
+        .operations(List.of())
+        .build();
+
+    // when & then
+    mockMvc.perform(patch("/api/diaries/auto-save/" + UUID.randomUUID())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andDo(print())
+        .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+  }
+
   @Test
   void successAutoSaveDiary_whenTitleAndDateIsNullInRequest() throws Exception {
     // given
@@ -474,6 +597,70 @@ class DiaryControllerTest {
         .andExpect(jsonPath("$.updatedAt").exists());
   }
 
+  @Test
+  void getDiary_shouldReturnETag_whenETagIsNotMatched() throws Exception {
+    // given
+    UUID diaryId = UUID.randomUUID();
+
+    DiaryResponse response = DiaryResponse.builder()
+        .diaryId(diaryId)
+        .content("내용")
+        .date(LocalDate.of(2024, 10, 1))
+        .isTemp(false)
+        .build();
+
+    given(diaryService.getDiaryETag(diaryId, userId)).willReturn(Optional.of("etag"));
+    given(diaryService.getDiary(diaryId, userId)).willReturn(response);
+
+    // when & then
+    mockMvc.perform(get("/api/diaries/" + diaryId)
+            .header(HttpHeaders.IF_NONE_MATCH, "\"old-etag\""))
+        .andExpect(status().isOk())
+        .andDo(print())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""))
+        .andExpect(jsonPath("$.diaryId").value(diaryId.toString()));
+  }
+
+  @Test
+  void getDiary_shouldReturnNotModified_whenETagIsMatched() throws Exception {
+    // given
+    UUID diaryId = UUID.randomUUID();
+
+    given(diaryService.getDiaryETag(diaryId, userId)).willReturn(Optional.of("etag"));
+
+    // when & then
+    mockMvc.perform(get("/api/diaries/" + diaryId)
+            .header(HttpHeaders.IF_NONE_MATCH, "\"etag\""))
+        .andExpect(status().isNotModified())
+        .andDo(print())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""))
+        .andExpect(content().string(""));
+
+    verify(diaryService, never()).getDiary(diaryId, userId);
+  }
+
+  @Test
+  void getDiariesByDateRange_shouldReturnNotModified_whenETagIsMatched() throws Exception {
+    // given
+    LocalDate startDate = LocalDate.of(2024, 10, 1);
+    LocalDate endDate = LocalDate.of(2024, 10, 10);
+
+    given(diaryService.getDiariesByDateRangeETag(eq(startDate), eq(endDate),
+        any(Pageable.class), eq(userId))).willReturn("etag");
+
+    // when & then
+    mockMvc.perform(get("/api/diaries")
+            .param("startDate", startDate.toString())
+            .param("endDate", endDate.toString())
+            .header(HttpHeaders.IF_NONE_MATCH, "\"etag\""))
+        .andExpect(status().isNotModified())
+        .andDo(print())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""));
+
+    verify(diaryService, never()).getDiariesByDateRange(any(LocalDate.class),
+        any(LocalDate.class), any(Pageable.class), any(UUID.class));
+  }
+
   @Test
   void successDeleteDiary() throws Exception {
     // given
@@ -632,6 +819,21 @@ class DiaryControllerTest {
             "조회하는 날짜는 오늘을 포함한 이전 날짜만 가능합니다."));
   }
 
+  @Test
+  void getAllMyDiariesWithCursor_shouldThrowValidationError_whenSizeIsOutOfRange()
+      throws Exception {
+    // when & then
+    mockMvc.perform(get("/api/diaries/all/cursor")
+            .param("size", "1000"))
+        .andExpect(status().isBadRequest())
+        .andDo(print())
+        .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"))
+        .andExpect(jsonPath("$.parameterErrors[0].messages[0]").value(
+            "조회 개수는 1 이상 100 이하만 가능합니다."));
+
+    verify(diaryService, never()).getAllMyDiariesWithCursor(any(), anyInt(), any(), any());
+  }
+
   @Test
   void getDiariesByDateRange_shouldThrowError_whenInputInvalidSortOrder()
       throws Exception {
@@ -783,6 +985,230 @@ class DiaryControllerTest {
         .andExpect(jsonPath("$.path").value("/api/diaries/all"));
   }
 
+  @Test
+  void successGetAllMyDiariesWithCursor() throws Exception {
+    // given
+    UUID diaryId = UUID.randomUUID();
+    String cursor = KeysetCursor.of(LocalDate.of(2024, 10, 5), UUID.randomUUID()).encode();
+    String nextCursor = KeysetCursor.of(LocalDate.of(2024, 10, 1), diaryId).encode();
+
+    DiaryResponse diaryResponse = DiaryResponse.builder()
+        .diaryId(diaryId)
+        .haveEmotionAnalysis(false)
+        .content("내용1")
+        .date(LocalDate.of(2024, 10, 1))
+        .isTemp(false)
+        .createdAt(LocalDateTime.now())
+        .updatedAt(LocalDateTime.now())
+        .build();
+
+    CursorResponse<DiaryResponse> response = CursorResponse.<DiaryResponse>builder()
+        .content(List.of(diaryResponse))
+        .size(1)
+        .hasNext(true)
+        .nextCursor(nextCursor)
+        .build();
+
+    given(diaryService.getAllMyDiariesWithCursor(cursor, 1, Direction.ASC, userId))
+        .willReturn(response);
+
+    // when & then
+    mockMvc.perform(get("/api/diaries/all/cursor")
+            .param("cursor", cursor)
+            .param("size", "1")
+            .param("sortOrder", "asc"))
+        .andExpect(status().isOk())
+        .andDo(print())
+        .andExpect(jsonPath("$.content[0].diaryId").value(diaryId.toString()))
+        .andExpect(jsonPath("$.content[0].date").value(diaryResponse.getDate().toString()))
+        .andExpect(jsonPath("$.size").value(1))
+        .andExpect(jsonPath("$.hasNext").value(true))
+        .andExpect(jsonPath("$.nextCursor").value(nextCursor));
+  }
+
+  @Test
+  void successGetDiariesByDateRangeWithCursor_whenParameterIsDefault() throws Exception {
+    // given
+    CursorResponse<DiaryResponse> response = CursorResponse.<DiaryResponse>builder()
+        .content(List.of())
+        .size(0)
+        .hasNext(false)
+        .build();
+
+    given(diaryService.getDiariesByDateRangeWithCursor(LocalDate.of(2024, 10, 1),
+        LocalDate.of(2024, 10, 31), null, 10, Direction.DESC, userId))
+        .willReturn(response);
+
+    // when & then
+    mockMvc.perform(get("/api/diaries/cursor")
+            .param("startDate", "2024-10-01")
+            .param("endDate", "2024-10-31"))
+        .andExpect(status().isOk())
+        .andDo(print())
+        .andExpect(jsonPath("$.content").isEmpty())
+        .andExpect(jsonPath("$.hasNext").value(false))
+        .andExpect(jsonPath("$.nextCursor").doesNotExist());
+  }
+
+  @Test
+  void successSearchDiaries() throws Exception {
+    // given
+    UUID diaryId = UUID.randomUUID();
+    DiarySearchResponse response = DiarySearchResponse.builder()
+        .diaryId(diaryId)
+        .date(LocalDate.of(2024, 10, 1))
+        .score(5)
+        .highlight("친구와 <em>산책</em>을 했다")
+        .build();
+
+    given(diarySearchService.searchDiaries("산책", 20, userId))
+        .willReturn(List.of(response));
+
+    // when & then
+    mockMvc.perform(get("/api/diaries/search")
+            .param("query", "산책"))
+        .andExpect(status().isOk())
+        .andDo(print())
+        .andExpect(jsonPath("$[0].diaryId").value(diaryId.toString()))
+        .andExpect(jsonPath("$[0].date").value(response.getDate().toString()))
+        .andExpect(jsonPath("$[0].score").value(5))
+        .andExpect(jsonPath("$[0].highlight").value(response.getHighlight()));
+  }
+
+  @Test
+  void searchDiaries_shouldReturnBadRequest_whenQueryIsBlank() throws Exception {
+    // when & then
+    mockMvc.perform(get("/api/diaries/search")
+            .param("query", " "))
+        .andExpect(status().isBadRequest())
+        .andDo(print())
+        .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"))
+        .andExpect(jsonPath("$.parameterErrors[0].messages[0]").value("검색어를 입력해주세요."));
+  }
+
+  @Test
+  void successGetCalendar() throws Exception {
+    // given
+    YearMonth month = YearMonth.of(2024, 10);
+    DiaryCalendarResponse response = DiaryCalendarResponse.builder()
+        .month(month)
+        .finalDays(0b101)
+        .tempDays(0b10)
+        .scoredDays(0b1)
+        .emotionScores(Arrays.asList(80, null, null))
+        .build();
+
+    given(diaryCalendarService.getCalendar(month, userId)).willReturn(response);
+
+    // when & then
+    mockMvc.perform(get("/api/diaries/calendar")
+            .param("month", "2024-10"))
+        .andExpect(status().isOk())
+        .andDo(print())
+        .andExpect(jsonPath("$.month").value("2024-10"))
+        .andExpect(jsonPath("$.finalDays").value(0b101))
+        .andExpect(jsonPath("$.tempDays").value(0b10))
+        .andExpect(jsonPath("$.scoredDays").value(0b1))
+        .andExpect(jsonPath("$.emotionScores[0]").value(80))
+        .andExpect(jsonPath("$.emotionScores[1]").isEmpty());
+  }
+
+  @Test
+  void successExportDiaries_whenParameterIsDefault() throws Exception {
+    // given
+    String line = "{\"content\":\"내용\"}\n";
+    willAnswer(invocation -> {
+      OutputStream outputStream = invocation.getArgument(2);
+      outputStream.write(line.getBytes(StandardCharsets.UTF_8));
+      return null;
+    }).given(diaryExportService)
+        .exportDiaries(eq(userId), eq(ExportFormat.NDJSON), any(OutputStream.class));
+
+    // when
+    MvcResult mvcResult = mockMvc.perform(get("/api/diaries/export"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // then
+    mockMvc.perform(asyncDispatch(mvcResult))
+        .andExpect(status().isOk())
+        .andDo(print())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"diaries.ndjson\""))
+        .andExpect(content().bytes(line.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void successExportDiaries_whenFormatIsZip() throws Exception {
+    // when
+    MvcResult mvcResult = mockMvc.perform(get("/api/diaries/export")
+            .param("format", "zip"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // then
+    mockMvc.perform(asyncDispatch(mvcResult))
+        .andExpect(status().isOk())
+        .andDo(print())
+        .andExpect(content().contentType("application/zip"))
+        .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"diaries.zip\""));
+
+    verify(diaryExportService).exportDiaries(eq(userId), eq(ExportFormat.ZIP),
+        any(OutputStream.class));
+  }
+
+  @Test
+  void successImportDiaries() throws Exception {
+    // given
+    UUID importId = UUID.randomUUID();
+    MockMultipartFile file = new MockMultipartFile("file", "diaries.ndjson",
+        "application/x-ndjson",
+        "{\"date\":\"2024-10-01\",\"content\":\"내용\"}".getBytes(StandardCharsets.UTF_8));
+
+    DiaryImportResponse response = DiaryImportResponse.builder()
+        .importId(importId)
+        .status(DiaryImportStatus.IN_PROGRESS)
+        .build();
+
+    given(diaryImportService.startImport(eq(userId), any(MultipartFile.class), eq(true)))
+        .willReturn(response);
+
+    // when & then
+    mockMvc.perform(multipart("/api/diaries/import")
+            .file(file)
+            .param("analyze", "true"))
+        .andExpect(status().isAccepted())
+        .andDo(print())
+        .andExpect(jsonPath("$.importId").value(importId.toString()))
+        .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+  }
+
+  @Test
+  void successGetImportProgress() throws Exception {
+    // given
+    UUID importId = UUID.randomUUID();
+    DiaryImportResponse response = DiaryImportResponse.builder()
+        .importId(importId)
+        .status(DiaryImportStatus.COMPLETED)
+        .processedCount(10)
+        .importedCount(9)
+        .skippedCount(1)
+        .build();
+
+    given(diaryImportService.getImportProgress(importId, userId)).willReturn(response);
+
+    // when & then
+    mockMvc.perform(get("/api/diaries/import/" + importId))
+        .andExpect(status().isOk())
+        .andDo(print())
+        .andExpect(jsonPath("$.status").value("COMPLETED"))
+        .andExpect(jsonPath("$.processedCount").value(10))
+        .andExpect(jsonPath("$.importedCount").value(9))
+        .andExpect(jsonPath("$.skippedCount").value(1));
+  }
+
   @Test
   void successCheckTempExistsByDate_whenTempExists() throws Exception {
     // given
@@ -2,25 +2,36 @@ package com.example.moodwriter.domain.diary.dao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.example.moodwriter.domain.diary.dao.DiaryRepository.DiaryRangeVersion;
+import com.example.moodwriter.domain.diary.dto.DiaryHeader;
 import com.example.moodwriter.domain.diary.entity.Diary;
 import com.example.moodwriter.domain.user.dao.UserRepository;
 import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.pagination.KeysetCursor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -148,6 +159,65 @@ class DiaryRepositoryTest {
 
   }
 
+  @Test
+  void successFindAllByUserAndIsDeletedFalseAndIsTempFalse_withKeysetScroll() {
+    Diary sameDateDiary = Diary.builder()
+        .date(LocalDate.of(2024, 10, 5))
+        .user(user)
+        .isDeleted(false)
+        .isTemp(false)
+        .build();
+    diaryRepository.save(sameDateDiary);
+
+    User userProxy = entityManager.getReference(User.class, userId);
+    Sort sort = Sort.by(Direction.DESC, "date", "id");
+
+    Window<Diary> firstWindow = diaryRepository.findAllByUserAndIsDeletedFalseAndIsTempFalse(
+        userProxy, ScrollPosition.keyset(), sort, Limit.of(2));
+
+    Diary last = firstWindow.getContent().get(1);
+    Window<Diary> secondWindow = diaryRepository.findAllByUserAndIsDeletedFalseAndIsTempFalse(
+        userProxy, KeysetCursor.toScrollPosition(
+            KeysetCursor.of(last.getDate(), last.getId()).encode()), sort, Limit.of(2));
+
+    assertEquals(2, firstWindow.size());
+    assertTrue(firstWindow.hasNext());
+    assertEquals(LocalDate.of(2024, 10, 15), firstWindow.getContent().get(0).getDate());
+    assertEquals(LocalDate.of(2024, 10, 5), firstWindow.getContent().get(1).getDate());
+
+    assertEquals(2, secondWindow.size());
+    assertFalse(secondWindow.hasNext());
+    assertEquals(LocalDate.of(2024, 10, 5), secondWindow.getContent().get(0).getDate());
+    assertEquals(LocalDate.of(2024, 10, 1), secondWindow.getContent().get(1).getDate());
+
+    Set<UUID> diaryIds = new HashSet<>();
+    firstWindow.forEach(diary -> diaryIds.add(diary.getId()));
+    secondWindow.forEach(diary -> diaryIds.add(diary.getId()));
+    assertEquals(4, diaryIds.size());
+  }
+
+  @Test
+  void successFindByDateBetweenAndIsDeletedFalseAndIsTempFalseAndUser_withKeysetScroll() {
+    LocalDate startDate = LocalDate.of(2024, 10, 1);
+    LocalDate endDate = LocalDate.of(2024, 10, 10);
+    User userProxy = entityManager.getReference(User.class, userId);
+    Sort sort = Sort.by(Direction.ASC, "date", "id");
+
+    Window<Diary> firstWindow = diaryRepository.findByDateBetweenAndIsDeletedFalseAndIsTempFalseAndUser(
+        startDate, endDate, userProxy, ScrollPosition.keyset(), sort, Limit.of(1));
+
+    Diary last = firstWindow.getContent().get(0);
+    Window<Diary> secondWindow = diaryRepository.findByDateBetweenAndIsDeletedFalseAndIsTempFalseAndUser(
+        startDate, endDate, userProxy, KeysetCursor.toScrollPosition(
+            KeysetCursor.of(last.getDate(), last.getId()).encode()), sort, Limit.of(1));
+
+    assertTrue(firstWindow.hasNext());
+    assertEquals(LocalDate.of(2024, 10, 1), last.getDate());
+    assertFalse(secondWindow.hasNext());
+    assertEquals(1, secondWindow.size());
+    assertEquals(LocalDate.of(2024, 10, 5), secondWindow.getContent().get(0).getDate());
+  }
+
   @Test
   void successFindFirstByUserAndDateAndIsTempTrueAndIsDeletedFalseOrderByUpdatedAtDesc() {
     // given
@@ -273,4 +343,84 @@ class DiaryRepositoryTest {
     // then
     assertFalse(result.isPresent());
   }
-}
\ No newline at end of file
+
+  @Test
+  void successFindHeaderById() {
+    // given
+    Diary diary = diaryRepository.save(Diary.builder()
+        .date(LocalDate.of(2024, 10, 20))
+        .user(user)
+        .content("내용")
+        .isDeleted(false)
+        .isTemp(true)
+        .build());
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    DiaryHeader header = diaryRepository.findHeaderById(diary.getId()).orElseThrow();
+
+    // then
+    assertEquals(diary.getId(), header.getId());
+    assertEquals(userId, header.getUserId());
+    assertEquals(LocalDate.of(2024, 10, 20), header.getDate());
+    assertTrue(header.isTemp());
+    assertFalse(header.isDeleted());
+  }
+
+  @Test
+  void successDeactivateById() {
+    // given
+    Diary diary = diaryRepository.save(Diary.builder()
+        .date(LocalDate.of(2024, 10, 20))
+        .user(user)
+        .content("내용")
+        .isDeleted(false)
+        .isTemp(false)
+        .build());
+    entityManager.flush();
+    entityManager.clear();
+
+    LocalDateTime now = LocalDateTime.now();
+
+    // when
+    diaryRepository.deactivateById(diary.getId(), now);
+    entityManager.clear();
+
+    // then
+    Diary deletedDiary = diaryRepository.findById(diary.getId()).orElseThrow();
+    assertTrue(deletedDiary.isDeleted());
+    assertEquals(diary.getVersion() + 1, deletedDiary.getVersion());
+    assertNotNull(deletedDiary.getDeletedAt());
+    assertEquals("내용", deletedDiary.getContent());
+  }
+
+  @Test
+  void successFindRangeVersionByUserAndDateBetween() {
+    // given
+    diaryRepository.save(Diary.builder()
+        .date(LocalDate.of(2024, 12, 1))
+        .user(user)
+        .content("내용")
+        .isDeleted(false)
+        .isTemp(false)
+        .build());
+    diaryRepository.save(Diary.builder()
+        .date(LocalDate.of(2024, 12, 2))
+        .user(user)
+        .content("내용")
+        .isDeleted(false)
+        .isTemp(true)
+        .build());
+    entityManager.flush();
+
+    // when
+    DiaryRangeVersion version = diaryRepository.findRangeVersionByUserAndDateBetween(user,
+        LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31));
+
+    // then
+    assertEquals(2L, version.getTotalCount());
+    assertEquals(1L, version.getVisibleCount());
+    assertNotNull(version.getLastUpdatedAt());
+  }
+}
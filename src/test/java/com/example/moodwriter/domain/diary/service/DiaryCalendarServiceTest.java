@@ -0,0 +1,141 @@
+package com.example.moodwriter.domain.diary.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.dto.DiaryCalendarResponse;
+import com.example.moodwriter.domain.diary.entity.Diary;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository;
+import com.example.moodwriter.domain.emotion.entity.EmotionAnalysis;
+import com.example.moodwriter.domain.user.dao.UserRepository;
+import com.example.moodwriter.domain.user.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@EnableJpaAuditing
+@Import(DiaryCalendarService.class)
+class DiaryCalendarServiceTest {
+
+  private static final YearMonth OCTOBER = YearMonth.of(2024, 10);
+
+  @Autowired
+  private DiaryCalendarService diaryCalendarService;
+
+  @Autowired
+  private DiaryRepository diaryRepository;
+
+  @Autowired
+  private EmotionAnalysisRepository emotionAnalysisRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @MockBean
+  private ObjectMapper objectMapper;
+
+  private User user;
+  private Diary finalDiary;
+
+  @BeforeEach
+  void setUp() {
+    user = userRepository.save(User.builder()
+        .email("test@email.com")
+        .passwordHash("Password12!@")
+        .name("이름")
+        .build());
+
+    finalDiary = saveDiary(LocalDate.of(2024, 10, 1), false, false);
+    saveDiary(LocalDate.of(2024, 10, 2), true, false);
+    saveDiary(LocalDate.of(2024, 10, 3), false, true);
+    saveDiary(LocalDate.of(2024, 11, 1), false, false);
+
+    emotionAnalysisRepository.save(EmotionAnalysis.builder()
+        .user(user)
+        .diary(finalDiary)
+        .date(finalDiary.getDate())
+        .emotionScore(80)
+        .isDeleted(false)
+        .build());
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void getCalendar_shouldBuildSummaryOfMonth_whenSummaryIsNotExist() {
+    // when
+    DiaryCalendarResponse response = diaryCalendarService.getCalendar(OCTOBER, user.getId());
+
+    // then
+    assertEquals(OCTOBER, response.getMonth());
+    assertEquals(0b1, response.getFinalDays());
+    assertEquals(0b10, response.getTempDays());
+    assertEquals(0b1, response.getScoredDays());
+    assertEquals(31, response.getEmotionScores().size());
+    assertEquals(80, response.getEmotionScores().get(0));
+    assertNull(response.getEmotionScores().get(1));
+  }
+
+  @Test
+  void refreshDays_shouldUpdateOnlyChangedDays() {
+    // given
+    diaryCalendarService.getCalendar(OCTOBER, user.getId());
+    Diary newDiary = saveDiary(LocalDate.of(2024, 10, 15), false, false);
+    Diary diary = diaryRepository.findById(finalDiary.getId()).orElseThrow();
+    diary.deactivate();
+    entityManager.flush();
+
+    // when
+    diaryCalendarService.refreshDays(user.getId(), diary.getDate(), newDiary.getDate(), null);
+    entityManager.flush();
+    entityManager.clear();
+
+    // then
+    DiaryCalendarResponse response = diaryCalendarService.getCalendar(OCTOBER, user.getId());
+    assertEquals(1 << 14, response.getFinalDays());
+    assertEquals(0b10, response.getTempDays());
+    assertEquals(0b1, response.getScoredDays());
+  }
+
+  @Test
+  void refreshDays_shouldBuildSummaryOfMonth_whenSummaryIsNotExist() {
+    // when
+    diaryCalendarService.refreshDays(user.getId(), LocalDate.of(2024, 11, 1));
+    entityManager.flush();
+    entityManager.clear();
+
+    // then
+    DiaryCalendarResponse response = diaryCalendarService.getCalendar(YearMonth.of(2024, 11),
+        user.getId());
+    assertEquals(0b1, response.getFinalDays());
+    assertEquals(0, response.getTempDays());
+    assertEquals(30, response.getEmotionScores().size());
+  }
+
+  private Diary saveDiary(LocalDate date, boolean isTemp, boolean isDeleted) {
+    return diaryRepository.save(Diary.builder()
+        .user(user)
+        .content("내용")
+        .date(date)
+        .isTemp(isTemp)
+        .isDeleted(isDeleted)
+        .build());
+  }
+}
@@ -0,0 +1,53 @@
+package com.example.moodwriter.domain.diary.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.moodwriter.domain.diary.dto.DiaryTextOperation;
+import com.example.moodwriter.domain.diary.exception.DiaryException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DiaryContentPatcherTest {
+
+  @Test
+  void patch_shouldApplyOperationsInOrder() {
+    // given
+    List<DiaryTextOperation> operations = List.of(
+        DiaryTextOperation.builder().position(4).deleteCount(2).insert("운동").build(),
+        DiaryTextOperation.builder().position(0).deleteCount(0).insert("어제와 달리 ").build());
+
+    // when
+    String patched = DiaryContentPatcher.patch("오늘은 산책을 했다.", operations);
+
+    // then
+    assertEquals("어제와 달리 오늘은 운동을 했다.", patched);
+  }
+
+  @Test
+  void patch_shouldTreatNullContentAsEmpty() {
+    // given
+    List<DiaryTextOperation> operations = List.of(
+        DiaryTextOperation.builder().position(0).insert("첫 문장").build());
+
+    // when
+    String patched = DiaryContentPatcher.patch(null, operations);
+
+    // then
+    assertEquals("첫 문장", patched);
+  }
+
+  @Test
+  void patch_shouldThrowDiaryException_whenOperationIsOutOfRange() {
+    // given
+    List<DiaryTextOperation> operations = List.of(
+        DiaryTextOperation.builder().position(2).deleteCount(5).build());
+
+    // when & then
+    DiaryException diaryException = assertThrows(DiaryException.class,
+        () -> DiaryContentPatcher.patch("내용", operations));
+
+    assertEquals(ErrorCode.INVALID_DIARY_DELTA, diaryException.getErrorCode());
+  }
+}
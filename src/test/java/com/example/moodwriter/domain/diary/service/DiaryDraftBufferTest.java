@@ -0,0 +1,136 @@
+package com.example.moodwriter.domain.diary.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.example.moodwriter.domain.diary.dto.DiaryDraft;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryDraftBufferTest {
+
+  private static final String KEY_PENDING_DIARY_DRAFTS = "pending_diary_drafts";
+
+  @Mock
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private ZSetOperations<String, String> zSetOperations;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  private DiaryDraftBuffer diaryDraftBuffer;
+
+  @BeforeEach
+  void setUp() {
+    diaryDraftBuffer = new DiaryDraftBuffer(redisTemplate, objectMapper);
+  }
+
+  @Test
+  void put_shouldStoreDraftAndRegisterPendingDiary() {
+    // given
+    UUID diaryId = UUID.randomUUID();
+    DiaryDraft draft = DiaryDraft.builder()
+        .content("임시 저장 내용")
+        .date(LocalDate.of(2024, 10, 1))
+        .build();
+
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+    // when
+    diaryDraftBuffer.put(diaryId, draft);
+
+    // then
+    ArgumentCaptor<String> argumentCaptor = ArgumentCaptor.forClass(String.class);
+    verify(valueOperations).set(eq("diary_draft:" + diaryId), argumentCaptor.capture());
+    verify(zSetOperations).addIfAbsent(eq(KEY_PENDING_DIARY_DRAFTS),
+        eq(diaryId.toString()), anyDouble());
+
+    given(valueOperations.get("diary_draft:" + diaryId))
+        .willReturn(argumentCaptor.getValue());
+    DiaryDraft stored = diaryDraftBuffer.peek(diaryId).orElseThrow();
+    assertEquals(draft.getContent(), stored.getContent());
+    assertEquals(draft.getDate(), stored.getDate());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void remove_shouldDeleteDraftOnlyIfUnchanged() throws Exception {
+    // given
+    UUID diaryId = UUID.randomUUID();
+    DiaryDraft draft = DiaryDraft.builder()
+        .content("임시 저장 내용")
+        .revision(2L)
+        .build();
+
+    // when
+    diaryDraftBuffer.remove(diaryId, draft);
+
+    // then
+    verify(redisTemplate).execute(any(RedisScript.class),
+        eq(List.of("diary_draft:" + diaryId, KEY_PENDING_DIARY_DRAFTS)),
+        eq(objectMapper.writeValueAsString(draft)), eq(diaryId.toString()));
+  }
+
+  @Test
+  void getDiaryIdsBufferedBefore_shouldReturnIdsInBufferedOrder() {
+    // given
+    UUID diaryId1 = UUID.randomUUID();
+    UUID diaryId2 = UUID.randomUUID();
+    Instant threshold = Instant.ofEpochMilli(1_000L);
+
+    given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+    given(zSetOperations.rangeByScore(KEY_PENDING_DIARY_DRAFTS, 0, 1_000L))
+        .willReturn(new LinkedHashSet<>(List.of(diaryId1.toString(), diaryId2.toString())));
+
+    // when
+    Set<UUID> result = diaryDraftBuffer.getDiaryIdsBufferedBefore(threshold);
+
+    // then
+    assertEquals(List.of(diaryId1, diaryId2), List.copyOf(result));
+  }
+
+  @Test
+  void getOldestDiaryIds_shouldReturnEmpty_whenCountIsNotPositive() {
+    // when
+    Set<UUID> result = diaryDraftBuffer.getOldestDiaryIds(0);
+
+    // then
+    assertTrue(result.isEmpty());
+  }
+
+  @Test
+  void size_shouldReturnZero_whenPendingDiariesAreNotExist() {
+    // given
+    given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+    given(zSetOperations.zCard(KEY_PENDING_DIARY_DRAFTS)).willReturn(null);
+
+    // when & then
+    assertEquals(0, diaryDraftBuffer.size());
+  }
+}
@@ -0,0 +1,99 @@
+package com.example.moodwriter.domain.diary.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.willThrow;
+
+import com.example.moodwriter.global.exception.CustomException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryDraftFlushSchedulerTest {
+
+  @Mock
+  private DiaryDraftBuffer diaryDraftBuffer;
+
+  @Mock
+  private DiaryService diaryService;
+
+  @InjectMocks
+  private DiaryDraftFlushScheduler diaryDraftFlushScheduler;
+
+  @Test
+  void processExpiredDrafts_shouldFlushEveryExpiredDraft_evenIfOneFails() {
+    // given
+    UUID diaryId1 = UUID.randomUUID();
+    UUID diaryId2 = UUID.randomUUID();
+
+    given(diaryDraftBuffer.getDiaryIdsBufferedBefore(any(Instant.class)))
+        .willReturn(new LinkedHashSet<>(List.of(diaryId1, diaryId2)));
+    willThrow(new CustomException(ErrorCode.JSON_PARSE_ERROR))
+        .given(diaryService).flushBufferedDraft(diaryId1);
+
+    // when
+    diaryDraftFlushScheduler.processExpiredDrafts();
+
+    // then
+    verify(diaryService).flushBufferedDraft(diaryId1);
+    verify(diaryService).flushBufferedDraft(diaryId2);
+  }
+
+  @Test
+  void processExpiredDrafts_shouldFlushOldestDrafts_whenBufferIsFull() {
+    // given
+    ReflectionTestUtils.setField(diaryDraftFlushScheduler, "maxBufferedDrafts", 1L);
+    UUID oldestDiaryId = UUID.randomUUID();
+
+    given(diaryDraftBuffer.getDiaryIdsBufferedBefore(any(Instant.class)))
+        .willReturn(Collections.emptySet());
+    given(diaryDraftBuffer.size()).willReturn(2L);
+    given(diaryDraftBuffer.getOldestDiaryIds(1L))
+        .willReturn(new LinkedHashSet<>(List.of(oldestDiaryId)));
+
+    // when
+    diaryDraftFlushScheduler.processExpiredDrafts();
+
+    // then
+    verify(diaryService).flushBufferedDraft(oldestDiaryId);
+  }
+
+  @Test
+  void flushAll_shouldDoNothing_whenWriteBehindIsDisabled() {
+    // when
+    diaryDraftFlushScheduler.flushAll();
+
+    // then
+    verifyNoInteractions(diaryDraftBuffer);
+    verify(diaryService, never()).flushBufferedDraft(any(UUID.class));
+  }
+
+  @Test
+  void flushAll_shouldFlushEveryBufferedDraft_whenWriteBehindIsEnabled() {
+    // given
+    ReflectionTestUtils.setField(diaryDraftFlushScheduler, "writeBehindEnabled", true);
+    UUID diaryId = UUID.randomUUID();
+
+    given(diaryDraftBuffer.getDiaryIdsBufferedBefore(any(Instant.class)))
+        .willReturn(new LinkedHashSet<>(List.of(diaryId)));
+
+    // when
+    diaryDraftFlushScheduler.flushAll();
+
+    // then
+    verify(diaryService).flushBufferedDraft(diaryId);
+  }
+}
@@ -0,0 +1,168 @@
+package com.example.moodwriter.domain.diary.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.entity.Diary;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository;
+import com.example.moodwriter.domain.emotion.entity.EmotionAnalysis;
+import com.example.moodwriter.domain.user.dao.UserRepository;
+import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.constant.ExportFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@DataJpaTest(properties = "diary.export.fetch-size=2")
+@EnableJpaAuditing
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(DiaryExportService.class)
+class DiaryExportServiceTest {
+
+  @Autowired
+  private DiaryExportService diaryExportService;
+
+  @Autowired
+  private DiaryRepository diaryRepository;
+
+  @Autowired
+  private EmotionAnalysisRepository emotionAnalysisRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private UUID userId;
+  private Diary analyzedDiary;
+
+  @BeforeEach
+  void setUp() {
+    User user = userRepository.save(User.builder()
+        .email("test@email.com")
+        .passwordHash("Password12!@")
+        .name("이름")
+        .build());
+    userId = user.getId();
+
+    for (int i = 0; i < 5; i++) {
+      Diary diary = saveDiary(user, "내용" + i, LocalDate.of(2024, 10, 1).plusDays(i), false,
+          false);
+      if (i == 0) {
+        analyzedDiary = diary;
+      }
+    }
+    saveDiary(user, "임시 저장", LocalDate.of(2024, 11, 1), true, false);
+    saveDiary(user, "삭제된 일기", LocalDate.of(2024, 11, 2), false, true);
+
+    emotionAnalysisRepository.save(EmotionAnalysis.builder()
+        .user(user)
+        .diary(analyzedDiary)
+        .date(analyzedDiary.getDate())
+        .primaryEmotion("기쁨, 설렘")
+        .emotionScore(80)
+        .analysisContent("분석 내용")
+        .isDeleted(false)
+        .build());
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void exportDiaries_shouldWriteOneLinePerFinalSavedDiary_whenFormatIsNdjson() throws Exception {
+    // given
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // when
+    diaryExportService.exportDiaries(userId, ExportFormat.NDJSON, outputStream);
+
+    // then
+    String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(5, lines.length);
+
+    JsonNode first = objectMapper.readTree(lines[0]);
+    assertEquals(analyzedDiary.getId().toString(), first.get("diaryId").asText());
+    assertEquals("2024-10-01", first.get("date").asText());
+    assertEquals("내용0", first.get("content").asText());
+    assertEquals("기쁨, 설렘", first.get("primaryEmotion").asText());
+    assertEquals(80, first.get("emotionScore").asInt());
+    assertEquals("분석 내용", first.get("analysisContent").asText());
+
+    JsonNode last = objectMapper.readTree(lines[4]);
+    assertEquals("내용4", last.get("content").asText());
+    assertTrue(last.get("emotionScore").isNull());
+  }
+
+  @Test
+  void exportDiaries_shouldWriteOneEntryPerFinalSavedDiary_whenFormatIsZip() throws Exception {
+    // given
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // when
+    diaryExportService.exportDiaries(userId, ExportFormat.ZIP, outputStream);
+
+    // then
+    List<String> entryNames = new ArrayList<>();
+    try (ZipInputStream zipInputStream = new ZipInputStream(
+        new ByteArrayInputStream(outputStream.toByteArray()))) {
+      ZipEntry entry;
+      while ((entry = zipInputStream.getNextEntry()) != null) {
+        entryNames.add(entry.getName());
+        JsonNode row = objectMapper.readTree(zipInputStream.readAllBytes());
+        assertFalse(row.get("content").asText().isEmpty());
+      }
+    }
+
+    assertEquals(5, entryNames.size());
+    assertEquals("diaries/2024-10-01_" + analyzedDiary.getId() + ".json", entryNames.get(0));
+  }
+
+  @Test
+  void exportDiaries_shouldWriteNothing_whenUserHasNoDiary() throws Exception {
+    // given
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // when
+    diaryExportService.exportDiaries(UUID.randomUUID(), ExportFormat.NDJSON, outputStream);
+
+    // then
+    assertEquals(0, outputStream.size());
+  }
+
+  private Diary saveDiary(User user, String content, LocalDate date, boolean isTemp,
+      boolean isDeleted) {
+    return diaryRepository.save(Diary.builder()
+        .user(user)
+        .content(content)
+        .date(date)
+        .isTemp(isTemp)
+        .isDeleted(isDeleted)
+        .build());
+  }
+}
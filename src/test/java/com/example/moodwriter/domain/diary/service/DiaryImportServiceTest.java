@@ -0,0 +1,247 @@
+package com.example.moodwriter.domain.diary.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.moodwriter.domain.diary.constant.DiaryImportStatus;
+import com.example.moodwriter.domain.diary.dto.DiaryImportEntry;
+import com.example.moodwriter.domain.diary.dto.DiaryImportResponse;
+import com.example.moodwriter.domain.diary.exception.DiaryException;
+import com.example.moodwriter.domain.diary.service.DiaryImportQueue.QueuedImport;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisQueue;
+import com.example.moodwriter.global.constant.FilePath;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import com.example.moodwriter.global.s3.dto.FileDto;
+import com.example.moodwriter.global.s3.service.S3FileService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryImportServiceTest {
+
+  private static final String FILE_NAME = "DIARY_IMPORT/diaries.ndjson";
+
+  @Mock
+  private DiaryImportTracker diaryImportTracker;
+
+  @Mock
+  private DiaryImportWriter diaryImportWriter;
+
+  @Mock
+  private DiaryImportQueue diaryImportQueue;
+
+  @Mock
+  private EmotionAnalysisQueue emotionAnalysisQueue;
+
+  @Mock
+  private S3FileService s3FileService;
+
+  private DiaryImportService diaryImportService;
+
+  private final UUID userId = UUID.randomUUID();
+  private final UUID importId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    diaryImportService = createService(false);
+  }
+
+  @Test
+  void startImport_shouldWriteInBatches_andSkipInvalidEntries() {
+    // given
+    MockMultipartFile file = createFile(
+        "{\"date\":\"2024-10-01\",\"content\":\"첫째 날\"}",
+        "{\"date\":\"2024-10-02\",\"content\":\"둘째 날\",\"emotionScore\":70}",
+        "{\"date\":null,\"content\":\"날짜 없음\"}",
+        "{\"date\":\"2024-10-03\",\"content\":\" \"}",
+        "{\"date\":\"2024-10-04\",\"content\":\"넷째 날\"}");
+
+    DiaryImportResponse response = DiaryImportResponse.builder()
+        .importId(importId)
+        .status(DiaryImportStatus.COMPLETED)
+        .build();
+
+    givenUploadedFile(file);
+    given(diaryImportWriter.write(eq(userId), anyMap()))
+        .willReturn(List.of(UUID.randomUUID(), UUID.randomUUID()))
+        .willReturn(List.of(UUID.randomUUID()));
+    given(diaryImportTracker.get(importId, userId)).willReturn(response);
+
+    // when
+    DiaryImportResponse result = diaryImportService.startImport(userId, file, false);
+
+    // then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<UUID, DiaryImportEntry>> argumentCaptor =
+        ArgumentCaptor.forClass(Map.class);
+    verify(diaryImportWriter, times(2)).write(eq(userId), argumentCaptor.capture());
+    assertEquals(LocalDate.of(2024, 10, 4),
+        argumentCaptor.getAllValues().get(1).values().iterator().next().getDate());
+
+    verify(diaryImportTracker).addProgress(importId, 2, 0);
+    verify(diaryImportTracker).addProgress(importId, 1, 2);
+    verify(diaryImportTracker).finish(importId, DiaryImportStatus.COMPLETED);
+    verify(s3FileService).deleteFile(FILE_NAME);
+    verify(emotionAnalysisQueue, never()).enqueue(any(UUID.class), anyList());
+    assertEquals(response, result);
+  }
+
+  @Test
+  void startImport_shouldQueueEmotionAnalysis_whenAnalyzeIsTrue() {
+    // given
+    MockMultipartFile file = createFile("{\"date\":\"2024-10-01\",\"content\":\"첫째 날\"}");
+    List<UUID> diaryIds = List.of(UUID.randomUUID());
+
+    givenUploadedFile(file);
+    given(diaryImportWriter.write(eq(userId), anyMap())).willReturn(diaryIds);
+
+    // when
+    diaryImportService.startImport(userId, file, true);
+
+    // then
+    verify(emotionAnalysisQueue).enqueue(userId, diaryIds);
+    verify(diaryImportTracker).finish(importId, DiaryImportStatus.COMPLETED);
+  }
+
+  @Test
+  void startImport_shouldMarkFailed_whenFileIsMalformed() {
+    // given
+    MockMultipartFile file = createFile(
+        "{\"date\":\"2024-10-01\",\"content\":\"첫째 날\"}",
+        "{\"date\":\"2024-10-02\",\"content\":");
+
+    givenUploadedFile(file);
+
+    // when
+    diaryImportService.startImport(userId, file, false);
+
+    // then
+    verify(diaryImportWriter, never()).write(any(UUID.class), anyMap());
+    verify(diaryImportTracker).finish(importId, DiaryImportStatus.FAILED);
+  }
+
+  @Test
+  void startImport_shouldThrowDiaryException_whenFileIsEmpty() {
+    // given
+    MockMultipartFile file = new MockMultipartFile("file", new byte[0]);
+
+    // when & then
+    DiaryException diaryException = assertThrows(DiaryException.class,
+        () -> diaryImportService.startImport(userId, file, false));
+
+    assertEquals(ErrorCode.EMPTY_DIARY_IMPORT_FILE, diaryException.getErrorCode());
+    verify(diaryImportTracker, never()).start(any(UUID.class));
+  }
+
+  @Test
+  void startImport_shouldEnqueueImport_whenQueueIsEnabled() {
+    // given
+    diaryImportService = createService(true);
+    MockMultipartFile file = createFile("{\"date\":\"2024-10-01\",\"content\":\"첫째 날\"}");
+
+    given(s3FileService.uploadFile(file, FilePath.DIARY_IMPORT))
+        .willReturn(new FileDto(null, FILE_NAME, null));
+    given(diaryImportTracker.start(userId)).willReturn(importId);
+
+    // when
+    diaryImportService.startImport(userId, file, true);
+
+    // then
+    ArgumentCaptor<QueuedImport> argumentCaptor = ArgumentCaptor.forClass(QueuedImport.class);
+    verify(diaryImportQueue).enqueue(argumentCaptor.capture());
+    assertEquals(importId, argumentCaptor.getValue().importId());
+    assertEquals(userId, argumentCaptor.getValue().userId());
+    assertEquals(FILE_NAME, argumentCaptor.getValue().fileName());
+    assertTrue(argumentCaptor.getValue().analyze());
+    verify(diaryImportWriter, never()).write(any(UUID.class), anyMap());
+  }
+
+  @Test
+  void processQueued_shouldGiveSameDiaryIds_whenImportIsProcessedAgain() {
+    // given
+    QueuedImport queuedImport = new QueuedImport(importId, userId, 1_727_740_800_000L,
+        false, FILE_NAME);
+    byte[] content = "{\"date\":\"2024-10-01\",\"content\":\"첫째 날\"}"
+        .getBytes(StandardCharsets.UTF_8);
+
+    given(diaryImportQueue.peek()).willReturn(Optional.of(queuedImport));
+    given(s3FileService.openFile(FILE_NAME))
+        .willReturn(new ByteArrayInputStream(content), new ByteArrayInputStream(content));
+    given(diaryImportWriter.write(eq(userId), anyMap())).willReturn(List.of());
+
+    // when
+    diaryImportService.processQueued();
+    diaryImportService.processQueued();
+
+    // then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<UUID, DiaryImportEntry>> argumentCaptor =
+        ArgumentCaptor.forClass(Map.class);
+    verify(diaryImportWriter, times(2)).write(eq(userId), argumentCaptor.capture());
+    assertEquals(argumentCaptor.getAllValues().get(0).keySet(),
+        argumentCaptor.getAllValues().get(1).keySet());
+
+    verify(diaryImportTracker, times(2)).restart(importId);
+    verify(diaryImportTracker, times(2)).addProgress(importId, 1, 0);
+    verify(diaryImportQueue, times(2)).remove(queuedImport);
+    verify(s3FileService, times(2)).deleteFile(FILE_NAME);
+  }
+
+  @Test
+  void processQueued_shouldReturnFalse_whenQueueIsEmpty() {
+    // given
+    given(diaryImportQueue.peek()).willReturn(Optional.empty());
+
+    // when & then
+    assertFalse(diaryImportService.processQueued());
+    verify(diaryImportTracker, never()).restart(any(UUID.class));
+  }
+
+  private DiaryImportService createService(boolean queueEnabled) {
+    return new DiaryImportService(diaryImportTracker, diaryImportWriter, diaryImportQueue,
+        emotionAnalysisQueue, s3FileService,
+        new ObjectMapper().registerModule(new JavaTimeModule()), Runnable::run, 2,
+        queueEnabled);
+  }
+
+  private void givenUploadedFile(MockMultipartFile file) {
+    given(s3FileService.uploadFile(file, FilePath.DIARY_IMPORT))
+        .willReturn(new FileDto(null, FILE_NAME, null));
+    given(diaryImportTracker.start(userId)).willReturn(importId);
+    try {
+      given(s3FileService.openFile(FILE_NAME)).willReturn(file.getInputStream());
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private MockMultipartFile createFile(String... lines) {
+    return new MockMultipartFile("file", "diaries.ndjson", "application/x-ndjson",
+        String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,128 @@
+package com.example.moodwriter.domain.diary.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.moodwriter.domain.diary.dao.DiaryMonthSummaryRepository;
+import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.dao.DiarySearchTokenRepository;
+import com.example.moodwriter.domain.diary.dto.DiaryImportEntry;
+import com.example.moodwriter.domain.diary.entity.Diary;
+import com.example.moodwriter.domain.diary.entity.DiaryMonthSummary;
+import com.example.moodwriter.domain.user.dao.UserRepository;
+import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.util.UuidUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@EnableJpaAuditing
+@Import({DiaryImportWriter.class, DiarySearchIndexer.class, DiaryCalendarService.class})
+class DiaryImportWriterTest {
+
+  @Autowired
+  private DiaryImportWriter diaryImportWriter;
+
+  @Autowired
+  private DiaryRepository diaryRepository;
+
+  @Autowired
+  private DiarySearchTokenRepository diarySearchTokenRepository;
+
+  @Autowired
+  private DiaryMonthSummaryRepository diaryMonthSummaryRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @MockBean
+  private ObjectMapper objectMapper;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = userRepository.save(User.builder()
+        .email("test@email.com")
+        .passwordHash("Password12!@")
+        .name("이름")
+        .build());
+
+    diaryMonthSummaryRepository.save(DiaryMonthSummary.builder()
+        .user(user)
+        .month(YearMonth.of(2024, 10))
+        .build());
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void write_shouldInsertFinalSavedDiaries_andIndexThem() {
+    // given
+    Map<UUID, DiaryImportEntry> entries = new LinkedHashMap<>();
+    entries.put(UuidUtils.timeOrderedUuid(),
+        new DiaryImportEntry(LocalDate.of(2024, 10, 1), "공원에서 산책을 했다."));
+    entries.put(UuidUtils.timeOrderedUuid(),
+        new DiaryImportEntry(LocalDate.of(2024, 10, 2), "비가 왔다."));
+
+    // when
+    List<UUID> diaryIds = diaryImportWriter.write(user.getId(), entries);
+    entityManager.clear();
+
+    // then
+    assertEquals(List.copyOf(entries.keySet()), diaryIds);
+
+    Diary diary = diaryRepository.findById(diaryIds.get(0)).orElseThrow();
+    assertEquals("공원에서 산책을 했다.", diary.getContent());
+    assertEquals(LocalDate.of(2024, 10, 1), diary.getDate());
+    assertEquals(user.getId(), diary.getUser().getId());
+    assertFalse(diary.isTemp());
+    assertFalse(diary.isDeleted());
+
+    assertFalse(diarySearchTokenRepository.findAll().isEmpty());
+    assertTrue(diaryMonthSummaryRepository.findByUserAndMonth(user,
+        LocalDate.of(2024, 10, 1)).isEmpty());
+  }
+
+  @Test
+  void write_shouldSkipDiariesAlreadyInserted_whenBatchIsWrittenAgain() {
+    // given
+    UUID insertedDiaryId = UuidUtils.timeOrderedUuid();
+    UUID newDiaryId = UuidUtils.timeOrderedUuid();
+    DiaryImportEntry insertedEntry =
+        new DiaryImportEntry(LocalDate.of(2024, 10, 1), "공원에서 산책을 했다.");
+    diaryImportWriter.write(user.getId(), Map.of(insertedDiaryId, insertedEntry));
+
+    Map<UUID, DiaryImportEntry> entries = new LinkedHashMap<>();
+    entries.put(insertedDiaryId, insertedEntry);
+    entries.put(newDiaryId, new DiaryImportEntry(LocalDate.of(2024, 10, 2), "비가 왔다."));
+
+    // when
+    List<UUID> diaryIds = diaryImportWriter.write(user.getId(), entries);
+    entityManager.clear();
+
+    // then
+    assertEquals(List.of(newDiaryId), diaryIds);
+    assertEquals(2, diaryRepository.count());
+  }
+}
@@ -0,0 +1,72 @@
+package com.example.moodwriter.domain.diary.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.moodwriter.domain.diary.dto.DiaryResponse;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class DiaryResponseCacheTest {
+
+  private DiaryResponseCache diaryResponseCache;
+
+  @BeforeEach
+  void setUp() {
+    diaryResponseCache = new DiaryResponseCache(
+        new ConcurrentMapCacheManager(DiaryResponseCache.CACHE_NAME));
+  }
+
+  @Test
+  void put_shouldCacheFinalSavedDiary_onlyForOwner() {
+    // given
+    UUID userId = UUID.randomUUID();
+    DiaryResponse response = createResponse(false);
+
+    // when
+    diaryResponseCache.put(userId, response);
+
+    // then
+    assertEquals(response, diaryResponseCache.get(response.getDiaryId(), userId).orElseThrow());
+    assertTrue(diaryResponseCache.get(response.getDiaryId(), UUID.randomUUID()).isEmpty());
+  }
+
+  @Test
+  void put_shouldNotCacheTempDiary() {
+    // given
+    UUID userId = UUID.randomUUID();
+    DiaryResponse response = createResponse(true);
+
+    // when
+    diaryResponseCache.put(userId, response);
+
+    // then
+    assertTrue(diaryResponseCache.get(response.getDiaryId(), userId).isEmpty());
+  }
+
+  @Test
+  void evict_shouldRemoveCachedDiary() {
+    // given
+    UUID userId = UUID.randomUUID();
+    DiaryResponse response = createResponse(false);
+    diaryResponseCache.put(userId, response);
+
+    // when
+    diaryResponseCache.evict(response.getDiaryId(), userId);
+
+    // then
+    assertTrue(diaryResponseCache.get(response.getDiaryId(), userId).isEmpty());
+  }
+
+  private DiaryResponse createResponse(boolean isTemp) {
+    return DiaryResponse.builder()
+        .diaryId(UUID.randomUUID())
+        .content("내용")
+        .date(LocalDate.of(2024, 10, 1))
+        .isTemp(isTemp)
+        .build();
+  }
+}
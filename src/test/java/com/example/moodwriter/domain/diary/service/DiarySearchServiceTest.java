@@ -0,0 +1,191 @@
+package com.example.moodwriter.domain.diary.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.dto.DiarySearchResponse;
+import com.example.moodwriter.domain.diary.entity.Diary;
+import com.example.moodwriter.domain.user.dao.UserRepository;
+import com.example.moodwriter.domain.user.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@EnableJpaAuditing
+@Import({DiarySearchService.class, DiarySearchIndexer.class})
+class DiarySearchServiceTest {
+
+  @Autowired
+  private DiarySearchService diarySearchService;
+
+  @Autowired
+  private DiarySearchIndexer diarySearchIndexer;
+
+  @Autowired
+  private DiaryRepository diaryRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @MockBean
+  private ObjectMapper objectMapper;
+
+  private UUID userId;
+  private Diary walkDiary;
+  private Diary rainyWalkDiary;
+
+  @BeforeEach
+  void setUp() {
+    User user = userRepository.save(User.builder()
+        .email("test@email.com")
+        .passwordHash("Password12!@")
+        .name("이름")
+        .build());
+    userId = user.getId();
+
+    User anotherUser = userRepository.save(User.builder()
+        .email("test2@email.com")
+        .passwordHash("Password12!@")
+        .name("이름")
+        .build());
+
+    walkDiary = saveAndIndex(user, "오늘은 공원에서 산책을 했다.", LocalDate.of(2024, 10, 1));
+    rainyWalkDiary = saveAndIndex(user, "비가 와서 산책을 못했다. 내일은 꼭 산책을 해야지.",
+        LocalDate.of(2024, 10, 2));
+    saveAndIndex(user, "책을 읽으며 산에 가는 상상을 했다.", LocalDate.of(2024, 10, 3));
+    saveAndIndex(anotherUser, "다른 사람의 산책 일기", LocalDate.of(2024, 10, 1));
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void searchDiaries_shouldRankByTermFrequency_andHighlightMatches() {
+    // when
+    List<DiarySearchResponse> responses = diarySearchService.searchDiaries("산책", 20, userId);
+
+    // then
+    assertEquals(2, responses.size());
+    assertEquals(rainyWalkDiary.getId(), responses.get(0).getDiaryId());
+    assertEquals(walkDiary.getId(), responses.get(1).getDiaryId());
+    assertTrue(responses.get(0).getScore() > responses.get(1).getScore());
+    assertEquals("비가 와서 <em>산책</em>을 못했다. 내일은 꼭 <em>산책</em>을 해야지.",
+        responses.get(0).getHighlight());
+  }
+
+  @Test
+  void searchDiaries_shouldEscapeContent_whenHighlighting() {
+    // given
+    saveAndIndex(userRepository.findById(userId).orElseThrow(),
+        "<b>요가</b> & \"명상\"", LocalDate.of(2024, 10, 4));
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    List<DiarySearchResponse> responses = diarySearchService.searchDiaries("요가", 20, userId);
+
+    // then
+    assertEquals(1, responses.size());
+    assertEquals("&lt;b&gt;<em>요가</em>&lt;/b&gt; &amp; &quot;명상&quot;",
+        responses.get(0).getHighlight());
+  }
+
+  @Test
+  void searchDiaries_shouldFetchNextCandidates_whenCandidatesDoNotMatch() {
+    // given
+    User user = userRepository.findById(userId).orElseThrow();
+    for (int i = 0; i < 3; i++) {
+      Diary tempDiary = diaryRepository.save(Diary.builder()
+          .user(user)
+          .content("산책 산책 산책 산책")
+          .date(LocalDate.of(2024, 10, 5))
+          .isTemp(true)
+          .isDeleted(false)
+          .build());
+      diaryRepository.flush();
+      diarySearchIndexer.index(tempDiary);
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    List<DiarySearchResponse> responses = diarySearchService.searchDiaries("산책", 1, userId);
+
+    // then
+    assertEquals(1, responses.size());
+    assertEquals(rainyWalkDiary.getId(), responses.get(0).getDiaryId());
+  }
+
+  @Test
+  void searchDiaries_shouldNotSplitSurrogatePair_whenCuttingSnippet() {
+    // given
+    saveAndIndex(userRepository.findById(userId).orElseThrow(),
+        "a" + "😀".repeat(30) + "요가", LocalDate.of(2024, 10, 4));
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    List<DiarySearchResponse> responses = diarySearchService.searchDiaries("요가", 20, userId);
+
+    // then
+    assertEquals(1, responses.size());
+    assertEquals("..." + "😀".repeat(20) + "<em>요가</em>", responses.get(0).getHighlight());
+  }
+
+  @Test
+  void searchDiaries_shouldReturnOnlyDiariesContainingEveryWord() {
+    // when
+    List<DiarySearchResponse> responses = diarySearchService.searchDiaries("산책 상상", 20,
+        userId);
+
+    // then
+    assertTrue(responses.isEmpty());
+  }
+
+  @Test
+  void searchDiaries_shouldNotReturnRemovedDiary() {
+    // given
+    diarySearchIndexer.remove(walkDiary.getId());
+
+    // when
+    List<DiarySearchResponse> responses = diarySearchService.searchDiaries("공원", 20, userId);
+
+    // then
+    assertTrue(responses.isEmpty());
+  }
+
+  @Test
+  void searchDiaries_shouldReturnEmptyList_whenQueryHasNoToken() {
+    // when & then
+    assertTrue(diarySearchService.searchDiaries("!!", 20, userId).isEmpty());
+  }
+
+  private Diary saveAndIndex(User user, String content, LocalDate date) {
+    Diary diary = diaryRepository.save(Diary.builder()
+        .user(user)
+        .content(content)
+        .date(date)
+        .isTemp(false)
+        .isDeleted(false)
+        .build());
+    diaryRepository.flush();
+    diarySearchIndexer.index(diary);
+    return diary;
+  }
+}
@@ -0,0 +1,47 @@
+package com.example.moodwriter.domain.diary.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class DiarySearchTokenizerTest {
+
+  @Test
+  void tokenize_shouldCountUnigramsAndBigramsPerWord() {
+    // when
+    Map<String, Integer> frequencies = DiarySearchTokenizer.tokenize("산책을 했다. 산책!");
+
+    // then
+    assertEquals(2, frequencies.get("산책"));
+    assertEquals(1, frequencies.get("책을"));
+    assertEquals(1, frequencies.get("했다"));
+    assertEquals(2, frequencies.get("산"));
+    assertNull(frequencies.get("을했"));
+  }
+
+  @Test
+  void tokenize_shouldReturnEmptyMap_whenTextIsNull() {
+    // when & then
+    assertTrue(DiarySearchTokenizer.tokenize(null).isEmpty());
+  }
+
+  @Test
+  void queryTokens_shouldUseBigramsAndSingleCharacterWords() {
+    // when
+    Set<String> tokens = DiarySearchTokenizer.queryTokens("Happy 비");
+
+    // then
+    assertEquals(Set.of("ha", "ap", "pp", "py", "비"), tokens);
+  }
+
+  @Test
+  void toWords_shouldNormalizeCaseAndSplitOnPunctuation() {
+    // when & then
+    assertEquals(List.of("오늘", "good", "day"), DiarySearchTokenizer.toWords("오늘, GOOD-day!"));
+  }
+}
@@ -0,0 +1,165 @@
+package com.example.moodwriter.domain.diary.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.dto.DiaryResponse;
+import com.example.moodwriter.domain.diary.entity.Diary;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository;
+import com.example.moodwriter.domain.emotion.entity.EmotionAnalysis;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisResponseCache;
+import com.example.moodwriter.domain.emotion.service.EmotionTrendService;
+import com.example.moodwriter.domain.user.dao.UserRepository;
+import com.example.moodwriter.domain.user.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnableJpaAuditing
+@Import(DiaryService.class)
+class DiaryServiceQueryCountTest {
+
+  private static final int PAGE_SIZE = 30;
+
+  @Autowired
+  private DiaryService diaryService;
+
+  @Autowired
+  private DiaryRepository diaryRepository;
+
+  @Autowired
+  private EmotionAnalysisRepository emotionAnalysisRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @MockBean
+  private ObjectMapper objectMapper;
+
+  @MockBean
+  private DiaryDraftBuffer diaryDraftBuffer;
+
+  @MockBean
+  private DiarySearchIndexer diarySearchIndexer;
+
+  @MockBean
+  private DiaryCalendarService diaryCalendarService;
+
+  @MockBean
+  private DiaryResponseCache diaryResponseCache;
+
+  @MockBean
+  private EmotionAnalysisResponseCache emotionAnalysisResponseCache;
+
+  @MockBean
+  private EmotionTrendService emotionTrendService;
+
+  private UUID userId;
+  private final Set<UUID> analyzedDiaryIds = new HashSet<>();
+
+  @BeforeEach
+  void setUp() {
+    User user = userRepository.save(User.builder()
+        .email("test@email.com")
+        .passwordHash("Password12!@")
+        .name("이름")
+        .build());
+    userId = user.getId();
+
+    for (int i = 0; i < PAGE_SIZE + 5; i++) {
+      Diary diary = diaryRepository.save(Diary.builder()
+          .user(user)
+          .content("내용" + i)
+          .date(LocalDate.of(2024, 10, 1).plusDays(i))
+          .isTemp(false)
+          .isDeleted(false)
+          .build());
+
+      if (i % 3 == 0) {
+        emotionAnalysisRepository.save(EmotionAnalysis.builder()
+            .user(user)
+            .diary(diary)
+            .date(diary.getDate())
+            .analysisContent("분석 내용" + i)
+            .isDeleted(false)
+            .build());
+        analyzedDiaryIds.add(diary.getId());
+      }
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void getDiariesByDateRange_shouldExecuteTwoStatementsPerPage() {
+    // given
+    Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("date").descending());
+    Statistics statistics = getClearedStatistics();
+
+    // when
+    Slice<DiaryResponse> responses = diaryService.getDiariesByDateRange(
+        LocalDate.of(2024, 10, 1), LocalDate.of(2024, 12, 31), pageable, userId);
+
+    // then
+    assertEquals(PAGE_SIZE, responses.getContent().size());
+    assertTrue(responses.hasNext());
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertHaveEmotionAnalysisMatches(responses);
+  }
+
+  @Test
+  void getAllMyDiaries_shouldExecuteTwoStatementsPerPage() {
+    // given
+    Pageable pageable = PageRequest.of(1, PAGE_SIZE, Sort.by("date").descending());
+    Statistics statistics = getClearedStatistics();
+
+    // when
+    Slice<DiaryResponse> responses = diaryService.getAllMyDiaries(pageable, userId);
+
+    // then
+    assertEquals(5, responses.getContent().size());
+    assertFalse(responses.hasNext());
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertHaveEmotionAnalysisMatches(responses);
+  }
+
+  private Statistics getClearedStatistics() {
+    Statistics statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+    return statistics;
+  }
+
+  private void assertHaveEmotionAnalysisMatches(Slice<DiaryResponse> responses) {
+    for (DiaryResponse response : responses.getContent()) {
+      assertEquals(analyzedDiaryIds.contains(response.getDiaryId()),
+          response.isHaveEmotionAnalysis());
+    }
+  }
+}
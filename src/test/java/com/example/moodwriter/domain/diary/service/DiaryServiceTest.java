@@ -2,34 +2,51 @@ package com.example.moodwriter.domain.diary.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.dao.DiaryRepository.DiaryRangeVersion;
 import com.example.moodwriter.domain.diary.dto.DiaryAutoSaveRequest;
 import com.example.moodwriter.domain.diary.dto.DiaryCreateRequest;
+import com.example.moodwriter.domain.diary.dto.DiaryDeltaSaveRequest;
+import com.example.moodwriter.domain.diary.dto.DiaryDraft;
 import com.example.moodwriter.domain.diary.dto.DiaryFinalSaveRequest;
+import com.example.moodwriter.domain.diary.dto.DiaryHeader;
 import com.example.moodwriter.domain.diary.dto.DiaryResponse;
+import com.example.moodwriter.domain.diary.dto.DiaryTextOperation;
 import com.example.moodwriter.domain.diary.dto.DiaryTempExistsResponse;
 import com.example.moodwriter.domain.diary.entity.Diary;
 import com.example.moodwriter.domain.diary.exception.DiaryException;
+import com.example.moodwriter.domain.diary.exception.DiaryVersionConflictException;
 import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository.EmotionAnalysisRangeVersion;
 import com.example.moodwriter.domain.emotion.entity.EmotionAnalysis;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisResponseCache;
+import com.example.moodwriter.domain.emotion.service.EmotionTrendService;
 import com.example.moodwriter.domain.user.entity.User;
 import com.example.moodwriter.domain.user.exception.UserException;
 import com.example.moodwriter.global.exception.code.ErrorCode;
+import com.example.moodwriter.global.pagination.KeysetCursor;
+import com.example.moodwriter.global.pagination.dto.CursorResponse;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
@@ -38,10 +55,16 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class DiaryServiceTest {
@@ -55,6 +78,24 @@ class DiaryServiceTest {
   @Mock
   private EmotionAnalysisRepository emotionAnalysisRepository;
 
+  @Mock
+  private DiaryDraftBuffer diaryDraftBuffer;
+
+  @Mock
+  private DiarySearchIndexer diarySearchIndexer;
+
+  @Mock
+  private DiaryCalendarService diaryCalendarService;
+
+  @Mock
+  private DiaryResponseCache diaryResponseCache;
+
+  @Mock
+  private EmotionAnalysisResponseCache emotionAnalysisResponseCache;
+
+  @Mock
+  private EmotionTrendService emotionTrendService;
+
   @InjectMocks
   private DiaryService diaryService;
 
@@ -146,8 +187,7 @@ class DiaryServiceTest {
 
     given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
     given(diaryRepository.save(diary)).will(returnsFirstArg());
-    given(emotionAnalysisRepository.findByDiary(any(Diary.class)))
-        .willReturn(Optional.empty());
+    given(emotionAnalysisRepository.existsByDiaryId(diaryId)).willReturn(false);
 
     // when
     DiaryResponse response = diaryService.autoSaveDiary(diaryId, userId, request);
@@ -162,6 +202,323 @@ class DiaryServiceTest {
     assertEquals(now, response.getUpdatedAt());
   }
 
+  @Test
+  void autoSaveDiary_shouldNotRefreshCalendar_whenDateIsNotChanged() {
+    // given
+    UUID diaryId = UUID.randomUUID();
+    UUID userId = UUID.randomUUID();
+    LocalDate date = LocalDate.of(2024, 10, 1);
+
+    DiaryAutoSaveRequest request = DiaryAutoSaveRequest.builder()
+        .content("임시 저장 내용")
+        .date(date)
+        .build();
+
+    User user = mock(User.class);
+    given(user.getId()).willReturn(userId);
+
+    Diary diary = spy(Diary.builder()
+        .user(user)
+        .content("이전 내용")
+        .date(date)
+        .isTemp(true)
+        .isDeleted(false)
+        .build());
+    given(diary.getId()).willReturn(diaryId);
+
+    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    given(diaryRepository.save(diary)).will(returnsFirstArg());
+    given(emotionAnalysisRepository.existsByDiaryId(diaryId)).willReturn(false);
+
+    // when
+    diaryService.autoSaveDiary(diaryId, userId, request);
+
+    // then
+    assertEquals(request.getContent(), diary.getContent());
+    verify(diaryCalendarService, never()).refreshDays(any(), any(LocalDate[].class));
+  }
+
+  @Test
+  void autoSaveDiary_shouldBufferDraft_whenWriteBehindIsEnabled() {
+    // given
+    ReflectionTestUtils.setField(diaryService, "writeBehindEnabled", true);
+
+    UUID diaryId = UUID.randomUUID();
+    UUID userId = UUID.randomUUID();
+
+    DiaryAutoSaveRequest request = DiaryAutoSaveRequest.builder()
+        .content("임시 저장 내용")
+        .date(LocalDate.of(2024, 10, 1))
+        .build();
+
+    User user = mock(User.class);
+    given(user.getId()).willReturn(userId);
+
+    Diary diary = spy(Diary.builder()
+        .user(user)
+        .content("이전 내용")
+        .isTemp(true)
+        .isDeleted(false)
+        .build());
+    given(diary.getId()).willReturn(diaryId);
+
+    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    given(emotionAnalysisRepository.existsByDiaryId(diaryId)).willReturn(false);
+
+    // when
+    DiaryResponse response = diaryService.autoSaveDiary(diaryId, userId, request);
+
+    // then
+    ArgumentCaptor<DiaryDraft> argumentCaptor = ArgumentCaptor.forClass(DiaryDraft.class);
+    verify(diaryDraftBuffer).put(eq(diaryId), argumentCaptor.capture());
+    assertEquals(request.getContent(), argumentCaptor.getValue().getContent());
+    assertEquals(request.getDate(), argumentCaptor.getValue().getDate());
+    assertEquals(1L, argumentCaptor.getValue().getVersion());
+    verify(diaryRepository, never()).save(any(Diary.class));
+
+    assertEquals("이전 내용", diary.getContent());
+    assertEquals(diaryId, response.getDiaryId());
+    assertEquals(1L, response.getVersion());
+    assertEquals(request.getContent(), response.getContent());
+    assertEquals(request.getDate(), response.getDate());
+    assertTrue(response.isTemp());
+  }
+
+  @Test
+  void successDeltaSaveDiary() {
+    // given
+    UUID diaryId = UUID.randomUUID();
+    UUID userId = UUID.randomUUID();
+
+    DiaryDeltaSaveRequest request = DiaryDeltaSaveRequest.builder()
+        .baseRevision(0L)
+        .operations(List.of(DiaryTextOperation.builder()
+            .position(4)
+            .deleteCount(2)
+            .insert("운동")
+            .build()))
+        .build();
+
+    User user = mock(User.class);
+    given(user.getId()).willReturn(userId);
+
+    Diary diary = Diary.builder()
+        .user(user)
+        .content("오늘은 산책을 했다.")
+        .date(LocalDate.of(2024, 10, 1))
+        .isTemp(true)
+        .isDeleted(false)
+        .build();
+
+    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    given(diaryRepository.save(diary)).will(returnsFirstArg());
+    given(emotionAnalysisRepository.existsByDiaryId(diaryId)).willReturn(false);
+
+    // when
+    DiaryResponse response = diaryService.deltaSaveDiary(diaryId, userId, request);
+
+    // then
+    assertEquals("오늘은 운동을 했다.", diary.getContent());
+    assertEquals(LocalDate.of(2024, 10, 1), diary.getDate());
+    assertEquals(1L, diary.getRevision());
+    assertEquals(diary.getContent(), response.getContent());
+    assertEquals(1L, response.getRevision());
+    verify(diaryResponseCache).evict(diaryId, userId);
+  }
+
+  @Test
+  void deltaSaveDiary_shouldApplyToBufferedDraft_whenWriteBehindIsEnabled() {
+    // given
+    ReflectionTestUtils.setField(diaryService, "writeBehindEnabled", true);
+
+    UUID diaryId = UUID.randomUUID();
+    UUID userId = UUID.randomUUID();
+
+    DiaryDeltaSaveRequest request = DiaryDeltaSaveRequest.builder()
+        .baseRevision(3L)
+        .operations(List.of(DiaryTextOperation.builder()
+            .position(7)
+            .insert(" 즐거웠다.")
+            .build()))
+        .build();
+
+    User user = mock(User.class);
+    given(user.getId()).willReturn(userId);
+
+    Diary diary = spy(Diary.builder()
+        .user(user)
+        .content("이전 내용")
+        .isTemp(true)
+        .isDeleted(false)
+        .build());
+    given(diary.getId()).willReturn(diaryId);
+
+    DiaryDraft bufferedDraft = DiaryDraft.builder()
+        .content("버퍼 내용이다")
+        .date(LocalDate.of(2024, 10, 1))
+        .revision(3L)
+        .build();
+
+    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    given(diaryDraftBuffer.peek(diaryId)).willReturn(Optional.of(bufferedDraft));
+    given(emotionAnalysisRepository.existsByDiaryId(diaryId)).willReturn(false);
+
+    // when
+    DiaryResponse response = diaryService.deltaSaveDiary(diaryId, userId, request);
+
+    // then
+    ArgumentCaptor<DiaryDraft> argumentCaptor = ArgumentCaptor.forClass(DiaryDraft.class);
+    verify(diaryDraftBuffer).put(eq(diaryId), argumentCaptor.capture());
+    assertEquals("버퍼 내용이다 즐거웠다.", argumentCaptor.getValue().getContent());
+    assertEquals(bufferedDraft.getDate(), argumentCaptor.getValue().getDate());
+    assertEquals(4L, argumentCaptor.getValue().getRevision());
+    verify(diaryRepository, never()).save(any(Diary.class));
+
+    assertEquals("이전 내용", diary.getContent());
+    assertEquals(4L, response.getRevision());
+  }
+
+  @Test
+  void deltaSaveDiary_shouldReturnDiaryException_whenRevisionIsNotMatch() {
+    // given
+    UUID diaryId = UUID.randomUUID();
+    UUID userId = UUID.randomUUID();
+
+    DiaryDeltaSaveRequest request = DiaryDeltaSaveRequest.builder()
+        .baseRevision(5L)
+        .operations(List.of(DiaryTextOperation.builder().position(0).insert("추가").build()))
+        .build();
+
+    User user = mock(User.class);
+    given(user.getId()).willReturn(userId);
+
+    Diary diary = Diary.builder()
+        .user(user)
+        .content("내용")
+        .isTemp(true)
+        .isDeleted(false)
+        .build();
+
+    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+
+    // when & then
+    DiaryException diaryException = assertThrows(DiaryException.class,
+        () -> diaryService.deltaSaveDiary(diaryId, userId, request));
+
+    assertEquals(ErrorCode.DIARY_REVISION_MISMATCH, diaryException.getErrorCode());
+    assertEquals("내용", diary.getContent());
+    verify(diaryRepository, never()).save(any(Diary.class));
+  }
+
+  @Test
+  void flushBufferedDraft_shouldApplyDraftToTempDiary() {
+    // given
+    UUID diaryId = UUID.randomUUID();
+    UUID userId = UUID.randomUUID();
+
+    User user = mock(User.class);
+    given(user.getId()).willReturn(userId);
+
+    Diary diary = Diary.builder()
+        .user(user)
+        .content("이전 내용")
+        .isTemp(true)
+        .isDeleted(false)
+        .build();
+    DiaryDraft draft = DiaryDraft.builder()
+        .content("버퍼 내용")
+        .date(LocalDate.of(2024, 10, 1))
+        .build();
+
+    given(diaryDraftBuffer.peek(diaryId)).willReturn(Optional.of(draft));
+    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+
+    // when
+    diaryService.flushBufferedDraft(diaryId);
+
+    // then
+    verify(diaryRepository).save(diary);
+    verify(diaryCalendarService).refreshDays(userId, null, draft.getDate());
+    verify(diaryDraftBuffer).remove(diaryId, draft);
+    assertEquals(draft.getContent(), diary.getContent());
+    assertEquals(draft.getDate(), diary.getDate());
+  }
+
+  @Test
+  void flushBufferedDraft_shouldAdvanceVersion_whenDraftWasSavedSeveralTimes() {
+    // given
+    UUID diaryId = UUID.randomUUID();
+    UUID userId = UUID.randomUUID();
+
+    User user = mock(User.class);
+    given(user.getId()).willReturn(userId);
+
+    Diary diary = spy(Diary.builder()
+        .user(user)
+        .content("이전 내용")
+        .isTemp(true)
+        .isDeleted(false)
+        .build());
+    given(diary.getId()).willReturn(diaryId);
+    DiaryDraft draft = DiaryDraft.builder()
+        .content("버퍼 내용")
+        .date(LocalDate.of(2024, 10, 1))
+        .revision(3L)
+        .version(3L)
+        .build();
+
+    given(diaryDraftBuffer.peek(diaryId)).willReturn(Optional.of(draft));
+    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+
+    // when
+    diaryService.flushBufferedDraft(diaryId);
+
+    // then
+    verify(diaryRepository).save(diary);
+    verify(diaryRepository).advanceVersion(diaryId, 3L);
+    verify(entityManager).refresh(diary);
+  }
+
+  @Test
+  void flushBufferedDraft_shouldDiscardDraft_whenDiaryIsNotTemp() {
+    // given
+    UUID diaryId = UUID.randomUUID();
+
+    Diary diary = Diary.builder()
+        .content("최종 내용")
+        .isTemp(false)
+        .isDeleted(false)
+        .build();
+    DiaryDraft draft = DiaryDraft.builder()
+        .content("버퍼 내용")
+        .build();
+
+    given(diaryDraftBuffer.peek(diaryId)).willReturn(Optional.of(draft));
+    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+
+    // when
+    diaryService.flushBufferedDraft(diaryId);
+
+    // then
+    verify(diaryRepository, never()).save(any(Diary.class));
+    verify(diaryDraftBuffer).remove(diaryId, draft);
+    assertEquals("최종 내용", diary.getContent());
+  }
+
+  @Test
+  void flushBufferedDraft_shouldDoNothing_whenDraftIsNotExist() {
+    // given
+    UUID diaryId = UUID.randomUUID();
+
+    given(diaryDraftBuffer.peek(diaryId)).willReturn(Optional.empty());
+
+    // when
+    diaryService.flushBufferedDraft(diaryId);
+
+    // then
+    verify(diaryRepository, never()).findById(any(UUID.class));
+  }
+
   @Test
   void autoSaveDiary_shouldReturnDiaryException_whenDiaryIsNotExist() {
     // given
@@ -251,6 +608,83 @@ class DiaryServiceTest {
     assertEquals(ErrorCode.CONFLICT_DIARY_STATE, diaryException.getErrorCode());
   }
 
+  @Test
+  void autoSaveDiary_shouldReturnDiaryVersionConflictException_whenVersionIsNotMatched() {
+    // given
+    UUID diaryId = UUID.randomUUID();
+    UUID userId = UUID.randomUUID();
+    DiaryAutoSaveRequest request = DiaryAutoSaveRequest.builder()
+        .content("자동 저장 내용")
+        .version(1L)
+        .build();
+
+    User user = mock(User.class);
+    given(user.getId()).willReturn(userId);
+
+    Diary diary = spy(Diary.builder()
+        .user(user)
+        .content("다른 기기에서 저장한 내용")
+        .isDeleted(false)
+        .isTemp(true)
+        .build());
+    given(diary.getVersion()).willReturn(2L);
+    given(diary.getRevision()).willReturn(5L);
+
+    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+
+    // when & then
+    DiaryVersionConflictException exception = assertThrows(
+        DiaryVersionConflictException.class,
+        () -> diaryService.autoSaveDiary(diaryId, userId, request));
+
+    assertEquals(ErrorCode.DIARY_VERSION_CONFLICT, exception.getErrorCode());
+    assertEquals(2L, exception.getCurrentVersion());
+    assertEquals(5L, exception.getCurrentRevision());
+    assertEquals("다른 기기에서 저장한 내용", diary.getContent());
+    verify(diaryRepository, never()).save(any(Diary.class));
+  }
+
+  @Test
+  void autoSaveDiary_shouldReturnDiaryVersionConflictException_whenBufferedDraftIsNewer() {
+    // given
+    ReflectionTestUtils.setField(diaryService, "writeBehindEnabled", true);
+
+    UUID diaryId = UUID.randomUUID();
+    UUID userId = UUID.randomUUID();
+    DiaryAutoSaveRequest request = DiaryAutoSaveRequest.builder()
+        .content("자동 저장 내용")
+        .version(0L)
+        .build();
+
+    User user = mock(User.class);
+    given(user.getId()).willReturn(userId);
+
+    Diary diary = spy(Diary.builder()
+        .user(user)
+        .content("이전 내용")
+        .isDeleted(false)
+        .isTemp(true)
+        .build());
+    given(diary.getId()).willReturn(diaryId);
+    DiaryDraft bufferedDraft = DiaryDraft.builder()
+        .content("다른 기기에서 저장한 내용")
+        .revision(1L)
+        .version(1L)
+        .build();
+
+    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    given(diaryDraftBuffer.peek(diaryId)).willReturn(Optional.of(bufferedDraft));
+
+    // when & then
+    DiaryVersionConflictException exception = assertThrows(
+        DiaryVersionConflictException.class,
+        () -> diaryService.autoSaveDiary(diaryId, userId, request));
+
+    assertEquals(1L, exception.getCurrentVersion());
+    assertEquals(1L, exception.getCurrentRevision());
+    verify(diaryDraftBuffer, never()).put(any(UUID.class), any(DiaryDraft.class));
+  }
+
   @Test
   void successFinalSaveDiary() {
     // given
@@ -284,6 +718,7 @@ class DiaryServiceTest {
     DiaryResponse response = diaryService.finalSaveDiary(diaryId, userId, request);
 
     // then
+    verify(diarySearchIndexer).index(diary);
     assertEquals(diaryId, response.getDiaryId());
     assertFalse(response.isHaveEmotionAnalysis());
     assertEquals(request.getContent(), response.getContent());
@@ -542,6 +977,31 @@ class DiaryServiceTest {
     assertEquals(diary.isTemp(), response.isTemp());
     assertEquals(now, response.getCreatedAt());
     assertEquals(now, response.getUpdatedAt());
+    verify(diaryResponseCache).put(userId, response);
+  }
+
+  @Test
+  void getDiary_shouldReturnCachedResponse_whenCacheHit() {
+    // given
+    UUID diaryId = UUID.randomUUID();
+    UUID userId = UUID.randomUUID();
+
+    DiaryResponse cachedResponse = DiaryResponse.builder()
+        .diaryId(diaryId)
+        .content("내용")
+        .date(LocalDate.of(2024, 10, 1))
+        .isTemp(false)
+        .build();
+
+    given(diaryResponseCache.get(diaryId, userId)).willReturn(Optional.of(cachedResponse));
+
+    // when
+    DiaryResponse response = diaryService.getDiary(diaryId, userId);
+
+    // then
+    assertEquals(cachedResponse, response);
+    verify(diaryRepository, never()).findById(any(UUID.class));
+    verify(emotionAnalysisRepository, never()).findByDiary(any(Diary.class));
   }
 
   @Test
@@ -612,29 +1072,22 @@ class DiaryServiceTest {
     // given
     UUID diaryId = UUID.randomUUID();
     UUID userId = UUID.randomUUID();
+    LocalDate date = LocalDate.of(2024, 10, 1);
 
-    User user = mock(User.class);
-    given(user.getId()).willReturn(userId);
-
-    Diary diary = Diary.builder()
-        .user(user)
-        .content("내용")
-        .date(LocalDate.of(2024, 10, 1))
-        .isTemp(false)
-        .isDeleted(false)
-        .build();
-
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
-    given(emotionAnalysisRepository.findByDiary(diary)).willReturn(Optional.empty());
+    given(diaryRepository.findHeaderById(diaryId))
+        .willReturn(Optional.of(createHeader(diaryId, userId, date, false, false)));
+    given(emotionAnalysisRepository.findByDiaryId(diaryId)).willReturn(Optional.empty());
 
     // when
     diaryService.deleteDiary(diaryId, userId);
 
     // then
-    assertTrue(diary.isDeleted());
-    assertNotNull(diary.getDeletedAt());
-
-    verify(diaryRepository).save(diary);
+    verify(diaryRepository).deactivateById(eq(diaryId), any(LocalDateTime.class));
+    verify(diaryRepository, never()).findById(any(UUID.class));
+    verify(diarySearchIndexer).remove(diaryId);
+    verify(diaryCalendarService).refreshDays(userId, date);
+    verify(diaryResponseCache).evict(diaryId, userId);
+    verify(emotionAnalysisResponseCache).evict(diaryId, userId);
   }
 
   @Test
@@ -643,36 +1096,27 @@ class DiaryServiceTest {
     UUID diaryId = UUID.randomUUID();
     UUID userId = UUID.randomUUID();
 
-    User user = mock(User.class);
-    given(user.getId()).willReturn(userId);
-
-    Diary diary = Diary.builder()
-        .user(user)
-        .content("내용")
-        .date(LocalDate.of(2024, 10, 1))
-        .isTemp(false)
-        .isDeleted(false)
-        .build();
-
     EmotionAnalysis emotionAnalysis = EmotionAnalysis.builder()
+        .date(LocalDate.of(2024, 10, 1))
+        .emotionScore(70)
         .isDeleted(false)
         .build();
 
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
-    given(emotionAnalysisRepository.findByDiary(diary)).willReturn(
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(
+        createHeader(diaryId, userId, LocalDate.of(2024, 10, 1), false, false)));
+    given(emotionAnalysisRepository.findByDiaryId(diaryId)).willReturn(
         Optional.of(emotionAnalysis));
 
     // when
     diaryService.deleteDiary(diaryId, userId);
 
     // then
-    assertTrue(diary.isDeleted());
-    assertNotNull(diary.getDeletedAt());
-
-    verify(diaryRepository).save(diary);
+    verify(diaryRepository).deactivateById(eq(diaryId), any(LocalDateTime.class));
 
     assertTrue(emotionAnalysis.isDeleted());
     assertNotNull(emotionAnalysis.getDeletedAt());
+    verify(emotionTrendService).applyScoreChange(userId, LocalDate.of(2024, 10, 1), 70,
+        null, null);
   }
 
   @Test
@@ -681,7 +1125,7 @@ class DiaryServiceTest {
     UUID diaryId = UUID.randomUUID();
     UUID userId = UUID.randomUUID();
 
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.empty());
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.empty());
 
     // when & then
     DiaryException diaryException = assertThrows(DiaryException.class,
@@ -695,25 +1139,18 @@ class DiaryServiceTest {
     // given
     UUID diaryId = UUID.randomUUID();
     UUID userId = UUID.randomUUID();
-
-    User user = mock(User.class);
     UUID anotherUserId = UUID.randomUUID();
-    given(user.getId()).willReturn(anotherUserId);
 
-    Diary diary = Diary.builder()
-        .user(user)
-        .content("내용")
-        .isTemp(false)
-        .isDeleted(false)
-        .build();
-
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(
+        createHeader(diaryId, anotherUserId, LocalDate.of(2024, 10, 1), false, false)));
 
     // when & then
     UserException userException = assertThrows(UserException.class,
         () -> diaryService.deleteDiary(diaryId, userId));
 
     assertEquals(ErrorCode.FORBIDDEN_ACCESS_DIARY, userException.getErrorCode());
+    verify(diaryRepository, never()).deactivateById(any(UUID.class),
+        any(LocalDateTime.class));
   }
 
   @Test
@@ -722,17 +1159,8 @@ class DiaryServiceTest {
     UUID diaryId = UUID.randomUUID();
     UUID userId = UUID.randomUUID();
 
-    User user = mock(User.class);
-    given(user.getId()).willReturn(userId);
-
-    Diary diary = spy(Diary.builder()
-        .user(user)
-        .content("내용")
-        .isTemp(false)
-        .isDeleted(true)
-        .build());
-
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(
+        createHeader(diaryId, userId, LocalDate.of(2024, 10, 1), false, true)));
 
     // when & then
     DiaryException diaryException = assertThrows(DiaryException.class,
@@ -747,17 +1175,8 @@ class DiaryServiceTest {
     UUID diaryId = UUID.randomUUID();
     UUID userId = UUID.randomUUID();
 
-    User user = mock(User.class);
-    given(user.getId()).willReturn(userId);
-
-    Diary diary = Diary.builder()
-        .user(user)
-        .content("내용")
-        .isTemp(true)
-        .isDeleted(false)
-        .build();
-
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(
+        createHeader(diaryId, userId, LocalDate.of(2024, 10, 1), true, false)));
 
     // when & then
     DiaryException diaryException = assertThrows(DiaryException.class,
@@ -805,14 +1224,16 @@ class DiaryServiceTest {
         diaryRepository.findByDateBetweenAndIsDeletedFalseAndIsTempFalseAndUser(startDate,
             endDate, user, pageable))
         .willReturn(new SliceImpl<>(Arrays.asList(diary1, diary2)));
-    given(emotionAnalysisRepository.findByDiary(any(Diary.class)))
-        .willReturn(Optional.empty());
+    given(emotionAnalysisRepository.findDiaryIdsByDiaryIdIn(
+        List.of(diaryId1, diaryId2)))
+        .willReturn(List.of(diaryId2));
 
     // when
     Slice<DiaryResponse> responses = diaryService.getDiariesByDateRange(startDate,
         endDate, pageable, userId);
 
     // then
+    verify(emotionAnalysisRepository, never()).findByDiary(any(Diary.class));
     assertEquals(2, responses.getContent().size());
     assertEquals(diaryId1, responses.getContent().get(0).getDiaryId());
     assertFalse(responses.getContent().get(0).isHaveEmotionAnalysis());
@@ -822,7 +1243,7 @@ class DiaryServiceTest {
     assertEquals(now, responses.getContent().get(0).getCreatedAt());
     assertEquals(now, responses.getContent().get(0).getUpdatedAt());
     assertEquals(diaryId2, responses.getContent().get(1).getDiaryId());
-    assertFalse(responses.getContent().get(1).isHaveEmotionAnalysis());
+    assertTrue(responses.getContent().get(1).isHaveEmotionAnalysis());
     assertEquals(diary2.getContent(), responses.getContent().get(1).getContent());
     assertEquals(diary2.getDate(), responses.getContent().get(1).getDate());
     assertEquals(diary2.isTemp(), responses.getContent().get(1).isTemp());
@@ -882,13 +1303,15 @@ class DiaryServiceTest {
     given(
         diaryRepository.findAllByUserAndIsDeletedFalseAndIsTempFalse(user, pageable))
         .willReturn(new SliceImpl<>(Arrays.asList(diary1, diary2)));
-    given(emotionAnalysisRepository.findByDiary(any(Diary.class)))
-        .willReturn(Optional.empty());
+    given(emotionAnalysisRepository.findDiaryIdsByDiaryIdIn(
+        List.of(diaryId1, diaryId2)))
+        .willReturn(List.of(diaryId2));
 
     // when
     Slice<DiaryResponse> responses = diaryService.getAllMyDiaries(pageable, userId);
 
     // then
+    verify(emotionAnalysisRepository, never()).findByDiary(any(Diary.class));
     assertEquals(2, responses.getContent().size());
     assertEquals(diaryId1, responses.getContent().get(0).getDiaryId());
     assertFalse(responses.getContent().get(0).isHaveEmotionAnalysis());
@@ -898,7 +1321,7 @@ class DiaryServiceTest {
     assertEquals(now, responses.getContent().get(0).getCreatedAt());
     assertEquals(now, responses.getContent().get(0).getUpdatedAt());
     assertEquals(diaryId2, responses.getContent().get(1).getDiaryId());
-    assertFalse(responses.getContent().get(1).isHaveEmotionAnalysis());
+    assertTrue(responses.getContent().get(1).isHaveEmotionAnalysis());
     assertEquals(diary2.getContent(), responses.getContent().get(1).getContent());
     assertEquals(diary2.getDate(), responses.getContent().get(1).getDate());
     assertEquals(diary2.isTemp(), responses.getContent().get(1).isTemp());
@@ -907,6 +1330,111 @@ class DiaryServiceTest {
   }
 
 
+  @Test
+  void getAllMyDiaries_shouldNotQueryEmotionAnalysis_whenPageIsEmpty() {
+    // given
+    UUID userId = UUID.randomUUID();
+    User user = mock(User.class);
+    Pageable pageable = PageRequest.of(0, 10);
+
+    given(entityManager.getReference(User.class, userId)).willReturn(user);
+    given(
+        diaryRepository.findAllByUserAndIsDeletedFalseAndIsTempFalse(user, pageable))
+        .willReturn(new SliceImpl<>(Collections.emptyList()));
+
+    // when
+    Slice<DiaryResponse> responses = diaryService.getAllMyDiaries(pageable, userId);
+
+    // then
+    assertTrue(responses.getContent().isEmpty());
+    verify(emotionAnalysisRepository, never()).findDiaryIdsByDiaryIdIn(anyCollection());
+  }
+
+  @Test
+  void successGetAllMyDiariesWithCursor() {
+    // given
+    UUID userId = UUID.randomUUID();
+    User user = mock(User.class);
+
+    UUID diaryId1 = UUID.randomUUID();
+    UUID diaryId2 = UUID.randomUUID();
+
+    Diary diary1 = spy(Diary.builder()
+        .content("content")
+        .date(LocalDate.of(2024, 10, 10))
+        .isTemp(false)
+        .build());
+
+    Diary diary2 = spy(Diary.builder()
+        .content("content2")
+        .date(LocalDate.of(2024, 10, 1))
+        .isTemp(false)
+        .build());
+
+    given(diary1.getId()).willReturn(diaryId1);
+    given(diary2.getId()).willReturn(diaryId2);
+    given(entityManager.getReference(User.class, userId)).willReturn(user);
+    given(diaryRepository.findAllByUserAndIsDeletedFalseAndIsTempFalse(eq(user),
+        any(ScrollPosition.class), eq(Sort.by(Direction.DESC, "date", "id")),
+        any(Limit.class)))
+        .willReturn(Window.from(List.of(diary1, diary2), index -> ScrollPosition.keyset(),
+            true));
+    given(emotionAnalysisRepository.findDiaryIdsByDiaryIdIn(
+        List.of(diaryId1, diaryId2)))
+        .willReturn(List.of(diaryId1));
+
+    // when
+    CursorResponse<DiaryResponse> response = diaryService.getAllMyDiariesWithCursor(
+        null, 2, Direction.DESC, userId);
+
+    // then
+    assertEquals(2, response.getSize());
+    assertTrue(response.isHasNext());
+    assertTrue(response.getContent().get(0).isHaveEmotionAnalysis());
+    assertFalse(response.getContent().get(1).isHaveEmotionAnalysis());
+
+    KeysetCursor nextCursor = KeysetCursor.decode(response.getNextCursor());
+    assertEquals(diary2.getDate(), nextCursor.getDate());
+    assertEquals(diaryId2, nextCursor.getId());
+  }
+
+  @Test
+  void getAllMyDiariesWithCursor_shouldNotReturnNextCursor_whenLastPage() {
+    // given
+    UUID userId = UUID.randomUUID();
+    User user = mock(User.class);
+
+    given(entityManager.getReference(User.class, userId)).willReturn(user);
+    given(diaryRepository.findAllByUserAndIsDeletedFalseAndIsTempFalse(eq(user),
+        any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+        .willReturn(Window.from(Collections.emptyList(), index -> ScrollPosition.keyset()));
+
+    // when
+    CursorResponse<DiaryResponse> response = diaryService.getAllMyDiariesWithCursor(
+        KeysetCursor.of(LocalDate.of(2024, 10, 1), UUID.randomUUID()).encode(), 10,
+        Direction.ASC, userId);
+
+    // then
+    assertTrue(response.getContent().isEmpty());
+    assertFalse(response.isHasNext());
+    assertNull(response.getNextCursor());
+    verify(emotionAnalysisRepository, never()).findDiaryIdsByDiaryIdIn(anyCollection());
+  }
+
+  @Test
+  void getDiariesByDateRangeWithCursor_shouldReturnDiaryException_whenStartDateIsAfterEndDate() {
+    // given
+    UUID userId = UUID.randomUUID();
+
+    // when & then
+    DiaryException diaryException = assertThrows(DiaryException.class,
+        () -> diaryService.getDiariesByDateRangeWithCursor(LocalDate.of(2024, 10, 10),
+            LocalDate.of(2024, 10, 1), null, 10, Direction.DESC, userId));
+
+    assertEquals(ErrorCode.START_DATE_MUST_BE_BEFORE_END_DATE,
+        diaryException.getErrorCode());
+  }
+
   @Test
   void checkTempExistsByDate_shouldReturnFalseResponse_whenNoDiaryFound() {
     // given
@@ -952,4 +1480,88 @@ class DiaryServiceTest {
         mockUser, testDate);
   }
 
-}
\ No newline at end of file
+  @Test
+  void getDiaryETag_shouldReturnEmpty_whenTempDiaryIsWrittenBehind() {
+    // given
+    ReflectionTestUtils.setField(diaryService, "writeBehindEnabled", true);
+    UUID diaryId = UUID.randomUUID();
+    UUID userId = UUID.randomUUID();
+    DiaryHeader header = createHeader(diaryId, userId, LocalDate.of(2024, 10, 1), true, false);
+
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(header));
+
+    // when
+    Optional<String> eTag = diaryService.getDiaryETag(diaryId, userId);
+
+    // then
+    assertTrue(eTag.isEmpty());
+    verify(emotionAnalysisRepository, never()).existsByDiaryId(diaryId);
+  }
+
+  @Test
+  void getDiaryETag_shouldChange_whenRevisionIsChanged() {
+    // given
+    UUID diaryId = UUID.randomUUID();
+    UUID userId = UUID.randomUUID();
+    LocalDateTime updatedAt = LocalDateTime.of(2024, 10, 1, 12, 0);
+    DiaryHeader header = DiaryHeader.builder()
+        .id(diaryId).userId(userId).date(LocalDate.of(2024, 10, 1))
+        .isTemp(false).isDeleted(false).revision(1L).updatedAt(updatedAt)
+        .build();
+    DiaryHeader revisedHeader = DiaryHeader.builder()
+        .id(diaryId).userId(userId).date(LocalDate.of(2024, 10, 1))
+        .isTemp(false).isDeleted(false).revision(2L).updatedAt(updatedAt)
+        .build();
+
+    given(diaryRepository.findHeaderById(diaryId))
+        .willReturn(Optional.of(header), Optional.of(revisedHeader));
+    given(emotionAnalysisRepository.existsByDiaryId(diaryId)).willReturn(false);
+
+    // when
+    String eTag = diaryService.getDiaryETag(diaryId, userId).orElseThrow();
+    String revisedETag = diaryService.getDiaryETag(diaryId, userId).orElseThrow();
+
+    // then
+    assertNotNull(eTag);
+    assertFalse(eTag.equals(revisedETag));
+  }
+
+  @Test
+  void getDiariesByDateRangeETag_shouldChange_whenPageIsChanged() {
+    // given
+    UUID userId = UUID.randomUUID();
+    LocalDate startDate = LocalDate.of(2024, 10, 1);
+    LocalDate endDate = LocalDate.of(2024, 10, 31);
+    Sort sort = Sort.by("date").descending();
+
+    given(diaryRepository.findRangeVersionByUserAndDateBetween(any(), eq(startDate),
+        eq(endDate))).willReturn(mock(DiaryRangeVersion.class));
+    given(emotionAnalysisRepository.findRangeVersionByUserAndDateBetween(any(),
+        eq(startDate), eq(endDate))).willReturn(mock(EmotionAnalysisRangeVersion.class));
+
+    // when
+    String firstPageETag = diaryService.getDiariesByDateRangeETag(startDate, endDate,
+        PageRequest.of(0, 10, sort), userId);
+    String secondPageETag = diaryService.getDiariesByDateRangeETag(startDate, endDate,
+        PageRequest.of(1, 10, sort), userId);
+    String firstCursorETag = diaryService.getDiariesByDateRangeETag(startDate, endDate,
+        null, 10, Direction.DESC, userId);
+    String nextCursorETag = diaryService.getDiariesByDateRangeETag(startDate, endDate,
+        "cursor", 10, Direction.DESC, userId);
+
+    // then
+    assertNotEquals(firstPageETag, secondPageETag);
+    assertNotEquals(firstCursorETag, nextCursorETag);
+  }
+
+  private DiaryHeader createHeader(UUID diaryId, UUID userId, LocalDate date, boolean isTemp,
+      boolean isDeleted) {
+    return DiaryHeader.builder()
+        .id(diaryId)
+        .userId(userId)
+        .date(date)
+        .isTemp(isTemp)
+        .isDeleted(isDeleted)
+        .build();
+  }
+}
@@ -6,19 +6,34 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.moodwriter.domain.emotion.constant.EmotionAnalysisJobStatus;
+import com.example.moodwriter.domain.emotion.constant.EmotionAnalysisJobType;
+import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisJobRequest;
+import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisJobResponse;
 import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisRequest;
 import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisResponse;
+import com.example.moodwriter.domain.emotion.dto.EmotionTrendResponse;
+import com.example.moodwriter.domain.emotion.dto.EmotionTrendResponse.TrendPoint;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisAsyncService;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisJobService;
 import com.example.moodwriter.domain.emotion.service.EmotionAnalysisService;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisStreamService;
+import com.example.moodwriter.domain.emotion.service.EmotionTrendService;
 import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.constant.TrendPeriod;
 import com.example.moodwriter.global.jwt.JwtAuthenticationToken;
 import com.example.moodwriter.global.security.dto.CustomUserDetails;
 import com.example.moodwriter.global.security.filter.JwtAuthenticationFilter;
@@ -28,6 +43,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,10 +56,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @WebMvcTest(controllers = EmotionAnalysisController.class,
     excludeFilters = {@ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
@@ -60,6 +79,18 @@ class EmotionAnalysisControllerTest {
   @MockBean
   private EmotionAnalysisService emotionAnalysisService;
 
+  @MockBean
+  private EmotionTrendService emotionTrendService;
+
+  @MockBean
+  private EmotionAnalysisJobService emotionAnalysisJobService;
+
+  @MockBean
+  private EmotionAnalysisStreamService emotionAnalysisStreamService;
+
+  @MockBean
+  private EmotionAnalysisAsyncService emotionAnalysisAsyncService;
+
   private final UUID userId = UUID.randomUUID();
 
   @BeforeEach
@@ -92,14 +123,17 @@ class EmotionAnalysisControllerTest {
         .updatedAt(LocalDateTime.now())
         .build();
 
-    given(emotionAnalysisService.createPrimaryEmotionAndEmotionScore(
-        any(EmotionAnalysisRequest.class), eq(userId)))
-        .willReturn(response);
+    given(emotionAnalysisAsyncService.createPrimaryEmotionAndEmotionScore(diaryId, userId))
+        .willReturn(CompletableFuture.completedFuture(response));
 
     // when & then
-    mockMvc.perform(post("/api/emotion-analysis/score")
+    MvcResult result = mockMvc.perform(post("/api/emotion-analysis/score")
             .content(objectMapper.writeValueAsString(request))
             .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
         .andExpect(status().isCreated())
         .andDo(print())
         .andExpect(jsonPath("$.emotionAnalysisId").value(emotionAnalysisId.toString()))
@@ -131,14 +165,17 @@ class EmotionAnalysisControllerTest {
         .updatedAt(LocalDateTime.now())
         .build();
 
-    given(emotionAnalysisService.createEmotionAnalysis(
-        any(EmotionAnalysisRequest.class), eq(userId)))
-        .willReturn(response);
+    given(emotionAnalysisAsyncService.createEmotionAnalysis(diaryId, userId))
+        .willReturn(CompletableFuture.completedFuture(response));
 
     // when & then
-    mockMvc.perform(post("/api/emotion-analysis/detail")
+    MvcResult result = mockMvc.perform(post("/api/emotion-analysis/detail")
             .content(objectMapper.writeValueAsString(request))
             .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
         .andExpect(status().isCreated())
         .andDo(print())
         .andExpect(jsonPath("$.emotionAnalysisId").value(emotionAnalysisId.toString()))
@@ -151,6 +188,76 @@ class EmotionAnalysisControllerTest {
         .andExpect(jsonPath("$.updatedAt").exists());
   }
 
+  @Test
+  void successStreamEmotionAnalysis() throws Exception {
+    // given
+    UUID diaryId = UUID.randomUUID();
+    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
+
+    given(emotionAnalysisStreamService.streamEmotionAnalysis(diaryId, userId))
+        .willReturn(new SseEmitter());
+
+    // when & then
+    mockMvc.perform(post("/api/emotion-analysis/detail/stream")
+            .content(objectMapper.writeValueAsString(request))
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(request().asyncStarted());
+
+    verify(emotionAnalysisStreamService).streamEmotionAnalysis(diaryId, userId);
+  }
+
+  @Test
+  void successCreateFullEmotionAnalysis() throws Exception {
+    // given
+    UUID diaryId = UUID.randomUUID();
+    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
+
+    EmotionAnalysisResponse response = EmotionAnalysisResponse.builder()
+        .emotionAnalysisId(UUID.randomUUID())
+        .diaryId(diaryId)
+        .date(LocalDate.of(2024, 10, 1))
+        .primaryEmotion(List.of("행복", "감사", "만족"))
+        .emotionScore(80)
+        .analysisContent("행복하게 잘 살고 있으십니다.")
+        .createdAt(LocalDateTime.now())
+        .updatedAt(LocalDateTime.now())
+        .build();
+
+    given(emotionAnalysisAsyncService.createFullEmotionAnalysis(diaryId, userId))
+        .willReturn(CompletableFuture.completedFuture(response));
+
+    // when & then
+    MvcResult result = mockMvc.perform(post("/api/emotion-analysis/full")
+            .content(objectMapper.writeValueAsString(request))
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.diaryId").value(diaryId.toString()))
+        .andExpect(jsonPath("$.primaryEmotion", hasSize(3)))
+        .andExpect(jsonPath("$.emotionScore").value(80))
+        .andExpect(jsonPath("$.analysisContent").value(response.getAnalysisContent()));
+  }
+
+  @Test
+  void getEmotionAnalysis_shouldReturnNotModified_whenETagIsMatched() throws Exception {
+    // given
+    UUID diaryId = UUID.randomUUID();
+
+    given(emotionAnalysisService.getEmotionAnalysisETag(diaryId, userId)).willReturn("etag");
+
+    // when & then
+    mockMvc.perform(get("/api/emotion-analysis/" + diaryId)
+            .header(HttpHeaders.IF_NONE_MATCH, "\"etag\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""));
+
+    verify(emotionAnalysisService, never()).getEmotionAnalysis(diaryId, userId);
+  }
+
   @Test
   void successGetEmotionAnalysis() throws Exception {
     // given
@@ -187,6 +294,57 @@ class EmotionAnalysisControllerTest {
         .andExpect(jsonPath("$.updatedAt").exists());
   }
 
+  @Test
+  void successSubmitEmotionAnalysisJob() throws Exception {
+    // given
+    UUID diaryId = UUID.randomUUID();
+    UUID jobId = UUID.randomUUID();
+    EmotionAnalysisJobRequest request = new EmotionAnalysisJobRequest(diaryId,
+        EmotionAnalysisJobType.DETAIL);
+
+    EmotionAnalysisJobResponse response = EmotionAnalysisJobResponse.builder()
+        .jobId(jobId)
+        .diaryId(diaryId)
+        .type(EmotionAnalysisJobType.DETAIL)
+        .status(EmotionAnalysisJobStatus.PENDING)
+        .build();
+
+    given(emotionAnalysisJobService.submit(any(EmotionAnalysisJobRequest.class), eq(userId)))
+        .willReturn(response);
+
+    // when & then
+    mockMvc.perform(post("/api/emotion-analysis/jobs")
+            .content(objectMapper.writeValueAsString(request))
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isAccepted())
+        .andExpect(jsonPath("$.jobId").value(jobId.toString()))
+        .andExpect(jsonPath("$.diaryId").value(diaryId.toString()))
+        .andExpect(jsonPath("$.type").value("DETAIL"))
+        .andExpect(jsonPath("$.status").value("PENDING"));
+  }
+
+  @Test
+  void successGetEmotionAnalysisJob() throws Exception {
+    // given
+    UUID jobId = UUID.randomUUID();
+
+    EmotionAnalysisJobResponse response = EmotionAnalysisJobResponse.builder()
+        .jobId(jobId)
+        .diaryId(UUID.randomUUID())
+        .type(EmotionAnalysisJobType.SCORE)
+        .status(EmotionAnalysisJobStatus.COMPLETED)
+        .build();
+
+    given(emotionAnalysisJobService.getJob(jobId, userId)).willReturn(response);
+
+    // when & then
+    mockMvc.perform(get("/api/emotion-analysis/jobs/" + jobId))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.jobId").value(jobId.toString()))
+        .andExpect(jsonPath("$.status").value("COMPLETED"))
+        .andExpect(jsonPath("$.errorCode").isEmpty());
+  }
+
   @Test
   void successDeleteEmotionAnalysis() throws Exception {
     // given
@@ -406,5 +564,38 @@ class EmotionAnalysisControllerTest {
         .andExpect(jsonPath("$.path").value("/api/emotion-analysis"));
   }
 
+  @Test
+  void successGetEmotionTrend() throws Exception {
+    // given
+    LocalDate startDate = LocalDate.of(2024, 1, 1);
+    LocalDate endDate = LocalDate.of(2024, 12, 31);
+
+    EmotionTrendResponse response = EmotionTrendResponse.builder()
+        .period(TrendPeriod.WEEK)
+        .points(List.of(TrendPoint.builder()
+            .periodStart(LocalDate.of(2024, 10, 7))
+            .count(2)
+            .averageScore(6.5)
+            .minScore(5)
+            .maxScore(8)
+            .build()))
+        .build();
 
-}
\ No newline at end of file
+    given(emotionTrendService.getTrend(TrendPeriod.WEEK, startDate, endDate, userId))
+        .willReturn(response);
+
+    // when & then
+    mockMvc.perform(get("/api/emotion-analysis/trend")
+            .param("startDate", startDate.toString())
+            .param("endDate", endDate.toString())
+            .param("period", "week"))
+        .andExpect(status().isOk())
+        .andDo(print())
+        .andExpect(jsonPath("$.period").value("WEEK"))
+        .andExpect(jsonPath("$.points", hasSize(1)))
+        .andExpect(jsonPath("$.points[0].periodStart").value("2024-10-07"))
+        .andExpect(jsonPath("$.points[0].averageScore").value(6.5))
+        .andExpect(jsonPath("$.points[0].minScore").value(5))
+        .andExpect(jsonPath("$.points[0].maxScore").value(8));
+  }
+}
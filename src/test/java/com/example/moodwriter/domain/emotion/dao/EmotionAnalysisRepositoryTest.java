@@ -1,10 +1,12 @@
 package com.example.moodwriter.domain.emotion.dao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.example.moodwriter.domain.diary.dao.DiaryRepository;
 import com.example.moodwriter.domain.diary.entity.Diary;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository.EmotionAnalysisVersion;
 import com.example.moodwriter.domain.emotion.entity.EmotionAnalysis;
 import com.example.moodwriter.domain.user.dao.UserRepository;
 import com.example.moodwriter.domain.user.entity.User;
@@ -12,6 +14,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +44,7 @@ class EmotionAnalysisRepositoryTest {
   @MockBean
   private ObjectMapper objectMapper;
   private User user;
+  private List<Diary> diaries;
 
   @BeforeEach
   void setUp() {
@@ -58,7 +62,7 @@ class EmotionAnalysisRepositoryTest {
         .build();
     userRepository.save(anotherUser);
 
-    List<Diary> diaries = new ArrayList<>();
+    diaries = new ArrayList<>();
 
     for (int i = 0; i < 5; i++) {
       Diary diary = Diary.builder()
@@ -133,4 +137,34 @@ class EmotionAnalysisRepositoryTest {
         emotionAnalyses.getContent().get(1).getDate());
 
   }
-}
\ No newline at end of file
+
+  @Test
+  void successFindDiaryIdsByDiaryIdIn() {
+    Diary diaryWithoutAnalysis = diaryRepository.save(Diary.builder()
+        .date(LocalDate.of(2024, 10, 6))
+        .user(user)
+        .isDeleted(false)
+        .isTemp(false)
+        .build());
+
+    List<UUID> diaryIds = emotionAnalysisRepository.findDiaryIdsByDiaryIdIn(
+        List.of(diaries.get(0).getId(), diaries.get(2).getId(),
+            diaryWithoutAnalysis.getId()));
+
+    assertEquals(2, diaryIds.size());
+    assertTrue(diaryIds.contains(diaries.get(0).getId()));
+    assertTrue(diaryIds.contains(diaries.get(2).getId()));
+    assertFalse(diaryIds.contains(diaryWithoutAnalysis.getId()));
+  }
+
+  @Test
+  void successFindVersionByDiaryId() {
+    // when
+    EmotionAnalysisVersion version = emotionAnalysisRepository.findVersionByDiaryId(
+        diaries.get(2).getId()).orElseThrow();
+
+    // then
+    assertTrue(version.isDeleted());
+    assertFalse(version.isAnalyzed());
+  }
+}
@@ -0,0 +1,100 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisResponse;
+import com.example.moodwriter.domain.emotion.exception.EmotionAnalysisException;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisService.EmotionScoreAndPrimaryEmotion;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import com.example.moodwriter.global.openAI.exception.OpenAIException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmotionAnalysisAsyncServiceTest {
+
+  @Mock
+  private EmotionAnalysisService emotionAnalysisService;
+
+  private final UUID userId = UUID.randomUUID();
+  private final UUID diaryId = UUID.randomUUID();
+
+  @Test
+  void createPrimaryEmotionAndEmotionScore_shouldSaveResult_whenOpenAIResponds() {
+    // given
+    EmotionAnalysisAsyncService emotionAnalysisAsyncService = new EmotionAnalysisAsyncService(
+        emotionAnalysisService, Runnable::run);
+    EmotionScoreAndPrimaryEmotion result = new EmotionScoreAndPrimaryEmotion(80, "기쁨");
+    EmotionAnalysisResponse response = EmotionAnalysisResponse.builder()
+        .diaryId(diaryId)
+        .emotionScore(80)
+        .build();
+
+    given(emotionAnalysisService.getAnalyzableContent(diaryId, userId)).willReturn("일기 내용");
+    given(emotionAnalysisService.analyzePrimaryEmotionAndEmotionScoreAsync(diaryId, userId,
+        "일기 내용"))
+        .willReturn(CompletableFuture.completedFuture(result));
+    given(emotionAnalysisService.savePrimaryEmotionAndEmotionScore(diaryId, userId, result))
+        .willReturn(response);
+
+    // when
+    EmotionAnalysisResponse analysisResponse = emotionAnalysisAsyncService
+        .createPrimaryEmotionAndEmotionScore(diaryId, userId).join();
+
+    // then
+    assertEquals(response, analysisResponse);
+  }
+
+  @Test
+  void createEmotionAnalysis_shouldNotSave_whenOpenAIFails() {
+    // given
+    EmotionAnalysisAsyncService emotionAnalysisAsyncService = new EmotionAnalysisAsyncService(
+        emotionAnalysisService, Runnable::run);
+
+    given(emotionAnalysisService.getAnalyzableContent(diaryId, userId)).willReturn("일기 내용");
+    given(emotionAnalysisService.requestEmotionAnalysisContentAsync("일기 내용"))
+        .willReturn(CompletableFuture.failedFuture(
+            new OpenAIException(ErrorCode.FAIL_TO_CONNECT_WITH_OPEN_AI)));
+
+    // when
+    CompletionException exception = assertThrows(CompletionException.class,
+        () -> emotionAnalysisAsyncService.createEmotionAnalysis(diaryId, userId).join());
+
+    // then
+    OpenAIException openAIException = assertInstanceOf(OpenAIException.class,
+        exception.getCause());
+    assertEquals(ErrorCode.FAIL_TO_CONNECT_WITH_OPEN_AI, openAIException.getErrorCode());
+    verify(emotionAnalysisService, never()).saveEmotionAnalysisContent(any(), any(),
+        anyString());
+  }
+
+  @Test
+  void createEmotionAnalysis_shouldReturnEmotionAnalysisException_whenExecutorIsFull() {
+    // given
+    EmotionAnalysisAsyncService emotionAnalysisAsyncService = new EmotionAnalysisAsyncService(
+        emotionAnalysisService, task -> {
+          throw new RejectedExecutionException();
+        });
+
+    // when
+    EmotionAnalysisException exception = assertThrows(EmotionAnalysisException.class,
+        () -> emotionAnalysisAsyncService.createEmotionAnalysis(diaryId, userId));
+
+    // then
+    assertEquals(ErrorCode.EMOTION_ANALYSIS_JOB_REJECTED, exception.getErrorCode());
+    verify(emotionAnalysisService, never()).getAnalyzableContent(any(), any());
+  }
+}
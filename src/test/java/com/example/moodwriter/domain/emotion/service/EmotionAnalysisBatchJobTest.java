@@ -0,0 +1,354 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.entity.Diary;
+import com.example.moodwriter.domain.diary.service.DiaryCalendarService;
+import com.example.moodwriter.domain.diary.service.DiaryResponseCache;
+import com.example.moodwriter.domain.emotion.constant.EmotionAnalysisBatchStatus;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisBatchRepository;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository;
+import com.example.moodwriter.domain.emotion.entity.EmotionAnalysis;
+import com.example.moodwriter.domain.emotion.entity.EmotionAnalysisBatch;
+import com.example.moodwriter.domain.user.dao.UserRepository;
+import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.openAI.service.OpenAIBatchClient;
+import com.example.moodwriter.global.util.UuidUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@EnableJpaAuditing
+class EmotionAnalysisBatchJobTest {
+
+  @Autowired
+  private EmotionAnalysisBatchRepository emotionAnalysisBatchRepository;
+
+  @Autowired
+  private EmotionAnalysisRepository emotionAnalysisRepository;
+
+  @Autowired
+  private DiaryRepository diaryRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @MockBean
+  private ObjectMapper objectMapper;
+
+  private final ObjectMapper jsonMapper = new ObjectMapper()
+      .registerModule(new ParameterNamesModule());
+
+  private MockWebServer mockWebServer;
+  private SimpleMeterRegistry meterRegistry;
+  private EmotionTrendService emotionTrendService;
+  private EmotionAnalysisBatchJob job;
+
+  private User user;
+  private Diary unanalyzedDiary;
+  private Diary detailAnalyzedDiary;
+  private Diary deletedDiary;
+  private Diary anotherUnanalyzedDiary;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    mockWebServer = new MockWebServer();
+    mockWebServer.start();
+
+    OpenAIBatchClient openAIBatchClient = new OpenAIBatchClient(new OkHttpClient(),
+        jsonMapper);
+    ReflectionTestUtils.setField(openAIBatchClient, "apiKey", "test-api-key");
+    ReflectionTestUtils.setField(openAIBatchClient, "batchApiUrl",
+        mockWebServer.url("/v1").toString());
+
+    meterRegistry = new SimpleMeterRegistry();
+    emotionTrendService = mock(EmotionTrendService.class);
+    job = new EmotionAnalysisBatchJob(jdbcTemplate, transactionManager, openAIBatchClient,
+        emotionAnalysisBatchRepository, mock(DiaryCalendarService.class), emotionTrendService,
+        mock(DiaryResponseCache.class), mock(EmotionAnalysisResponseCache.class), jsonMapper,
+        meterRegistry, false, 1024, 2, 100);
+
+    user = userRepository.save(User.builder()
+        .email("test@email.com")
+        .passwordHash("Password12!@")
+        .name("이름")
+        .build());
+
+    unanalyzedDiary = saveDiary(LocalDate.of(2024, 10, 1), false, false);
+    Diary scoredDiary = saveDiary(LocalDate.of(2024, 10, 2), false, false);
+    saveDiary(LocalDate.of(2024, 10, 3), true, false);
+    deletedDiary = saveDiary(LocalDate.of(2024, 10, 4), false, true);
+    detailAnalyzedDiary = saveDiary(LocalDate.of(2024, 10, 5), false, false);
+    anotherUnanalyzedDiary = saveDiary(LocalDate.of(2024, 10, 6), false, false);
+
+    emotionAnalysisRepository.save(EmotionAnalysis.builder()
+        .user(user)
+        .diary(scoredDiary)
+        .date(scoredDiary.getDate())
+        .emotionScore(80)
+        .primaryEmotion("행복")
+        .isDeleted(false)
+        .build());
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    mockWebServer.shutdown();
+  }
+
+  @Test
+  void submit_shouldSubmitFinalizedDiariesWithoutEmotionAnalysis() throws InterruptedException {
+    // given
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+        .setBody("{\"id\": \"file-abc\"}"));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+        .setBody("{\"id\": \"batch_abc\", \"status\": \"validating\"}"));
+
+    // when
+    Optional<String> batchId = job.submit();
+
+    // then
+    assertEquals("batch_abc", batchId.orElseThrow());
+
+    String inputFile = mockWebServer.takeRequest().getBody().readUtf8();
+    assertTrue(inputFile.contains(unanalyzedDiary.getId().toString()));
+    assertTrue(inputFile.contains(detailAnalyzedDiary.getId().toString()));
+    assertTrue(inputFile.contains(anotherUnanalyzedDiary.getId().toString()));
+    assertFalse(inputFile.contains(deletedDiary.getId().toString()));
+
+    List<EmotionAnalysisBatch> batches = emotionAnalysisBatchRepository.findAll();
+    assertEquals(1, batches.size());
+    assertEquals("batch_abc", batches.get(0).getBatchId());
+    assertEquals(EmotionAnalysisBatchStatus.IN_PROGRESS, batches.get(0).getStatus());
+    assertEquals(3, batches.get(0).getRequestCount());
+  }
+
+  @Test
+  void submit_shouldIncludeDiary_whenEmotionAnalysisHasOnlyContent()
+      throws InterruptedException {
+    // given
+    emotionAnalysisRepository.save(EmotionAnalysis.builder()
+        .user(user)
+        .diary(detailAnalyzedDiary)
+        .date(detailAnalyzedDiary.getDate())
+        .analysisContent("감정분석 내용")
+        .isDeleted(false)
+        .build());
+    entityManager.flush();
+    entityManager.clear();
+
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+        .setBody("{\"id\": \"file-abc\"}"));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+        .setBody("{\"id\": \"batch_abc\", \"status\": \"validating\"}"));
+
+    // when
+    job.submit();
+
+    // then
+    String inputFile = mockWebServer.takeRequest().getBody().readUtf8();
+    assertTrue(inputFile.contains(detailAnalyzedDiary.getId().toString()));
+    assertEquals(3, emotionAnalysisBatchRepository.findAll().get(0).getRequestCount());
+  }
+
+  @Test
+  void submit_shouldSkip_whenBatchIsInProgress() {
+    // given
+    emotionAnalysisBatchRepository.save(EmotionAnalysisBatch.builder()
+        .batchId("batch_previous")
+        .requestCount(1)
+        .build());
+
+    // when
+    Optional<String> batchId = job.submit();
+
+    // then
+    assertTrue(batchId.isEmpty());
+    assertEquals(0, mockWebServer.getRequestCount());
+  }
+
+  @Test
+  void collect_shouldUpsertResultsOfFinishedBatch() throws JsonProcessingException {
+    // given
+    emotionAnalysisRepository.save(EmotionAnalysis.builder()
+        .user(user)
+        .diary(detailAnalyzedDiary)
+        .date(detailAnalyzedDiary.getDate())
+        .analysisContent("감정분석 내용")
+        .isDeleted(false)
+        .build());
+    emotionAnalysisBatchRepository.save(EmotionAnalysisBatch.builder()
+        .batchId("batch_abc")
+        .requestCount(5)
+        .build());
+    entityManager.flush();
+    entityManager.clear();
+
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+        .setBody("{\"id\": \"batch_abc\", \"status\": \"completed\", "
+            + "\"output_file_id\": \"file-out\"}"));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+        .setBody(String.join("\n",
+            resultLine(unanalyzedDiary, "{\"emotionScore\": 70, \"primaryEmotion\": \"기쁨\"}"),
+            resultLine(detailAnalyzedDiary,
+                "{\"emotionScore\": 40, \"primaryEmotion\": \"불안\"}"),
+            resultLine(deletedDiary, "{\"emotionScore\": 10, \"primaryEmotion\": \"슬픔\"}"),
+            resultLine(anotherUnanalyzedDiary, "감정 점수는 50점입니다."))));
+
+    // when
+    int applied = job.collect();
+
+    // then
+    assertEquals(2, applied);
+
+    assertEquals(List.of("70 기쁨"), findScores(unanalyzedDiary));
+    assertEquals(List.of("40 불안"), findScores(detailAnalyzedDiary));
+    assertTrue(findScores(deletedDiary).isEmpty());
+    assertTrue(findScores(anotherUnanalyzedDiary).isEmpty());
+    assertEquals("감정분석 내용", jdbcTemplate.queryForObject(
+        "SELECT analysis_content FROM emotion_analysis WHERE diary_id = ?", String.class,
+        UuidUtils.toBytes(detailAnalyzedDiary.getId())));
+
+    EmotionAnalysisBatch batch = emotionAnalysisBatchRepository.findAll().get(0);
+    assertEquals(EmotionAnalysisBatchStatus.COMPLETED, batch.getStatus());
+    assertEquals(2, batch.getAppliedCount());
+    assertEquals(1, batch.getSkippedCount());
+    assertEquals(2, batch.getFailedCount());
+    assertEquals(40, batch.getPromptTokens());
+    assertEquals(20, batch.getCompletionTokens());
+
+    verify(emotionTrendService).applyScoreChange(eq(user.getId()), isNull(), isNull(),
+        eq(unanalyzedDiary.getDate()), eq(70));
+    assertEquals(2, meterRegistry.counter("openai.batch.diaries", "result", "applied").count());
+    assertEquals(40, meterRegistry.counter("openai.batch.tokens", "type", "prompt").count());
+  }
+
+  @Test
+  void collect_shouldReplaceProvisionalScore() throws JsonProcessingException {
+    // given
+    EmotionAnalysis provisional = EmotionAnalysis.from(unanalyzedDiary);
+    provisional.updateScoreAndPrimaryEmotion(55, "평온", true);
+    emotionAnalysisRepository.save(provisional);
+    emotionAnalysisBatchRepository.save(EmotionAnalysisBatch.builder()
+        .batchId("batch_abc")
+        .requestCount(1)
+        .build());
+    entityManager.flush();
+    entityManager.clear();
+
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+        .setBody("{\"id\": \"batch_abc\", \"status\": \"completed\", "
+            + "\"output_file_id\": \"file-out\"}"));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+        .setBody(resultLine(unanalyzedDiary,
+            "{\"emotionScore\": 70, \"primaryEmotion\": \"기쁨\"}")));
+
+    // when
+    int applied = job.collect();
+
+    // then
+    assertEquals(1, applied);
+    assertEquals(List.of("70 기쁨"), findScores(unanalyzedDiary));
+    assertFalse(jdbcTemplate.queryForObject(
+        "SELECT is_provisional FROM emotion_analysis WHERE diary_id = ?", Boolean.class,
+        UuidUtils.toBytes(unanalyzedDiary.getId())));
+    verify(emotionTrendService).applyScoreChange(user.getId(), unanalyzedDiary.getDate(), 55,
+        unanalyzedDiary.getDate(), 70);
+  }
+
+  @Test
+  void collect_shouldKeepBatchInProgress_whenBatchIsNotFinished() {
+    // given
+    emotionAnalysisBatchRepository.save(EmotionAnalysisBatch.builder()
+        .batchId("batch_abc")
+        .requestCount(3)
+        .build());
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+        .setBody("{\"id\": \"batch_abc\", \"status\": \"in_progress\"}"));
+
+    // when
+    int applied = job.collect();
+
+    // then
+    assertEquals(0, applied);
+    assertEquals(1, mockWebServer.getRequestCount());
+    assertEquals(EmotionAnalysisBatchStatus.IN_PROGRESS,
+        emotionAnalysisBatchRepository.findAll().get(0).getStatus());
+    verify(emotionTrendService, never()).applyScoreChange(any(), any(), any(), any(), any());
+  }
+
+  private Diary saveDiary(LocalDate date, boolean isTemp, boolean isDeleted) {
+    return diaryRepository.save(Diary.builder()
+        .user(user)
+        .content("내용")
+        .date(date)
+        .isTemp(isTemp)
+        .isDeleted(isDeleted)
+        .build());
+  }
+
+  private String resultLine(Diary diary, String content) throws JsonProcessingException {
+    return jsonMapper.writeValueAsString(Map.of(
+        "custom_id", diary.getId().toString(),
+        "response", Map.of(
+            "status_code", 200,
+            "body", Map.of(
+                "choices", List.of(Map.of(
+                    "index", 0,
+                    "message", Map.of("role", "assistant", "content", content))),
+                "usage", Map.of("prompt_tokens", 10, "completion_tokens", 5,
+                    "total_tokens", 15)))));
+  }
+
+  private List<String> findScores(Diary diary) {
+    return jdbcTemplate.query(
+        "SELECT emotion_score, primary_emotion FROM emotion_analysis "
+            + "WHERE diary_id = ? AND emotion_score IS NOT NULL",
+        (rs, rowNum) -> rs.getInt(1) + " " + rs.getString(2),
+        UuidUtils.toBytes(diary.getId()));
+  }
+}
@@ -0,0 +1,224 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.moodwriter.domain.emotion.constant.EmotionAnalysisJobStatus;
+import com.example.moodwriter.domain.emotion.constant.EmotionAnalysisJobType;
+import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisJobRequest;
+import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisJobResponse;
+import com.example.moodwriter.domain.emotion.exception.EmotionAnalysisException;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisQueue.QueuedJob;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisService.EmotionScoreAndPrimaryEmotion;
+import com.example.moodwriter.global.exception.CustomException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmotionAnalysisJobServiceTest {
+
+  @Mock
+  private EmotionAnalysisService emotionAnalysisService;
+
+  @Mock
+  private EmotionAnalysisJobTracker emotionAnalysisJobTracker;
+
+  @Mock
+  private EmotionAnalysisQueue emotionAnalysisQueue;
+
+  private final UUID userId = UUID.randomUUID();
+  private final UUID diaryId = UUID.randomUUID();
+  private final UUID jobId = UUID.randomUUID();
+
+  @Test
+  void submit_shouldAnalyzeScoreOutsideTransaction_andCompleteJob() {
+    // given
+    EmotionAnalysisJobService emotionAnalysisJobService = createService();
+    EmotionScoreAndPrimaryEmotion result = new EmotionScoreAndPrimaryEmotion(80, "기쁨");
+    EmotionAnalysisJobResponse response = EmotionAnalysisJobResponse.builder()
+        .jobId(jobId)
+        .status(EmotionAnalysisJobStatus.COMPLETED)
+        .build();
+
+    given(emotionAnalysisJobTracker.start(userId, diaryId, EmotionAnalysisJobType.SCORE))
+        .willReturn(jobId);
+    given(emotionAnalysisService.getAnalyzableContent(diaryId, userId)).willReturn("일기 내용");
+    given(emotionAnalysisService.analyzePrimaryEmotionAndEmotionScore(diaryId, userId,
+        "일기 내용"))
+        .willReturn(result);
+    given(emotionAnalysisJobTracker.get(jobId, userId)).willReturn(response);
+
+    // when
+    EmotionAnalysisJobResponse jobResponse = emotionAnalysisJobService.submit(
+        new EmotionAnalysisJobRequest(diaryId, EmotionAnalysisJobType.SCORE), userId);
+
+    // then
+    verify(emotionAnalysisService).checkAnalyzableDiary(diaryId, userId);
+    verify(emotionAnalysisJobTracker).markInProgress(jobId);
+    verify(emotionAnalysisService).savePrimaryEmotionAndEmotionScore(diaryId, userId, result);
+    verify(emotionAnalysisJobTracker).complete(jobId);
+    assertEquals(response, jobResponse);
+  }
+
+  @Test
+  void submit_shouldSaveAnalysisContent_whenTypeIsDetail() {
+    // given
+    EmotionAnalysisJobService emotionAnalysisJobService = createService();
+
+    given(emotionAnalysisJobTracker.start(userId, diaryId, EmotionAnalysisJobType.DETAIL))
+        .willReturn(jobId);
+    given(emotionAnalysisService.getAnalyzableContent(diaryId, userId)).willReturn("일기 내용");
+    given(emotionAnalysisService.requestEmotionAnalysisContent("일기 내용"))
+        .willReturn("분석 내용");
+
+    // when
+    emotionAnalysisJobService.submit(
+        new EmotionAnalysisJobRequest(diaryId, EmotionAnalysisJobType.DETAIL), userId);
+
+    // then
+    verify(emotionAnalysisService).saveEmotionAnalysisContent(diaryId, userId, "분석 내용");
+    verify(emotionAnalysisJobTracker).complete(jobId);
+  }
+
+  @Test
+  void submit_shouldMarkFailedWithErrorCode_whenOpenAICallFails() {
+    // given
+    EmotionAnalysisJobService emotionAnalysisJobService = createService();
+
+    given(emotionAnalysisJobTracker.start(userId, diaryId, EmotionAnalysisJobType.SCORE))
+        .willReturn(jobId);
+    given(emotionAnalysisService.getAnalyzableContent(diaryId, userId)).willReturn("일기 내용");
+    given(emotionAnalysisService.analyzePrimaryEmotionAndEmotionScore(diaryId, userId,
+        "일기 내용"))
+        .willThrow(new CustomException(ErrorCode.FAIL_TO_CONNECT_WITH_OPEN_AI));
+
+    // when
+    emotionAnalysisJobService.submit(
+        new EmotionAnalysisJobRequest(diaryId, EmotionAnalysisJobType.SCORE), userId);
+
+    // then
+    verify(emotionAnalysisService, never()).savePrimaryEmotionAndEmotionScore(any(), any(),
+        any());
+    verify(emotionAnalysisJobTracker).fail(jobId, ErrorCode.FAIL_TO_CONNECT_WITH_OPEN_AI);
+    verify(emotionAnalysisJobTracker, never()).complete(jobId);
+  }
+
+  @Test
+  void submit_shouldThrowException_andMarkFailed_whenExecutorRejectsJob() {
+    // given
+    EmotionAnalysisJobService emotionAnalysisJobService = new EmotionAnalysisJobService(
+        emotionAnalysisService, emotionAnalysisJobTracker, emotionAnalysisQueue, command -> {
+          throw new RejectedExecutionException();
+        }, false);
+
+    given(emotionAnalysisJobTracker.start(userId, diaryId, EmotionAnalysisJobType.SCORE))
+        .willReturn(jobId);
+
+    // when
+    EmotionAnalysisException exception = assertThrows(EmotionAnalysisException.class,
+        () -> emotionAnalysisJobService.submit(
+            new EmotionAnalysisJobRequest(diaryId, EmotionAnalysisJobType.SCORE), userId));
+
+    // then
+    assertEquals(ErrorCode.EMOTION_ANALYSIS_JOB_REJECTED, exception.getErrorCode());
+    verify(emotionAnalysisJobTracker).fail(jobId, ErrorCode.EMOTION_ANALYSIS_JOB_REJECTED);
+    verify(emotionAnalysisService, never()).getAnalyzableContent(any(), any());
+  }
+
+  @Test
+  void submit_shouldNotStartJob_whenDiaryIsNotAnalyzable() {
+    // given
+    EmotionAnalysisJobService emotionAnalysisJobService = createService();
+
+    willThrow(
+            new EmotionAnalysisException(ErrorCode.FINAL_SAVED_DIARY_REQUIRED_FOR_EMOTION_ANALYSIS))
+        .given(emotionAnalysisService).checkAnalyzableDiary(diaryId, userId);
+
+    // when
+    assertThrows(EmotionAnalysisException.class,
+        () -> emotionAnalysisJobService.submit(
+            new EmotionAnalysisJobRequest(diaryId, EmotionAnalysisJobType.SCORE), userId));
+
+    // then
+    verify(emotionAnalysisJobTracker, never()).start(any(), any(), any());
+    verify(emotionAnalysisService, never()).analyzePrimaryEmotionAndEmotionScore(any(), any(),
+        anyString());
+  }
+
+  @Test
+  void submit_shouldEnqueueJob_andNotAnalyze_whenQueueIsEnabled() {
+    // given
+    EmotionAnalysisJobService emotionAnalysisJobService = new EmotionAnalysisJobService(
+        emotionAnalysisService, emotionAnalysisJobTracker, emotionAnalysisQueue, command -> {
+          throw new IllegalStateException();
+        }, true);
+
+    given(emotionAnalysisJobTracker.start(userId, diaryId, EmotionAnalysisJobType.SCORE))
+        .willReturn(jobId);
+
+    // when
+    emotionAnalysisJobService.submit(
+        new EmotionAnalysisJobRequest(diaryId, EmotionAnalysisJobType.SCORE), userId);
+
+    // then
+    verify(emotionAnalysisQueue).enqueueJob(
+        new QueuedJob(jobId, userId, diaryId, EmotionAnalysisJobType.SCORE));
+    verify(emotionAnalysisJobTracker, never()).markInProgress(any());
+    verify(emotionAnalysisService, never()).getAnalyzableContent(any(), any());
+  }
+
+  @Test
+  void processQueued_shouldAnalyzeQueuedJobsOneByOne_untilQueueIsEmpty() {
+    // given
+    EmotionAnalysisJobService emotionAnalysisJobService = createService();
+
+    given(emotionAnalysisQueue.pollJob()).willReturn(
+        Optional.of(new QueuedJob(jobId, userId, diaryId, EmotionAnalysisJobType.DETAIL)),
+        Optional.empty());
+    given(emotionAnalysisService.getAnalyzableContent(diaryId, userId)).willReturn("일기 내용");
+    given(emotionAnalysisService.requestEmotionAnalysisContent("일기 내용"))
+        .willReturn("분석 내용");
+
+    // when
+    int processed = emotionAnalysisJobService.processQueued(20,
+        Instant.now().plusSeconds(60));
+
+    // then
+    assertEquals(1, processed);
+    verify(emotionAnalysisQueue, times(2)).pollJob();
+    verify(emotionAnalysisService).saveEmotionAnalysisContent(diaryId, userId, "분석 내용");
+    verify(emotionAnalysisJobTracker).complete(jobId);
+  }
+
+  @Test
+  void processQueued_shouldNotPollJob_whenDeadlineHasPassed() {
+    // given
+    EmotionAnalysisJobService emotionAnalysisJobService = createService();
+
+    // when
+    int processed = emotionAnalysisJobService.processQueued(20, Instant.now());
+
+    // then
+    assertEquals(0, processed);
+    verify(emotionAnalysisQueue, never()).pollJob();
+  }
+
+  private EmotionAnalysisJobService createService() {
+    return new EmotionAnalysisJobService(emotionAnalysisService, emotionAnalysisJobTracker,
+        emotionAnalysisQueue, Runnable::run, false);
+  }
+}
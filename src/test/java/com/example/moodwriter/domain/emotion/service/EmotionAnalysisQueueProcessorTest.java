@@ -0,0 +1,86 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisQueue.QueuedDiary;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisService.EmotionScoreAndPrimaryEmotion;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import com.example.moodwriter.global.openAI.exception.OpenAIException;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class EmotionAnalysisQueueProcessorTest {
+
+  @Mock
+  private EmotionAnalysisQueue emotionAnalysisQueue;
+
+  @Mock
+  private EmotionAnalysisService emotionAnalysisService;
+
+  @Mock
+  private EmotionAnalysisJobService emotionAnalysisJobService;
+
+  @InjectMocks
+  private EmotionAnalysisQueueProcessor emotionAnalysisQueueProcessor;
+
+  private final UUID userId = UUID.randomUUID();
+
+  @Test
+  void processQueued_shouldRequeueRemainingDiaries_whenOpenAIIsUnavailable() {
+    // given
+    ReflectionTestUtils.setField(emotionAnalysisQueueProcessor, "batchSize", 20);
+    ReflectionTestUtils.setField(emotionAnalysisQueueProcessor, "timeBudgetSeconds", 60L);
+    QueuedDiary analyzed = new QueuedDiary(userId, UUID.randomUUID());
+    QueuedDiary failed = new QueuedDiary(userId, UUID.randomUUID());
+    QueuedDiary remaining = new QueuedDiary(userId, UUID.randomUUID());
+    EmotionScoreAndPrimaryEmotion result = new EmotionScoreAndPrimaryEmotion(80, "기쁨");
+
+    given(emotionAnalysisQueue.poll(20)).willReturn(List.of(analyzed, failed, remaining));
+    given(emotionAnalysisService.getAnalyzableContent(analyzed.diaryId(), userId))
+        .willReturn("첫 번째 일기");
+    given(emotionAnalysisService.getAnalyzableContent(failed.diaryId(), userId))
+        .willReturn("두 번째 일기");
+    given(emotionAnalysisService.requestPrimaryEmotionAndEmotionScore("첫 번째 일기"))
+        .willReturn(result);
+    given(emotionAnalysisService.requestPrimaryEmotionAndEmotionScore("두 번째 일기"))
+        .willThrow(new OpenAIException(ErrorCode.OPEN_AI_CIRCUIT_OPEN));
+
+    // when
+    emotionAnalysisQueueProcessor.processQueued();
+
+    // then
+    verify(emotionAnalysisService).savePrimaryEmotionAndEmotionScore(analyzed.diaryId(),
+        userId, result);
+    verify(emotionAnalysisQueue).requeue(List.of(failed, remaining));
+    verify(emotionAnalysisService, never()).getAnalyzableContent(remaining.diaryId(), userId);
+    verify(emotionAnalysisService, never()).savePrimaryEmotionAndEmotionScore(
+        eq(failed.diaryId()), eq(userId), any());
+  }
+
+  @Test
+  void processQueued_shouldRequeueDiaries_whenTimeBudgetIsExceeded() {
+    // given
+    ReflectionTestUtils.setField(emotionAnalysisQueueProcessor, "batchSize", 20);
+    QueuedDiary queued = new QueuedDiary(userId, UUID.randomUUID());
+
+    given(emotionAnalysisQueue.poll(20)).willReturn(List.of(queued));
+
+    // when
+    emotionAnalysisQueueProcessor.processQueued();
+
+    // then
+    verify(emotionAnalysisQueue).requeue(List.of(queued));
+    verify(emotionAnalysisService, never()).getAnalyzableContent(queued.diaryId(), userId);
+  }
+}
@@ -3,6 +3,7 @@ package com.example.moodwriter.domain.emotion.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -10,48 +11,76 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.dto.DiaryHeader;
 import com.example.moodwriter.domain.diary.entity.Diary;
+import com.example.moodwriter.domain.diary.service.DiaryCalendarService;
+import com.example.moodwriter.domain.diary.service.DiaryResponseCache;
 import com.example.moodwriter.domain.diary.exception.DiaryException;
 import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository;
-import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisRequest;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository.EmotionAnalysisVersion;
 import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisResponse;
 import com.example.moodwriter.domain.emotion.entity.EmotionAnalysis;
 import com.example.moodwriter.domain.emotion.exception.EmotionAnalysisException;
 import com.example.moodwriter.domain.emotion.service.EmotionAnalysisService.EmotionScoreAndPrimaryEmotion;
+import com.example.moodwriter.domain.emotion.service.EmotionAnalysisService.FullEmotionAnalysis;
+import com.example.moodwriter.domain.emotion.service.EmotionLexiconScorer.LexiconScore;
 import com.example.moodwriter.domain.user.entity.User;
 import com.example.moodwriter.global.constant.OpenAIModel;
+import com.example.moodwriter.global.constant.OpenAIRequestSentence;
 import com.example.moodwriter.global.exception.CustomException;
 import com.example.moodwriter.global.exception.code.ErrorCode;
+import com.example.moodwriter.global.pagination.KeysetCursor;
+import com.example.moodwriter.global.pagination.dto.CursorResponse;
 import com.example.moodwriter.global.openAI.dto.OpenAIResponse;
 import com.example.moodwriter.global.openAI.dto.OpenAIResponse.Choice;
 import com.example.moodwriter.global.openAI.dto.OpenAIResponse.Message;
+import com.example.moodwriter.global.openAI.exception.OpenAIException;
 import com.example.moodwriter.global.openAI.service.OpenAIClient;
+import com.example.moodwriter.global.openAI.service.OpenAIResultCache;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class EmotionAnalysisServiceTest {
@@ -66,6 +95,21 @@ class EmotionAnalysisServiceTest {
   private OpenAIClient openAIClient;
   @Mock
   private ObjectMapper objectMapper;
+  @Mock
+  private DiaryCalendarService diaryCalendarService;
+  @Mock
+  private DiaryResponseCache diaryResponseCache;
+  @Mock
+  private EmotionAnalysisResponseCache emotionAnalysisResponseCache;
+  @Mock
+  private EmotionTrendService emotionTrendService;
+  @Mock
+  private EmotionLexiconScorer emotionLexiconScorer;
+  @Mock
+  private EmotionAnalysisQueue emotionAnalysisQueue;
+  @Spy
+  private OpenAIResultCache openAIResultCache = new OpenAIResultCache(
+      new ConcurrentMapCacheManager(OpenAIResultCache.CACHE_NAME), new SimpleMeterRegistry());
   @InjectMocks
   private EmotionAnalysisService emotionAnalysisService;
 
@@ -87,14 +131,12 @@ class EmotionAnalysisServiceTest {
   }
 
   @Test
-  void successCreatePrimaryEmotionAndEmotionScore_whenItIsFirstTimeForEmotionAnalysis()
+  void successRequestAndSavePrimaryEmotionAndEmotionScore_whenItIsFirstTimeForEmotionAnalysis()
       throws JsonProcessingException {
     // given
     given(user.getId()).willReturn(userId);
     given(diary.getId()).willReturn(diaryId);
 
-    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
-
     String jsonResponse = """
         {
             "emotionScore": 8,
@@ -126,8 +168,9 @@ class EmotionAnalysisServiceTest {
         .will(returnsFirstArg());
 
     // when
-    EmotionAnalysisResponse response =
-        emotionAnalysisService.createPrimaryEmotionAndEmotionScore(request, userId);
+    EmotionAnalysisResponse response = emotionAnalysisService.savePrimaryEmotionAndEmotionScore(
+        diaryId, userId,
+        emotionAnalysisService.requestPrimaryEmotionAndEmotionScore(diary.getContent()));
 
     // then
     assertEquals(diaryId, response.getDiaryId());
@@ -142,14 +185,12 @@ class EmotionAnalysisServiceTest {
   }
 
   @Test
-  void successCreatePrimaryEmotionAndEmotionScore_whenItIsNotFirstTimeForEmotionAnalysis()
+  void successRequestAndSavePrimaryEmotionAndEmotionScore_whenItIsNotFirstTimeForEmotionAnalysis()
       throws JsonProcessingException {
     // given
     given(user.getId()).willReturn(userId);
     given(diary.getId()).willReturn(diaryId);
 
-    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
-
     EmotionAnalysis emotionAnalysis = EmotionAnalysis.builder()
         .diary(diary)
         .emotionScore(0)
@@ -190,8 +231,9 @@ class EmotionAnalysisServiceTest {
         .will(returnsFirstArg());
 
     // when
-    EmotionAnalysisResponse response =
-        emotionAnalysisService.createPrimaryEmotionAndEmotionScore(request, userId);
+    EmotionAnalysisResponse response = emotionAnalysisService.savePrimaryEmotionAndEmotionScore(
+        diaryId, userId,
+        emotionAnalysisService.requestPrimaryEmotionAndEmotionScore(diary.getContent()));
 
     // then
     assertEquals(diaryId, response.getDiaryId());
@@ -203,17 +245,17 @@ class EmotionAnalysisServiceTest {
     assertEquals(emotionScoreAndPrimaryEmotion.getEmotionScore(),
         response.getEmotionScore());
     assertEquals(emotionAnalysis.getAnalysisContent(), response.getAnalysisContent());
+    verify(emotionTrendService).applyScoreChange(userId, diary.getDate(), 0,
+        diary.getDate(), 8);
   }
 
   @Test
-  void successCreatePrimaryEmotionAndEmotionScore_whenEmotionAnalysisIsDeleted()
+  void successRequestAndSavePrimaryEmotionAndEmotionScore_whenEmotionAnalysisIsDeleted()
       throws JsonProcessingException {
     // given
     given(user.getId()).willReturn(userId);
     given(diary.getId()).willReturn(diaryId);
 
-    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
-
     EmotionAnalysis emotionAnalysis = EmotionAnalysis.builder()
         .diary(diary)
         .emotionScore(0)
@@ -255,8 +297,9 @@ class EmotionAnalysisServiceTest {
         .will(returnsFirstArg());
 
     // when
-    EmotionAnalysisResponse response =
-        emotionAnalysisService.createPrimaryEmotionAndEmotionScore(request, userId);
+    EmotionAnalysisResponse response = emotionAnalysisService.savePrimaryEmotionAndEmotionScore(
+        diaryId, userId,
+        emotionAnalysisService.requestPrimaryEmotionAndEmotionScore(diary.getContent()));
 
     // then
     assertFalse(emotionAnalysis.isDeleted());
@@ -272,84 +315,68 @@ class EmotionAnalysisServiceTest {
   }
 
   @Test
-  void createPrimaryEmotionAndEmotionScore_shouldReturnDiaryException_whenDiaryIsNotExist() {
+  void getAnalyzableContent_shouldReturnDiaryException_whenDiaryIsNotExist() {
     // given
-    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
-
     given(diaryRepository.findById(diaryId)).willReturn(Optional.empty());
 
     // when & then
     DiaryException diaryException = assertThrows(DiaryException.class,
-        () -> emotionAnalysisService.createPrimaryEmotionAndEmotionScore(request,
-            userId));
+        () -> emotionAnalysisService.getAnalyzableContent(diaryId, userId));
 
     assertEquals(ErrorCode.NOT_FOUND_DIARY, diaryException.getErrorCode());
   }
 
   @Test
-  void createPrimaryEmotionAndEmotionScore_shouldReturnDiaryException_whenDiaryWriterIsNotMatched() {
+  void getAnalyzableContent_shouldReturnDiaryException_whenDiaryWriterIsNotMatched() {
     // given
     UUID anotherUserId = UUID.randomUUID();
     given(user.getId()).willReturn(anotherUserId);
 
-    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
-
     given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
 
     // when & then
     DiaryException diaryException = assertThrows(DiaryException.class,
-        () -> emotionAnalysisService.createPrimaryEmotionAndEmotionScore(request,
-            userId));
+        () -> emotionAnalysisService.getAnalyzableContent(diaryId, userId));
 
     assertEquals(ErrorCode.FORBIDDEN_ACCESS_DIARY, diaryException.getErrorCode());
   }
 
   @Test
-  void createPrimaryEmotionAndEmotionScore_shouldReturnDiaryException_whenDiaryIsDeleted() {
+  void getAnalyzableContent_shouldReturnDiaryException_whenDiaryIsDeleted() {
     // given
     given(user.getId()).willReturn(userId);
     diary.deactivate();
 
-    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
-
     given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
 
     // when & then
     DiaryException diaryException = assertThrows(DiaryException.class,
-        () -> emotionAnalysisService.createPrimaryEmotionAndEmotionScore(request,
-            userId));
+        () -> emotionAnalysisService.getAnalyzableContent(diaryId, userId));
 
     assertEquals(ErrorCode.ALREADY_DELETED_DIARY, diaryException.getErrorCode());
   }
 
   @Test
-  void createPrimaryEmotionAndEmotionScore_shouldReturnEmotionAnalysisException_whenDiaryIsTemp() {
+  void getAnalyzableContent_shouldReturnEmotionAnalysisException_whenDiaryIsTemp() {
     // given
     given(user.getId()).willReturn(userId);
     diary.startEditing();
 
-    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
-
     given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
 
     // when & then
     EmotionAnalysisException emotionAnalysisException = assertThrows(
         EmotionAnalysisException.class,
-        () -> emotionAnalysisService.createPrimaryEmotionAndEmotionScore(request,
-            userId));
+        () -> emotionAnalysisService.getAnalyzableContent(diaryId, userId));
 
     assertEquals(ErrorCode.FINAL_SAVED_DIARY_REQUIRED_FOR_EMOTION_ANALYSIS,
         emotionAnalysisException.getErrorCode());
   }
 
   @Test
-  void createPrimaryEmotionAndEmotionScore_shouldReturnCustomException_whenJsonParsingErrorIsOccurred()
+  void requestPrimaryEmotionAndEmotionScore_shouldReturnCustomException_whenJsonParsingErrorIsOccurred()
       throws JsonProcessingException {
     // given
-    given(user.getId()).willReturn(userId);
-
-    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
-
     String jsonResponse = """
         {
             "emotionScore": 8,
@@ -365,8 +392,6 @@ class EmotionAnalysisServiceTest {
                 .build()))
         .build();
 
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
-    given(emotionAnalysisRepository.findByDiary(diary)).willReturn(Optional.empty());
     given(openAIClient.callOpenAI(anyString(), any(OpenAIModel.class)))
         .willReturn(openAIResponse);
     given(objectMapper.readValue(jsonResponse, EmotionScoreAndPrimaryEmotion.class))
@@ -375,18 +400,166 @@ class EmotionAnalysisServiceTest {
     // when & then
     CustomException customException = assertThrows(
         CustomException.class,
-        () -> emotionAnalysisService.createPrimaryEmotionAndEmotionScore(request,
-            userId));
+        () -> emotionAnalysisService.requestPrimaryEmotionAndEmotionScore("일기 내용"));
 
     assertEquals(ErrorCode.JSON_PARSE_ERROR, customException.getErrorCode());
   }
 
   @Test
-  void successCreateEmotionAnalysis_whenItIsFirstTimeForEmotionAnalysis() {
+  void analyzePrimaryEmotionAndEmotionScoreAsync_shouldThrowOpenAIException_whenLexiconFallbackIsDisabled() {
     // given
-    String analysisContent = "일기를 보니 행복하십니다.";
+    ReflectionTestUtils.setField(emotionAnalysisService, "lexiconFallbackEnabled", false);
 
-    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
+    given(openAIClient.callOpenAIAsync(anyString(), any(OpenAIModel.class)))
+        .willReturn(CompletableFuture.failedFuture(
+            new OpenAIException(ErrorCode.OPEN_AI_CIRCUIT_OPEN)));
+
+    // when
+    CompletionException exception = assertThrows(CompletionException.class,
+        () -> emotionAnalysisService
+            .analyzePrimaryEmotionAndEmotionScoreAsync(diaryId, userId, "일기 내용").join());
+
+    // then
+    OpenAIException openAIException = assertInstanceOf(OpenAIException.class,
+        exception.getCause());
+    assertEquals(ErrorCode.OPEN_AI_CIRCUIT_OPEN, openAIException.getErrorCode());
+    verify(emotionLexiconScorer, never()).score(anyString());
+    verify(emotionAnalysisQueue, never()).enqueue(any(), any());
+  }
+
+  @Test
+  void analyzePrimaryEmotionAndEmotionScoreAsync_shouldSkipOpenAI_whenLexiconFastPathIsEnabled() {
+    // given
+    ReflectionTestUtils.setField(emotionAnalysisService, "lexiconFastPathEnabled", true);
+
+    given(emotionLexiconScorer.score("너무 우울하고 힘들었다."))
+        .willReturn(new LexiconScore(20, List.of("우울", "힘듦"), 2));
+
+    // when
+    EmotionScoreAndPrimaryEmotion result = emotionAnalysisService
+        .analyzePrimaryEmotionAndEmotionScoreAsync(diaryId, userId, "너무 우울하고 힘들었다.")
+        .join();
+
+    // then
+    assertEquals(20, result.getEmotionScore());
+    assertEquals("우울, 힘듦", result.getPrimaryEmotion());
+    verify(openAIClient, never()).callOpenAIAsync(anyString(), any(OpenAIModel.class));
+    verify(emotionAnalysisQueue).enqueue(userId, List.of(diaryId));
+  }
+
+  @Test
+  void analyzePrimaryEmotionAndEmotionScoreAsync_shouldUseLexiconScore_whenOpenAIIsUnavailable() {
+    // given
+    ReflectionTestUtils.setField(emotionAnalysisService, "lexiconFallbackEnabled", true);
+
+    given(openAIClient.callOpenAIAsync(anyString(), any(OpenAIModel.class)))
+        .willReturn(CompletableFuture.failedFuture(
+            new OpenAIException(ErrorCode.FAIL_TO_CONNECT_WITH_OPEN_AI)));
+    given(emotionLexiconScorer.score("오늘은 정말 행복했다."))
+        .willReturn(new LexiconScore(70, List.of("행복"), 1));
+
+    // when
+    EmotionScoreAndPrimaryEmotion result = emotionAnalysisService
+        .analyzePrimaryEmotionAndEmotionScoreAsync(diaryId, userId, "오늘은 정말 행복했다.")
+        .join();
+
+    // then
+    assertEquals(70, result.getEmotionScore());
+    assertEquals("행복", result.getPrimaryEmotion());
+    assertTrue(result.isProvisional());
+    verify(emotionAnalysisQueue).enqueue(userId, List.of(diaryId));
+  }
+
+  @Test
+  void analyzePrimaryEmotionAndEmotionScoreAsync_shouldUseLexiconScore_whenOpenAICallIsRejectedImmediately() {
+    // given
+    ReflectionTestUtils.setField(emotionAnalysisService, "lexiconFallbackEnabled", true);
+
+    given(openAIClient.callOpenAIAsync(anyString(), any(OpenAIModel.class)))
+        .willThrow(new OpenAIException(ErrorCode.OPEN_AI_CIRCUIT_OPEN));
+    given(emotionLexiconScorer.score("오늘은 정말 행복했다."))
+        .willReturn(new LexiconScore(70, List.of("행복"), 1));
+
+    // when
+    EmotionScoreAndPrimaryEmotion result = emotionAnalysisService
+        .analyzePrimaryEmotionAndEmotionScoreAsync(diaryId, userId, "오늘은 정말 행복했다.")
+        .join();
+
+    // then
+    assertEquals(70, result.getEmotionScore());
+    assertTrue(result.isProvisional());
+    verify(emotionAnalysisQueue).enqueue(userId, List.of(diaryId));
+  }
+
+  @Test
+  void analyzePrimaryEmotionAndEmotionScore_shouldUseLexiconScore_whenOpenAIIsUnavailable() {
+    // given
+    ReflectionTestUtils.setField(emotionAnalysisService, "lexiconFallbackEnabled", true);
+
+    given(openAIClient.callOpenAI(anyString(), any(OpenAIModel.class)))
+        .willThrow(new OpenAIException(ErrorCode.OPEN_AI_CIRCUIT_OPEN));
+    given(emotionLexiconScorer.score("오늘은 정말 행복했다."))
+        .willReturn(new LexiconScore(70, List.of("행복"), 1));
+
+    // when
+    EmotionScoreAndPrimaryEmotion result = emotionAnalysisService
+        .analyzePrimaryEmotionAndEmotionScore(diaryId, userId, "오늘은 정말 행복했다.");
+
+    // then
+    assertEquals(70, result.getEmotionScore());
+    assertTrue(result.isProvisional());
+    verify(emotionAnalysisQueue).enqueue(userId, List.of(diaryId));
+  }
+
+  @Test
+  void savePrimaryEmotionAndEmotionScore_shouldSaveResultWithoutCallingOpenAI() {
+    // given
+    given(user.getId()).willReturn(userId);
+    given(diary.getId()).willReturn(diaryId);
+
+    EmotionScoreAndPrimaryEmotion emotionScoreAndPrimaryEmotion =
+        EmotionScoreAndPrimaryEmotion.builder()
+            .emotionScore(8)
+            .primaryEmotion("행복, 만족, 감사")
+            .build();
+
+    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    given(emotionAnalysisRepository.findByDiary(diary)).willReturn(Optional.empty());
+    given(emotionAnalysisRepository.save(any(EmotionAnalysis.class)))
+        .will(returnsFirstArg());
+
+    // when
+    EmotionAnalysisResponse response = emotionAnalysisService.savePrimaryEmotionAndEmotionScore(
+        diaryId, userId, emotionScoreAndPrimaryEmotion);
+
+    // then
+    assertEquals(8, response.getEmotionScore());
+    verify(openAIClient, never()).callOpenAI(anyString(), any(OpenAIModel.class));
+    verify(diaryCalendarService).refreshDays(userId, diary.getDate());
+    verify(emotionTrendService).applyScoreChange(userId, diary.getDate(), null,
+        diary.getDate(), 8);
+  }
+
+  @Test
+  void saveEmotionAnalysisContent_shouldReturnDiaryException_whenDiaryIsDeletedDuringAnalysis() {
+    // given
+    given(user.getId()).willReturn(userId);
+    diary.deactivate();
+
+    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+
+    // when & then
+    DiaryException diaryException = assertThrows(DiaryException.class,
+        () -> emotionAnalysisService.saveEmotionAnalysisContent(diaryId, userId, "분석 내용"));
+
+    assertEquals(ErrorCode.ALREADY_DELETED_DIARY, diaryException.getErrorCode());
+    verify(emotionAnalysisRepository, never()).save(any(EmotionAnalysis.class));
+  }
+
+  @Test
+  void successRequestAndSaveEmotionAnalysisContent_whenItIsFirstTimeForEmotionAnalysis() {
+    // given
+    String analysisContent = "일기를 보니 행복하십니다.";
 
     OpenAIResponse openAIResponse = OpenAIResponse.builder()
         .choices(Collections.singletonList(
@@ -408,8 +581,8 @@ class EmotionAnalysisServiceTest {
         .will(returnsFirstArg());
 
     // when
-    EmotionAnalysisResponse response = emotionAnalysisService.createEmotionAnalysis(
-        request, userId);
+    EmotionAnalysisResponse response = emotionAnalysisService.saveEmotionAnalysisContent(
+        diaryId, userId, emotionAnalysisService.requestEmotionAnalysisContent(diary.getContent()));
 
     // then
     assertEquals(diaryId, response.getDiaryId());
@@ -420,12 +593,10 @@ class EmotionAnalysisServiceTest {
   }
 
   @Test
-  void successCreateEmotionAnalysis_whenItIsNotFirstTimeForEmotionAnalysis() {
+  void successRequestAndSaveEmotionAnalysisContent_whenItIsNotFirstTimeForEmotionAnalysis() {
     // given
     String analysisContent = "일기를 보니 행복하십니다.";
 
-    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
-
     OpenAIResponse openAIResponse = OpenAIResponse.builder()
         .choices(Collections.singletonList(
             Choice.builder()
@@ -455,8 +626,8 @@ class EmotionAnalysisServiceTest {
         .will(returnsFirstArg());
 
     // when
-    EmotionAnalysisResponse response = emotionAnalysisService.createEmotionAnalysis(
-        request, userId);
+    EmotionAnalysisResponse response = emotionAnalysisService.saveEmotionAnalysisContent(
+        diaryId, userId, emotionAnalysisService.requestEmotionAnalysisContent(diary.getContent()));
 
     // then
     assertEquals(diaryId, response.getDiaryId());
@@ -469,12 +640,10 @@ class EmotionAnalysisServiceTest {
   }
 
   @Test
-  void successCreateEmotionAnalysis_whenEmotionAnalysisIsDeleted() {
+  void successRequestAndSaveEmotionAnalysisContent_whenEmotionAnalysisIsDeleted() {
     // given
     String analysisContent = "일기를 보니 행복하십니다.";
 
-    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
-
     OpenAIResponse openAIResponse = OpenAIResponse.builder()
         .choices(Collections.singletonList(
             Choice.builder()
@@ -506,8 +675,8 @@ class EmotionAnalysisServiceTest {
         .will(returnsFirstArg());
 
     // when
-    EmotionAnalysisResponse response = emotionAnalysisService.createEmotionAnalysis(
-        request, userId);
+    EmotionAnalysisResponse response = emotionAnalysisService.saveEmotionAnalysisContent(
+        diaryId, userId, emotionAnalysisService.requestEmotionAnalysisContent(diary.getContent()));
 
     // then
     assertEquals(diaryId, response.getDiaryId());
@@ -520,70 +689,140 @@ class EmotionAnalysisServiceTest {
   }
 
   @Test
-  void createEmotionAnalysis_shouldReturnDiaryException_whenDiaryIsNotExist() {
+  void requestAndSaveFullEmotionAnalysis_withSingleOpenAICall()
+      throws JsonProcessingException {
     // given
-    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
+    given(user.getId()).willReturn(userId);
+    given(diary.getId()).willReturn(diaryId);
 
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.empty());
+    String jsonResponse = "{\"emotionScore\": 80}";
+    FullEmotionAnalysis fullEmotionAnalysis = FullEmotionAnalysis.builder()
+        .emotionScore(80)
+        .primaryEmotion("행복, 만족, 감사")
+        .analysisContent("행복하십니다.")
+        .build();
 
-    // when & then
-    DiaryException diaryException = assertThrows(DiaryException.class,
-        () -> emotionAnalysisService.createEmotionAnalysis(request, userId));
+    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    given(emotionAnalysisRepository.findByDiary(diary)).willReturn(Optional.empty());
+    given(openAIClient.callOpenAIForJson(anyString(), eq(OpenAIModel.GPT_4O_MINI)))
+        .willReturn(createOpenAIResponse(jsonResponse));
+    given(objectMapper.readValue(jsonResponse, FullEmotionAnalysis.class))
+        .willReturn(fullEmotionAnalysis);
+    given(emotionAnalysisRepository.save(any(EmotionAnalysis.class)))
+        .will(returnsFirstArg());
 
-    assertEquals(ErrorCode.NOT_FOUND_DIARY, diaryException.getErrorCode());
+    // when
+    EmotionAnalysisResponse response = emotionAnalysisService.saveFullEmotionAnalysis(diaryId,
+        userId, emotionAnalysisService.requestFullEmotionAnalysis(diary.getContent()));
+
+    // then
+    assertEquals(80, response.getEmotionScore());
+    assertEquals(List.of("행복", "만족", "감사"), response.getPrimaryEmotion());
+    assertEquals("행복하십니다.", response.getAnalysisContent());
+    verify(openAIClient, times(1)).callOpenAIForJson(anyString(), any(OpenAIModel.class));
+    verify(emotionTrendService).applyScoreChange(userId, diary.getDate(), null,
+        diary.getDate(), 80);
   }
 
   @Test
-  void createEmotionAnalysis_shouldReturnDiaryException_whenDiaryWriterIsNotMatched() {
+  void requestFullEmotionAnalysis_shouldRetryWithRepairPrompt_whenResponseIsMalformed()
+      throws JsonProcessingException {
     // given
-    UUID anotherUserId = UUID.randomUUID();
-    given(user.getId()).willReturn(anotherUserId);
-
-    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
+    String malformedResponse = "감정점수는 80점입니다.";
+    String repairedResponse = "{\"emotionScore\": 80}";
+    FullEmotionAnalysis fullEmotionAnalysis = FullEmotionAnalysis.builder()
+        .emotionScore(80)
+        .primaryEmotion("행복, 만족, 감사")
+        .analysisContent("행복하십니다.")
+        .build();
 
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    given(openAIClient.callOpenAIForJson(anyString(), eq(OpenAIModel.GPT_4O_MINI)))
+        .willReturn(createOpenAIResponse(malformedResponse))
+        .willReturn(createOpenAIResponse(repairedResponse));
+    given(objectMapper.readValue(malformedResponse, FullEmotionAnalysis.class))
+        .willThrow(JsonProcessingException.class);
+    given(objectMapper.readValue(repairedResponse, FullEmotionAnalysis.class))
+        .willReturn(fullEmotionAnalysis);
 
-    // when & then
-    DiaryException diaryException = assertThrows(DiaryException.class,
-        () -> emotionAnalysisService.createEmotionAnalysis(request, userId));
+    // when
+    FullEmotionAnalysis result = emotionAnalysisService.requestFullEmotionAnalysis("일기 내용");
 
-    assertEquals(ErrorCode.FORBIDDEN_ACCESS_DIARY, diaryException.getErrorCode());
+    // then
+    ArgumentCaptor<String> requestCaptor = ArgumentCaptor.forClass(String.class);
+    verify(openAIClient, times(2)).callOpenAIForJson(requestCaptor.capture(),
+        eq(OpenAIModel.GPT_4O_MINI));
+    String repairRequest = requestCaptor.getAllValues().get(1);
+    assertTrue(repairRequest.contains(malformedResponse));
+    assertTrue(repairRequest.endsWith(
+        OpenAIRequestSentence.REPAIR_FULL_EMOTION_ANALYSIS.getSentence()));
+    assertEquals(fullEmotionAnalysis, result);
   }
 
   @Test
-  void createEmotionAnalysis_shouldReturnDiaryException_whenDiaryIsDeleted() {
+  void requestEmotionAnalysisContent_shouldServeSameContentFromCache() {
     // given
-    given(user.getId()).willReturn(userId);
-    diary.deactivate();
+    given(openAIClient.callOpenAI(anyString(), eq(OpenAIModel.GPT_4O_MINI)))
+        .willReturn(createOpenAIResponse("행복하십니다."));
 
-    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
+    // when
+    String first = emotionAnalysisService.requestEmotionAnalysisContent("일기 내용");
+    String second = emotionAnalysisService.requestEmotionAnalysisContent("일기 내용");
 
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    // then
+    assertEquals("행복하십니다.", first);
+    assertEquals("행복하십니다.", second);
+    verify(openAIClient, times(1)).callOpenAI(anyString(), any(OpenAIModel.class));
+  }
 
-    // when & then
-    DiaryException diaryException = assertThrows(DiaryException.class,
-        () -> emotionAnalysisService.createEmotionAnalysis(request, userId));
+  @Test
+  void streamEmotionAnalysisContent_shouldRelayCachedContentAtOnce_whenContentIsRepeated() {
+    // given
+    given(openAIClient.streamOpenAI(anyString(), eq(OpenAIModel.GPT_4O_MINI), any()))
+        .willAnswer(invocation -> {
+          Consumer<String> onDelta = invocation.getArgument(2);
+          onDelta.accept("행복");
+          onDelta.accept("하십니다.");
+          return createOpenAIResponse("행복하십니다.");
+        });
+    List<String> firstDeltas = new ArrayList<>();
+    List<String> secondDeltas = new ArrayList<>();
 
-    assertEquals(ErrorCode.ALREADY_DELETED_DIARY, diaryException.getErrorCode());
+    // when
+    String first = emotionAnalysisService.streamEmotionAnalysisContent("일기 내용",
+        firstDeltas::add);
+    String second = emotionAnalysisService.streamEmotionAnalysisContent("일기 내용",
+        secondDeltas::add);
+
+    // then
+    assertEquals("행복하십니다.", first);
+    assertEquals("행복하십니다.", second);
+    assertEquals(List.of("행복", "하십니다."), firstDeltas);
+    assertEquals(List.of("행복하십니다."), secondDeltas);
+    verify(openAIClient, times(1)).streamOpenAI(anyString(), any(OpenAIModel.class), any());
   }
 
   @Test
-  void createEmotionAnalysis_shouldReturnEmotionAnalysisException_whenDiaryIsTemp() {
+  void requestFullEmotionAnalysis_shouldThrowCustomException_whenRepairedResponseIsInvalid()
+      throws JsonProcessingException {
     // given
-    given(user.getId()).willReturn(userId);
-    diary.startEditing();
-
-    EmotionAnalysisRequest request = new EmotionAnalysisRequest(diaryId);
+    String invalidResponse = "{\"emotionScore\": 150}";
+    FullEmotionAnalysis invalidAnalysis = FullEmotionAnalysis.builder()
+        .emotionScore(150)
+        .primaryEmotion("행복")
+        .build();
 
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    given(openAIClient.callOpenAIForJson(anyString(), eq(OpenAIModel.GPT_4O_MINI)))
+        .willReturn(createOpenAIResponse(invalidResponse));
+    given(objectMapper.readValue(invalidResponse, FullEmotionAnalysis.class))
+        .willReturn(invalidAnalysis);
 
-    // when & then
-    EmotionAnalysisException emotionAnalysisException = assertThrows(
-        EmotionAnalysisException.class,
-        () -> emotionAnalysisService.createEmotionAnalysis(request, userId));
+    // when
+    CustomException customException = assertThrows(CustomException.class,
+        () -> emotionAnalysisService.requestFullEmotionAnalysis("일기 내용"));
 
-    assertEquals(ErrorCode.FINAL_SAVED_DIARY_REQUIRED_FOR_EMOTION_ANALYSIS,
-        emotionAnalysisException.getErrorCode());
+    // then
+    assertEquals(ErrorCode.OPEN_AI_RETURN_INVALID_FORMAT, customException.getErrorCode());
+    verify(openAIClient, times(2)).callOpenAIForJson(anyString(), any(OpenAIModel.class));
   }
 
   @Test
@@ -606,8 +845,9 @@ class EmotionAnalysisServiceTest {
     given(emotionAnalysis.getId()).willReturn(emotionAnalysisId);
     given(emotionAnalysis.getCreatedAt()).willReturn(now);
     given(emotionAnalysis.getUpdatedAt()).willReturn(now);
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
-    given(emotionAnalysisRepository.findByDiary(diary))
+    DiaryHeader header = headerOf(diary);
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(header));
+    given(emotionAnalysisRepository.findByDiaryId(diaryId))
         .willReturn(Optional.of(emotionAnalysis));
 
     // when
@@ -630,7 +870,7 @@ class EmotionAnalysisServiceTest {
   @Test
   void getEmotionAnalysis_shouldReturnDiaryException_whenDiaryIsNotExist() {
     // given
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.empty());
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.empty());
 
     // when
     DiaryException diaryException = assertThrows(DiaryException.class,
@@ -646,7 +886,8 @@ class EmotionAnalysisServiceTest {
     UUID anotherUserId = UUID.randomUUID();
     given(user.getId()).willReturn(anotherUserId);
 
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    DiaryHeader header = headerOf(diary);
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(header));
 
     // when & then
     DiaryException diaryException = assertThrows(DiaryException.class,
@@ -661,7 +902,8 @@ class EmotionAnalysisServiceTest {
     given(user.getId()).willReturn(userId);
     diary.deactivate();
 
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    DiaryHeader header = headerOf(diary);
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(header));
 
     // when & then
     DiaryException diaryException = assertThrows(DiaryException.class,
@@ -676,7 +918,8 @@ class EmotionAnalysisServiceTest {
     given(user.getId()).willReturn(userId);
     diary.startEditing();
 
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    DiaryHeader header = headerOf(diary);
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(header));
 
     // when & then
     EmotionAnalysisException emotionAnalysisException = assertThrows(
@@ -692,8 +935,9 @@ class EmotionAnalysisServiceTest {
     // given
     given(user.getId()).willReturn(userId);
 
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
-    given(emotionAnalysisRepository.findByDiary(diary)).willReturn(Optional.empty());
+    DiaryHeader header = headerOf(diary);
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(header));
+    given(emotionAnalysisRepository.findByDiaryId(diaryId)).willReturn(Optional.empty());
 
     // when & then
     EmotionAnalysisException emotionAnalysisException = assertThrows(
@@ -718,8 +962,9 @@ class EmotionAnalysisServiceTest {
         .build());
 
     given(user.getId()).willReturn(userId);
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
-    given(emotionAnalysisRepository.findByDiary(diary)).willReturn(
+    DiaryHeader header = headerOf(diary);
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(header));
+    given(emotionAnalysisRepository.findByDiaryId(diaryId)).willReturn(
         Optional.of(emotionAnalysis));
 
     // when & then
@@ -731,6 +976,27 @@ class EmotionAnalysisServiceTest {
         emotionAnalysisException.getErrorCode());
   }
 
+  @Test
+  void getEmotionAnalysisETag_shouldReturnEmotionAnalysisException_whenEmotionAnalysisIsDeleted() {
+    // given
+    given(user.getId()).willReturn(userId);
+    DiaryHeader header = headerOf(diary);
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(header));
+
+    EmotionAnalysisVersion version = mock(EmotionAnalysisVersion.class);
+    given(version.isDeleted()).willReturn(true);
+    given(emotionAnalysisRepository.findVersionByDiaryId(diaryId)).willReturn(
+        Optional.of(version));
+
+    // when & then
+    EmotionAnalysisException emotionAnalysisException = assertThrows(
+        EmotionAnalysisException.class,
+        () -> emotionAnalysisService.getEmotionAnalysisETag(diaryId, userId));
+
+    assertEquals(ErrorCode.ALREADY_DELETED_EMOTION_ANALYSIS,
+        emotionAnalysisException.getErrorCode());
+  }
+
   @Test
   void successDeleteDiary() {
     // given
@@ -744,14 +1010,16 @@ class EmotionAnalysisServiceTest {
         .build();
 
     given(user.getId()).willReturn(userId);
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
-    given(emotionAnalysisRepository.findByDiary(diary))
+    DiaryHeader header = headerOf(diary);
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(header));
+    given(emotionAnalysisRepository.findByDiaryId(diaryId))
         .willReturn(Optional.of(emotionAnalysis));
 
     // when & then
     emotionAnalysisService.deleteEmotionAnalysis(diaryId, userId);
 
     verify(emotionAnalysisRepository).save(emotionAnalysis);
+    verify(emotionTrendService).applyScoreChange(userId, diary.getDate(), 0, null, null);
 
     assertTrue(emotionAnalysis.isDeleted());
     assertNotNull(emotionAnalysis.getDeletedAt());
@@ -760,7 +1028,7 @@ class EmotionAnalysisServiceTest {
   @Test
   void deleteEmotionAnalysis_shouldReturnDiaryException_whenDiaryIsNotExist() {
     // given
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.empty());
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.empty());
 
     // when
     DiaryException diaryException = assertThrows(DiaryException.class,
@@ -776,7 +1044,8 @@ class EmotionAnalysisServiceTest {
     UUID anotherUserId = UUID.randomUUID();
     given(user.getId()).willReturn(anotherUserId);
 
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    DiaryHeader header = headerOf(diary);
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(header));
 
     // when & then
     DiaryException diaryException = assertThrows(DiaryException.class,
@@ -791,7 +1060,8 @@ class EmotionAnalysisServiceTest {
     given(user.getId()).willReturn(userId);
     diary.deactivate();
 
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    DiaryHeader header = headerOf(diary);
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(header));
 
     // when & then
     DiaryException diaryException = assertThrows(DiaryException.class,
@@ -806,7 +1076,8 @@ class EmotionAnalysisServiceTest {
     given(user.getId()).willReturn(userId);
     diary.startEditing();
 
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+    DiaryHeader header = headerOf(diary);
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(header));
 
     // when & then
     EmotionAnalysisException emotionAnalysisException = assertThrows(
@@ -822,8 +1093,9 @@ class EmotionAnalysisServiceTest {
     // given
     given(user.getId()).willReturn(userId);
 
-    given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
-    given(emotionAnalysisRepository.findByDiary(diary)).willReturn(Optional.empty());
+    DiaryHeader header = headerOf(diary);
+    given(diaryRepository.findHeaderById(diaryId)).willReturn(Optional.of(header));
+    given(emotionAnalysisRepository.findByDiaryId(diaryId)).willReturn(Optional.empty());
 
     // when & then
     EmotionAnalysisException emotionAnalysisException = assertThrows(
@@ -937,4 +1209,80 @@ class EmotionAnalysisServiceTest {
         emotionAnalysisException.getErrorCode());
   }
 
-}
\ No newline at end of file
+  @Test
+  void successGetEmotionAnalysisByDateRangeWithCursor() {
+    // given
+    LocalDate startDate = LocalDate.of(2024, 10, 1);
+    LocalDate endDate = LocalDate.of(2024, 10, 10);
+
+    UUID userId = UUID.randomUUID();
+    User user = mock(User.class);
+    Diary diary = mock(Diary.class);
+
+    UUID emotionAnalysisId = UUID.randomUUID();
+    EmotionAnalysis emotionAnalysis = spy(EmotionAnalysis.builder()
+        .diary(diary)
+        .date(LocalDate.of(2024, 10, 10))
+        .emotionScore(9)
+        .build());
+
+    given(emotionAnalysis.getId()).willReturn(emotionAnalysisId);
+    given(entityManager.getReference(User.class, userId)).willReturn(user);
+    given(emotionAnalysisRepository.findByDateBetweenAndIsDeletedFalseAndUser(eq(startDate),
+        eq(endDate), eq(user), any(ScrollPosition.class),
+        eq(Sort.by(Direction.DESC, "date", "id")), any(Limit.class)))
+        .willReturn(Window.from(List.of(emotionAnalysis), index -> ScrollPosition.keyset(),
+            true));
+
+    // when
+    CursorResponse<EmotionAnalysisResponse> response = emotionAnalysisService.getEmotionAnalysisByDateRangeWithCursor(
+        startDate, endDate, userId, null, 1, Direction.DESC);
+
+    // then
+    assertEquals(1, response.getSize());
+    assertEquals(emotionAnalysisId, response.getContent().get(0).getEmotionAnalysisId());
+    assertTrue(response.isHasNext());
+
+    KeysetCursor nextCursor = KeysetCursor.decode(response.getNextCursor());
+    assertEquals(emotionAnalysis.getDate(), nextCursor.getDate());
+    assertEquals(emotionAnalysisId, nextCursor.getId());
+  }
+
+  @Test
+  void getEmotionAnalysisByDateRangeWithCursor_shouldReturnCustomException_whenCursorIsInvalid() {
+    // given
+    UUID userId = UUID.randomUUID();
+
+    given(entityManager.getReference(User.class, userId)).willReturn(mock(User.class));
+
+    // when & then
+    CustomException customException = assertThrows(CustomException.class,
+        () -> emotionAnalysisService.getEmotionAnalysisByDateRangeWithCursor(
+            LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 10), userId, "invalid", 10,
+            Direction.DESC));
+
+    assertEquals(ErrorCode.INVALID_CURSOR, customException.getErrorCode());
+  }
+
+  private OpenAIResponse createOpenAIResponse(String content) {
+    return OpenAIResponse.builder()
+        .choices(Collections.singletonList(
+            Choice.builder()
+                .message(
+                    Message.builder()
+                        .content(content)
+                        .build())
+                .build()))
+        .build();
+  }
+
+  private DiaryHeader headerOf(Diary diary) {
+    return DiaryHeader.builder()
+        .id(diaryId)
+        .userId(diary.getUser().getId())
+        .date(diary.getDate())
+        .isTemp(diary.isTemp())
+        .isDeleted(diary.isDeleted())
+        .build();
+  }
+}
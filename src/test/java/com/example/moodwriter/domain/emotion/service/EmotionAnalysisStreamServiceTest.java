@@ -0,0 +1,96 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.moodwriter.domain.diary.exception.DiaryException;
+import com.example.moodwriter.domain.emotion.dto.EmotionAnalysisResponse;
+import com.example.moodwriter.domain.emotion.exception.EmotionAnalysisException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmotionAnalysisStreamServiceTest {
+
+  @Mock
+  private EmotionAnalysisService emotionAnalysisService;
+
+  private final UUID userId = UUID.randomUUID();
+  private final UUID diaryId = UUID.randomUUID();
+
+  @Test
+  void streamEmotionAnalysis_shouldRelayDeltas_andSaveAssembledContent() {
+    // given
+    EmotionAnalysisStreamService emotionAnalysisStreamService = new EmotionAnalysisStreamService(
+        emotionAnalysisService, Runnable::run);
+    List<String> relayedDeltas = new ArrayList<>();
+
+    given(emotionAnalysisService.getAnalyzableContent(diaryId, userId)).willReturn("일기 내용");
+    given(emotionAnalysisService.streamEmotionAnalysisContent(eq("일기 내용"), any()))
+        .willAnswer(invocation -> {
+          Consumer<String> onDelta = invocation.getArgument(1);
+          for (String delta : List.of("행복", "하십니다.")) {
+            relayedDeltas.add(delta);
+            onDelta.accept(delta);
+          }
+          return "행복하십니다.";
+        });
+    given(emotionAnalysisService.saveEmotionAnalysisContent(diaryId, userId, "행복하십니다."))
+        .willReturn(EmotionAnalysisResponse.builder().diaryId(diaryId).build());
+
+    // when
+    emotionAnalysisStreamService.streamEmotionAnalysis(diaryId, userId);
+
+    // then
+    assertEquals(List.of("행복", "하십니다."), relayedDeltas);
+    verify(emotionAnalysisService).saveEmotionAnalysisContent(diaryId, userId, "행복하십니다.");
+  }
+
+  @Test
+  void streamEmotionAnalysis_shouldNotCallOpenAI_whenDiaryIsNotAnalyzable() {
+    // given
+    EmotionAnalysisStreamService emotionAnalysisStreamService = new EmotionAnalysisStreamService(
+        emotionAnalysisService, Runnable::run);
+
+    given(emotionAnalysisService.getAnalyzableContent(diaryId, userId))
+        .willThrow(new DiaryException(ErrorCode.ALREADY_DELETED_DIARY));
+
+    // when
+    emotionAnalysisStreamService.streamEmotionAnalysis(diaryId, userId);
+
+    // then
+    verify(emotionAnalysisService, never()).streamEmotionAnalysisContent(anyString(), any());
+    verify(emotionAnalysisService, never()).saveEmotionAnalysisContent(any(), any(),
+        anyString());
+  }
+
+  @Test
+  void streamEmotionAnalysis_shouldThrowException_whenExecutorRejectsStream() {
+    // given
+    EmotionAnalysisStreamService emotionAnalysisStreamService = new EmotionAnalysisStreamService(
+        emotionAnalysisService, command -> {
+          throw new RejectedExecutionException();
+        });
+
+    // when
+    EmotionAnalysisException exception = assertThrows(EmotionAnalysisException.class,
+        () -> emotionAnalysisStreamService.streamEmotionAnalysis(diaryId, userId));
+
+    // then
+    assertEquals(ErrorCode.EMOTION_ANALYSIS_JOB_REJECTED, exception.getErrorCode());
+  }
+}
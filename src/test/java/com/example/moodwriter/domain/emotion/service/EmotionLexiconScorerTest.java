@@ -0,0 +1,71 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.moodwriter.domain.emotion.service.EmotionLexiconScorer.LexiconScore;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+class EmotionLexiconScorerTest {
+
+  private final EmotionLexiconScorer emotionLexiconScorer = new EmotionLexiconScorer(
+      new ClassPathResource("emotion/emotion-lexicon.tsv"));
+
+  @Test
+  void score_shouldReturnHighScore_whenDiaryIsPositive() {
+    // when
+    LexiconScore score = emotionLexiconScorer.score(
+        "오늘은 친구들과 맛있는 저녁을 먹어서 정말 행복했다. 선물도 받아서 너무 기뻤고 고마웠다.");
+
+    // then
+    assertTrue(score.emotionScore() > 70);
+    assertEquals(List.of("행복", "기쁨", "감사"), score.primaryEmotions());
+    assertEquals(3, score.matchedTerms());
+  }
+
+  @Test
+  void score_shouldReturnLowScore_whenDiaryIsNegative() {
+    // when
+    LexiconScore score = emotionLexiconScorer.score(
+        "회사 일이 너무 힘들었다. 하루 종일 우울하고 불안해서 아무것도 하기 싫었다.");
+
+    // then
+    assertTrue(score.emotionScore() < 30);
+    assertEquals(List.of("힘듦", "우울", "불안"), score.primaryEmotions());
+  }
+
+  @Test
+  void score_shouldFlipPolarityAndDropEmotion_whenStemIsNegated() {
+    // when
+    LexiconScore score = emotionLexiconScorer.score("오늘은 별로 행복하지 않았다.");
+
+    // then
+    assertTrue(score.emotionScore() < 50);
+    assertFalse(score.primaryEmotions().contains("행복"));
+  }
+
+  @Test
+  void score_shouldPreferLongestStem_whenShorterStemIsPrefix() {
+    // when
+    LexiconScore score = emotionLexiconScorer.score("하루 종일 기분이 안좋았다.");
+
+    // then
+    assertTrue(score.emotionScore() < 50);
+    assertEquals(1, score.matchedTerms());
+  }
+
+  @Test
+  void score_shouldReturnNeutralScore_whenNoStemMatches() {
+    // when
+    LexiconScore score = emotionLexiconScorer.score("오늘은 도서관에 가서 책을 읽었다.");
+
+    // then
+    assertEquals(50, score.emotionScore());
+    assertEquals(List.of("평온"), score.primaryEmotions());
+    assertEquals("평온", score.toEmotionScoreAndPrimaryEmotion().getPrimaryEmotion());
+    assertTrue(score.toEmotionScoreAndPrimaryEmotion().isProvisional());
+  }
+}
@@ -0,0 +1,128 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.entity.Diary;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository;
+import com.example.moodwriter.domain.emotion.dao.EmotionScoreRollupRepository;
+import com.example.moodwriter.domain.emotion.entity.EmotionAnalysis;
+import com.example.moodwriter.domain.emotion.entity.EmotionScoreRollup;
+import com.example.moodwriter.domain.user.dao.UserRepository;
+import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.constant.TrendPeriod;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@EnableJpaAuditing
+class EmotionScoreRollupRebuildJobTest {
+
+  @Autowired
+  private EmotionScoreRollupRepository emotionScoreRollupRepository;
+
+  @Autowired
+  private EmotionAnalysisRepository emotionAnalysisRepository;
+
+  @Autowired
+  private DiaryRepository diaryRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @MockBean
+  private ObjectMapper objectMapper;
+
+  @Test
+  void rebuildAll_shouldReplaceRollupsOfAllUsers() {
+    // given
+    User user = saveUser("test@email.com");
+    User anotherUser = saveUser("test2@email.com");
+
+    saveEmotionAnalysis(user, LocalDate.of(2024, 10, 7), 4, false);
+    saveEmotionAnalysis(user, LocalDate.of(2024, 10, 9), 8, false);
+    saveEmotionAnalysis(user, LocalDate.of(2024, 10, 10), 1, true);
+    saveEmotionAnalysis(anotherUser, LocalDate.of(2024, 11, 1), 6, false);
+
+    EmotionScoreRollup staleRollup = EmotionScoreRollup.builder()
+        .user(user)
+        .periodType(TrendPeriod.MONTH)
+        .periodStart(LocalDate.of(2024, 9, 1))
+        .build();
+    staleRollup.add(3);
+    emotionScoreRollupRepository.save(staleRollup);
+    entityManager.flush();
+    entityManager.clear();
+
+    EmotionScoreRollupRebuildJob job = new EmotionScoreRollupRebuildJob(jdbcTemplate,
+        transactionManager, 1);
+
+    // when
+    long rebuilt = job.rebuildAll();
+
+    // then
+    assertEquals(7, rebuilt);
+
+    List<EmotionScoreRollup> weeks = emotionScoreRollupRepository
+        .findTrendByUserAndPeriodStartBetween(user, TrendPeriod.WEEK,
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+    assertEquals(1, weeks.size());
+    assertEquals(LocalDate.of(2024, 10, 7), weeks.get(0).getPeriodStart());
+    assertEquals(2, weeks.get(0).getScoreCount());
+    assertEquals(12, weeks.get(0).getScoreSum());
+    assertEquals(4, weeks.get(0).getMinScore());
+    assertEquals(8, weeks.get(0).getMaxScore());
+
+    List<EmotionScoreRollup> months = emotionScoreRollupRepository
+        .findTrendByUserAndPeriodStartBetween(user, TrendPeriod.MONTH,
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+    assertEquals(1, months.size());
+    assertEquals(LocalDate.of(2024, 10, 1), months.get(0).getPeriodStart());
+  }
+
+  private User saveUser(String email) {
+    return userRepository.save(User.builder()
+        .email(email)
+        .passwordHash("Password12!@")
+        .name("이름")
+        .build());
+  }
+
+  private void saveEmotionAnalysis(User user, LocalDate date, int score, boolean isDeleted) {
+    Diary diary = diaryRepository.save(Diary.builder()
+        .user(user)
+        .content("내용")
+        .date(date)
+        .isTemp(false)
+        .isDeleted(false)
+        .build());
+
+    emotionAnalysisRepository.save(EmotionAnalysis.builder()
+        .user(user)
+        .diary(diary)
+        .date(date)
+        .emotionScore(score)
+        .isDeleted(isDeleted)
+        .build());
+  }
+}
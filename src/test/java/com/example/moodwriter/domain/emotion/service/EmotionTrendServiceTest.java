@@ -0,0 +1,221 @@
+package com.example.moodwriter.domain.emotion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+
+import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.entity.Diary;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository;
+import com.example.moodwriter.domain.emotion.dao.EmotionScoreRollupRepository;
+import com.example.moodwriter.domain.emotion.dto.EmotionTrendResponse;
+import com.example.moodwriter.domain.emotion.entity.EmotionAnalysis;
+import com.example.moodwriter.domain.emotion.entity.EmotionScoreRollup;
+import com.example.moodwriter.domain.emotion.exception.EmotionAnalysisException;
+import com.example.moodwriter.domain.user.dao.UserRepository;
+import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.constant.TrendPeriod;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@EnableJpaAuditing
+@Import(EmotionTrendService.class)
+class EmotionTrendServiceTest {
+
+  private static final LocalDate MONDAY = LocalDate.of(2024, 10, 7);
+  private static final LocalDate TUESDAY = LocalDate.of(2024, 10, 8);
+
+  @Autowired
+  private EmotionTrendService emotionTrendService;
+
+  @SpyBean
+  private EmotionScoreRollupRepository emotionScoreRollupRepository;
+
+  @Autowired
+  private EmotionAnalysisRepository emotionAnalysisRepository;
+
+  @Autowired
+  private DiaryRepository diaryRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @MockBean
+  private ObjectMapper objectMapper;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = userRepository.save(User.builder()
+        .email("test@email.com")
+        .passwordHash("Password12!@")
+        .name("이름")
+        .build());
+  }
+
+  @Test
+  void applyScoreChange_shouldBuildRollupFromSource_whenRollupIsNotExist() {
+    // given
+    saveEmotionAnalysis(MONDAY, 5);
+    saveEmotionAnalysis(TUESDAY, 8);
+
+    // when
+    emotionTrendService.applyScoreChange(user.getId(), null, null, TUESDAY, 8);
+
+    // then
+    EmotionScoreRollup week = getRollup(TrendPeriod.WEEK, MONDAY);
+    assertEquals(2, week.getScoreCount());
+    assertEquals(13, week.getScoreSum());
+    assertEquals(5, week.getMinScore());
+    assertEquals(8, week.getMaxScore());
+
+    EmotionScoreRollup day = getRollup(TrendPeriod.DAY, TUESDAY);
+    assertEquals(1, day.getScoreCount());
+    assertEquals(8, day.getScoreSum());
+  }
+
+  @Test
+  void applyScoreChange_shouldUpdateIncrementally_whenRollupIsExist() {
+    // given
+    saveEmotionAnalysis(MONDAY, 5);
+    emotionTrendService.applyScoreChange(user.getId(), null, null, MONDAY, 5);
+    saveEmotionAnalysis(TUESDAY, 8);
+
+    // when
+    emotionTrendService.applyScoreChange(user.getId(), null, null, TUESDAY, 8);
+
+    // then
+    EmotionScoreRollup month = getRollup(TrendPeriod.MONTH, LocalDate.of(2024, 10, 1));
+    assertEquals(2, month.getScoreCount());
+    assertEquals(13, month.getScoreSum());
+    assertEquals(5, month.getMinScore());
+    assertEquals(8, month.getMaxScore());
+  }
+
+  @Test
+  void applyScoreChange_shouldApplyDelta_whenRollupIsCreatedConcurrently() {
+    // given
+    EmotionScoreRollup concurrentRollup = EmotionScoreRollup.builder()
+        .user(user)
+        .periodType(TrendPeriod.DAY)
+        .periodStart(TUESDAY)
+        .build();
+    concurrentRollup.add(5);
+    emotionScoreRollupRepository.save(concurrentRollup);
+    saveEmotionAnalysis(TUESDAY, 8);
+    entityManager.flush();
+    entityManager.clear();
+
+    // 다른 요청이 집계를 만들기 전에 조회한 것처럼 첫 조회만 빈 결과를 반환
+    doReturn(Optional.empty()).doCallRealMethod().when(emotionScoreRollupRepository)
+        .findForUpdateByUserAndPeriod(any(User.class), eq(TrendPeriod.DAY), eq(TUESDAY));
+
+    // when
+    emotionTrendService.applyScoreChange(user.getId(), null, null, TUESDAY, 8);
+
+    // then
+    EmotionScoreRollup day = getRollup(TrendPeriod.DAY, TUESDAY);
+    assertEquals(2, day.getScoreCount());
+    assertEquals(13, day.getScoreSum());
+    assertEquals(5, day.getMinScore());
+    assertEquals(8, day.getMaxScore());
+  }
+
+  @Test
+  void applyScoreChange_shouldRecompute_whenExtremeScoreIsRemoved() {
+    // given
+    saveEmotionAnalysis(MONDAY, 5);
+    emotionTrendService.applyScoreChange(user.getId(), null, null, MONDAY, 5);
+    EmotionAnalysis emotionAnalysis = saveEmotionAnalysis(TUESDAY, 8);
+    emotionTrendService.applyScoreChange(user.getId(), null, null, TUESDAY, 8);
+
+    // when
+    emotionAnalysis.updateScoreAndPrimaryEmotion(6, "평온");
+    emotionTrendService.applyScoreChange(user.getId(), TUESDAY, 8, TUESDAY, 6);
+
+    // then
+    EmotionScoreRollup week = getRollup(TrendPeriod.WEEK, MONDAY);
+    assertEquals(2, week.getScoreCount());
+    assertEquals(11, week.getScoreSum());
+    assertEquals(5, week.getMinScore());
+    assertEquals(6, week.getMaxScore());
+  }
+
+  @Test
+  void getTrend_shouldReturnOnlyScoredPeriods() {
+    // given
+    saveEmotionAnalysis(MONDAY, 5);
+    emotionTrendService.applyScoreChange(user.getId(), null, null, MONDAY, 5);
+    EmotionAnalysis emotionAnalysis = saveEmotionAnalysis(LocalDate.of(2024, 10, 15), 9);
+    emotionTrendService.applyScoreChange(user.getId(), null, null,
+        emotionAnalysis.getDate(), 9);
+    emotionAnalysis.deactivate();
+    emotionTrendService.applyScoreChange(user.getId(), emotionAnalysis.getDate(), 9, null,
+        null);
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    EmotionTrendResponse response = emotionTrendService.getTrend(TrendPeriod.WEEK,
+        LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), user.getId());
+
+    // then
+    assertEquals(TrendPeriod.WEEK, response.getPeriod());
+    assertEquals(1, response.getPoints().size());
+    assertEquals(MONDAY, response.getPoints().get(0).getPeriodStart());
+    assertEquals(5.0, response.getPoints().get(0).getAverageScore());
+  }
+
+  @Test
+  void getTrend_shouldThrowException_whenStartDateIsAfterEndDate() {
+    // when & then
+    EmotionAnalysisException exception = assertThrows(EmotionAnalysisException.class,
+        () -> emotionTrendService.getTrend(TrendPeriod.DAY, LocalDate.of(2024, 12, 31),
+            LocalDate.of(2024, 1, 1), user.getId()));
+
+    assertEquals(ErrorCode.START_DATE_MUST_BE_BEFORE_END_DATE, exception.getErrorCode());
+  }
+
+  private EmotionAnalysis saveEmotionAnalysis(LocalDate date, int score) {
+    Diary diary = diaryRepository.save(Diary.builder()
+        .user(user)
+        .content("내용")
+        .date(date)
+        .isTemp(false)
+        .isDeleted(false)
+        .build());
+
+    return emotionAnalysisRepository.save(EmotionAnalysis.builder()
+        .user(user)
+        .diary(diary)
+        .date(date)
+        .emotionScore(score)
+        .isDeleted(false)
+        .build());
+  }
+
+  private EmotionScoreRollup getRollup(TrendPeriod period, LocalDate periodStart) {
+    return emotionScoreRollupRepository.findForUpdateByUserAndPeriod(user, period,
+        periodStart).orElseThrow();
+  }
+}
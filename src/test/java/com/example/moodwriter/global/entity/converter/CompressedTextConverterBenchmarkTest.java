@@ -0,0 +1,124 @@
+package com.example.moodwriter.global.entity.converter;
+
+import com.example.moodwriter.domain.user.dao.UserRepository;
+import com.example.moodwriter.domain.user.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 압축 사용 여부에 따른 본문 쓰기/읽기 지연시간과 저장 용량 비교.
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@DataJpaTest
+@EnableJpaAuditing
+class CompressedTextConverterBenchmarkTest {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(CompressedTextConverterBenchmarkTest.class);
+
+  private static final int ROWS = 2_000;
+  private static final int WARMUP_ROUNDS = 2;
+  private static final String SENTENCE =
+      "오늘은 아침부터 비가 내려서 출근길이 조금 힘들었지만, 점심에 동료들과 따뜻한 국밥을 먹으며 기분이 나아졌다. ";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @MockBean
+  private ObjectMapper objectMapper;
+
+  @Test
+  void compareCompressionOnAndOff() {
+    User user = userRepository.save(User.builder()
+        .email("benchmark@email.com")
+        .passwordHash("Password12!@")
+        .name("이름")
+        .build());
+    byte[] userId = toBytes(user.getId());
+    userRepository.flush();
+
+    List<String> contents = new ArrayList<>();
+    for (int i = 0; i < ROWS; i++) {
+      contents.add(SENTENCE.repeat(5 + i % 40) + i);
+    }
+
+    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+      run(new CompressedTextConverter(false, 1024), userId, contents);
+      run(new CompressedTextConverter(true, 1024), userId, contents);
+    }
+
+    print("off", run(new CompressedTextConverter(false, 1024), userId, contents));
+    print("on", run(new CompressedTextConverter(true, 1024), userId, contents));
+  }
+
+  private Result run(CompressedTextConverter converter, byte[] userId, List<String> contents) {
+    jdbcTemplate.update("DELETE FROM diaries");
+
+    List<Object[]> rows = new ArrayList<>(contents.size());
+    long writeStart = System.nanoTime();
+    for (String content : contents) {
+      rows.add(new Object[]{toBytes(UUID.randomUUID()), userId,
+          converter.convertToDatabaseColumn(content), Date.valueOf(LocalDate.now())});
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO diaries (id, user_id, content, date, is_temp, is_deleted)"
+            + " VALUES (?, ?, ?, ?, false, false)", rows);
+    long writeNanos = System.nanoTime() - writeStart;
+
+    long readStart = System.nanoTime();
+    long readChars = jdbcTemplate.queryForList("SELECT content FROM diaries", String.class)
+        .stream()
+        .map(converter::convertToEntityAttribute)
+        .mapToLong(String::length)
+        .sum();
+    long readNanos = System.nanoTime() - readStart;
+
+    long storedBytes = jdbcTemplate.queryForList("SELECT content FROM diaries", String.class)
+        .stream()
+        .mapToLong(content -> content.getBytes(StandardCharsets.UTF_8).length)
+        .sum();
+
+    return new Result(writeNanos, readNanos, storedBytes, readChars);
+  }
+
+  private void print(String mode, Result result) {
+    log.info("compression={} rows={} write={}ms read={}ms storedBytes={} decodedChars={}",
+        mode, ROWS, TimeUnit.NANOSECONDS.toMillis(result.writeNanos()),
+        TimeUnit.NANOSECONDS.toMillis(result.readNanos()), result.storedBytes(),
+        result.decodedChars());
+  }
+
+  private byte[] toBytes(UUID uuid) {
+    return ByteBuffer.allocate(16)
+        .putLong(uuid.getMostSignificantBits())
+        .putLong(uuid.getLeastSignificantBits())
+        .array();
+  }
+
+  private record Result(long writeNanos, long readNanos, long storedBytes,
+                        long decodedChars) {
+
+  }
+}
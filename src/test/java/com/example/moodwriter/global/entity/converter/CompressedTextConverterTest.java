@@ -0,0 +1,85 @@
+package com.example.moodwriter.global.entity.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.moodwriter.global.exception.CustomException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class CompressedTextConverterTest {
+
+  private static final String LONG_CONTENT = "오늘은 하루 종일 비가 내려서 조금 우울했다. ".repeat(100);
+
+  private final CompressedTextConverter enabledConverter = new CompressedTextConverter(true,
+      1024);
+  private final CompressedTextConverter disabledConverter = new CompressedTextConverter(false,
+      1024);
+
+  @Test
+  void convertToDatabaseColumn_shouldCompress_whenContentIsLargerThanThreshold() {
+    // when
+    String dbData = enabledConverter.convertToDatabaseColumn(LONG_CONTENT);
+
+    // then
+    assertTrue(dbData.startsWith(CompressedTextConverter.FORMAT_HEADER));
+    assertTrue(dbData.getBytes(StandardCharsets.UTF_8).length
+        < LONG_CONTENT.getBytes(StandardCharsets.UTF_8).length);
+    assertEquals(LONG_CONTENT, enabledConverter.convertToEntityAttribute(dbData));
+  }
+
+  @Test
+  void convertToDatabaseColumn_shouldKeepPlainText_whenContentIsSmallerThanThreshold() {
+    // given
+    String content = "짧은 일기";
+
+    // when & then
+    assertEquals(content, enabledConverter.convertToDatabaseColumn(content));
+  }
+
+  @Test
+  void convertToDatabaseColumn_shouldKeepPlainText_whenDisabled() {
+    // when & then
+    assertEquals(LONG_CONTENT, disabledConverter.convertToDatabaseColumn(LONG_CONTENT));
+  }
+
+  @Test
+  void convertToDatabaseColumn_nullInput() {
+    // when & then
+    assertNull(enabledConverter.convertToDatabaseColumn(null));
+    assertNull(enabledConverter.convertToEntityAttribute(null));
+  }
+
+  @Test
+  void convertToEntityAttribute_shouldReadCompressedContent_whenDisabled() {
+    // given
+    String dbData = enabledConverter.convertToDatabaseColumn(LONG_CONTENT);
+
+    // when & then
+    assertEquals(LONG_CONTENT, disabledConverter.convertToEntityAttribute(dbData));
+  }
+
+  @Test
+  void convertToEntityAttribute_shouldReturnLegacyPlainText() {
+    // given
+    String legacyContent = "헤더가 없는 기존 일기 내용";
+
+    // when & then
+    assertEquals(legacyContent, enabledConverter.convertToEntityAttribute(legacyContent));
+  }
+
+  @Test
+  void convertToEntityAttribute_shouldThrowCustomException_whenCompressedDataIsBroken() {
+    // given
+    String brokenData = CompressedTextConverter.FORMAT_HEADER + "AAAA";
+
+    // when & then
+    CustomException exception = assertThrows(CustomException.class,
+        () -> enabledConverter.convertToEntityAttribute(brokenData));
+
+    assertEquals(ErrorCode.FAIL_TO_DECOMPRESS_CONTENT, exception.getErrorCode());
+  }
+}
@@ -0,0 +1,98 @@
+package com.example.moodwriter.global.entity.id;
+
+import com.example.moodwriter.global.util.UuidUtils;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 무작위 UUID 와 시간 순 UUIDv7 기본키의 InnoDB 삽입 처리량과 인덱스 크기 비교.
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@Testcontainers
+class TimeOrderedUuidInsertBenchmarkTest {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(TimeOrderedUuidInsertBenchmarkTest.class);
+
+  private static final int ROWS = 200_000;
+  private static final int BATCH_SIZE = 1_000;
+  private static final String PAYLOAD = "오늘은 아침부터 비가 내려서 출근길이 조금 힘들었다.".repeat(4);
+
+  @Container
+  static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0.36")
+      .withCommand("--innodb-buffer-pool-size=32M");
+
+  @Test
+  void compareRandomAndTimeOrderedPrimaryKeys() throws SQLException {
+    try (Connection connection = DriverManager.getConnection(
+        mysqlContainer.getJdbcUrl() + "?rewriteBatchedStatements=true",
+        mysqlContainer.getUsername(), mysqlContainer.getPassword())) {
+      run(connection, "uuid_random_warmup", UUID::randomUUID);
+      run(connection, "uuid_time_ordered_warmup", UuidUtils::timeOrderedUuid);
+
+      print("random", run(connection, "uuid_random", UUID::randomUUID));
+      print("time-ordered", run(connection, "uuid_time_ordered", UuidUtils::timeOrderedUuid));
+    }
+  }
+
+  private Result run(Connection connection, String table, Supplier<UUID> idSupplier)
+      throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + table);
+      statement.execute("CREATE TABLE " + table + " (id BINARY(16) NOT NULL PRIMARY KEY, "
+          + "content TEXT NOT NULL) ENGINE=InnoDB");
+    }
+
+    connection.setAutoCommit(false);
+    long start = System.nanoTime();
+    try (PreparedStatement statement = connection.prepareStatement(
+        "INSERT INTO " + table + " (id, content) VALUES (?, ?)")) {
+      for (int i = 1; i <= ROWS; i++) {
+        statement.setBytes(1, UuidUtils.toBytes(idSupplier.get()));
+        statement.setString(2, PAYLOAD);
+        statement.addBatch();
+        if (i % BATCH_SIZE == 0) {
+          statement.executeBatch();
+          connection.commit();
+        }
+      }
+    }
+    long elapsedNanos = System.nanoTime() - start;
+    connection.setAutoCommit(true);
+
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("ANALYZE TABLE " + table);
+      try (ResultSet resultSet = statement.executeQuery(
+          "SELECT data_length, data_free FROM information_schema.tables "
+              + "WHERE table_schema = DATABASE() AND table_name = '" + table + "'")) {
+        resultSet.next();
+        return new Result(elapsedNanos, resultSet.getLong(1), resultSet.getLong(2));
+      }
+    }
+  }
+
+  private void print(String mode, Result result) {
+    long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()));
+    log.info("id={} rows={} insert={}ms rowsPerSecond={} dataLength={} dataFree={}",
+        mode, ROWS, millis, ROWS * 1000L / millis, result.dataLength(), result.dataFree());
+  }
+
+  private record Result(long elapsedNanos, long dataLength, long dataFree) {
+
+  }
+}
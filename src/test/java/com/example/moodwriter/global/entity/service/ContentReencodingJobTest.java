@@ -0,0 +1,122 @@
+package com.example.moodwriter.global.entity.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.entity.Diary;
+import com.example.moodwriter.domain.user.dao.UserRepository;
+import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.entity.converter.CompressedTextConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@EnableJpaAuditing
+class ContentReencodingJobTest {
+
+  private static final String LONG_CONTENT = "오늘은 친구와 오랜만에 산책을 했다. ".repeat(100);
+
+  @Autowired
+  private DiaryRepository diaryRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @MockBean
+  private ObjectMapper objectMapper;
+
+  private final List<UUID> diaryIds = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    User user = userRepository.save(User.builder()
+        .email("test@email.com")
+        .passwordHash("Password12!@")
+        .name("이름")
+        .build());
+
+    for (int i = 0; i < 5; i++) {
+      Diary diary = diaryRepository.save(Diary.builder()
+          .user(user)
+          .content(i % 2 == 0 ? LONG_CONTENT + i : "짧은 내용" + i)
+          .date(LocalDate.of(2024, 10, 1).plusDays(i))
+          .isTemp(false)
+          .isDeleted(false)
+          .build());
+      diaryIds.add(diary.getId());
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void reencodeAll_shouldCompressOnlyLargeContent_andKeepItReadable() {
+    // given
+    ContentReencodingJob job = new ContentReencodingJob(jdbcTemplate, true, 1024, 2);
+
+    // when
+    long updated = job.reencodeAll();
+
+    // then
+    assertEquals(3, updated);
+    assertEquals(3, countCompressedRows());
+
+    for (int i = 0; i < diaryIds.size(); i++) {
+      Diary diary = diaryRepository.findById(diaryIds.get(i)).orElseThrow();
+      assertEquals(i % 2 == 0 ? LONG_CONTENT + i : "짧은 내용" + i, diary.getContent());
+    }
+  }
+
+  @Test
+  void reencodeAll_shouldRestorePlainText_whenCompressionIsDisabled() {
+    // given
+    new ContentReencodingJob(jdbcTemplate, true, 1024, 500).reencodeAll();
+
+    // when
+    long updated = new ContentReencodingJob(jdbcTemplate, false, 1024, 500).reencodeAll();
+
+    // then
+    assertEquals(3, updated);
+    assertEquals(0, countCompressedRows());
+  }
+
+  @Test
+  void reencodeAll_shouldBeIdempotent() {
+    // given
+    ContentReencodingJob job = new ContentReencodingJob(jdbcTemplate, true, 1024, 2);
+    job.reencodeAll();
+
+    // when
+    long updated = job.reencodeAll();
+
+    // then
+    assertEquals(0, updated);
+    assertEquals(3, countCompressedRows());
+  }
+
+  private long countCompressedRows() {
+    return jdbcTemplate.queryForList("SELECT content FROM diaries", String.class).stream()
+        .filter(content -> content.startsWith(CompressedTextConverter.FORMAT_HEADER))
+        .count();
+  }
+}
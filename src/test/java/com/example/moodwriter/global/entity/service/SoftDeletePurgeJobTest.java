@@ -0,0 +1,208 @@
+package com.example.moodwriter.global.entity.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.example.moodwriter.domain.diary.dao.DiaryMediaRepository;
+import com.example.moodwriter.domain.diary.dao.DiaryRepository;
+import com.example.moodwriter.domain.diary.entity.Diary;
+import com.example.moodwriter.domain.diary.entity.DiaryMedia;
+import com.example.moodwriter.domain.emotion.dao.EmotionAnalysisRepository;
+import com.example.moodwriter.domain.emotion.entity.EmotionAnalysis;
+import com.example.moodwriter.domain.user.dao.UserRepository;
+import com.example.moodwriter.domain.user.entity.User;
+import com.example.moodwriter.global.s3.service.S3FileService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@EnableJpaAuditing
+class SoftDeletePurgeJobTest {
+
+  private static final LocalDateTime EXPIRED = LocalDateTime.now().minusDays(40);
+  private static final LocalDateTime RECENT = LocalDateTime.now().minusDays(1);
+
+  @Autowired
+  private DiaryRepository diaryRepository;
+
+  @Autowired
+  private EmotionAnalysisRepository emotionAnalysisRepository;
+
+  @Autowired
+  private DiaryMediaRepository diaryMediaRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @MockBean
+  private ObjectMapper objectMapper;
+
+  private final S3FileService s3FileService = mock(S3FileService.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = userRepository.save(User.builder()
+        .email("test@email.com")
+        .passwordHash("Password12!@")
+        .name("이름")
+        .build());
+  }
+
+  @Test
+  void purgeAll_shouldDeleteExpiredDiariesWithTheirAnalysesAndMedia() {
+    // given
+    Diary expiredDiary = saveDiary(true, EXPIRED);
+    saveEmotionAnalysis(expiredDiary, false, null);
+    saveMedia(expiredDiary, "diary/expired.png");
+    saveDiary(true, RECENT);
+    saveDiary(false, null);
+    flushAndClear();
+
+    // when
+    long purged = createJob(1).purgeAll();
+
+    // then
+    assertEquals(3, purged);
+    assertEquals(2, count("diaries"));
+    assertEquals(0, count("emotion_analysis"));
+    assertEquals(0, count("diary_media"));
+    verify(s3FileService).deleteFile("diary/expired.png");
+    assertEquals(1, meterRegistry.get("purge.deleted.rows").tag("table", "diaries")
+        .counter().count());
+    assertEquals(0, meterRegistry.get("purge.lag.seconds").tag("table", "diaries")
+        .gauge().value());
+  }
+
+  @Test
+  void purgeAll_shouldDeleteExpiredEmotionAnalysisOfLiveDiary() {
+    // given
+    Diary diary = saveDiary(false, null);
+    saveEmotionAnalysis(diary, true, EXPIRED);
+    Diary anotherDiary = saveDiary(false, null);
+    saveEmotionAnalysis(anotherDiary, true, RECENT);
+    flushAndClear();
+
+    // when
+    long purged = createJob(10).purgeAll();
+
+    // then
+    assertEquals(1, purged);
+    assertEquals(2, count("diaries"));
+    assertEquals(1, count("emotion_analysis"));
+  }
+
+  @Test
+  void purgeAll_shouldKeepDiary_whenMediaFileDeletionFails() {
+    // given
+    Diary diary = saveDiary(true, EXPIRED);
+    saveMedia(diary, "diary/failed.png");
+    Diary anotherDiary = saveDiary(true, EXPIRED.minusDays(1));
+    flushAndClear();
+
+    willThrow(new RuntimeException("S3 error")).given(s3FileService)
+        .deleteFile("diary/failed.png");
+
+    // when
+    long purged = createJob(10).purgeAll();
+
+    // then
+    assertEquals(1, purged);
+    assertEquals(1, count("diaries"));
+    assertEquals(1, count("diary_media"));
+    assertTrue(diaryRepository.findById(diary.getId()).isPresent());
+    assertTrue(diaryRepository.findById(anotherDiary.getId()).isEmpty());
+    assertTrue(meterRegistry.get("purge.lag.seconds").tag("table", "diaries")
+        .gauge().value() > 0);
+  }
+
+  @Test
+  void purgeAll_shouldDoNothing_whenNoRowIsExpired() {
+    // given
+    saveDiary(true, RECENT);
+    flushAndClear();
+
+    // when
+    long purged = createJob(10).purgeAll();
+
+    // then
+    assertEquals(0, purged);
+    assertEquals(1, count("diaries"));
+    verifyNoInteractions(s3FileService);
+  }
+
+  private SoftDeletePurgeJob createJob(int chunkSize) {
+    return new SoftDeletePurgeJob(jdbcTemplate, transactionManager, s3FileService,
+        meterRegistry, 30, chunkSize);
+  }
+
+  private Diary saveDiary(boolean isDeleted, LocalDateTime deletedAt) {
+    return diaryRepository.save(Diary.builder()
+        .user(user)
+        .content("내용")
+        .date(LocalDate.of(2024, 10, 1))
+        .isTemp(false)
+        .isDeleted(isDeleted)
+        .deletedAt(deletedAt)
+        .build());
+  }
+
+  private void saveEmotionAnalysis(Diary diary, boolean isDeleted, LocalDateTime deletedAt) {
+    emotionAnalysisRepository.save(EmotionAnalysis.builder()
+        .user(user)
+        .diary(diary)
+        .date(diary.getDate())
+        .analysisContent("분석 내용")
+        .isDeleted(isDeleted)
+        .deletedAt(deletedAt)
+        .build());
+  }
+
+  private void saveMedia(Diary diary, String fileName) {
+    diaryMediaRepository.save(DiaryMedia.builder()
+        .user(user)
+        .diary(diary)
+        .fileUrl("https://bucket/" + fileName)
+        .fileType("image/png")
+        .fileName(fileName)
+        .build());
+  }
+
+  private void flushAndClear() {
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  private long count(String table) {
+    Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    return count == null ? 0 : count;
+  }
+}
@@ -0,0 +1,153 @@
+package com.example.moodwriter.global.openAI.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.moodwriter.global.constant.OpenAIModel;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import com.example.moodwriter.global.openAI.dto.OpenAIBatch;
+import com.example.moodwriter.global.openAI.dto.OpenAIBatchResultLine;
+import com.example.moodwriter.global.openAI.exception.OpenAIException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class OpenAIBatchClientTest {
+
+  private OpenAIBatchClient openAIBatchClient;
+  private MockWebServer mockWebServer;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    mockWebServer = new MockWebServer();
+    mockWebServer.start();
+
+    openAIBatchClient = new OpenAIBatchClient(new OkHttpClient(),
+        new ObjectMapper().registerModule(new ParameterNamesModule()));
+    ReflectionTestUtils.setField(openAIBatchClient, "apiKey", "test-api-key");
+    ReflectionTestUtils.setField(openAIBatchClient, "batchApiUrl",
+        mockWebServer.url("/v1").toString());
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    mockWebServer.shutdown();
+  }
+
+  @Test
+  void createBatch_shouldUploadJsonlInputFile_andCreateBatchWithIt()
+      throws InterruptedException {
+    // given
+    mockWebServer.enqueue(new MockResponse()
+        .setResponseCode(200)
+        .setBody("{\"id\": \"file-abc\", \"object\": \"file\", \"purpose\": \"batch\"}"));
+    mockWebServer.enqueue(new MockResponse()
+        .setResponseCode(200)
+        .setBody("{\"id\": \"batch_abc\", \"object\": \"batch\", "
+            + "\"status\": \"validating\", \"input_file_id\": \"file-abc\"}"));
+
+    // when
+    OpenAIBatch batch = openAIBatchClient.createBatch(List.of(
+        openAIBatchClient.createRequestLine("diary-1", "첫 번째 일기", OpenAIModel.GPT_3_5_TURBO),
+        openAIBatchClient.createRequestLine("diary-2", "두 번째 일기", OpenAIModel.GPT_3_5_TURBO)));
+
+    // then
+    assertEquals("batch_abc", batch.getId());
+    assertFalse(batch.isFinished());
+
+    RecordedRequest fileRequest = mockWebServer.takeRequest();
+    String fileBody = fileRequest.getBody().readUtf8();
+    assertEquals("/v1/files", fileRequest.getPath());
+    assertEquals("Bearer test-api-key", fileRequest.getHeader("Authorization"));
+    assertTrue(fileBody.contains("name=\"purpose\""));
+    assertTrue(fileBody.contains("\"custom_id\":\"diary-1\""));
+    assertTrue(fileBody.contains("\"custom_id\":\"diary-2\""));
+    assertTrue(fileBody.contains("\"url\":\"/v1/chat/completions\""));
+    assertTrue(fileBody.contains("\"model\":\"gpt-3.5-turbo-0125\""));
+
+    RecordedRequest batchRequest = mockWebServer.takeRequest();
+    String batchBody = batchRequest.getBody().readUtf8();
+    assertEquals("/v1/batches", batchRequest.getPath());
+    assertTrue(batchBody.contains("\"input_file_id\":\"file-abc\""));
+    assertTrue(batchBody.contains("\"completion_window\":\"24h\""));
+  }
+
+  @Test
+  void getBatch_shouldReturnStatusAndOutputFile() throws InterruptedException {
+    // given
+    mockWebServer.enqueue(new MockResponse()
+        .setResponseCode(200)
+        .setBody("""
+            {
+              "id": "batch_abc",
+              "object": "batch",
+              "status": "completed",
+              "input_file_id": "file-abc",
+              "output_file_id": "file-out",
+              "error_file_id": null,
+              "request_counts": {"total": 2, "completed": 2, "failed": 0}
+            }"""));
+
+    // when
+    OpenAIBatch batch = openAIBatchClient.getBatch("batch_abc");
+
+    // then
+    assertTrue(batch.isFinished());
+    assertTrue(batch.isCompleted());
+    assertEquals("file-out", batch.getOutputFileId());
+    assertNull(batch.getErrorFileId());
+    assertEquals(2, batch.getRequestCounts().getCompleted());
+    assertEquals("/v1/batches/batch_abc", mockWebServer.takeRequest().getPath());
+  }
+
+  @Test
+  void readResultFile_shouldPassEachResultLine() throws InterruptedException {
+    // given
+    mockWebServer.enqueue(new MockResponse()
+        .setResponseCode(200)
+        .setBody("{\"id\": \"batch_req_1\", \"custom_id\": \"diary-1\", \"response\": "
+            + "{\"status_code\": 200, \"body\": {\"choices\": [{\"index\": 0, \"message\": "
+            + "{\"role\": \"assistant\", \"content\": \"결과\"}}]}}, \"error\": null}\n"
+            + "\n"
+            + "{\"id\": \"batch_req_2\", \"custom_id\": \"diary-2\", \"response\": null, "
+            + "\"error\": {\"code\": \"server_error\", \"message\": \"error\"}}\n"));
+    List<OpenAIBatchResultLine> lines = new ArrayList<>();
+
+    // when
+    openAIBatchClient.readResultFile("file-out", lines::add);
+
+    // then
+    assertEquals(2, lines.size());
+    assertEquals("diary-1", lines.get(0).getCustomId());
+    assertEquals(200, lines.get(0).getResponse().getStatusCode());
+    assertEquals("결과",
+        lines.get(0).getResponse().getBody().getChoices().get(0).getMessage().getContent());
+    assertNull(lines.get(1).getResponse());
+    assertEquals("server_error", lines.get(1).getError().getCode());
+    assertEquals("/v1/files/file-out/content", mockWebServer.takeRequest().getPath());
+  }
+
+  @Test
+  void getBatch_shouldThrowOpenAIException_whenResponseIsNotSuccessful() {
+    // given
+    mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+
+    // when & then
+    OpenAIException exception = assertThrows(OpenAIException.class,
+        () -> openAIBatchClient.getBatch("batch_abc"));
+    assertEquals(ErrorCode.OPEN_AI_RETURN_UNEXPECTED_RESPONSE, exception.getErrorCode());
+  }
+}
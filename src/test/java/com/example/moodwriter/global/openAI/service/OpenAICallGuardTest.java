@@ -0,0 +1,262 @@
+package com.example.moodwriter.global.openAI.service;
+
+import static com.example.moodwriter.global.constant.OpenAIModel.GPT_3_5_TURBO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.moodwriter.global.exception.CustomException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import com.example.moodwriter.global.openAI.exception.OpenAIException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OpenAICallGuardTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void execute_shouldOpenCircuitAndFailFast_whenFailureRateExceedsThreshold() {
+    // given
+    OpenAICallGuard guard = new OpenAICallGuard(meterRegistry, 20, Duration.ZERO, 4, 50,
+        Duration.ofMinutes(1), 10, 2, Duration.ofSeconds(15),
+        Duration.ofSeconds(45), Duration.ofSeconds(60), 0.9);
+    AtomicInteger calls = new AtomicInteger();
+
+    for (int i = 0; i < 4; i++) {
+      assertThrows(OpenAIException.class, () -> guard.execute(GPT_3_5_TURBO, () -> {
+        calls.incrementAndGet();
+        throw new OpenAIException(ErrorCode.FAIL_TO_CONNECT_WITH_OPEN_AI);
+      }));
+    }
+
+    // when
+    OpenAIException exception = assertThrows(OpenAIException.class,
+        () -> guard.execute(GPT_3_5_TURBO, calls::incrementAndGet));
+
+    // then
+    assertEquals(ErrorCode.OPEN_AI_CIRCUIT_OPEN, exception.getErrorCode());
+    assertEquals(4, calls.get());
+    assertEquals(1, meterRegistry.get("openai.circuit.state").gauge().value());
+    assertEquals(1, meterRegistry.get("openai.calls.rejected")
+        .tag("reason", "circuit_open").counter().count());
+  }
+
+  @Test
+  void execute_shouldCloseCircuit_whenTrialCallSucceedsAfterOpenDuration() {
+    // given
+    OpenAICallGuard guard = new OpenAICallGuard(meterRegistry, 20, Duration.ZERO, 2, 50,
+        Duration.ZERO, 10, 2, Duration.ofSeconds(15),
+        Duration.ofSeconds(45), Duration.ofSeconds(60), 0.9);
+    for (int i = 0; i < 2; i++) {
+      assertThrows(OpenAIException.class, () -> guard.execute(GPT_3_5_TURBO, () -> {
+        throw new OpenAIException(ErrorCode.OPEN_AI_RETURN_UNEXPECTED_RESPONSE);
+      }));
+    }
+
+    // when
+    String result = guard.execute(GPT_3_5_TURBO, () -> "감정 분석 완료");
+
+    // then
+    assertEquals("감정 분석 완료", result);
+    assertEquals(0, meterRegistry.get("openai.circuit.state").gauge().value());
+  }
+
+  @Test
+  void execute_shouldNotCountFailure_whenExceptionIsNotFromOpenAI() {
+    // given
+    OpenAICallGuard guard = new OpenAICallGuard(meterRegistry, 20, Duration.ZERO, 1, 50,
+        Duration.ofMinutes(1), 10, 2, Duration.ofSeconds(15),
+        Duration.ofSeconds(45), Duration.ofSeconds(60), 0.9);
+
+    // when
+    assertThrows(CustomException.class, () -> guard.execute(GPT_3_5_TURBO, () -> {
+      throw new CustomException(ErrorCode.JSON_PARSE_ERROR);
+    }));
+
+    // then
+    assertEquals(0, meterRegistry.get("openai.circuit.state").gauge().value());
+    assertEquals("감정 분석 완료", guard.execute(GPT_3_5_TURBO, () -> "감정 분석 완료"));
+  }
+
+  @Test
+  void execute_shouldRecordIgnored_whenOpenAIRejectsRequestWithClientError() {
+    // given
+    OpenAICallGuard guard = new OpenAICallGuard(meterRegistry, 20, Duration.ZERO, 2, 50,
+        Duration.ofMinutes(1), 10, 2, Duration.ofSeconds(15),
+        Duration.ofSeconds(45), Duration.ofSeconds(60), 0.9);
+
+    // when
+    for (int i = 0; i < 2; i++) {
+      assertThrows(CustomException.class, () -> guard.execute(GPT_3_5_TURBO, () -> {
+        throw new CustomException(ErrorCode.OPEN_AI_REJECTED_REQUEST);
+      }));
+    }
+
+    // then
+    assertEquals(0, meterRegistry.get("openai.circuit.state").gauge().value());
+    assertEquals(2, meterRegistry.get("openai.call.latency")
+        .tag("result", "ignored").timer().count());
+    assertEquals(10, meterRegistry.get("openai.limit.current").gauge().value());
+    assertEquals("감정 분석 완료", guard.execute(GPT_3_5_TURBO, () -> "감정 분석 완료"));
+  }
+
+  @Test
+  void execute_shouldRejectCall_whenBulkheadIsFull() {
+    // given
+    OpenAICallGuard guard = new OpenAICallGuard(meterRegistry, 1, Duration.ZERO, 20, 50,
+        Duration.ofMinutes(1), 10, 1, Duration.ofSeconds(15),
+        Duration.ofSeconds(45), Duration.ofSeconds(60), 0.9);
+
+    // when
+    OpenAIException exception = assertThrows(OpenAIException.class,
+        () -> guard.execute(GPT_3_5_TURBO,
+            () -> guard.execute(GPT_3_5_TURBO, () -> "감정 분석 완료")));
+
+    // then
+    assertEquals(ErrorCode.OPEN_AI_CONCURRENCY_LIMIT_EXCEEDED, exception.getErrorCode());
+    assertEquals(1, meterRegistry.get("openai.calls.rejected")
+        .tag("reason", "bulkhead_full").counter().count());
+    assertEquals(1, meterRegistry.get("openai.bulkhead.available").gauge().value());
+  }
+
+  @Test
+  void execute_shouldDecreaseLimit_whenLatencyExceedsThreshold() {
+    // given
+    OpenAICallGuard guard = new OpenAICallGuard(meterRegistry, 20, Duration.ZERO, 20, 50,
+        Duration.ofMinutes(1), 10, 2, Duration.ZERO, Duration.ZERO, Duration.ZERO, 0.5);
+
+    // when
+    guard.execute(GPT_3_5_TURBO, () -> "감정 분석 완료");
+
+    // then
+    assertEquals(5, meterRegistry.get("openai.limit.current").gauge().value());
+    assertEquals(0, meterRegistry.get("openai.limit.in.flight").gauge().value());
+  }
+
+  @Test
+  void executeStreaming_shouldNotDecreaseLimit_whenLatencyExceedsThreshold() {
+    // given
+    OpenAICallGuard guard = new OpenAICallGuard(meterRegistry, 20, Duration.ZERO, 20, 50,
+        Duration.ofMinutes(1), 10, 2, Duration.ZERO, Duration.ZERO, Duration.ZERO, 0.5);
+
+    // when
+    guard.executeStreaming(() -> "감정 분석 완료");
+
+    // then
+    assertEquals(10, meterRegistry.get("openai.limit.current").gauge().value());
+    assertEquals(0, meterRegistry.get("openai.limit.in.flight").gauge().value());
+  }
+
+  @Test
+  void execute_shouldIncreaseLimit_whenCallsAreFastAndLimitIsInUse() {
+    // given
+    OpenAICallGuard guard = new OpenAICallGuard(meterRegistry, 20, Duration.ZERO, 20, 50,
+        Duration.ofMinutes(1), 2, 1, Duration.ofSeconds(15),
+        Duration.ofSeconds(45), Duration.ofSeconds(60), 0.9);
+
+    // when
+    guard.execute(GPT_3_5_TURBO, () -> "감정 분석 완료");
+
+    // then
+    assertEquals(3, meterRegistry.get("openai.limit.current").gauge().value());
+  }
+
+  @Test
+  void execute_shouldRejectCall_whenAdaptiveLimitIsReached() {
+    // given
+    OpenAICallGuard guard = new OpenAICallGuard(meterRegistry, 20, Duration.ZERO, 20, 50,
+        Duration.ofMinutes(1), 1, 1, Duration.ofSeconds(15),
+        Duration.ofSeconds(45), Duration.ofSeconds(60), 0.9);
+
+    // when
+    OpenAIException exception = assertThrows(OpenAIException.class,
+        () -> guard.execute(GPT_3_5_TURBO,
+            () -> guard.execute(GPT_3_5_TURBO, () -> "감정 분석 완료")));
+
+    // then
+    assertEquals(ErrorCode.OPEN_AI_CONCURRENCY_LIMIT_EXCEEDED, exception.getErrorCode());
+    assertEquals(1, meterRegistry.get("openai.calls.rejected")
+        .tag("reason", "limit_exceeded").counter().count());
+  }
+
+  @Test
+  void executeAsync_shouldHoldPermitUntilFutureCompletes() {
+    // given
+    OpenAICallGuard guard = new OpenAICallGuard(meterRegistry, 1, Duration.ZERO, 20, 50,
+        Duration.ofMinutes(1), 10, 1, Duration.ofSeconds(15),
+        Duration.ofSeconds(45), Duration.ofSeconds(60), 0.9);
+    CompletableFuture<String> pending = new CompletableFuture<>();
+    CompletableFuture<String> result = guard.executeAsync(GPT_3_5_TURBO, () -> pending);
+
+    // when
+    CompletionException exception = assertThrows(CompletionException.class,
+        () -> guard.executeAsync(GPT_3_5_TURBO,
+            () -> CompletableFuture.completedFuture("감정 분석 완료")).join());
+    pending.complete("감정 분석 완료");
+
+    // then
+    assertEquals(ErrorCode.OPEN_AI_CONCURRENCY_LIMIT_EXCEEDED,
+        assertInstanceOf(OpenAIException.class, exception.getCause()).getErrorCode());
+    assertEquals("감정 분석 완료", result.join());
+    assertEquals(1, meterRegistry.get("openai.bulkhead.available").gauge().value());
+  }
+
+  @Test
+  void executeAsync_shouldOpenCircuit_whenFuturesCompleteWithOpenAIException() {
+    // given
+    OpenAICallGuard guard = new OpenAICallGuard(meterRegistry, 20, Duration.ZERO, 2, 50,
+        Duration.ofMinutes(1), 10, 2, Duration.ofSeconds(15),
+        Duration.ofSeconds(45), Duration.ofSeconds(60), 0.9);
+
+    // when
+    for (int i = 0; i < 2; i++) {
+      guard.executeAsync(GPT_3_5_TURBO, () -> CompletableFuture.failedFuture(
+          new OpenAIException(ErrorCode.FAIL_TO_CONNECT_WITH_OPEN_AI)));
+    }
+
+    // then
+    CompletableFuture<String> rejected = guard.executeAsync(GPT_3_5_TURBO,
+        () -> CompletableFuture.completedFuture("감정 분석 완료"));
+    CompletionException exception = assertThrows(CompletionException.class, rejected::join);
+    assertEquals(ErrorCode.OPEN_AI_CIRCUIT_OPEN,
+        assertInstanceOf(OpenAIException.class, exception.getCause()).getErrorCode());
+    assertEquals(0, meterRegistry.get("openai.limit.in.flight").gauge().value());
+  }
+
+  @Test
+  void executeAsync_shouldKeepHalfOpen_whenCallStartedBeforeOpenSucceeds() {
+    // given
+    OpenAICallGuard guard = new OpenAICallGuard(meterRegistry, 20, Duration.ZERO, 2, 50,
+        Duration.ZERO, 10, 2, Duration.ofSeconds(15),
+        Duration.ofSeconds(45), Duration.ofSeconds(60), 0.9);
+    CompletableFuture<String> straggler = new CompletableFuture<>();
+    guard.executeAsync(GPT_3_5_TURBO, () -> straggler);
+    for (int i = 0; i < 2; i++) {
+      assertThrows(OpenAIException.class, () -> guard.execute(GPT_3_5_TURBO, () -> {
+        throw new OpenAIException(ErrorCode.FAIL_TO_CONNECT_WITH_OPEN_AI);
+      }));
+    }
+    CompletableFuture<String> trial = new CompletableFuture<>();
+    guard.executeAsync(GPT_3_5_TURBO, () -> trial);
+
+    // when
+    straggler.complete("감정 분석 완료");
+
+    // then
+    assertEquals(2, meterRegistry.get("openai.circuit.state").gauge().value());
+    trial.completeExceptionally(
+        new OpenAIException(ErrorCode.FAIL_TO_CONNECT_WITH_OPEN_AI));
+    assertEquals(1, meterRegistry.get("openai.circuit.state").gauge().value());
+  }
+}
@@ -1,8 +1,11 @@
 package com.example.moodwriter.global.openAI.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.spy;
@@ -16,10 +19,17 @@ import com.example.moodwriter.global.openAI.exception.OpenAIException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import okhttp3.mockwebserver.SocketPolicy;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,7 +51,11 @@ class OpenAIClientTest {
     objectMapper = spy(new ObjectMapper().registerModule(
         new ParameterNamesModule()));
 
-    openAIClient = new OpenAIClient(new OkHttpClient(), objectMapper);
+    OpenAICallGuard openAICallGuard = new OpenAICallGuard(new SimpleMeterRegistry(), 20,
+        Duration.ZERO, 20, 50, Duration.ofSeconds(30), 10, 2, Duration.ofSeconds(15),
+        Duration.ofSeconds(45), Duration.ofSeconds(60), 0.9);
+
+    openAIClient = new OpenAIClient(new OkHttpClient(), objectMapper, openAICallGuard);
     ReflectionTestUtils.setField(openAIClient, "apiKey", "test-api-key");
     ReflectionTestUtils.setField(openAIClient, "apiUrl",
         mockWebServer.url("/v1/chat/completions").toString());
@@ -97,6 +111,115 @@ class OpenAIClientTest {
         openAIResponse.getChoices().get(0).getMessage().getContent());
   }
 
+  @Test
+  void callOpenAIForJson_shouldRequestJsonObjectResponseFormat() throws InterruptedException {
+    // given
+    MockResponse mockResponse = new MockResponse()
+        .setResponseCode(200)
+        .setBody(
+            """
+                {
+                  "id": "chatcmpl-123",
+                  "object": "chat.completion",
+                  "created": 1677652288,
+                  "model": "gpt-4o-mini",
+                  "choices": [{
+                    "index": 0,
+                    "message": {
+                      "role": "assistant",
+                      "content": "{\\"emotionScore\\": 80}"
+                    },
+                    "logprobs": null,
+                    "finish_reason": "stop"
+                  }]
+                }""")
+        .setHeader("Content-Type", "application/json");
+    mockWebServer.enqueue(mockResponse);
+
+    // when
+    OpenAIResponse openAIResponse = openAIClient.callOpenAIForJson("오늘은 기분이 좋다.",
+        OpenAIModel.GPT_4O_MINI);
+
+    // then
+    RecordedRequest recordedRequest = mockWebServer.takeRequest();
+    assertTrue(recordedRequest.getBody().readUtf8()
+        .contains("\"response_format\":{\"type\":\"json_object\"}"));
+    assertEquals("{\"emotionScore\": 80}",
+        openAIResponse.getChoices().get(0).getMessage().getContent());
+  }
+
+  @Test
+  void streamOpenAI_shouldRelayDeltas_andReturnAssembledContentWithUsage()
+      throws InterruptedException {
+    // given
+    MockResponse mockResponse = new MockResponse()
+        .setResponseCode(200)
+        .setBody(
+            """
+                data: {"id":"chatcmpl-123","choices":[{"index":0,"delta":{"role":"assistant","content":""},"finish_reason":null}]}
+
+                data: {"id":"chatcmpl-123","choices":[{"index":0,"delta":{"content":"감정 "},"finish_reason":null}]}
+
+                data: {"id":"chatcmpl-123","choices":[{"index":0,"delta":{"content":"분석 완료"},"finish_reason":null}]}
+
+                data: {"id":"chatcmpl-123","choices":[{"index":0,"delta":{},"finish_reason":"stop"}]}
+
+                data: {"id":"chatcmpl-123","choices":[],"usage":{"prompt_tokens":9,"completion_tokens":12,"total_tokens":21}}
+
+                data: [DONE]
+
+                """)
+        .setHeader("Content-Type", "text/event-stream");
+    mockWebServer.enqueue(mockResponse);
+
+    List<String> deltas = new ArrayList<>();
+
+    // when
+    OpenAIResponse openAIResponse = openAIClient.streamOpenAI("오늘은 기분이 좋다.",
+        OpenAIModel.GPT_4O_MINI, deltas::add);
+
+    // then
+    RecordedRequest recordedRequest = mockWebServer.takeRequest();
+    String requestBody = recordedRequest.getBody().readUtf8();
+    assertTrue(requestBody.contains("\"stream\":true"));
+    assertTrue(requestBody.contains("\"stream_options\":{\"include_usage\":true}"));
+    assertEquals(List.of("감정 ", "분석 완료"), deltas);
+    assertEquals("감정 분석 완료",
+        openAIResponse.getChoices().get(0).getMessage().getContent());
+    assertEquals("stop", openAIResponse.getChoices().get(0).getFinishReason());
+    assertEquals(21, openAIResponse.getUsage().getTotalTokens());
+  }
+
+  @Test
+  void streamOpenAI_shouldReturnOpenAIException_whenResponseCodeIsNot200() {
+    // given
+    mockWebServer.enqueue(new MockResponse().setResponseCode(429));
+
+    // when
+    OpenAIException openAIException = assertThrows(OpenAIException.class,
+        () -> openAIClient.streamOpenAI("오늘은 기분이 좋다.", OpenAIModel.GPT_4O_MINI,
+            delta -> {
+            }));
+
+    // then
+    assertEquals(ErrorCode.OPEN_AI_RETURN_UNEXPECTED_RESPONSE,
+        openAIException.getErrorCode());
+  }
+
+  @Test
+  void callOpenAI_shouldNotSendResponseFormat() throws InterruptedException {
+    // given
+    mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+
+    // when
+    assertThrows(OpenAIException.class,
+        () -> openAIClient.callOpenAI("오늘은 기분이 좋다.", OpenAIModel.GPT_4O_MINI));
+
+    // then
+    RecordedRequest recordedRequest = mockWebServer.takeRequest();
+    assertFalse(recordedRequest.getBody().readUtf8().contains("response_format"));
+  }
+
   @Test
   void callOpenAI_shouldReturnOpenAIException_whenResponseCodeIsNot200() {
     // given
@@ -116,6 +239,22 @@ class OpenAIClientTest {
         openAIException.getErrorCode());
   }
 
+  @Test
+  void callOpenAI_shouldReturnCustomException_whenRequestIsRejectedWithClientError() {
+    // given
+    mockWebServer.enqueue(new MockResponse()
+        .setResponseCode(400)
+        .setBody("{ \"error\": \"Bad Request\" }"));
+
+    // when
+    CustomException customException = assertThrows(CustomException.class,
+        () -> openAIClient.callOpenAI("오늘은 기분이 좋다.", OpenAIModel.GPT_3_5_TURBO));
+
+    // then
+    assertFalse(customException instanceof OpenAIException);
+    assertEquals(ErrorCode.OPEN_AI_REJECTED_REQUEST, customException.getErrorCode());
+  }
+
   @Test
   void callOpenAI_shouldReturnCustomException_whenJsonProcessingIsFailed() throws IOException {
     // given
@@ -146,4 +285,76 @@ class OpenAIClientTest {
     // then
     assertEquals(ErrorCode.FAIL_TO_CONNECT_WITH_OPEN_AI, customException.getErrorCode());
   }
-}
\ No newline at end of file
+
+  @Test
+  void successCallOpenAIAsync() throws Exception {
+    // given
+    mockWebServer.enqueue(new MockResponse()
+        .setResponseCode(200)
+        .setBody(
+            """
+                {
+                  "id": "chatcmpl-123",
+                  "object": "chat.completion",
+                  "created": 1677652288,
+                  "model": "gpt-3.5-turbo",
+                  "choices": [{
+                    "index": 0,
+                    "message": {
+                      "role": "assistant",
+                      "content": "감정 분석 완료"
+                    },
+                    "logprobs": null,
+                    "finish_reason": "stop"
+                  }]
+                }""")
+        .setHeader("Content-Type", "application/json"));
+
+    String diaryContent = "오늘은 기분이 좋다.";
+
+    // when
+    OpenAIResponse openAIResponse = openAIClient.callOpenAIAsync(diaryContent,
+        OpenAIModel.GPT_3_5_TURBO).get(5, TimeUnit.SECONDS);
+
+    // then
+    assertEquals("감정 분석 완료",
+        openAIResponse.getChoices().get(0).getMessage().getContent());
+  }
+
+  @Test
+  void callOpenAIAsync_shouldCompleteExceptionally_whenResponseCodeIsNot200() {
+    // given
+    mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+
+    String diaryContent = "오늘은 기분이 좋다.";
+
+    // when
+    ExecutionException exception = assertThrows(ExecutionException.class,
+        () -> openAIClient.callOpenAIAsync(diaryContent, OpenAIModel.GPT_3_5_TURBO)
+            .get(5, TimeUnit.SECONDS));
+
+    // then
+    OpenAIException openAIException = assertInstanceOf(OpenAIException.class,
+        exception.getCause());
+    assertEquals(ErrorCode.OPEN_AI_RETURN_UNEXPECTED_RESPONSE,
+        openAIException.getErrorCode());
+  }
+
+  @Test
+  void callOpenAIAsync_shouldCompleteExceptionally_whenIOExceptionFromOkHttpClient() {
+    // given
+    mockWebServer.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+
+    String diaryContent = "오늘은 기분이 좋다.";
+
+    // when
+    ExecutionException exception = assertThrows(ExecutionException.class,
+        () -> openAIClient.callOpenAIAsync(diaryContent, OpenAIModel.GPT_3_5_TURBO)
+            .get(5, TimeUnit.SECONDS));
+
+    // then
+    OpenAIException openAIException = assertInstanceOf(OpenAIException.class,
+        exception.getCause());
+    assertEquals(ErrorCode.FAIL_TO_CONNECT_WITH_OPEN_AI, openAIException.getErrorCode());
+  }
+}
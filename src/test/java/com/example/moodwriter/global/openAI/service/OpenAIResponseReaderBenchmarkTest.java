@@ -0,0 +1,118 @@
+package com.example.moodwriter.global.openAI.service;
+
+import com.example.moodwriter.global.openAI.dto.OpenAIResponse;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 감정분석 응답 본문을 문자열로 읽은 뒤 전체를 바인딩하는 방식과 스트리밍 파서로 필요한 필드만 읽는 방식의
+ * 건당 지연시간과 할당량 비교. ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+class OpenAIResponseReaderBenchmarkTest {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(OpenAIResponseReaderBenchmarkTest.class);
+
+  private static final int ITERATIONS = 20_000;
+  private static final int WARMUP_ROUNDS = 3;
+  private static final String SENTENCE =
+      "오늘 일기에서는 업무 부담으로 인한 피로감과 동료들과의 대화에서 얻은 안도감이 함께 드러납니다. ";
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(
+      new ParameterNamesModule());
+
+  @Test
+  void compareStringBindingAndStreamingRead() throws IOException {
+    byte[] body = createBody(SENTENCE.repeat(40));
+
+    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+      run(body, false);
+      run(body, true);
+    }
+
+    print("string", body, run(body, false));
+    print("streaming", body, run(body, true));
+  }
+
+  private Result run(byte[] body, boolean streaming) throws IOException {
+    com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+
+    long contentChars = 0;
+    long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      OpenAIResponse response = streaming ? readStreaming(body) : readString(body);
+      contentChars += response.getChoices().get(0).getMessage().getContent().length();
+    }
+    long elapsedNanos = System.nanoTime() - start;
+    long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    return new Result(elapsedNanos, allocatedBytes, contentChars);
+  }
+
+  private OpenAIResponse readString(byte[] body) throws IOException {
+    // response.body().string() 후 readValue 하던 기존 방식
+    String responseBody = new String(body, StandardCharsets.UTF_8);
+    return objectMapper.readValue(responseBody, OpenAIResponse.class);
+  }
+
+  private OpenAIResponse readStreaming(byte[] body) throws IOException {
+    try (JsonParser parser = objectMapper.createParser(new ByteArrayInputStream(body))) {
+      return OpenAIResponseReader.read(parser);
+    }
+  }
+
+  private byte[] createBody(String analysisContent) throws IOException {
+    String content = objectMapper.writeValueAsString(analysisContent);
+    return ("""
+        {
+          "id": "chatcmpl-123",
+          "object": "chat.completion",
+          "created": 1677652288,
+          "model": "gpt-4o-mini",
+          "system_fingerprint": "fp_44709d6fcb",
+          "choices": [{
+            "index": 0,
+            "message": {
+              "role": "assistant",
+              "content": %s
+            },
+            "logprobs": null,
+            "finish_reason": "stop"
+          }],
+          "usage": {
+            "prompt_tokens": 812,
+            "completion_tokens": 1024,
+            "total_tokens": 1836,
+            "completion_tokens_details": {
+              "reasoning_tokens": 0
+            }
+          }
+        }""").formatted(content).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private void print(String mode, byte[] body, Result result) {
+    log.info("read={} bodyBytes={} iterations={} avg={}ns allocatedPerOp={}B contentChars={}",
+        mode, body.length, ITERATIONS, result.elapsedNanos() / ITERATIONS,
+        result.allocatedBytes() / ITERATIONS, result.contentChars());
+    log.info("read={} total={}ms", mode,
+        TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()));
+  }
+
+  private record Result(long elapsedNanos, long allocatedBytes, long contentChars) {
+
+  }
+}
@@ -0,0 +1,93 @@
+package com.example.moodwriter.global.openAI.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.moodwriter.global.openAI.dto.OpenAIResponse;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class OpenAIResponseReaderTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void read_shouldReadFirstChoiceAndUsage_andSkipOtherFields() throws IOException {
+    // given
+    String body = """
+        {
+          "id": "chatcmpl-123",
+          "object": "chat.completion",
+          "created": 1677652288,
+          "model": "gpt-4o-mini",
+          "system_fingerprint": "fp_44709d6fcb",
+          "choices": [{
+            "index": 0,
+            "message": {
+              "role": "assistant",
+              "content": "{\\"emotionScore\\": 80, \\"primaryEmotion\\": \\"기쁨\\"}",
+              "refusal": null,
+              "tool_calls": [{"id": "call_1", "function": {"arguments": "{}"}}]
+            },
+            "logprobs": {"content": [{"token": "a", "top_logprobs": []}]},
+            "finish_reason": "stop"
+          }, {
+            "index": 1,
+            "message": {"role": "assistant", "content": "두 번째 응답"},
+            "finish_reason": "stop"
+          }],
+          "usage": {
+            "prompt_tokens": 9,
+            "completion_tokens": 12,
+            "total_tokens": 21,
+            "completion_tokens_details": {"reasoning_tokens": 0}
+          }
+        }""";
+
+    // when
+    OpenAIResponse response = read(body);
+
+    // then
+    assertEquals("chatcmpl-123", response.getId());
+    assertEquals("gpt-4o-mini", response.getModel());
+    assertEquals(1, response.getChoices().size());
+    assertEquals("{\"emotionScore\": 80, \"primaryEmotion\": \"기쁨\"}",
+        response.getChoices().get(0).getMessage().getContent());
+    assertEquals("stop", response.getChoices().get(0).getFinishReason());
+    assertEquals(9, response.getUsage().getPromptTokens());
+    assertEquals(12, response.getUsage().getCompletionTokens());
+    assertEquals(21, response.getUsage().getTotalTokens());
+  }
+
+  @Test
+  void read_shouldReturnNullUsage_whenUsageIsMissing() throws IOException {
+    // given
+    String body = """
+        {"choices": [{"message": {"role": "assistant", "content": "감정 분석 완료"}}]}""";
+
+    // when
+    OpenAIResponse response = read(body);
+
+    // then
+    assertEquals("감정 분석 완료", response.getChoices().get(0).getMessage().getContent());
+    assertNull(response.getUsage());
+  }
+
+  @Test
+  void read_shouldThrowJsonParseException_whenBodyIsNotObject() {
+    assertThrows(JsonParseException.class, () -> read("[]"));
+  }
+
+  private OpenAIResponse read(String body) throws IOException {
+    try (JsonParser parser = objectMapper.createParser(
+        new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))) {
+      return OpenAIResponseReader.read(parser);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package com.example.moodwriter.global.openAI.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.moodwriter.global.constant.OpenAIModel;
+import com.example.moodwriter.global.constant.OpenAIRequestSentence;
+import com.example.moodwriter.global.exception.CustomException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import com.example.moodwriter.global.openAI.dto.OpenAIResponse;
+import com.example.moodwriter.global.openAI.dto.OpenAIResponse.Usage;
+import com.example.moodwriter.global.openAI.service.OpenAIResultCache.LoadedResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class OpenAIResultCacheTest {
+
+  private OpenAIResultCache openAIResultCache;
+  private SimpleMeterRegistry meterRegistry;
+
+  private final AtomicInteger loadCount = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    openAIResultCache = new OpenAIResultCache(
+        new ConcurrentMapCacheManager(OpenAIResultCache.CACHE_NAME), meterRegistry);
+  }
+
+  @Test
+  void get_shouldServeRepeatFromCache_andRecordSavedTokens() {
+    // when
+    String first = load(OpenAIModel.GPT_4O_MINI, "오늘은 기분이 좋다.");
+    String second = load(OpenAIModel.GPT_4O_MINI, "오늘은 기분이 좋다.");
+
+    // then
+    assertEquals("분석 결과 1", first);
+    assertEquals("분석 결과 1", second);
+    assertEquals(1, loadCount.get());
+    assertEquals(1, requestCount("miss"));
+    assertEquals(1, requestCount("hit"));
+    assertEquals(30, meterRegistry.get("openai.result.cache.saved.tokens")
+        .tag("prompt", OpenAIRequestSentence.EMOTION_ANALYSIS.name())
+        .counter().count());
+    assertEquals(1, meterRegistry.get("openai.result.cache.saved.latency")
+        .timer().count());
+  }
+
+  @Test
+  void get_shouldCallOpenAI_whenContentOrModelIsChanged() {
+    // when
+    load(OpenAIModel.GPT_4O_MINI, "오늘은 기분이 좋다.");
+    load(OpenAIModel.GPT_4O_MINI, "오늘은 기분이 나쁘다.");
+    load(OpenAIModel.GPT_4O, "오늘은 기분이 좋다.");
+
+    // then
+    assertEquals(3, loadCount.get());
+    assertEquals(3, requestCount("miss"));
+  }
+
+  @Test
+  void get_shouldRethrowLoaderException_andNotCacheFailure() {
+    // when
+    CustomException customException = assertThrows(CustomException.class,
+        () -> openAIResultCache.get(OpenAIModel.GPT_4O_MINI,
+            OpenAIRequestSentence.EMOTION_ANALYSIS, "오늘은 기분이 좋다.", () -> {
+              throw new CustomException(ErrorCode.FAIL_TO_CONNECT_WITH_OPEN_AI);
+            }));
+    String result = load(OpenAIModel.GPT_4O_MINI, "오늘은 기분이 좋다.");
+
+    // then
+    assertEquals(ErrorCode.FAIL_TO_CONNECT_WITH_OPEN_AI, customException.getErrorCode());
+    assertEquals("분석 결과 1", result);
+  }
+
+  @Test
+  void getAsync_shouldShareInFlightCall_whenSameContentIsRequestedConcurrently() {
+    // given
+    CompletableFuture<LoadedResult<String>> openAICall = new CompletableFuture<>();
+
+    // when
+    CompletableFuture<String> first = loadAsync(openAICall);
+    CompletableFuture<String> second = loadAsync(openAICall);
+    openAICall.complete(LoadedResult.of("분석 결과", OpenAIResponse.builder()
+        .usage(Usage.builder().totalTokens(30).build())
+        .build()));
+
+    // then
+    assertEquals("분석 결과", first.join());
+    assertEquals("분석 결과", second.join());
+    assertEquals(1, loadCount.get());
+    assertEquals(1, requestCount("miss"));
+    assertEquals(1, requestCount("hit"));
+  }
+
+  @Test
+  void get_shouldWaitForInFlightCall_whenSameContentIsRequestedConcurrently() {
+    // given
+    CompletableFuture<LoadedResult<String>> openAICall = new CompletableFuture<>();
+    CompletableFuture<String> first = loadAsync(openAICall);
+
+    // when
+    CompletableFuture<String> second = CompletableFuture.supplyAsync(
+        () -> load(OpenAIModel.GPT_4O_MINI, "오늘은 기분이 좋다."));
+    openAICall.complete(LoadedResult.of("분석 결과", OpenAIResponse.builder().build()));
+
+    // then
+    assertEquals("분석 결과", first.join());
+    assertEquals("분석 결과", second.join());
+    assertEquals(1, loadCount.get());
+  }
+
+  private CompletableFuture<String> loadAsync(
+      CompletableFuture<LoadedResult<String>> openAICall) {
+    return openAIResultCache.getAsync(OpenAIModel.GPT_4O_MINI,
+        OpenAIRequestSentence.EMOTION_ANALYSIS, "오늘은 기분이 좋다.", () -> {
+          loadCount.incrementAndGet();
+          return openAICall;
+        });
+  }
+
+  private String load(OpenAIModel model, String diaryContent) {
+    return openAIResultCache.get(model, OpenAIRequestSentence.EMOTION_ANALYSIS, diaryContent,
+        () -> LoadedResult.of("분석 결과 " + loadCount.incrementAndGet(),
+            OpenAIResponse.builder()
+                .usage(Usage.builder().totalTokens(30).build())
+                .build()));
+  }
+
+  private double requestCount(String result) {
+    return meterRegistry.get("openai.result.cache.requests")
+        .tag("result", result)
+        .counter().count();
+  }
+}
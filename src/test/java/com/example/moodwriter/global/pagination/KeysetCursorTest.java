@@ -0,0 +1,66 @@
+package com.example.moodwriter.global.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.moodwriter.global.exception.CustomException;
+import com.example.moodwriter.global.exception.code.ErrorCode;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+class KeysetCursorTest {
+
+  @Test
+  void encodeAndDecode_shouldRestoreDateAndId() {
+    // given
+    LocalDate date = LocalDate.of(2024, 10, 1);
+    UUID id = UUID.randomUUID();
+
+    // when
+    KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.of(date, id).encode());
+
+    // then
+    assertEquals(date, cursor.getDate());
+    assertEquals(id, cursor.getId());
+  }
+
+  @Test
+  void toScrollPosition_shouldReturnInitialPosition_whenTokenIsBlank() {
+    // when
+    ScrollPosition position = KeysetCursor.toScrollPosition(null);
+
+    // then
+    assertTrue(position.isInitial());
+  }
+
+  @Test
+  void toScrollPosition_shouldContainDateAndIdKeys() {
+    // given
+    LocalDate date = LocalDate.of(2024, 10, 1);
+    UUID id = UUID.randomUUID();
+
+    // when
+    ScrollPosition position = KeysetCursor.toScrollPosition(
+        KeysetCursor.of(date, id).encode());
+
+    // then
+    KeysetScrollPosition keysetPosition = assertInstanceOf(KeysetScrollPosition.class,
+        position);
+    assertEquals(date, keysetPosition.getKeys().get("date"));
+    assertEquals(id, keysetPosition.getKeys().get("id"));
+  }
+
+  @Test
+  void decode_shouldThrowCustomException_whenTokenIsInvalid() {
+    // when & then
+    CustomException exception = assertThrows(CustomException.class,
+        () -> KeysetCursor.decode("invalid-token"));
+
+    assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+  }
+}
@@ -0,0 +1,82 @@
+package com.example.moodwriter.global.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidUtilsTest {
+
+  @Test
+  void timeOrderedUuid_shouldBeVersion7WithRfcVariant() {
+    // when
+    UUID uuid = UuidUtils.timeOrderedUuid();
+
+    // then
+    assertEquals(7, uuid.version());
+    assertEquals(2, uuid.variant());
+  }
+
+  @Test
+  void timeOrderedUuid_shouldStartWithCurrentUnixMillis() {
+    // given
+    long before = System.currentTimeMillis();
+
+    // when
+    UUID uuid = UuidUtils.timeOrderedUuid();
+
+    // then
+    long timestamp = uuid.getMostSignificantBits() >>> 16;
+    assertTrue(timestamp >= before);
+    assertTrue(timestamp <= System.currentTimeMillis());
+  }
+
+  @Test
+  void timeOrderedUuid_shouldBeOrderedAsBinary_acrossMilliseconds() throws InterruptedException {
+    // given
+    UUID first = UuidUtils.timeOrderedUuid();
+    Thread.sleep(2);
+
+    // when
+    UUID second = UuidUtils.timeOrderedUuid();
+
+    // then
+    assertTrue(Arrays.compareUnsigned(UuidUtils.toBytes(first), UuidUtils.toBytes(second)) < 0);
+  }
+
+  @Test
+  void timeOrderedUuid_shouldBeSameForSameTimestampAndKey() {
+    // given
+    long timestamp = 1_727_740_800_000L;
+
+    // when
+    UUID first = UuidUtils.timeOrderedUuid(timestamp, "import:1");
+    UUID second = UuidUtils.timeOrderedUuid(timestamp, "import:1");
+    UUID other = UuidUtils.timeOrderedUuid(timestamp, "import:2");
+
+    // then
+    assertEquals(first, second);
+    assertNotEquals(first, other);
+    assertEquals(7, first.version());
+    assertEquals(2, first.variant());
+    assertEquals(timestamp, first.getMostSignificantBits() >>> 16);
+  }
+
+  @Test
+  void fromBytes_shouldRestoreUuid() {
+    // given
+    UUID uuid = UuidUtils.timeOrderedUuid();
+
+    // when
+    byte[] bytes = UuidUtils.toBytes(uuid);
+
+    // then
+    assertEquals(16, bytes.length);
+    assertEquals(uuid, UuidUtils.fromBytes(bytes));
+    assertArrayEquals(bytes, UuidUtils.toBytes(UuidUtils.fromBytes(bytes)));
+  }
+}